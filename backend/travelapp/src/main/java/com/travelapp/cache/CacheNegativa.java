@@ -0,0 +1,92 @@
+package com.travelapp.cache;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+// IDs consultados recientemente que no existían, para responder 404 sin ir a la base de datos
+// cuando crawlers o enlaces antiguos repiten la misma petición. Cada entrada caduca tras el TTL.
+@Slf4j
+@Component
+public class CacheNegativa {
+
+    public enum Entidad { VIAJE, DESTINO }
+
+    private final CacheNegativaProperties properties;
+    private final Clock clock;
+
+    // Por entidad: id -> instante de caducidad en milisegundos
+    private final Map<Entidad, Map<Long, Long>> inexistentes = new EnumMap<>(Entidad.class);
+
+    public CacheNegativa(CacheNegativaProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        for (Entidad entidad : Entidad.values()) {
+            inexistentes.put(entidad, new ConcurrentHashMap<>());
+        }
+    }
+
+    // true si el ID se dio por inexistente hace menos del TTL
+    public boolean contiene(Entidad entidad, long id) {
+        if (!properties.isHabilitado()) return false;
+
+        Map<Long, Long> ids = inexistentes.get(entidad);
+        Long caducidad = ids.get(id);
+        if (caducidad == null) return false;
+
+        if (caducidad <= clock.millis()) {
+            ids.remove(id, caducidad);
+            return false;
+        }
+        return true;
+    }
+
+    public void registrar(Entidad entidad, long id) {
+        if (!properties.isHabilitado()) return;
+
+        Map<Long, Long> ids = inexistentes.get(entidad);
+        long ahora = clock.millis();
+        if (ids.size() >= properties.getCapacidad()) {
+            ids.values().removeIf(caducidad -> caducidad <= ahora);
+            if (ids.size() >= properties.getCapacidad()) {
+                log.debug("Caché negativa de {} llena ({} IDs), se vacía", entidad, ids.size());
+                ids.clear();
+            }
+        }
+        ids.put(id, ahora + properties.getTtl().toMillis());
+    }
+
+    public void quitar(Entidad entidad, long id) {
+        inexistentes.get(entidad).remove(id);
+    }
+
+    int tamanio(Entidad entidad) {
+        return inexistentes.get(entidad).size();
+    }
+
+    // Un alta confirmada deja de ser inexistente (p. ej. un ID consultado antes de crearse)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.CREADO) {
+            quitar(Entidad.VIAJE, event.id());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.CREADO) {
+            quitar(Entidad.DESTINO, event.id());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.travelapp.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.cache-negativa")
+public class CacheNegativaProperties {
+
+    private boolean habilitado = true;
+
+    // Tiempo que un ID se da por inexistente sin consultar la base de datos. Las altas de este nodo
+    // lo quitan al confirmarse y las de otros nodos al llegar por el bus de invalidaciones como eventos
+    // remotos; solo las hechas fuera de la aplicación se ven al caducar.
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // IDs recordados por entidad; al superarlo se descartan los caducados y, si no basta, todos
+    private int capacidad = 10_000;
+}
@@ -0,0 +1,31 @@
+package com.travelapp.coalescencia;
+
+import java.time.Clock;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Registrado siempre y habilitado en tiempo de ejecución (CoalescenciaFilter): con AOT las condiciones sobre
+// propiedades se evalúan al compilar y no atenderían REQUEST_COALESCING_ENABLED
+@Configuration
+public class CoalescenciaConfig {
+
+    @Bean
+    public RespuestasCompartidas respuestasCompartidas(CoalescenciaProperties properties, Clock clock) {
+        return new RespuestasCompartidas(properties, clock);
+    }
+
+    // Antes del limitador de concurrencia: las peticiones que esperan una respuesta compartida no ocupan plaza
+    @Bean
+    public FilterRegistrationBean<CoalescenciaFilter> coalescenciaFilter(RespuestasCompartidas respuestasCompartidas,
+            CoalescenciaProperties properties) {
+
+        FilterRegistrationBean<CoalescenciaFilter> registro =
+            new FilterRegistrationBean<>(new CoalescenciaFilter(respuestasCompartidas, properties));
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registro;
+    }
+}
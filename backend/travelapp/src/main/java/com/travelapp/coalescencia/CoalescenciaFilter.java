@@ -0,0 +1,140 @@
+package com.travelapp.coalescencia;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.travelapp.coalescencia.RespuestasCompartidas.Respuesta;
+import com.travelapp.coalescencia.RespuestasCompartidas.Turno;
+import com.travelapp.tiempos.TiemposInterceptor;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Coalescencia de GET idénticos (misma ruta, parámetros en cualquier orden y Accept): solo la primera
+// petición llega al controlador y a la base de datos; las demás esperan su respuesta serializada sin
+// ocupar plaza en el limitador de concurrencia. Las respuestas 5xx o con excepción no se comparten.
+@Slf4j
+public class CoalescenciaFilter extends OncePerRequestFilter {
+
+    // Cabeceras propias de cada ejecución: la longitud se recalcula y los tiempos no son los de la copia
+    private static final List<String> NO_COPIADAS = List.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.TRANSFER_ENCODING, TiemposInterceptor.CABECERA);
+
+    private final RespuestasCompartidas respuestas;
+    private final CoalescenciaProperties properties;
+    private final AntPathMatcher rutas = new AntPathMatcher();
+
+    public CoalescenciaFilter(RespuestasCompartidas respuestas, CoalescenciaProperties properties) {
+        this.respuestas = respuestas;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isHabilitado() || !"GET".equals(request.getMethod())) return true;
+
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getRutas().stream().noneMatch(patron -> rutas.match(patron, ruta));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Turno turno = respuestas.turno(clave(request));
+
+        if (!turno.lider()) {
+            Respuesta respuesta = esperar(turno);
+            if (respuesta != null) {
+                escribir(respuesta, response);
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper envoltorio = new ContentCachingResponseWrapper(response);
+        boolean completada = false;
+        try {
+            filterChain.doFilter(request, envoltorio);
+            completada = true;
+        } finally {
+            if (completada && !request.isAsyncStarted() && envoltorio.getStatus() < 500) {
+                respuestas.completar(turno, capturar(envoltorio));
+            } else {
+                respuestas.fallar(turno);
+            }
+        }
+        envoltorio.copyBodyToResponse();
+    }
+
+    private Respuesta esperar(Turno turno) throws IOException {
+        try {
+            Respuesta respuesta = turno.entrada().getResultado()
+                .get(properties.getEsperaMaxima().toMillis(), TimeUnit.MILLISECONDS);
+            log.debug("Respuesta compartida para {}", turno.clave());
+            return respuesta;
+        } catch (TimeoutException e) {
+            log.debug("Sin respuesta para {} tras {}, se ejecuta por separado", turno.clave(),
+                properties.getEsperaMaxima());
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Petición interrumpida esperando una respuesta compartida", e);
+        }
+    }
+
+    private static Respuesta capturar(ContentCachingResponseWrapper envoltorio) {
+        HttpHeaders cabeceras = new HttpHeaders();
+        for (String nombre : envoltorio.getHeaderNames()) {
+            if (NO_COPIADAS.stream().noneMatch(nombre::equalsIgnoreCase)) {
+                cabeceras.addAll(nombre, List.copyOf(envoltorio.getHeaders(nombre)));
+            }
+        }
+        return new Respuesta(envoltorio.getStatus(), envoltorio.getContentType(), cabeceras,
+            envoltorio.getContentAsByteArray());
+    }
+
+    private static void escribir(Respuesta respuesta, HttpServletResponse response) throws IOException {
+        response.setStatus(respuesta.estado());
+        respuesta.cabeceras().forEach((nombre, valores) -> valores.forEach(valor -> response.addHeader(nombre, valor)));
+        if (respuesta.tipoContenido() != null) {
+            response.setContentType(respuesta.tipoContenido());
+        }
+        response.setContentLength(respuesta.cuerpo().length);
+        response.getOutputStream().write(respuesta.cuerpo());
+    }
+
+    // Ruta, parámetros ordenados por nombre, Accept, que decide el formato de la respuesta, y Origin, del que
+    // dependen las cabeceras CORS que se copian a las peticiones que comparten respuesta
+    static String clave(HttpServletRequest request) {
+        StringBuilder clave = new StringBuilder(request.getRequestURI());
+        Map<String, String[]> parametros = new TreeMap<>(request.getParameterMap());
+        char separador = '?';
+        for (Map.Entry<String, String[]> parametro : parametros.entrySet()) {
+            for (String valor : parametro.getValue()) {
+                clave.append(separador).append(parametro.getKey()).append('=').append(valor);
+                separador = '&';
+            }
+        }
+        String accept = String.join(",", Collections.list(request.getHeaders(HttpHeaders.ACCEPT)));
+        String origen = request.getHeader(HttpHeaders.ORIGIN);
+        return clave.append(" | ").append(accept).append(" | ").append(origen != null ? origen : "").toString();
+    }
+}
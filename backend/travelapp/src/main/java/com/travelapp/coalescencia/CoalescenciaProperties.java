@@ -0,0 +1,36 @@
+package com.travelapp.coalescencia;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.coalescencia")
+public class CoalescenciaProperties {
+
+    private boolean habilitado = true;
+
+    // GET que pueden compartir respuesta; no incluye streams (SSE) ni descargas de archivos
+    private List<String> rutas = new ArrayList<>(List.of("/api/viajes/**", "/api/destinos/**",
+        "/api/estadisticas/**", "/api/buscar/**"));
+
+    // Tiempo que una respuesta completada se sigue sirviendo a peticiones idénticas. Los cambios
+    // confirmados en este nodo la descartan antes.
+    private Duration ttl = Duration.ofMillis(100);
+
+    // Espera máxima de una petición a la que ya está en vuelo; después se ejecuta por su cuenta
+    private Duration esperaMaxima = Duration.ofSeconds(5);
+
+    // Respuestas más grandes se reparten a quien ya espera, pero no se conservan durante el TTL
+    private DataSize tamanioMaximo = DataSize.ofMegabytes(1);
+
+    // Respuestas recordadas; al superarlo se descartan las caducadas
+    private int capacidad = 1_000;
+}
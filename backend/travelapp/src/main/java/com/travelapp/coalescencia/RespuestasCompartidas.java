@@ -0,0 +1,101 @@
+package com.travelapp.coalescencia;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.ViajeCambiadoEvent;
+
+// Respuestas en vuelo por clave de petición: la primera petición ejecuta el controlador y las idénticas
+// que llegan mientras tanto (o durante el TTL posterior) reciben los mismos bytes.
+public class RespuestasCompartidas {
+
+    // Estado, cabeceras y cuerpo ya serializado, listos para copiarse a otra respuesta
+    public record Respuesta(int estado, String tipoContenido, HttpHeaders cabeceras, byte[] cuerpo) {
+    }
+
+    // lider: la petición debe ejecutarse y llamar después a completar o fallar
+    public record Turno(String clave, boolean lider, Entrada entrada) {
+    }
+
+    public static final class Entrada {
+
+        // Se completa con null si la petición líder falló: cada una se ejecuta por su cuenta
+        private final CompletableFuture<Respuesta> resultado = new CompletableFuture<>();
+
+        // Milisegundos; sin caducidad mientras está en vuelo
+        private volatile long caducidad = Long.MAX_VALUE;
+
+        public CompletableFuture<Respuesta> getResultado() {
+            return resultado;
+        }
+
+        boolean caducada(long ahora) {
+            return caducidad <= ahora;
+        }
+    }
+
+    private final CoalescenciaProperties properties;
+    private final Clock clock;
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    public RespuestasCompartidas(CoalescenciaProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public Turno turno(String clave) {
+        long ahora = clock.millis();
+        Entrada nueva = new Entrada();
+        Entrada entrada = entradas.compute(clave,
+            (k, existente) -> existente == null || existente.caducada(ahora) ? nueva : existente);
+
+        if (entrada == nueva && entradas.size() > properties.getCapacidad()) {
+            entradas.values().removeIf(existente -> existente.caducada(ahora));
+        }
+        return new Turno(clave, entrada == nueva, entrada);
+    }
+
+    public void completar(Turno turno, Respuesta respuesta) {
+        boolean conservar = !properties.getTtl().isZero()
+            && respuesta.cuerpo().length <= properties.getTamanioMaximo().toBytes();
+        if (conservar) {
+            turno.entrada().caducidad = clock.millis() + properties.getTtl().toMillis();
+        } else {
+            entradas.remove(turno.clave(), turno.entrada());
+        }
+        turno.entrada().resultado.complete(respuesta);
+    }
+
+    public void fallar(Turno turno) {
+        entradas.remove(turno.clave(), turno.entrada());
+        turno.entrada().resultado.complete(null);
+    }
+
+    // Tras un cambio confirmado ninguna petición nueva se une a una respuesta anterior, tampoco a las que siguen
+    // en vuelo: pueden haber leído antes del cambio. Las que ya esperaban conservan su futuro, igual que sin
+    // coalescencia; el líder de una entrada descartada la completa sin volver a publicarla.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        descartarTodas();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        descartarTodas();
+    }
+
+    private void descartarTodas() {
+        entradas.clear();
+    }
+
+    int size() {
+        return entradas.size();
+    }
+}
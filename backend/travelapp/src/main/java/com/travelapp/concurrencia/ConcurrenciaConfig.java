@@ -0,0 +1,25 @@
+package com.travelapp.concurrencia;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Registrado siempre y habilitado en tiempo de ejecución (LimiteConcurrenciaFilter): con AOT las condiciones sobre
+// propiedades se evalúan al compilar y no atenderían CONCURRENCY_LIMIT_ENABLED
+@Configuration
+public class ConcurrenciaConfig {
+
+    @Bean
+    public FilterRegistrationBean<LimiteConcurrenciaFilter> limiteConcurrenciaFilter(
+            ConcurrenciaProperties properties, ObjectMapper objectMapper) {
+
+        FilterRegistrationBean<LimiteConcurrenciaFilter> registro =
+            new FilterRegistrationBean<>(new LimiteConcurrenciaFilter(properties, objectMapper));
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registro;
+    }
+}
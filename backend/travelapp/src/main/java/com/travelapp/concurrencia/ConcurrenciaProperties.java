@@ -0,0 +1,42 @@
+package com.travelapp.concurrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.concurrencia")
+public class ConcurrenciaProperties {
+
+    private boolean habilitado = true;
+
+    // Valor del header Retry-After cuando se rechaza una petición
+    private int retryAfterSegundos = 1;
+
+    private Limites lectura = new Limites(20, 4, 200);
+
+    private Limites escritura = new Limites(10, 2, 50);
+
+    @Getter
+    @Setter
+    public static class Limites {
+
+        private int limiteInicial;
+        private int limiteMinimo;
+        private int limiteMaximo;
+
+        // Margen sobre la latencia base antes de reducir el límite
+        private double tolerancia = 1.5;
+
+        public Limites() {
+        }
+
+        public Limites(int limiteInicial, int limiteMinimo, int limiteMaximo) {
+            this.limiteInicial = limiteInicial;
+            this.limiteMinimo = limiteMinimo;
+            this.limiteMaximo = limiteMaximo;
+        }
+    }
+}
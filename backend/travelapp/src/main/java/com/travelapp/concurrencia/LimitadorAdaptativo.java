@@ -0,0 +1,102 @@
+package com.travelapp.concurrencia;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Límite de concurrencia basado en gradiente de latencia.
+// Compara la latencia reciente con una media de largo plazo: si la reciente crece, el límite baja;
+// si se mantiene, el límite sube en un margen de ~sqrt(límite).
+public class LimitadorAdaptativo {
+
+    private static final double ALFA_CORTO = 0.5;
+    private static final double ALFA_LARGO = 0.01;
+    private static final double SUAVIZADO = 0.2;
+
+    private final String nombre;
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final double tolerancia;
+
+    private final AtomicInteger enVuelo = new AtomicInteger();
+
+    private volatile int limite;
+
+    // Estado del estimador, protegido por el monitor de la instancia
+    private double limiteEstimado;
+    private double rttCorto;
+    private double rttLargo;
+
+    public LimitadorAdaptativo(String nombre, ConcurrenciaProperties.Limites limites) {
+        this.nombre = nombre;
+        this.limiteMinimo = limites.getLimiteMinimo();
+        this.limiteMaximo = limites.getLimiteMaximo();
+        this.tolerancia = limites.getTolerancia();
+        this.limite = limites.getLimiteInicial();
+        this.limiteEstimado = limites.getLimiteInicial();
+    }
+
+    // Intenta reservar un hueco sin esperar; false si el límite está completo
+    public boolean intentarAdquirir() {
+        while (true) {
+            int actual = enVuelo.get();
+            if (actual >= limite) {
+                return false;
+            }
+            if (enVuelo.compareAndSet(actual, actual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Libera el hueco y alimenta el estimador con la latencia observada
+    public void liberar(long rttNanos) {
+        int enVueloAlTerminar = enVuelo.getAndDecrement();
+        registrarMuestra(rttNanos, enVueloAlTerminar);
+    }
+
+    // Libera el hueco sin muestra de latencia (peticiones asíncronas o fallidas antes de procesarse)
+    public void liberar() {
+        enVuelo.decrementAndGet();
+    }
+
+    private synchronized void registrarMuestra(long rttNanos, int enVueloAlTerminar) {
+        if (rttNanos <= 0) return;
+
+        if (rttLargo == 0) {
+            rttCorto = rttNanos;
+            rttLargo = rttNanos;
+            return;
+        }
+
+        rttCorto = rttCorto * (1 - ALFA_CORTO) + rttNanos * ALFA_CORTO;
+        rttLargo = rttLargo * (1 - ALFA_LARGO) + rttNanos * ALFA_LARGO;
+
+        // Si la aplicación no está usando ni la mitad del límite, no hay información para subirlo
+        if (enVueloAlTerminar < limiteEstimado / 2) {
+            return;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, tolerancia * rttLargo / rttCorto));
+        double nuevoLimite = limiteEstimado * gradiente + Math.sqrt(limiteEstimado);
+        nuevoLimite = limiteEstimado * (1 - SUAVIZADO) + nuevoLimite * SUAVIZADO;
+
+        limiteEstimado = Math.max(limiteMinimo, Math.min(limiteMaximo, nuevoLimite));
+        limite = (int) limiteEstimado;
+
+        // Si la latencia reciente es mucho mayor, la media larga se acerca para poder recuperarse
+        if (rttLargo / rttCorto > 2) {
+            rttLargo *= 0.95;
+        }
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getEnVuelo() {
+        return enVuelo.get();
+    }
+}
@@ -0,0 +1,98 @@
+package com.travelapp.concurrencia;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Rechaza de inmediato con 503 + Retry-After cuando el límite de lectura o escritura está completo,
+// en lugar de dejar que la petición espere una conexión de Hikari.
+@Slf4j
+public class LimiteConcurrenciaFilter extends OncePerRequestFilter {
+
+    private final boolean habilitado;
+    private final LimitadorAdaptativo lectura;
+    private final LimitadorAdaptativo escritura;
+    private final String retryAfter;
+    private final ObjectMapper objectMapper;
+
+    public LimiteConcurrenciaFilter(ConcurrenciaProperties properties, ObjectMapper objectMapper) {
+        this.habilitado = properties.isHabilitado();
+        this.lectura = new LimitadorAdaptativo("lectura", properties.getLectura());
+        this.escritura = new LimitadorAdaptativo("escritura", properties.getEscritura());
+        this.retryAfter = String.valueOf(properties.getRetryAfterSegundos());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitado;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        LimitadorAdaptativo limitador = esLectura(request.getMethod()) ? lectura : escritura;
+
+        if (!limitador.intentarAdquirir()) {
+            log.debug("Petición rechazada por límite de {}: {} en vuelo", limitador.getNombre(), limitador.getEnVuelo());
+            rechazar(request, response, limitador);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        boolean completada = false;
+        try {
+            filterChain.doFilter(request, response);
+            completada = true;
+        } finally {
+            // Las peticiones asíncronas (streams) y las fallidas no aportan una latencia representativa
+            if (completada && !request.isAsyncStarted()) {
+                limitador.liberar(System.nanoTime() - inicio);
+            } else {
+                limitador.liberar();
+            }
+        }
+    }
+
+    private void rechazar(HttpServletRequest request, HttpServletResponse response, LimitadorAdaptativo limitador)
+            throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+            "El servidor está saturado. Por favor, reintente en unos segundos.");
+        problemDetail.setTitle("Servicio saturado");
+        problemDetail.setProperty("limite", limitador.getNombre());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        // El rechazo ocurre antes de @CrossOrigin; sin este header el navegador no vería el 503
+        if (request.getHeader(HttpHeaders.ORIGIN) != null) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+        }
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private static boolean esLectura(String metodo) {
+        return "GET".equals(metodo) || "HEAD".equals(metodo) || "OPTIONS".equals(metodo);
+    }
+
+    LimitadorAdaptativo getLectura() {
+        return lectura;
+    }
+
+    LimitadorAdaptativo getEscritura() {
+        return escritura;
+    }
+}
@@ -0,0 +1,24 @@
+package com.travelapp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.integration.spring.SpringLiquibase;
+
+// Con spring.main.lazy-initialization=true (perfil arranque) estos beans se siguen creando al arrancar:
+// conexión, migraciones y esquema deben fallar en el arranque, no en la primera petición.
+// Los beans con @Scheduled ya los mantiene Spring Boot fuera de la inicialización perezosa.
+@Configuration(proxyBeanMethods = false)
+public class ArranqueConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter beansCriticosEnArranque() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            DataSource.class, EntityManagerFactory.class, SpringLiquibase.class, Repository.class);
+    }
+}
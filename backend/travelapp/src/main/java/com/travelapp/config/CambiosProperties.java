@@ -0,0 +1,29 @@
+package com.travelapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.cambios")
+public class CambiosProperties {
+
+    // Cambios retenidos en memoria para reanudar con Last-Event-ID
+    private int capacidadHistorial = 1024;
+
+    // Cambios pendientes por cliente antes de desconectarlo por lento
+    private int capacidadCliente = 256;
+
+    private int maxClientes = 500;
+
+    // Hilos que envían a los clientes; un cliente lento solo ocupa uno de ellos
+    private int hilosEnvio = 4;
+
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private Duration heartbeat = Duration.ofSeconds(20);
+}
@@ -0,0 +1,25 @@
+package com.travelapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.historico")
+public class HistoricoProperties {
+
+    private boolean habilitado = true;
+
+    // Viajes movidos por transacción: acota los bloqueos y el tamaño de cada commit
+    private int tamanioLote = 1000;
+
+    // Días que un viaje terminado sigue en la tabla activa antes de archivarse
+    private int diasGracia = 0;
+
+    // Pausa entre lotes para no competir con las peticiones de la API
+    private Duration pausaEntreLotes = Duration.ZERO;
+}
@@ -0,0 +1,15 @@
+package com.travelapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.importacion")
+public class ImportacionProperties {
+
+    // Errores por fila incluidos en el resultado del trabajo; todos van al CSV de errores descargable
+    private int maxErrores = 1000;
+}
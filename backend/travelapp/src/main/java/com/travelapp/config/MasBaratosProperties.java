@@ -0,0 +1,15 @@
+package com.travelapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.mas-baratos")
+public class MasBaratosProperties {
+
+    // Viajes que guarda ViajeMasBaratosIndex por destino y por país; un k mayor se reduce a este valor
+    private int maximoPorGrupo = 20;
+}
@@ -0,0 +1,15 @@
+package com.travelapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.paginacion")
+public class PaginacionProperties {
+
+    // Un size mayor se reduce a este valor (la respuesta indica el size aplicado)
+    private int tamanioMaximo = 100;
+}
@@ -0,0 +1,26 @@
+package com.travelapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.sync")
+public class SyncProperties {
+
+    private int tamanioPagina = 500;
+
+    private int tamanioPaginaMaximo = 5000;
+
+    // Tiempo que se conservan las bajas antes de compactarlas
+    private Duration retencionEliminados = Duration.ofDays(30);
+
+    // Los cambios más recientes se entregan pero el token no los supera: un id menor de otra transacción todavía
+    // abierta puede confirmarse después. Debe cubrir la transacción más larga que escribe en cambio_log
+    // (lotes de importación y trabajos) y el desfase de reloj entre nodos
+    private Duration ventanaRelectura = Duration.ofMinutes(1);
+}
@@ -0,0 +1,41 @@
+package com.travelapp.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.trabajos")
+public class TrabajosProperties {
+
+    // Trabajos ejecutándose a la vez: cada uno ocupa una conexión del pool mientras guarda un lote,
+    // así que debe quedar bastante por debajo de su tamaño para no dejar sin conexiones a la API
+    private int hilos = 2;
+
+    // Trabajos en espera; por encima POST /api/jobs responde 503
+    private int colaMaxima = 20;
+
+    // Filas por transacción en los trabajos que modifican datos
+    private int tamanioLote = 500;
+
+    // Pausa tras cada lote para ceder base de datos y CPU a las peticiones interactivas
+    private Duration pausaEntreLotes = Duration.ZERO;
+
+    // Frecuencia máxima con la que se guarda el progreso
+    private Duration intervaloProgreso = Duration.ofSeconds(1);
+
+    // Sin latido durante este tiempo, un trabajo pendiente o en curso se da por abandonado
+    private Duration caducidad = Duration.ofMinutes(10);
+
+    // Trabajos terminados (y sus archivos de resultado) que se conservan
+    private Duration retencion = Duration.ofDays(7);
+
+    // Archivos de entrada y resultado; compartido entre nodos si hay varios
+    private Path directorio = Paths.get(System.getProperty("java.io.tmpdir"), "travelapp-trabajos");
+}
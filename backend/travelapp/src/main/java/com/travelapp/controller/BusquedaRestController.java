@@ -0,0 +1,37 @@
+package com.travelapp.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelapp.dto.ResultadoBusquedaDTO;
+import com.travelapp.service.BusquedaService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/buscar")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class BusquedaRestController {
+
+    private final BusquedaService busquedaService;
+
+    // GET /api/buscar?q=cusco&limite=10 - Destinos por relevancia en nombre y país, con sus viajes próximos
+    @GetMapping
+    public ResponseEntity<List<ResultadoBusquedaDTO>> buscar(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite) {
+
+        log.debug("GET /api/buscar?q={}&limite={}", q, limite);
+
+        return ResponseEntity.ok(busquedaService.buscar(q, limite));
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelapp.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.travelapp.service.CambioStreamService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/cambios")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class CambioRestController {
+
+    private final CambioStreamService cambioStreamService;
+
+    // GET /api/cambios/stream - Feed SSE de cambios; reanuda con Last-Event-ID
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCambios(
+            @RequestHeader(name = "Last-Event-ID", required = false) String ultimoId) {
+
+        log.debug("GET /api/cambios/stream desde {}", ultimoId);
+
+        return cambioStreamService.suscribir(ultimoId);
+    }
+}
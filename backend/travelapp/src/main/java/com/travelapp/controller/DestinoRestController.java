@@ -1,5 +1,7 @@
 package com.travelapp.controller;
 
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -11,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.travelapp.dto.DestinoDTO;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.logging.MuestreoLog;
 import com.travelapp.service.DestinoService;
 
 import jakarta.validation.Valid;
@@ -35,26 +39,52 @@ public class DestinoRestController {
 
     // GET /api/destinos - Listar destinos con paginación
     // GET /api/destinos?pais= - Listar destinos por pais con paginación
+    // ?expand=viajes incluye los IDs de viajes de cada destino; por defecto solo viajeCount
     @GetMapping
     public ResponseEntity<Page<DestinoDTO>> getAllDestinos(
             @PageableDefault(size = 10, sort = "nombre") Pageable pageable,
-            @RequestParam(required = false) String pais) {
+            @RequestParam(required = false) String pais,
+            @RequestParam(required = false) String expand) {
 
-        log.info("GET /api/destinos?pais={}", pais);
+        log.debug("GET /api/destinos?pais={}&expand={}", pais, expand);
 
+        boolean incluirViajes = expandeViajes(expand);
         Page<DestinoDTO> destinos = (pais != null && !pais.trim().isEmpty())
-            ? destinoService.findByPais(pais, pageable)
-            : destinoService.findAll(pageable);
+            ? destinoService.findByPais(pais, pageable, incluirViajes)
+            : destinoService.findAll(pageable, incluirViajes);
 
         return ResponseEntity.ok(destinos);
     }
 
-    // GET /api/destinos/{id} - Destino por ID
+    // GET /api/destinos?fields=id,nombre,viajeCount - Listar solo los campos pedidos (el id va siempre)
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getAllDestinosCampos(
+            @PageableDefault(size = 10, sort = "nombre") Pageable pageable,
+            @RequestParam(required = false) String pais,
+            @RequestParam String fields) {
+
+        log.debug("GET /api/destinos?pais={}&fields={}", pais, fields);
+
+        return ResponseEntity.ok(destinoService.findCampos(fields, pais, pageable));
+    }
+
+    // GET /api/destinos/{id}?fields= - Destino por ID con solo los campos pedidos
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getDestinoCamposById(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("GET /api/destinos/{}?fields={}", id, fields);
+
+        return ResponseEntity.ok(destinoService.findCamposById(id, fields));
+    }
+
+    // GET /api/destinos/{id}?expand=viajes - Destino por ID
     @GetMapping("/{id}")
-    public ResponseEntity<DestinoDTO> getDestinoById(@PathVariable Long id) {
-        log.info("GET /api/destinos/{}", id);
+    public ResponseEntity<DestinoDTO> getDestinoById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String expand) {
+
+        log.debug("GET /api/destinos/{}?expand={}", id, expand);
 
-        DestinoDTO destinoDTO = destinoService.findById(id);
+        DestinoDTO destinoDTO = destinoService.findById(id, expandeViajes(expand));
 
         return ResponseEntity.ok(destinoDTO);
     }
@@ -62,7 +92,9 @@ public class DestinoRestController {
     // POST /api/destinos - Crear nuevo destino
     @PostMapping
     public ResponseEntity<DestinoDTO> createDestino(@Valid @RequestBody DestinoDTO destinoDTO) {
-        log.info("POST /api/destinos - creando destino: {}", destinoDTO.getNombre());
+        if (MuestreoLog.debugSeleccionado()) {
+            log.info("POST /api/destinos - creando destino: {}", destinoDTO);
+        }
 
         DestinoDTO destinoCreado = destinoService.create(destinoDTO);
 
@@ -75,7 +107,9 @@ public class DestinoRestController {
             @PathVariable Long id,
             @Valid @RequestBody DestinoDTO destinoDTO) {
 
-        log.info("PUT /api/destinos/{} - actualizando destino: {}", id, destinoDTO.getNombre());
+        if (MuestreoLog.debugSeleccionado()) {
+            log.info("PUT /api/destinos/{} - actualizando destino: {}", id, destinoDTO);
+        }
 
         DestinoDTO destinoActualizado = destinoService.update(id, destinoDTO);
 
@@ -85,8 +119,21 @@ public class DestinoRestController {
     // DELETE /api/destinos/{id} - Eliminar destino existente
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteDestino(@PathVariable Long id) {
-        log.info("DELETE /api/destinos/{}", id);
+        log.debug("DELETE /api/destinos/{}", id);
         destinoService.deleteById(id);
         return ResponseEntity.noContent().build();
-    }       
+    }
+
+    // Único valor admitido en expand: "viajes"
+    private static boolean expandeViajes(String expand) {
+        if (expand == null || expand.isBlank()) return false;
+
+        for (String relacion : expand.split(",")) {
+            if (!relacion.trim().equalsIgnoreCase("viajes")) {
+                log.warn("Expansión no soportada: {}", relacion);
+                throw new ValidationException("Expansión no soportada: " + relacion.trim());
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,54 @@
+package com.travelapp.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelapp.dto.EstadisticaDTO;
+import com.travelapp.dto.TramoPrecioDTO;
+import com.travelapp.service.EstadisticaService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/estadisticas")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class EstadisticaRestController {
+
+    private final EstadisticaService estadisticaService;
+
+    // GET /api/estadisticas?por=pais|destino|total&desde=&hasta= - Ingresos, precios y duración media
+    @GetMapping
+    public ResponseEntity<List<EstadisticaDTO>> getEstadisticas(
+            @RequestParam(defaultValue = "pais") String por,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        log.debug("GET /api/estadisticas?por={}&desde={}&hasta={}", por, desde, hasta);
+
+        return ResponseEntity.ok(estadisticaService.agregar(por, desde, hasta));
+    }
+
+    // GET /api/estadisticas/precios?ancho=100&tramos=20 - Distribución de precios por tramos
+    @GetMapping("/precios")
+    public ResponseEntity<List<TramoPrecioDTO>> getDistribucionPrecios(
+            @RequestParam(defaultValue = "100") double ancho,
+            @RequestParam(defaultValue = "20") int tramos,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        log.debug("GET /api/estadisticas/precios?ancho={}&tramos={}", ancho, tramos);
+
+        return ResponseEntity.ok(estadisticaService.distribucionPrecios(ancho, tramos, desde, hasta));
+    }
+}
@@ -0,0 +1,109 @@
+package com.travelapp.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.graphql.GraphqlProperties;
+import com.travelapp.graphql.ViajesPorDestinoLoader;
+import com.travelapp.service.DestinoService;
+import com.travelapp.service.ViajeService;
+
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+
+// POST /graphql - Consultas de solo lectura sobre destinos y viajes (esquema en graphql/schema.graphqls).
+// destinos { content { viajes { destino { nombre } } } } se resuelve con un número fijo de consultas:
+// la página con su conteo, los viajes de todos sus destinos y los destinos de todos esos viajes.
+@Slf4j
+@Controller
+public class GraphqlController {
+
+    private final DestinoService destinoService;
+    private final ViajeService viajeService;
+    private final GraphqlProperties properties;
+
+    public GraphqlController(DestinoService destinoService, ViajeService viajeService, GraphqlProperties properties,
+            BatchLoaderRegistry registry) {
+        this.destinoService = destinoService;
+        this.viajeService = viajeService;
+        this.properties = properties;
+
+        registry.<ViajesPorDestinoLoader.Clave, List<ViajeDTO>>forName(ViajesPorDestinoLoader.NOMBRE)
+            .registerMappedBatchLoader(new ViajesPorDestinoLoader(viajeService));
+    }
+
+    @QueryMapping
+    public Page<DestinoDTO> destinos(@Argument int pagina, @Argument int tamanio, @Argument String pais) {
+        log.debug("GraphQL destinos(pagina={}, tamanio={}, pais={})", pagina, tamanio, pais);
+
+        validarTamanio("tamanio", tamanio);
+        if (pagina < 0) {
+            throw new ValidationException("La página no puede ser negativa");
+        }
+
+        Pageable pageable = PageRequest.of(pagina, tamanio, Sort.by("id"));
+        return (pais != null && !pais.trim().isEmpty())
+            ? destinoService.findByPais(pais.trim(), pageable, false)
+            : destinoService.findAll(pageable, false);
+    }
+
+    @QueryMapping
+    public DestinoDTO destino(@Argument Long id) {
+        return destinoService.findById(id, false);
+    }
+
+    @QueryMapping
+    public ViajeDTO viaje(@Argument Long id) {
+        return viajeService.findById(id);
+    }
+
+    @SchemaMapping(typeName = "Destino")
+    public CompletableFuture<List<ViajeDTO>> viajes(DestinoDTO destino, @Argument int limite,
+            DataFetchingEnvironment entorno) {
+        validarTamanio("limite", limite);
+
+        DataLoader<ViajesPorDestinoLoader.Clave, List<ViajeDTO>> loader =
+            entorno.getDataLoader(ViajesPorDestinoLoader.NOMBRE);
+        return loader.load(new ViajesPorDestinoLoader.Clave(destino.getId(), limite));
+    }
+
+    // Un solo lote con los destinos de todos los viajes del nivel
+    @BatchMapping(typeName = "Viaje")
+    public Map<ViajeDTO, DestinoDTO> destino(List<ViajeDTO> viajes) {
+        Map<Long, DestinoDTO> destinos = destinoService.findAllById(viajes.stream()
+                .map(ViajeDTO::getDestinoId)
+                .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(DestinoDTO::getId, Function.identity()));
+
+        Map<ViajeDTO, DestinoDTO> resultado = new HashMap<>();
+        viajes.forEach(viaje -> resultado.put(viaje, destinos.get(viaje.getDestinoId())));
+        return resultado;
+    }
+
+    private void validarTamanio(String argumento, int valor) {
+        if (valor < 1 || valor > properties.getTamanioMaximo()) {
+            throw new ValidationException("El argumento " + argumento + " debe estar entre 1 y "
+                + properties.getTamanioMaximo());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.travelapp.controller;
+
+import java.net.URI;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.travelapp.dto.TrabajoDTO;
+import com.travelapp.service.ImportacionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/importaciones")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class ImportacionRestController {
+
+    private final ImportacionService importacionService;
+
+    // POST /api/importaciones - Subir un CSV de destinos y viajes; se procesa como trabajo en segundo plano
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TrabajoDTO> importar(@RequestParam("archivo") MultipartFile archivo) {
+        log.info("POST /api/importaciones - archivo: {} ({} bytes)", archivo.getOriginalFilename(), archivo.getSize());
+
+        TrabajoDTO trabajo = importacionService.iniciar(archivo);
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/jobs/" + trabajo.getId()))
+            .body(trabajo);
+    }
+}
@@ -0,0 +1,90 @@
+package com.travelapp.controller;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelapp.dto.GrabacionDTO;
+import com.travelapp.dto.SolicitudGrabacionDTO;
+import com.travelapp.perfilado.GrabacionesJfr;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Fuera de /api: no pasa por el limitador de concurrencia, para poder perfilar precisamente cuando está saturada.
+// AccesoPerfiladoFilter responde 404 si no está habilitado y exige el token en cada petición.
+@RestController
+@RequestMapping("/admin/jfr")
+@Slf4j
+@RequiredArgsConstructor
+public class PerfiladoRestController {
+
+    private final GrabacionesJfr grabacionesJfr;
+
+    // POST /admin/jfr - Iniciar una grabación acotada en tiempo y tamaño
+    @PostMapping
+    public ResponseEntity<GrabacionDTO> iniciar(@RequestBody(required = false) SolicitudGrabacionDTO solicitud) {
+        log.info("POST /admin/jfr - {}", solicitud);
+
+        GrabacionDTO grabacion = grabacionesJfr.iniciar(solicitud != null ? solicitud : new SolicitudGrabacionDTO());
+
+        return ResponseEntity.created(URI.create("/admin/jfr/" + grabacion.getId())).body(grabacion);
+    }
+
+    // GET /admin/jfr - Grabaciones en curso y terminadas que se conservan
+    @GetMapping
+    public ResponseEntity<List<GrabacionDTO>> getGrabaciones() {
+        return ResponseEntity.ok(grabacionesJfr.findAll());
+    }
+
+    // GET /admin/jfr/{id} - Estado de una grabación
+    @GetMapping("/{id}")
+    public ResponseEntity<GrabacionDTO> getGrabacion(@PathVariable long id) {
+        return ResponseEntity.ok(grabacionesJfr.findById(id));
+    }
+
+    // POST /admin/jfr/{id}/detener - Detener antes de cumplir la duración y descargar el archivo
+    @PostMapping("/{id}/detener")
+    public ResponseEntity<Resource> detener(@PathVariable long id) {
+        log.info("POST /admin/jfr/{}/detener", id);
+
+        grabacionesJfr.detener(id);
+        return archivo(id);
+    }
+
+    // GET /admin/jfr/{id}/archivo - Descargar el .jfr de una grabación terminada
+    @GetMapping("/{id}/archivo")
+    public ResponseEntity<Resource> getArchivo(@PathVariable long id) {
+        return archivo(id);
+    }
+
+    // DELETE /admin/jfr/{id} - Descartar la grabación y su archivo
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> eliminar(@PathVariable long id) {
+        log.info("DELETE /admin/jfr/{}", id);
+
+        grabacionesJfr.eliminar(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<Resource> archivo(long id) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("travelapp-" + id + ".jfr").build().toString())
+            .body(new FileSystemResource(grabacionesJfr.archivo(id)));
+    }
+}
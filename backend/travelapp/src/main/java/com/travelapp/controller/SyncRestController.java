@@ -0,0 +1,35 @@
+package com.travelapp.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelapp.dto.SyncDTO;
+import com.travelapp.service.SyncService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/sync")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class SyncRestController {
+
+    private final SyncService syncService;
+
+    // GET /api/sync?desde=<token> - Cambios desde el token (sin token: catálogo completo)
+    @GetMapping
+    public ResponseEntity<SyncDTO> sincronizar(
+            @RequestParam(required = false) String desde,
+            @RequestParam(required = false) Integer size) {
+
+        log.debug("GET /api/sync?desde={}", desde);
+
+        return ResponseEntity.ok(syncService.sincronizar(desde, size));
+    }
+}
@@ -0,0 +1,81 @@
+package com.travelapp.controller;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelapp.dto.SolicitudTrabajoDTO;
+import com.travelapp.dto.TrabajoDTO;
+import com.travelapp.service.TrabajoService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/jobs")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class TrabajoRestController {
+
+    private final TrabajoService trabajoService;
+
+    // POST /api/jobs - Encolar un trabajo en segundo plano
+    @PostMapping
+    public ResponseEntity<TrabajoDTO> solicitar(@Valid @RequestBody SolicitudTrabajoDTO solicitud) {
+        log.info("POST /api/jobs - tipo: {}", solicitud.getTipo());
+
+        TrabajoDTO trabajo = trabajoService.solicitar(solicitud);
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/jobs/" + trabajo.getId()))
+            .body(trabajo);
+    }
+
+    // GET /api/jobs/{id} - Estado, progreso y resultado de un trabajo
+    @GetMapping("/{id}")
+    public ResponseEntity<TrabajoDTO> getTrabajo(@PathVariable String id) {
+        log.debug("GET /api/jobs/{}", id);
+
+        return ResponseEntity.ok(trabajoService.findById(id));
+    }
+
+    // DELETE /api/jobs/{id} - Cancelar un trabajo pendiente o en curso
+    @DeleteMapping("/{id}")
+    public ResponseEntity<TrabajoDTO> cancelar(@PathVariable String id) {
+        log.info("DELETE /api/jobs/{}", id);
+
+        return ResponseEntity.ok(trabajoService.cancelar(id));
+    }
+
+    // GET /api/jobs/{id}/resultado - Descargar el archivo generado por el trabajo
+    @GetMapping("/{id}/resultado")
+    public ResponseEntity<Resource> getResultado(@PathVariable String id) {
+        log.debug("GET /api/jobs/{}/resultado", id);
+
+        TrabajoDTO trabajo = trabajoService.findById(id);
+        Path archivo = trabajoService.archivoResultado(id);
+        String nombre = trabajo.getTipo().name().toLowerCase() + "-" + id + ".csv";
+
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(nombre).build().toString())
+            .body(new FileSystemResource(archivo));
+    }
+}
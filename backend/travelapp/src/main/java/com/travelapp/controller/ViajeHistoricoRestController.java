@@ -0,0 +1,54 @@
+package com.travelapp.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelapp.dto.ViajeHistoricoDTO;
+import com.travelapp.service.ViajeHistoricoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Viajes terminados y archivados: solo lectura, fuera de /api/viajes que recorre únicamente la tabla activa
+@RestController
+@RequestMapping("/api/viajes/historico")
+@Slf4j
+@CrossOrigin
+@RequiredArgsConstructor
+public class ViajeHistoricoRestController {
+
+    private final ViajeHistoricoService viajeHistoricoService;
+
+    // GET /api/viajes/historico?destinoId=&pais=&desde=&hasta= - Viajes archivados con paginación
+    @GetMapping
+    public ResponseEntity<Page<ViajeHistoricoDTO>> getHistorico(
+            @PageableDefault(size = 10, sort = "fechaInicio") Pageable pageable,
+            @RequestParam(required = false) Long destinoId,
+            @RequestParam(required = false) String pais,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        log.debug("GET /api/viajes/historico?destinoId={}&pais={}&desde={}&hasta={}", destinoId, pais, desde, hasta);
+
+        return ResponseEntity.ok(viajeHistoricoService.findAll(destinoId, pais, desde, hasta, pageable));
+    }
+
+    // GET /api/viajes/historico/{id} - Viaje archivado por ID
+    @GetMapping("/{id}")
+    public ResponseEntity<ViajeHistoricoDTO> getHistoricoById(@PathVariable Long id) {
+        log.debug("GET /api/viajes/historico/{}", id);
+
+        return ResponseEntity.ok(viajeHistoricoService.findById(id));
+    }
+}
@@ -1,8 +1,13 @@
 package com.travelapp.controller;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,7 +21,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.travelapp.dto.ConteoCalendarioDTO;
+import com.travelapp.dto.MasBaratosDTO;
 import com.travelapp.dto.ViajeDTO;
+import com.travelapp.logging.MuestreoLog;
 import com.travelapp.service.ViajeService;
 
 import jakarta.validation.Valid;
@@ -38,7 +46,7 @@ public class ViajeRestController {
             @PageableDefault(size = 10, sort = "fechaInicio") Pageable pageable,
             @RequestParam(required = false) Long destinoId) {
 
-        log.info("GET /api/viajes?destinoId={}", destinoId);
+        log.debug("GET /api/viajes?destinoId={}", destinoId);
 
         Page<ViajeDTO> viajes = (destinoId != null)
             ? viajeService.findByDestinoId(destinoId, pageable)
@@ -47,20 +55,82 @@ public class ViajeRestController {
         return ResponseEntity.ok(viajes);
     }
 
+    // GET /api/viajes?fields=id,precio,destinoNombre - Listar solo los campos pedidos (el id va siempre)
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getAllViajesCampos(
+            @PageableDefault(size = 10, sort = "fechaInicio") Pageable pageable,
+            @RequestParam(required = false) Long destinoId,
+            @RequestParam String fields) {
+
+        log.debug("GET /api/viajes?destinoId={}&fields={}", destinoId, fields);
+
+        return ResponseEntity.ok(viajeService.findCampos(fields, destinoId, pageable));
+    }
+
+    // GET /api/viajes/disponibles?desde=&hasta=&pais= - Viajes dentro de un rango de fechas
+    // parcial=true incluye también los viajes que solo se solapan con el rango
+    @GetMapping("/disponibles")
+    public ResponseEntity<Page<ViajeDTO>> getViajesDisponibles(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) String pais,
+            @RequestParam(defaultValue = "false") boolean parcial,
+            @PageableDefault(size = 10, sort = "fechaInicio") Pageable pageable) {
+
+        log.debug("GET /api/viajes/disponibles?desde={}&hasta={}&pais={}", desde, hasta, pais);
+
+        return ResponseEntity.ok(viajeService.findDisponibles(desde, hasta, pais, parcial, pageable));
+    }
+
+    // GET /api/viajes/calendario?granularidad=dia|mes&pais=&destinoId= - Salidas por día o mes
+    @GetMapping("/calendario")
+    public ResponseEntity<List<ConteoCalendarioDTO>> getCalendario(
+            @RequestParam(defaultValue = "mes") String granularidad,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) Long destinoId,
+            @RequestParam(required = false) String pais) {
+
+        log.debug("GET /api/viajes/calendario?granularidad={}&pais={}&destinoId={}", granularidad, pais, destinoId);
+
+        return ResponseEntity.ok(viajeService.findCalendario(granularidad, desde, hasta, destinoId, pais));
+    }
+
+    // GET /api/viajes/mas-baratos?por=destino|pais&k= - Los k viajes próximos más baratos de cada destino o país
+    @GetMapping("/mas-baratos")
+    public ResponseEntity<List<MasBaratosDTO>> getMasBaratos(
+            @RequestParam(defaultValue = "destino") String por,
+            @RequestParam(defaultValue = "3") int k) {
+
+        log.debug("GET /api/viajes/mas-baratos?por={}&k={}", por, k);
+
+        return ResponseEntity.ok(viajeService.findMasBaratos(por, k));
+    }
+
     // GET /api/viajes/{id} - Viaje por ID
     @GetMapping("/{id}")
     public ResponseEntity<ViajeDTO> getViajeById(@PathVariable Long id) {
-        log.info("GET /api/viajes/{}", id);
+        log.debug("GET /api/viajes/{}", id);
 
         ViajeDTO viajeDTO = viajeService.findById(id);
 
         return ResponseEntity.ok(viajeDTO);
     }
 
+    // GET /api/viajes/{id}?fields= - Viaje por ID con solo los campos pedidos
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getViajeCamposById(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("GET /api/viajes/{}?fields={}", id, fields);
+
+        return ResponseEntity.ok(viajeService.findCamposById(id, fields));
+    }
+
     // POST /api/viajes - Crear nuevo viaje
     @PostMapping
     public ResponseEntity<ViajeDTO> createViaje(@RequestBody ViajeDTO viajeDTO) {
-        log.info("POST /api/viajes - creando viaje: {}", viajeDTO);
+        if (MuestreoLog.debugSeleccionado()) {
+            log.info("POST /api/viajes - creando viaje: {}", viajeDTO);
+        }
 
         ViajeDTO viajeCreado = viajeService.create(viajeDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(viajeCreado);
@@ -72,7 +142,9 @@ public class ViajeRestController {
         @PathVariable Long id,
         @Valid @RequestBody ViajeDTO viajeDTO) {
 
-        log.info("PUT /api/viajes/{} - actualizando viaje: {}", id, viajeDTO);
+        if (MuestreoLog.debugSeleccionado()) {
+            log.info("PUT /api/viajes/{} - actualizando viaje: {}", id, viajeDTO);
+        }
 
         ViajeDTO viajeActualizado = viajeService.update(id, viajeDTO);
         return ResponseEntity.ok(viajeActualizado);
@@ -81,7 +153,7 @@ public class ViajeRestController {
     // DELETE /api/viajes/{id} - Eliminar viaje existente
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteViaje(@PathVariable Long id) {
-        log.info("DELETE /api/viajes/{}", id);
+        log.debug("DELETE /api/viajes/{}", id);
         
         viajeService.deleteById(id);
         return ResponseEntity.noContent().build();
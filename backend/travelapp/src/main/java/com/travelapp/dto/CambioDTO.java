@@ -0,0 +1,27 @@
+package com.travelapp.dto;
+
+import com.travelapp.event.TipoCambio;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CambioDTO {
+
+    private long secuencia;
+
+    // "viaje" o "destino"
+    private String entidad;
+
+    private TipoCambio tipo;
+
+    private Long id;
+
+    // ViajeDTO o DestinoDTO; null en eliminaciones
+    private Object datos;
+}
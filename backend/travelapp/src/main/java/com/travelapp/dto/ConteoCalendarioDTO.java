@@ -0,0 +1,18 @@
+package com.travelapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConteoCalendarioDTO {
+
+    // "2027-01-15" (día) o "2027-01" (mes)
+    private String periodo;
+
+    private long cantidad;
+}
@@ -1,6 +1,6 @@
 package com.travelapp.dto;
 
-import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -25,5 +25,10 @@ public class DestinoDTO {
     @Size(min = 2, max = 100, message = "El país debe tener entre 2 y 100 caracteres")
     private String pais;
     
-    private List<Long> viajeIds;
+    // Número de viajes del destino; se devuelve siempre
+    private Long viajeCount;
+
+    // Solo con ?expand=viajes. long[] se serializa elemento a elemento sin boxing
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private long[] viajeIds;
 }
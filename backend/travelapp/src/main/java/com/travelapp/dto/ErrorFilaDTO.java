@@ -0,0 +1,5 @@
+package com.travelapp.dto;
+
+// Fila del CSV (la cabecera es la 1) que no se importó y el motivo
+public record ErrorFilaDTO(long fila, String mensaje) {
+}
@@ -0,0 +1,31 @@
+package com.travelapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstadisticaDTO {
+
+    // País o nombre del destino; null en el total
+    private String grupo;
+
+    private Long destinoId;
+
+    private long viajes;
+
+    private double ingresos;
+
+    private double precioMedio;
+
+    private double precioMinimo;
+
+    private double precioMaximo;
+
+    // Días entre fecha de inicio y fecha de fin
+    private double duracionMedia;
+}
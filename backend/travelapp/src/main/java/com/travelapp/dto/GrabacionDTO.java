@@ -0,0 +1,36 @@
+package com.travelapp.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GrabacionDTO {
+
+    public enum Estado { EN_CURSO, TERMINADA }
+
+    private long id;
+
+    private Estado estado;
+
+    private String configuracion;
+
+    private Duration duracion;
+
+    private long tamanioMaximo;
+
+    // Bytes grabados hasta ahora, o del archivo si ya terminó
+    private long tamanio;
+
+    private Instant inicio;
+
+    // Solo cuando la grabación terminó
+    private String urlArchivo;
+}
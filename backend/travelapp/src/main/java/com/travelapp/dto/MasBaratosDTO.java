@@ -0,0 +1,25 @@
+package com.travelapp.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MasBaratosDTO {
+
+    // null al agrupar por país
+    private Long destinoId;
+
+    private String destinoNombre;
+
+    private String pais;
+
+    // De menor a mayor precio
+    private List<ViajeDTO> viajes;
+}
@@ -0,0 +1,25 @@
+package com.travelapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoBusquedaDTO {
+
+    private Long id;
+
+    private String nombre;
+
+    private String pais;
+
+    // Relevancia respecto a la consulta; solo sirve para comparar resultados de la misma búsqueda
+    private double puntuacion;
+
+    // Viajes con fecha de inicio desde hoy
+    private long viajesProximos;
+}
@@ -0,0 +1,24 @@
+package com.travelapp.dto;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SolicitudGrabacionDTO {
+
+    // ISO-8601 (PT2M); por defecto travelapp.perfilado.duracion-por-defecto
+    private Duration duracion;
+
+    // Por defecto y como máximo travelapp.perfilado.tamanio-maximo
+    private Integer tamanioMaximoMb;
+
+    // "default" (sobrecarga ~1%) o "profile" (más detalle, ~2%)
+    private String configuracion;
+}
@@ -0,0 +1,24 @@
+package com.travelapp.dto;
+
+import java.util.Map;
+
+import com.travelapp.model.TipoTrabajo;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SolicitudTrabajoDTO {
+
+    @NotNull(message = "El tipo de trabajo no puede ser nulo")
+    private TipoTrabajo tipo;
+
+    // Según el tipo: destinoId, pais, porcentaje...
+    private Map<String, Object> parametros;
+}
@@ -0,0 +1,31 @@
+package com.travelapp.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncDTO {
+
+    // Token a enviar en la siguiente llamada (?desde=)
+    private String token;
+
+    private boolean hayMas;
+
+    // El token es anterior a la última compactación: descartar datos locales y sincronizar desde 0
+    private boolean resincronizar;
+
+    private List<DestinoDTO> destinos;
+
+    private List<ViajeDTO> viajes;
+
+    private List<Long> destinosEliminados;
+
+    private List<Long> viajesEliminados;
+}
@@ -0,0 +1,47 @@
+package com.travelapp.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.travelapp.model.EstadoTrabajo;
+import com.travelapp.model.TipoTrabajo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrabajoDTO {
+
+    private String id;
+
+    private TipoTrabajo tipo;
+
+    private EstadoTrabajo estado;
+
+    private Map<String, Object> parametros;
+
+    private long procesados;
+
+    // null mientras el trabajo no conoce el total
+    private Long total;
+    private Integer porcentaje;
+
+    private boolean cancelacionSolicitada;
+
+    // Motivo del fallo o de la cancelación
+    private String mensaje;
+
+    private Map<String, Object> resultado;
+
+    // Solo si el trabajo terminó y generó un archivo
+    private String urlResultado;
+
+    private Instant creado;
+    private Instant iniciado;
+    private Instant terminado;
+}
@@ -0,0 +1,20 @@
+package com.travelapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TramoPrecioDTO {
+
+    private double desde;
+
+    // null en el último tramo, que no tiene límite superior
+    private Double hasta;
+
+    private long viajes;
+}
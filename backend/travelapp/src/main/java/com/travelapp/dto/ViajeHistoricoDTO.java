@@ -0,0 +1,32 @@
+package com.travelapp.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViajeHistoricoDTO {
+
+    private long id;
+
+    private LocalDate fechaInicio;
+
+    private LocalDate fechaFin;
+
+    private Double precio;
+
+    private Long destinoId;
+
+    private String destinoNombre;
+
+    private String destinoPais;
+
+    private Instant archivado;
+}
@@ -0,0 +1,12 @@
+package com.travelapp.dto;
+
+import java.time.LocalDate;
+
+// Proyección liviana de viaje para construir los índices en memoria
+public record ViajeResumen(long id, LocalDate fechaInicio, LocalDate fechaFin, Double precio, long destinoId) {
+
+    public static ViajeResumen of(ViajeDTO viaje) {
+        return new ViajeResumen(viaje.getId(), viaje.getFechaInicio(), viaje.getFechaFin(), viaje.getPrecio(),
+            viaje.getDestinoId() != null ? viaje.getDestinoId() : 0L);
+    }
+}
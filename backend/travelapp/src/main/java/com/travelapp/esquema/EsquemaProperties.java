@@ -0,0 +1,23 @@
+package com.travelapp.esquema;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.esquema")
+public class EsquemaProperties {
+
+    private Modo modo = Modo.COMPLETO;
+
+    public enum Modo {
+        // Aplica las migraciones al arrancar y sirve peticiones (desarrollo local)
+        COMPLETO,
+        // Aplica las migraciones y termina (job previo al despliegue)
+        MIGRATE,
+        // No migra: solo comprueba que la base de datos tiene todos los changesets y sirve peticiones
+        SERVE
+    }
+}
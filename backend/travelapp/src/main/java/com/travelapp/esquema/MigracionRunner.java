@@ -0,0 +1,29 @@
+package com.travelapp.esquema;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Modo migrate: Liquibase ya aplicó el changelog al crear el contexto, así que basta con terminar.
+// Si una migración falla el contexto no llega a arrancar y el proceso sale con código distinto de 0.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MigracionRunner implements ApplicationRunner {
+
+    private final EsquemaProperties properties;
+    private final ConfigurableApplicationContext contexto;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.getModo() != EsquemaProperties.Modo.MIGRATE) return;
+
+        log.info("Migraciones aplicadas, terminando (modo migrate)");
+        System.exit(SpringApplication.exit(contexto));
+    }
+}
@@ -0,0 +1,128 @@
+package com.travelapp.esquema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Modo serve: compara los changesets del changelog (id::autor) con los registrados en la tabla de Liquibase.
+// Una sola consulta y un parseo DOM del XML, sin cargar Liquibase ni tomar su lock.
+// Se ejecuta tras crear los singletons y antes de levantar el servidor web, así que un esquema
+// desactualizado impide arrancar. Changesets de más en la base de datos (despliegue de una versión
+// más nueva en curso) solo generan un aviso.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionEsquemaValidator implements SmartInitializingSingleton {
+
+    private static final String CHANGELOG_POR_DEFECTO = "classpath:db/changelog/db.changelog-master.xml";
+    private static final String TABLA_POR_DEFECTO = "databasechangelog";
+
+    private final EsquemaProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceLoader resourceLoader;
+    private final Environment environment;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.getModo() == EsquemaProperties.Modo.SERVE) {
+            validar();
+        }
+    }
+
+    public void validar() {
+        long inicio = System.currentTimeMillis();
+
+        String changeLog = environment.getProperty("spring.liquibase.change-log", CHANGELOG_POR_DEFECTO);
+        Set<String> declarados = new LinkedHashSet<>();
+        leerChangeSets(resourceLoader.getResource(changeLog), declarados);
+
+        Set<String> aplicados = new LinkedHashSet<>(aplicados());
+
+        Set<String> pendientes = new LinkedHashSet<>(declarados);
+        pendientes.removeAll(aplicados);
+        if (!pendientes.isEmpty()) {
+            throw new IllegalStateException("Esquema desactualizado: faltan " + pendientes.size()
+                + " changesets " + pendientes + ". Ejecutar el modo migrate antes de arrancar (modo serve)");
+        }
+
+        aplicados.removeAll(declarados);
+        if (!aplicados.isEmpty()) {
+            log.warn("La base de datos tiene {} changesets que esta versión no conoce: {}", aplicados.size(), aplicados);
+        }
+
+        log.info("Esquema validado: {} changesets aplicados en {} ms", declarados.size(), System.currentTimeMillis() - inicio);
+    }
+
+    private List<String> aplicados() {
+        String tabla = environment.getProperty("spring.liquibase.database-change-log-table", TABLA_POR_DEFECTO);
+        String esquema = environment.getProperty("spring.liquibase.liquibase-schema");
+        if (esquema != null && !esquema.isBlank()) {
+            tabla = esquema + "." + tabla;
+        }
+
+        try {
+            return jdbcTemplate.query("SELECT id, author FROM " + tabla,
+                (rs, fila) -> rs.getString(1) + "::" + rs.getString(2));
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("No se pudo leer la tabla " + tabla
+                + ": la base de datos no está migrada. Ejecutar el modo migrate antes de arrancar (modo serve)", e);
+        }
+    }
+
+    // Changesets del fichero y de sus include, en orden
+    private void leerChangeSets(Resource changeLog, Set<String> destino) {
+        Document documento;
+        try (InputStream entrada = changeLog.getInputStream()) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            documento = factory.newDocumentBuilder().parse(entrada);
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo leer el changelog " + changeLog.getDescription(), e);
+        }
+
+        NodeList hijos = documento.getDocumentElement().getChildNodes();
+        for (int i = 0; i < hijos.getLength(); i++) {
+            if (hijos.item(i).getNodeType() != Node.ELEMENT_NODE) continue;
+
+            Element elemento = (Element) hijos.item(i);
+            switch (elemento.getTagName()) {
+                case "changeSet" -> destino.add(elemento.getAttribute("id") + "::" + elemento.getAttribute("author"));
+                case "include" -> leerChangeSets(incluido(changeLog, elemento), destino);
+                case "includeAll" -> throw new IllegalStateException(
+                    "includeAll no está soportado por la validación del esquema: " + changeLog.getDescription());
+                default -> { }
+            }
+        }
+    }
+
+    private Resource incluido(Resource changeLog, Element include) {
+        String fichero = include.getAttribute("file");
+        if (!Boolean.parseBoolean(include.getAttribute("relativeToChangelogFile"))) {
+            return resourceLoader.getResource("classpath:" + fichero);
+        }
+        try {
+            return changeLog.createRelative(fichero);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo resolver el include " + fichero, e);
+        }
+    }
+}
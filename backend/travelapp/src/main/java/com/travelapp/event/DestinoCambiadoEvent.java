@@ -0,0 +1,28 @@
+package com.travelapp.event;
+
+import com.travelapp.dto.DestinoDTO;
+
+// Publicado por DestinoService. destino es null cuando el tipo es ELIMINADO.
+// remoto: la modificación se confirmó en otro nodo (ver ViajeCambiadoEvent).
+public record DestinoCambiadoEvent(TipoCambio tipo, Long id, DestinoDTO destino, boolean remoto) {
+
+    public DestinoCambiadoEvent(TipoCambio tipo, Long id, DestinoDTO destino) {
+        this(tipo, id, destino, false);
+    }
+
+    public static DestinoCambiadoEvent creado(DestinoDTO destino) {
+        return new DestinoCambiadoEvent(TipoCambio.CREADO, destino.getId(), destino);
+    }
+
+    public static DestinoCambiadoEvent actualizado(DestinoDTO destino) {
+        return new DestinoCambiadoEvent(TipoCambio.ACTUALIZADO, destino.getId(), destino);
+    }
+
+    public static DestinoCambiadoEvent eliminado(Long id) {
+        return new DestinoCambiadoEvent(TipoCambio.ELIMINADO, id, null);
+    }
+
+    public static DestinoCambiadoEvent remoto(TipoCambio tipo, Long id, DestinoDTO destino) {
+        return new DestinoCambiadoEvent(tipo, id, destino, true);
+    }
+}
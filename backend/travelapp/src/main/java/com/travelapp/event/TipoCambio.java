@@ -0,0 +1,7 @@
+package com.travelapp.event;
+
+public enum TipoCambio {
+    CREADO,
+    ACTUALIZADO,
+    ELIMINADO
+}
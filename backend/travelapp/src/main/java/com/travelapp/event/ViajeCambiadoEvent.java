@@ -0,0 +1,29 @@
+package com.travelapp.event;
+
+import com.travelapp.dto.ViajeDTO;
+
+// Publicado por ViajeService (y por DestinoService al eliminar en cascada).
+// viaje es null cuando el tipo es ELIMINADO. remoto: la modificación se confirmó en otro nodo y
+// ReceptorInvalidaciones la vuelve a publicar aquí con los datos leídos de la base de datos.
+public record ViajeCambiadoEvent(TipoCambio tipo, Long id, ViajeDTO viaje, boolean remoto) {
+
+    public ViajeCambiadoEvent(TipoCambio tipo, Long id, ViajeDTO viaje) {
+        this(tipo, id, viaje, false);
+    }
+
+    public static ViajeCambiadoEvent creado(ViajeDTO viaje) {
+        return new ViajeCambiadoEvent(TipoCambio.CREADO, viaje.getId(), viaje);
+    }
+
+    public static ViajeCambiadoEvent actualizado(ViajeDTO viaje) {
+        return new ViajeCambiadoEvent(TipoCambio.ACTUALIZADO, viaje.getId(), viaje);
+    }
+
+    public static ViajeCambiadoEvent eliminado(Long id) {
+        return new ViajeCambiadoEvent(TipoCambio.ELIMINADO, id, null);
+    }
+
+    public static ViajeCambiadoEvent remoto(TipoCambio tipo, Long id, ViajeDTO viaje) {
+        return new ViajeCambiadoEvent(tipo, id, viaje, true);
+    }
+}
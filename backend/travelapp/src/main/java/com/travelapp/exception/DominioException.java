@@ -0,0 +1,11 @@
+package com.travelapp.exception;
+
+// Base de las excepciones de negocio que acaban en una respuesta 4xx/503: sin traza de pila ni supresión.
+// Se lanzan en cada 404 o 400 y la traza (lo más caro de crear una excepción) no aporta nada:
+// el mensaje y el log del servicio ya dicen qué pasó.
+public abstract class DominioException extends RuntimeException {
+
+    protected DominioException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,6 +1,6 @@
 package com.travelapp.exception;
 
-public class DuplicateEntityException extends RuntimeException{
+public class DuplicateEntityException extends DominioException {
     
     public DuplicateEntityException(String message) {
         super(message);
@@ -1,6 +1,6 @@
 package com.travelapp.exception;
 
-public class EntityNotFoundException extends RuntimeException {
+public class EntityNotFoundException extends DominioException {
     
     public EntityNotFoundException(String message) {
         super(message);
@@ -3,10 +3,12 @@ package com.travelapp.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,9 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 public class GlobalExceptionHandler {
     
     // Manejo de EntityNotFoundException
+    // En debug: el servicio ya avisa la primera vez y las repeticiones (crawlers, enlaces antiguos) no deben llenar el log
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleEntityNotFoundException(EntityNotFoundException exception) {
-        log.warn("Entidad no encontrada: {}", exception.getMessage());
+        log.debug("Entidad no encontrada: {}", exception.getMessage());
 
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, exception.getMessage());
         problemDetail.setTitle("Entidad no encontrada");
@@ -51,6 +54,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
+    // Manejo de ServicioSaturadoException
+    @ExceptionHandler(ServicioSaturadoException.class)
+    public ResponseEntity<ProblemDetail> handleServicioSaturadoException(ServicioSaturadoException exception) {
+        log.warn("Servicio saturado: {}", exception.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage());
+        problemDetail.setTitle("Servicio saturado");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "5")
+            .body(problemDetail);
+    }
+
     // Manejo de errores de validación de argumentos
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleMethodArgumentNotValidException(MethodArgumentNotValidException exception) {
@@ -70,6 +86,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
 
+    // Manejo de HttpMediaTypeNotAcceptableException (p. ej. ?fields= con Accept: application/x-protobuf)
+    // Sin cuerpo: el cliente no acepta ninguno de los formatos en que se podría escribir el error
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleHttpMediaTypeNotAcceptableException(HttpMediaTypeNotAcceptableException exception) {
+        log.debug("Formato de respuesta no disponible: {}", exception.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
     // Manejo de excepciones generales
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGeneralException(Exception exception) {
@@ -0,0 +1,8 @@
+package com.travelapp.exception;
+
+public class ServicioSaturadoException extends DominioException {
+
+    public ServicioSaturadoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.travelapp.exception;
+
+// La lanza ContextoTrabajo en un punto de control cuando se pidió cancelar el trabajo
+public class TrabajoCanceladoException extends DominioException {
+
+    public TrabajoCanceladoException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.travelapp.exception;
 
-public class ValidationException extends RuntimeException {
+public class ValidationException extends DominioException {
     public ValidationException(String message) {
         super(message);
     }
@@ -0,0 +1,104 @@
+package com.travelapp.generador;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.generador.GeneradorDatos.DestinoSintetico;
+import com.travelapp.generador.GeneradorDatos.ViajeSintetico;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Inserta los datos de GeneradorDatos con INSERTs por lotes de JDBC, sin pasar por JPA ni eventos.
+// Registra las altas en cambio_log como el changeset 5, para que una sincronización desde 0 sea completa.
+// No escribe invalidacion_log: los backends ya arrancados no ven los datos hasta reiniciarse (índices y cachés
+// en memoria se cargan al arrancar).
+@Slf4j
+@RequiredArgsConstructor
+public class CargaDatosSinteticos {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanioLote;
+
+    public record Resumen(int destinos, long viajes, long duracionMs) {
+    }
+
+    public Resumen cargar(GeneradorDatos generador, long viajes) {
+        long inicio = System.nanoTime();
+        List<DestinoSintetico> destinos = generador.destinos();
+
+        Integer existentes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM destino WHERE nombre = ?", Integer.class,
+            destinos.get(0).nombre());
+        if (existentes != null && existentes > 0) {
+            throw new IllegalStateException("La base de datos ya tiene los destinos de esta semilla; usar otra semilla");
+        }
+
+        long ultimoDestino = maxId("destino");
+        long ultimoViaje = maxId("viaje");
+
+        for (int desde = 0; desde < destinos.size(); desde += tamanioLote) {
+            List<DestinoSintetico> lote = destinos.subList(desde, Math.min(destinos.size(), desde + tamanioLote));
+            transactionTemplate.executeWithoutResult(estado -> jdbcTemplate.batchUpdate(
+                "INSERT INTO destino (nombre, pais) VALUES (?, ?)", lote, lote.size(), (ps, destino) -> {
+                    ps.setString(1, destino.nombre());
+                    ps.setString(2, destino.pais());
+                }));
+        }
+
+        // Ids asignados por la base de datos, en orden de inserción
+        long[] ids = jdbcTemplate.queryForList("SELECT id FROM destino WHERE id > ? ORDER BY id", Long.class, ultimoDestino)
+            .stream().mapToLong(Long::longValue).toArray();
+        if (ids.length != destinos.size()) {
+            throw new IllegalStateException("Se insertaron destinos a la vez que el generador");
+        }
+        log.info("{} destinos insertados", ids.length);
+
+        Iterator<ViajeSintetico> iterador = generador.viajes(viajes);
+        List<ViajeSintetico> lote = new ArrayList<>(tamanioLote);
+        long insertados = 0;
+        long siguienteAviso = Math.max(1, viajes / 10);
+        while (iterador.hasNext()) {
+            lote.add(iterador.next());
+            if (lote.size() == tamanioLote || !iterador.hasNext()) {
+                insertarViajes(lote, ids);
+                insertados += lote.size();
+                lote.clear();
+                if (insertados >= siguienteAviso) {
+                    log.info("{} de {} viajes insertados", insertados, viajes);
+                    siguienteAviso += Math.max(1, viajes / 10);
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(estado -> {
+            jdbcTemplate.update("INSERT INTO cambio_log (entidad, entidad_id, tipo, fecha) "
+                + "SELECT 'destino', id, 'CREADO', CURRENT_TIMESTAMP FROM destino WHERE id > ?", ultimoDestino);
+            jdbcTemplate.update("INSERT INTO cambio_log (entidad, entidad_id, tipo, fecha) "
+                + "SELECT 'viaje', id, 'CREADO', CURRENT_TIMESTAMP FROM viaje WHERE id > ?", ultimoViaje);
+        });
+
+        return new Resumen(ids.length, insertados, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void insertarViajes(List<ViajeSintetico> lote, long[] ids) {
+        transactionTemplate.executeWithoutResult(estado -> jdbcTemplate.batchUpdate(
+            "INSERT INTO viaje (fecha_inicio, fecha_fin, precio, destino_id) VALUES (?, ?, ?, ?)",
+            lote, lote.size(), (ps, viaje) -> {
+                ps.setDate(1, Date.valueOf(viaje.fechaInicio()));
+                ps.setDate(2, Date.valueOf(viaje.fechaFin()));
+                ps.setDouble(3, viaje.precio());
+                ps.setLong(4, ids[viaje.destino()]);
+            }));
+    }
+
+    private long maxId(String tabla) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabla, Long.class);
+        return max != null ? max : 0;
+    }
+}
@@ -0,0 +1,184 @@
+package com.travelapp.generador;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.travelapp.dto.ViajeResumen;
+
+// Datos sintéticos deterministas: misma semilla y parámetros, mismos destinos y viajes en el mismo orden.
+// La popularidad de destinos y países sigue una distribución de Zipf: unos pocos destinos concentran
+// la mayoría de los viajes, como en un catálogo real. No accede a la base de datos, así que sirve
+// también como fixture de tests y benchmarks en memoria.
+public class GeneradorDatos {
+
+    private static final String[] SILABAS = {
+        "ba", "bel", "ca", "cor", "da", "del", "fa", "go", "ja", "la", "lan", "li", "ma", "mar", "mi", "mon",
+        "na", "no", "pa", "pe", "ra", "ri", "ro", "sa", "san", "ta", "tor", "va", "vel", "vi", "za", "zu"
+    };
+
+    private static final String[] PAISES = {
+        "España", "Francia", "Italia", "Estados Unidos", "México", "Tailandia", "Japón", "Grecia", "Portugal",
+        "Brasil", "Perú", "Argentina", "India", "Indonesia", "Marruecos", "Egipto", "Turquía", "Croacia",
+        "Vietnam", "Colombia", "Chile", "Costa Rica", "Cuba", "Alemania", "Reino Unido", "Irlanda", "Noruega",
+        "Islandia", "Sudáfrica", "Kenia", "Tanzania", "Australia", "Nueva Zelanda", "Canadá", "China",
+        "Corea del Sur", "Filipinas", "Malasia", "Sri Lanka", "Nepal", "Jordania", "Emiratos Árabes", "Maldivas",
+        "Países Bajos", "Austria", "Suiza", "Polonia", "Hungría", "República Checa", "Escocia"
+    };
+
+    private final long semilla;
+    private final int destinos;
+    private final LocalDate desde;
+    private final int dias;
+
+    // Distribución acumulada de la popularidad por destino, y su permutación para que los más
+    // populares no sean siempre los primeros ids
+    private final double[] acumulada;
+    private final int[] destinoPorRango;
+    private final double[] precioBase;
+
+    public GeneradorDatos(long semilla, int destinos, double asimetria, LocalDate desde, int dias) {
+        if (destinos <= 0 || dias <= 0) {
+            throw new IllegalArgumentException("Se necesita al menos un destino y un día");
+        }
+        this.semilla = semilla;
+        this.destinos = destinos;
+        this.desde = desde;
+        this.dias = dias;
+
+        SplittableRandom random = new SplittableRandom(semilla ^ 0x5DEECE66DL);
+        this.acumulada = zipfAcumulada(destinos, asimetria);
+        this.destinoPorRango = permutacion(destinos, random);
+
+        // Precio de referencia por destino, log-normal con mediana ~900
+        this.precioBase = new double[destinos];
+        for (int i = 0; i < destinos; i++) {
+            precioBase[i] = Math.exp(Math.log(900) + 0.5 * random.nextGaussian());
+        }
+    }
+
+    public static GeneradorDatos of(GeneradorProperties properties) {
+        return new GeneradorDatos(properties.getSemilla(), properties.getDestinos(), properties.getAsimetria(),
+            properties.getDesde(), properties.getDias());
+    }
+
+    public record DestinoSintetico(String nombre, String pais) {
+    }
+
+    // destino: posición en destinos() (0..destinos-1)
+    public record ViajeSintetico(LocalDate fechaInicio, LocalDate fechaFin, double precio, int destino) {
+    }
+
+    public List<DestinoSintetico> destinos() {
+        SplittableRandom random = new SplittableRandom(semilla);
+        double[] paises = zipfAcumulada(PAISES.length, 1.0);
+        Set<String> nombres = new HashSet<>(destinos * 2);
+        List<DestinoSintetico> resultado = new ArrayList<>(destinos);
+
+        for (int i = 0; i < destinos; i++) {
+            String base = nombre(random);
+            String nombre = base;
+            for (int sufijo = 2; !nombres.add(nombre); sufijo++) {
+                nombre = base + " " + sufijo;
+            }
+            resultado.add(new DestinoSintetico(nombre, PAISES[muestra(paises, random.nextDouble())]));
+        }
+        return resultado;
+    }
+
+    public Iterator<ViajeSintetico> viajes(long cantidad) {
+        SplittableRandom random = new SplittableRandom(semilla + 1);
+
+        return new Iterator<>() {
+            private long generados;
+
+            @Override
+            public boolean hasNext() {
+                return generados < cantidad;
+            }
+
+            @Override
+            public ViajeSintetico next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                generados++;
+                return viaje(random);
+            }
+        };
+    }
+
+    // Fixture para índices en memoria: ids 1..cantidad y destinoId = posición del destino + 1
+    public Stream<ViajeResumen> resumenes(long cantidad) {
+        Iterator<ViajeSintetico> viajes = viajes(cantidad);
+        long[] id = {0};
+        return StreamSupport.stream(Spliterators.spliterator(viajes, cantidad, Spliterator.ORDERED), false)
+            .map(viaje -> new ViajeResumen(++id[0], viaje.fechaInicio(), viaje.fechaFin(), viaje.precio(),
+                viaje.destino() + 1L));
+    }
+
+    private ViajeSintetico viaje(SplittableRandom random) {
+        int destino = destinoPorRango[muestra(acumulada, random.nextDouble())];
+
+        // Temporada alta en verano: se descartan más salidas cuanto más lejos de mediados de julio
+        LocalDate inicio;
+        do {
+            inicio = desde.plusDays(random.nextInt(dias));
+        } while (random.nextDouble() > 0.6 + 0.4 * Math.cos(2 * Math.PI * (inicio.getDayOfYear() - 196) / 365.0));
+
+        // Duración entre 2 y 28 días, sesgada a estancias cortas
+        int duracion = Math.min(28, 2 + (int) (-Math.log(1 - random.nextDouble()) * 5));
+
+        double precio = precioBase[destino] * (0.6 + duracion / 10.0) * (0.85 + 0.3 * random.nextDouble());
+        return new ViajeSintetico(inicio, inicio.plusDays(duracion), Math.round(precio * 100) / 100.0, destino);
+    }
+
+    private static String nombre(SplittableRandom random) {
+        int silabas = 2 + random.nextInt(3);
+        StringBuilder nombre = new StringBuilder();
+        for (int i = 0; i < silabas; i++) {
+            nombre.append(SILABAS[random.nextInt(SILABAS.length)]);
+        }
+        nombre.setCharAt(0, Character.toUpperCase(nombre.charAt(0)));
+        return nombre.toString();
+    }
+
+    // Probabilidad del rango r proporcional a 1 / r^s
+    private static double[] zipfAcumulada(int n, double s) {
+        double[] acumulada = new double[n];
+        double total = 0;
+        for (int r = 0; r < n; r++) {
+            total += 1 / Math.pow(r + 1, s);
+            acumulada[r] = total;
+        }
+        for (int r = 0; r < n; r++) {
+            acumulada[r] /= total;
+        }
+        return acumulada;
+    }
+
+    private static int muestra(double[] acumulada, double u) {
+        int posicion = Arrays.binarySearch(acumulada, u);
+        return Math.min(acumulada.length - 1, posicion >= 0 ? posicion : -posicion - 1);
+    }
+
+    private static int[] permutacion(int n, SplittableRandom random) {
+        int[] resultado = new int[n];
+        for (int i = 0; i < n; i++) resultado[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = resultado[i];
+            resultado[i] = resultado[j];
+            resultado[j] = tmp;
+        }
+        return resultado;
+    }
+}
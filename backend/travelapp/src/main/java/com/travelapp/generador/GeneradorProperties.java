@@ -0,0 +1,34 @@
+package com.travelapp.generador;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.generador")
+public class GeneradorProperties {
+
+    // Lo activa el perfil generar: inserta los datos y termina
+    private boolean habilitado = false;
+
+    // Misma semilla y parámetros, mismos datos: permite comparar ejecuciones de benchmarks
+    private long semilla = 42;
+
+    private int destinos = 20_000;
+
+    private long viajes = 2_000_000;
+
+    // Exponente de la distribución de Zipf de la popularidad de destinos (0 = uniforme)
+    private double asimetria = 1.1;
+
+    // Rango de fechas de salida
+    private LocalDate desde = LocalDate.of(2026, 1, 1);
+    private int dias = 730;
+
+    // Filas por lote de inserción (una transacción por lote)
+    private int tamanioLote = 5_000;
+}
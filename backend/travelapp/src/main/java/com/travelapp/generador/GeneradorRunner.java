@@ -0,0 +1,48 @@
+package com.travelapp.generador;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Modo generar: Liquibase ya aplicó el changelog al crear el contexto; se insertan los datos y se termina.
+// Si la carga falla el proceso sale con código distinto de 0.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeneradorRunner implements ApplicationRunner {
+
+    private final GeneradorProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext contexto;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isHabilitado()) return;
+
+        log.info("Generando {} destinos y {} viajes (semilla {}, asimetría {})", properties.getDestinos(),
+            properties.getViajes(), properties.getSemilla(), properties.getAsimetria());
+
+        int codigo = 0;
+        try {
+            CargaDatosSinteticos.Resumen resumen = new CargaDatosSinteticos(jdbcTemplate, transactionTemplate,
+                properties.getTamanioLote()).cargar(GeneradorDatos.of(properties), properties.getViajes());
+            log.info("Datos sintéticos insertados: {} destinos y {} viajes en {} ms", resumen.destinos(),
+                resumen.viajes(), resumen.duracionMs());
+            log.warn("Reiniciar los backends en marcha: sus índices y cachés en memoria no incluyen los datos nuevos");
+        } catch (RuntimeException e) {
+            log.error("No se pudieron generar los datos sintéticos", e);
+            codigo = 1;
+        }
+
+        int salida = codigo;
+        System.exit(SpringApplication.exit(contexto, () -> salida));
+    }
+}
@@ -0,0 +1,25 @@
+package com.travelapp.graphql;
+
+import java.util.List;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+
+// Coste de un campo: 1 más el de sus hijos, multiplicado por el número de elementos que puede devolver
+// cuando es una lista acotada por argumento. Así destinos(tamanio: 100) { viajes(limite: 50) { id } }
+// cuesta lo mismo que las 5.000 filas que puede leer.
+public class ComplejidadCampos implements FieldComplexityCalculator {
+
+    static final List<String> ARGUMENTOS_TAMANIO = List.of("tamanio", "limite");
+
+    @Override
+    public int calculate(FieldComplexityEnvironment entorno, int complejidadHijos) {
+        long elementos = 1;
+        for (String argumento : ARGUMENTOS_TAMANIO) {
+            if (entorno.getArguments().get(argumento) instanceof Integer valor) {
+                elementos = Math.max(1, valor);
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, 1 + elementos * complejidadHijos);
+    }
+}
@@ -0,0 +1,44 @@
+package com.travelapp.graphql;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.ErrorType;
+
+import com.travelapp.exception.EntityNotFoundException;
+import com.travelapp.exception.ValidationException;
+
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+
+// Límites de profundidad y complejidad que se comprueban antes de ejecutar la consulta,
+// y errores de dominio con el mismo significado que los códigos HTTP de la API REST
+@Configuration
+public class GraphqlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation profundidadMaximaGraphql(GraphqlProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.getProfundidadMaxima());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation complejidadMaximaGraphql(GraphqlProperties properties) {
+        return new MaxQueryComplexityInstrumentation(properties.getComplejidadMaxima(), new ComplejidadCampos());
+    }
+
+    @Bean
+    public DataFetcherExceptionResolver erroresDominioGraphql() {
+        return DataFetcherExceptionResolver.forSingleError((excepcion, entorno) -> {
+            ErrorType tipo;
+            if (excepcion instanceof ValidationException) {
+                tipo = ErrorType.BAD_REQUEST;
+            } else if (excepcion instanceof EntityNotFoundException) {
+                tipo = ErrorType.NOT_FOUND;
+            } else {
+                return null;
+            }
+            return GraphqlErrorBuilder.newError(entorno).errorType(tipo).message(excepcion.getMessage()).build();
+        });
+    }
+}
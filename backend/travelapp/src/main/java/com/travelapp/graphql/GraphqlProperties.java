@@ -0,0 +1,21 @@
+package com.travelapp.graphql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.graphql")
+public class GraphqlProperties {
+
+    // Niveles de anidamiento permitidos: destinos { content { viajes { destino { nombre } } } } tiene 5
+    private int profundidadMaxima = 6;
+
+    // Suma de campos, multiplicando cada lista por su tamanio o limite (ver ComplejidadCampos)
+    private int complejidadMaxima = 5_000;
+
+    // Valor máximo de los argumentos tamanio y limite
+    private int tamanioMaximo = 100;
+}
@@ -0,0 +1,47 @@
+package com.travelapp.graphql;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.dataloader.BatchLoaderEnvironment;
+
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.service.ViajeService;
+
+import reactor.core.publisher.Mono;
+
+// Carga por lotes de Destino.viajes: todas las claves de un nivel de la consulta se resuelven con una
+// consulta por valor distinto de limite (normalmente una), en lugar de una por destino
+public class ViajesPorDestinoLoader
+        implements BiFunction<Set<ViajesPorDestinoLoader.Clave>, BatchLoaderEnvironment, Mono<Map<ViajesPorDestinoLoader.Clave, List<ViajeDTO>>>> {
+
+    public static final String NOMBRE = "viajesPorDestino";
+
+    public record Clave(long destinoId, int limite) {
+    }
+
+    private final ViajeService viajeService;
+
+    public ViajesPorDestinoLoader(ViajeService viajeService) {
+        this.viajeService = viajeService;
+    }
+
+    @Override
+    public Mono<Map<Clave, List<ViajeDTO>>> apply(Set<Clave> claves, BatchLoaderEnvironment entorno) {
+        return Mono.fromCallable(() -> cargar(claves));
+    }
+
+    Map<Clave, List<ViajeDTO>> cargar(Set<Clave> claves) {
+        Map<Integer, List<Long>> destinosPorLimite = claves.stream().collect(Collectors.groupingBy(Clave::limite,
+            Collectors.mapping(Clave::destinoId, Collectors.toList())));
+
+        Map<Clave, List<ViajeDTO>> resultado = new HashMap<>();
+        destinosPorLimite.forEach((limite, destinoIds) -> viajeService.findPrimerosPorDestino(destinoIds, limite)
+            .forEach((destinoId, viajes) -> resultado.put(new Clave(destinoId, limite), viajes)));
+        return resultado;
+    }
+}
@@ -0,0 +1,385 @@
+package com.travelapp.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.repository.DestinoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Índice invertido en memoria de nombre y país de los destinos para la búsqueda por texto.
+// Los términos se normalizan (sin acentos, minúsculas, separados por lo que no sea letra o dígito) y se
+// guardan ordenados, de modo que los prefijos son un rango del mapa. Cada término de la consulta coincide
+// exacto, por prefijo o con errores (distancia de edición 1, o 2 en términos de 8 o más letras).
+// La puntuación suma, por término de la consulta, peso del campo (nombre > país) x tipo de coincidencia x idf.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DestinoBusquedaIndex {
+
+    static final double PESO_NOMBRE = 2.0;
+    static final double PESO_PAIS = 1.0;
+
+    static final double FACTOR_EXACTO = 1.0;
+    // Por debajo de la mitad: una coincidencia exacta en el país pesa más que un prefijo o un error en el nombre
+    static final double FACTOR_PREFIJO = 0.45;
+    static final double FACTOR_ERROR_1 = 0.4;
+    static final double FACTOR_ERROR_2 = 0.25;
+
+    // Por debajo no se admiten errores: con 3 letras casi cualquier término estaría a distancia 1
+    static final int LONGITUD_MINIMA_ERRORES = 4;
+    static final int LONGITUD_MINIMA_PREFIJO = 2;
+
+    private static final int CAMPO_NOMBRE = 1;
+    private static final int CAMPO_PAIS = 2;
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final DestinoRepository destinoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Documento> documentos = new HashMap<>();
+
+    // Término -> (destino -> campos en los que aparece, como máscara de bits)
+    private final NavigableMap<String, Map<Long, Integer>> terminos = new TreeMap<>();
+
+    // Durante la carga, los eventos prevalecen sobre las filas leídas
+    private Set<Long> tocadosDuranteCarga;
+
+    private volatile boolean listo;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargarDesdeBaseDeDatos() {
+        long inicio = System.currentTimeMillis();
+
+        int destinos = cargar(destinoRepository::findIdNombrePais);
+
+        log.info("Índice de búsqueda cargado con {} destinos y {} términos en {} ms", destinos, terminos(),
+            System.currentTimeMillis() - inicio);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(event.id());
+        } else {
+            actualizar(event.id(), event.destino().getNombre(), event.destino().getPais());
+        }
+    }
+
+    // Filas [id, nombre, pais]. Los cambios se anotan desde antes de lanzar la consulta: un evento que llegue
+    // mientras se lee puede traer un dato más nuevo que la fila, y esa fila no debe pisarlo
+    public int cargar(Supplier<List<Object[]>> consulta) {
+        lock.writeLock().lock();
+        try {
+            tocadosDuranteCarga = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> destinos;
+        try {
+            destinos = consulta.get();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                tocadosDuranteCarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // Por lotes, para no bloquear búsquedas ni eventos durante toda la carga
+        for (int desde = 0; desde < destinos.size(); desde += 1000) {
+            lock.writeLock().lock();
+            try {
+                for (Object[] destino : destinos.subList(desde, Math.min(desde + 1000, destinos.size()))) {
+                    if (!tocadosDuranteCarga.contains((Long) destino[0])) {
+                        registrar((Long) destino[0], (String) destino[1], (String) destino[2]);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            tocadosDuranteCarga = null;
+            listo = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return destinos.size();
+    }
+
+    public void actualizar(long id, String nombre, String pais) {
+        lock.writeLock().lock();
+        try {
+            marcarTocado(id);
+            registrar(id, nombre, pais);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void eliminar(long id) {
+        lock.writeLock().lock();
+        try {
+            marcarTocado(id);
+            quitar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isListo() {
+        return listo;
+    }
+
+    // Destinos ordenados por relevancia: primero los que coinciden con más términos de la consulta,
+    // luego por puntuación. Vacío si el índice aún no está cargado.
+    public Optional<List<Coincidencia>> buscar(String consulta, int limite) {
+        if (!listo) {
+            return Optional.empty();
+        }
+
+        List<String> tokens = tokens(consulta);
+        if (tokens.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Acumulado> acumulados = new HashMap<>();
+            for (int i = 0; i < tokens.size(); i++) {
+                puntuarToken(tokens.get(i), i, tokens.size(), acumulados);
+            }
+
+            String frase = String.join(" ", tokens);
+            List<Coincidencia> coincidencias = new ArrayList<>(acumulados.size());
+            for (Map.Entry<Long, Acumulado> entrada : acumulados.entrySet()) {
+                Documento documento = documentos.get(entrada.getKey());
+                double puntuacion = entrada.getValue().total();
+
+                // El nombre completo escrito tal cual va delante
+                if (documento.nombreNormalizado().equals(frase)) {
+                    puntuacion += PESO_NOMBRE;
+                }
+
+                coincidencias.add(new Coincidencia(documento.id(), documento.nombre(), documento.pais(),
+                    entrada.getValue().terminosCoincidentes(), puntuacion));
+            }
+
+            coincidencias.sort(Comparator.comparingInt(Coincidencia::terminosCoincidentes).reversed()
+                .thenComparing(Comparator.comparingDouble(Coincidencia::puntuacion).reversed())
+                .thenComparing(Coincidencia::nombre, String.CASE_INSENSITIVE_ORDER)
+                .thenComparingLong(Coincidencia::destinoId));
+
+            return Optional.of(List.copyOf(coincidencias.subList(0, Math.min(limite, coincidencias.size()))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Términos normalizados de un texto: sin acentos ni mayúsculas
+    public static List<String> tokens(String texto) {
+        if (texto == null) return List.of();
+
+        String normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+            .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    // Distancia de edición con transposiciones (Damerau restringida), o maximo + 1 si la supera
+    static int distancia(String a, String b, int maximo) {
+        if (Math.abs(a.length() - b.length()) > maximo) return maximo + 1;
+
+        int[] anterior2 = new int[b.length() + 1];
+        int[] anterior = new int[b.length() + 1];
+        int[] actual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) anterior[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            actual[0] = i;
+            int minimoFila = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int coste = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int valor = Math.min(Math.min(anterior[j] + 1, actual[j - 1] + 1), anterior[j - 1] + coste);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    valor = Math.min(valor, anterior2[j - 2] + 1);
+                }
+                actual[j] = valor;
+                minimoFila = Math.min(minimoFila, valor);
+            }
+            // Ninguna alineación puede bajar del mínimo de la fila
+            if (minimoFila > maximo) return maximo + 1;
+
+            int[] libre = anterior2;
+            anterior2 = anterior;
+            anterior = actual;
+            actual = libre;
+        }
+        return Math.min(anterior[b.length()], maximo + 1);
+    }
+
+    int terminos() {
+        lock.readLock().lock();
+        try {
+            return terminos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Llamar con el lock de lectura. Para cada destino se queda con la mejor coincidencia del token.
+    private void puntuarToken(String token, int posicion, int totalTokens, Map<Long, Acumulado> acumulados) {
+        Map<Long, Double> mejores = new HashMap<>();
+
+        Map<Long, Integer> exactos = terminos.get(token);
+        if (exactos != null) {
+            puntuarTermino(exactos, FACTOR_EXACTO, mejores);
+        }
+
+        if (token.length() >= LONGITUD_MINIMA_PREFIJO) {
+            for (Map.Entry<String, Map<Long, Integer>> termino
+                    : terminos.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+                puntuarTermino(termino.getValue(), FACTOR_PREFIJO, mejores);
+            }
+        }
+
+        if (token.length() >= LONGITUD_MINIMA_ERRORES) {
+            int maximo = token.length() >= 8 ? 2 : 1;
+            for (Map.Entry<String, Map<Long, Integer>> termino : terminos.entrySet()) {
+                String candidato = termino.getKey();
+                if (candidato.equals(token) || Math.abs(candidato.length() - token.length()) > maximo) continue;
+
+                int distancia = distancia(token, candidato, maximo);
+                if (distancia <= maximo) {
+                    puntuarTermino(termino.getValue(), distancia == 1 ? FACTOR_ERROR_1 : FACTOR_ERROR_2, mejores);
+                }
+            }
+        }
+
+        // idf: un término que aparece en pocos destinos discrimina más que un país con cientos de destinos
+        double idf = Math.log(1 + (double) documentos.size() / Math.max(1, mejores.size()));
+        for (Map.Entry<Long, Double> mejor : mejores.entrySet()) {
+            acumulados.computeIfAbsent(mejor.getKey(), id -> new Acumulado(totalTokens))
+                .sumar(posicion, mejor.getValue() * idf);
+        }
+    }
+
+    private static void puntuarTermino(Map<Long, Integer> destinos, double factor, Map<Long, Double> mejores) {
+        for (Map.Entry<Long, Integer> destino : destinos.entrySet()) {
+            int campos = destino.getValue();
+            double peso = (campos & CAMPO_NOMBRE) != 0 ? PESO_NOMBRE : PESO_PAIS;
+            mejores.merge(destino.getKey(), peso * factor, Math::max);
+        }
+    }
+
+    private void marcarTocado(long id) {
+        if (tocadosDuranteCarga != null) {
+            tocadosDuranteCarga.add(id);
+        }
+    }
+
+    private void registrar(long id, String nombre, String pais) {
+        quitar(id);
+
+        List<String> tokensNombre = tokens(nombre);
+        List<String> tokensPais = tokens(pais);
+        Documento documento = new Documento(id, nombre, pais, String.join(" ", tokensNombre),
+            terminosDe(tokensNombre, tokensPais));
+        documentos.put(id, documento);
+
+        tokensNombre.forEach(token -> indexar(token, id, CAMPO_NOMBRE));
+        tokensPais.forEach(token -> indexar(token, id, CAMPO_PAIS));
+    }
+
+    private void indexar(String token, long id, int campo) {
+        terminos.computeIfAbsent(token, clave -> new HashMap<>()).merge(id, campo, (a, b) -> a | b);
+    }
+
+    private void quitar(long id) {
+        Documento anterior = documentos.remove(id);
+        if (anterior == null) return;
+
+        for (String termino : anterior.terminos()) {
+            Map<Long, Integer> destinos = terminos.get(termino);
+            if (destinos != null) {
+                destinos.remove(id);
+                if (destinos.isEmpty()) terminos.remove(termino);
+            }
+        }
+    }
+
+    private static String[] terminosDe(List<String> tokensNombre, List<String> tokensPais) {
+        Set<String> unicos = new HashSet<>(tokensNombre);
+        unicos.addAll(tokensPais);
+        return unicos.toArray(String[]::new);
+    }
+
+    // Destino encontrado; terminosCoincidentes es cuántos términos de la consulta encontró
+    public record Coincidencia(long destinoId, String nombre, String pais, int terminosCoincidentes, double puntuacion) {
+    }
+
+    private record Documento(long id, String nombre, String pais, String nombreNormalizado, String[] terminos) {
+    }
+
+    // Mejor puntuación de cada término de la consulta en un destino
+    private static final class Acumulado {
+
+        private final double[] porToken;
+
+        Acumulado(int tokens) {
+            this.porToken = new double[tokens];
+        }
+
+        void sumar(int posicion, double puntuacion) {
+            porToken[posicion] = Math.max(porToken[posicion], puntuacion);
+        }
+
+        int terminosCoincidentes() {
+            return (int) Arrays.stream(porToken).filter(puntuacion -> puntuacion > 0).count();
+        }
+
+        double total() {
+            return Arrays.stream(porToken).sum();
+        }
+    }
+}
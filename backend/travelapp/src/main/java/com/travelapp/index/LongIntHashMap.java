@@ -0,0 +1,128 @@
+package com.travelapp.index;
+
+import java.util.Arrays;
+
+// Mapa long -> int sin boxing (direccionamiento abierto, sondeo lineal y borrado por desplazamiento).
+// No es thread-safe: lo protegen los índices que lo usan.
+public final class LongIntHashMap {
+
+    public static final int AUSENTE = -1;
+
+    private static final float CARGA_MAXIMA = 0.6f;
+
+    private long[] claves;
+    private int[] valores;
+    private boolean[] ocupados;
+    private int tamanio;
+    private int mascara;
+
+    public LongIntHashMap(int capacidadEsperada) {
+        int capacidad = Integer.highestOneBit(Math.max(16, (int) (capacidadEsperada / CARGA_MAXIMA)) - 1) << 1;
+        inicializar(capacidad);
+    }
+
+    public int get(long clave) {
+        int i = posicion(clave);
+        while (ocupados[i]) {
+            if (claves[i] == clave) return valores[i];
+            i = (i + 1) & mascara;
+        }
+        return AUSENTE;
+    }
+
+    public boolean containsKey(long clave) {
+        return get(clave) != AUSENTE;
+    }
+
+    // Devuelve el valor anterior o AUSENTE
+    public int put(long clave, int valor) {
+        int i = posicion(clave);
+        while (ocupados[i]) {
+            if (claves[i] == clave) {
+                int anterior = valores[i];
+                valores[i] = valor;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        claves[i] = clave;
+        valores[i] = valor;
+        ocupados[i] = true;
+        if (++tamanio > claves.length * CARGA_MAXIMA) {
+            redimensionar();
+        }
+        return AUSENTE;
+    }
+
+    // Devuelve el valor eliminado o AUSENTE
+    public int remove(long clave) {
+        int i = posicion(clave);
+        while (ocupados[i]) {
+            if (claves[i] == clave) {
+                int anterior = valores[i];
+                desplazarDesde(i);
+                tamanio--;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+        return AUSENTE;
+    }
+
+    public int size() {
+        return tamanio;
+    }
+
+    public void clear() {
+        Arrays.fill(ocupados, false);
+        tamanio = 0;
+    }
+
+    // Borrado sin lápidas: se reubican las entradas siguientes del mismo grupo
+    private void desplazarDesde(int hueco) {
+        int i = hueco;
+        while (true) {
+            i = (i + 1) & mascara;
+            if (!ocupados[i]) break;
+
+            int ideal = posicion(claves[i]);
+            boolean mover = hueco <= i ? (ideal <= hueco || ideal > i) : (ideal <= hueco && ideal > i);
+            if (mover) {
+                claves[hueco] = claves[i];
+                valores[hueco] = valores[i];
+                hueco = i;
+            }
+        }
+        ocupados[hueco] = false;
+    }
+
+    private void redimensionar() {
+        long[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        boolean[] ocupadosAnteriores = ocupados;
+
+        inicializar(claves.length << 1);
+        for (int i = 0; i < clavesAnteriores.length; i++) {
+            if (ocupadosAnteriores[i]) {
+                int j = posicion(clavesAnteriores[i]);
+                while (ocupados[j]) j = (j + 1) & mascara;
+                claves[j] = clavesAnteriores[i];
+                valores[j] = valoresAnteriores[i];
+                ocupados[j] = true;
+            }
+        }
+    }
+
+    private void inicializar(int capacidad) {
+        claves = new long[capacidad];
+        valores = new int[capacidad];
+        ocupados = new boolean[capacidad];
+        mascara = capacidad - 1;
+    }
+
+    private int posicion(long clave) {
+        long h = clave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+}
@@ -0,0 +1,256 @@
+package com.travelapp.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Conteos pre-agregados de salidas por día (epoch day), globales y por destino, en arrays int.
+// Cada viaje recuerda su día y destino actuales para poder descontarse al modificarse o eliminarse.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViajeCalendarioIndex {
+
+    private static final int LOTE_CARGA = 1000;
+
+    private final ViajeRepository viajeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final DiaConteos total = new DiaConteos();
+    private final Map<Long, DiaConteos> porDestino = new HashMap<>();
+
+    // Estado actual de cada viaje: id -> slot en los arrays paralelos
+    private final LongIntHashMap slots = new LongIntHashMap(1024);
+    private int[] diaPorSlot = new int[1024];
+    private long[] destinoPorSlot = new long[1024];
+    private int[] slotsLibres = new int[16];
+    private int libres;
+    private int siguienteSlot;
+
+    // Durante la carga, los eventos prevalecen sobre las filas leídas
+    private Set<Long> tocadosDuranteCarga;
+
+    private volatile boolean listo;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargarDesdeBaseDeDatos() {
+        long inicio = System.currentTimeMillis();
+
+        cargar(viajeRepository::streamResumenes);
+
+        log.info("Calendario de salidas cargado con {} viajes en {} ms", slots.size(), System.currentTimeMillis() - inicio);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(event.id());
+        } else {
+            actualizar(ViajeResumen.of(event.viaje()));
+        }
+    }
+
+    // Los cambios se anotan desde antes de lanzar la consulta: un evento que llegue mientras se lee puede traer
+    // un dato más nuevo que la fila, y esa fila no debe pisarlo
+    public void cargar(Supplier<Stream<ViajeResumen>> consulta) {
+        lock.writeLock().lock();
+        try {
+            tocadosDuranteCarga = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try (Stream<ViajeResumen> stream = consulta.get()) {
+            Iterator<ViajeResumen> filas = stream.iterator();
+            // Por lotes, para no bloquear lecturas ni eventos durante toda la carga
+            while (filas.hasNext()) {
+                lock.writeLock().lock();
+                try {
+                    for (int i = 0; i < LOTE_CARGA && filas.hasNext(); i++) {
+                        ViajeResumen fila = filas.next();
+                        if (fila.fechaInicio() != null && !tocadosDuranteCarga.contains(fila.id())) {
+                            registrar(fila.id(), (int) fila.fechaInicio().toEpochDay(), fila.destinoId());
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                tocadosDuranteCarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            tocadosDuranteCarga = null;
+            listo = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void actualizar(ViajeResumen viaje) {
+        lock.writeLock().lock();
+        try {
+            marcarTocado(viaje.id());
+            descontar(viaje.id());
+            if (viaje.fechaInicio() != null) {
+                registrar(viaje.id(), (int) viaje.fechaInicio().toEpochDay(), viaje.destinoId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void eliminar(long id) {
+        lock.writeLock().lock();
+        try {
+            marcarTocado(id);
+            descontar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isListo() {
+        return listo;
+    }
+
+    // Salidas por día en [desde, hasta]; destinos null = todos. Vacío si aún no está cargado.
+    public Optional<int[]> conteosPorDia(int desde, int hasta, long[] destinos) {
+        if (!listo) {
+            return Optional.empty();
+        }
+
+        int[] conteos = new int[hasta - desde + 1];
+
+        lock.readLock().lock();
+        try {
+            if (destinos == null) {
+                total.sumarEn(conteos, desde);
+            } else {
+                for (long destinoId : destinos) {
+                    DiaConteos conteosDestino = porDestino.get(destinoId);
+                    if (conteosDestino != null) {
+                        conteosDestino.sumarEn(conteos, desde);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return Optional.of(conteos);
+    }
+
+    private void marcarTocado(long id) {
+        if (tocadosDuranteCarga != null) {
+            tocadosDuranteCarga.add(id);
+        }
+    }
+
+    private void registrar(long id, int dia, long destinoId) {
+        descontar(id);
+        int slot = nuevoSlot();
+        slots.put(id, slot);
+
+        diaPorSlot[slot] = dia;
+        destinoPorSlot[slot] = destinoId;
+        total.sumar(dia, 1);
+        porDestino.computeIfAbsent(destinoId, clave -> new DiaConteos()).sumar(dia, 1);
+    }
+
+    private void descontar(long id) {
+        int slot = slots.remove(id);
+        if (slot == LongIntHashMap.AUSENTE) return;
+
+        int dia = diaPorSlot[slot];
+        total.sumar(dia, -1);
+        DiaConteos conteosDestino = porDestino.get(destinoPorSlot[slot]);
+        if (conteosDestino != null) {
+            conteosDestino.sumar(dia, -1);
+        }
+
+        if (libres == slotsLibres.length) {
+            slotsLibres = Arrays.copyOf(slotsLibres, libres << 1);
+        }
+        slotsLibres[libres++] = slot;
+    }
+
+    private int nuevoSlot() {
+        if (libres > 0) {
+            return slotsLibres[--libres];
+        }
+        if (siguienteSlot == diaPorSlot.length) {
+            int capacidad = diaPorSlot.length + (diaPorSlot.length >> 1);
+            diaPorSlot = Arrays.copyOf(diaPorSlot, capacidad);
+            destinoPorSlot = Arrays.copyOf(destinoPorSlot, capacidad);
+        }
+        return siguienteSlot++;
+    }
+
+    // Conteos por día a partir de un día origen; el array crece hacia ambos lados según se necesite
+    static final class DiaConteos {
+
+        private int origen;
+        private int[] conteos = new int[0];
+
+        void sumar(int dia, int delta) {
+            if (conteos.length == 0) {
+                origen = dia;
+                conteos = new int[32];
+            } else if (dia < origen) {
+                int faltan = origen - dia;
+                int[] nuevos = new int[conteos.length + Math.max(faltan, 32)];
+                int desplazamiento = nuevos.length - conteos.length;
+                System.arraycopy(conteos, 0, nuevos, desplazamiento, conteos.length);
+                origen -= desplazamiento;
+                conteos = nuevos;
+            } else if (dia - origen >= conteos.length) {
+                conteos = Arrays.copyOf(conteos, Math.max(dia - origen + 1, conteos.length + (conteos.length >> 1)));
+            }
+            conteos[dia - origen] += delta;
+        }
+
+        // Acumula en destino[i] el conteo del día (desde + i)
+        void sumarEn(int[] destino, int desde) {
+            int inicio = Math.max(desde, origen);
+            int fin = Math.min(desde + destino.length, origen + conteos.length);
+            for (int dia = inicio; dia < fin; dia++) {
+                destino[dia - desde] += conteos[dia - origen];
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package com.travelapp.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Copia columnar de los viajes para estadísticas: una columna primitiva por campo
+// (id long, inicio/fin int en días epoch, precio double, destino int ordinal), unos 28 bytes por viaje
+// más su entrada en el mapa id -> fila. Las filas no guardan orden: una baja mueve la última fila al hueco.
+// Se reconstruye en segundo plano al arrancar y periódicamente; entre medias se parchea con cada cambio confirmado.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViajeColumnarSnapshot {
+
+    public enum Agrupacion { TOTAL, DESTINO, PAIS }
+
+    static final int LOTE_CARGA = 1000;
+
+    // Por debajo de este número de filas por partición no compensa paralelizar
+    static final int FILAS_POR_PARTICION = 32_768;
+
+    private final ViajeRepository viajeRepository;
+    private final DestinoRepository destinoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Columnas columnas = new Columnas(16);
+
+    // Destinos: id -> ordinal, y por ordinal su id, nombre y ordinal de país
+    private final LongIntHashMap ordinalPorDestino = new LongIntHashMap(256);
+    private long[] destinoPorOrdinal = new long[256];
+    private String[] nombrePorOrdinal = new String[256];
+    private int[] paisPorOrdinal = new int[256];
+    private int destinosRegistrados;
+    private final List<String> paises = new ArrayList<>();
+    private final Map<String, Integer> ordinalPorPais = new HashMap<>();
+
+    // Durante una reconstrucción: cambios a reaplicar sobre la copia nueva y destinos que no se deben pisar
+    private List<ViajeResumen> pendientes;
+    private Set<Long> destinosTocados;
+
+    private volatile boolean listo;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargarDesdeBaseDeDatos() {
+        reconstruir();
+    }
+
+    // Corrige cualquier deriva respecto a la base de datos (p. ej. cambios hechos fuera de la aplicación)
+    @Scheduled(fixedDelayString = "${travelapp.estadisticas.intervalo-reconstruccion:PT6H}",
+        initialDelayString = "${travelapp.estadisticas.intervalo-reconstruccion:PT6H}")
+    @Transactional(readOnly = true)
+    public void reconstruirPeriodicamente() {
+        reconstruir();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(event.id());
+        } else {
+            actualizar(ViajeResumen.of(event.viaje()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        // Las bajas de destino llegan también como bajas de cada uno de sus viajes
+        if (event.tipo() != TipoCambio.ELIMINADO) {
+            lock.writeLock().lock();
+            try {
+                if (destinosTocados != null) {
+                    destinosTocados.add(event.id());
+                }
+                registrarDestinoSinLock(event.id(), event.destino().getNombre(), event.destino().getPais());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void reconstruir() {
+        long inicio = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            destinosTocados = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        for (Object[] destino : destinoRepository.findIdNombrePais()) {
+            registrarDestino((Long) destino[0], (String) destino[1], (String) destino[2]);
+        }
+
+        cargar(viajeRepository::streamResumenes);
+
+        log.info("Snapshot columnar de viajes cargado con {} viajes en {} ms", filas(), System.currentTimeMillis() - inicio);
+    }
+
+    public void registrarDestino(long id, String nombre, String pais) {
+        lock.writeLock().lock();
+        try {
+            if (destinosTocados == null || !destinosTocados.contains(id)) {
+                registrarDestinoSinLock(id, nombre, pais);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Construye una copia nueva por lotes y la sustituye al final, reaplicando los cambios recibidos mientras tanto.
+    // Los cambios se anotan desde antes de lanzar la consulta: uno confirmado después de su foto no está en las filas
+    public void cargar(Supplier<Stream<ViajeResumen>> consulta) {
+        lock.writeLock().lock();
+        try {
+            pendientes = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Columnas nuevas = new Columnas(Math.max(16, filas()));
+        try (Stream<ViajeResumen> stream = consulta.get()) {
+            Iterator<ViajeResumen> filas = stream.iterator();
+            while (filas.hasNext()) {
+                // El lock solo protege los ordinales de destino, compartidos con la copia en uso
+                lock.writeLock().lock();
+                try {
+                    for (int i = 0; i < LOTE_CARGA && filas.hasNext(); i++) {
+                        aplicar(nuevas, filas.next());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendientes = null;
+                destinosTocados = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendientes.forEach(cambio -> aplicar(nuevas, cambio));
+            pendientes = null;
+            destinosTocados = null;
+            columnas = nuevas;
+            listo = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void actualizar(ViajeResumen viaje) {
+        lock.writeLock().lock();
+        try {
+            aplicar(columnas, viaje);
+            if (pendientes != null) {
+                pendientes.add(viaje);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void eliminar(long id) {
+        // Un resumen sin fechas equivale a una baja
+        actualizar(new ViajeResumen(id, null, null, null, 0L));
+    }
+
+    public boolean isListo() {
+        return listo;
+    }
+
+    public int filas() {
+        lock.readLock().lock();
+        try {
+            return columnas.tamanio;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Agregados de los viajes con inicio en [desde, hasta] (días epoch), agrupados según por.
+    // Vacío si la primera carga aún no ha terminado.
+    public Optional<List<Agregado>> agregar(int desde, int hasta, Agrupacion por) {
+        if (!listo) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            int grupos;
+            int[] grupoPorDestino;
+            switch (por) {
+                case TOTAL -> {
+                    grupos = 1;
+                    grupoPorDestino = new int[destinosRegistrados];
+                }
+                case DESTINO -> {
+                    grupos = destinosRegistrados;
+                    grupoPorDestino = IntStream.range(0, destinosRegistrados).toArray();
+                }
+                default -> {
+                    grupos = paises.size();
+                    grupoPorDestino = Arrays.copyOf(paisPorOrdinal, destinosRegistrados);
+                }
+            }
+
+            Columnas c = columnas;
+            Acumulado total = IntStream.range(0, particiones(c.tamanio))
+                .parallel()
+                .mapToObj(p -> acumular(c, p, particiones(c.tamanio), desde, hasta, grupoPorDestino, grupos))
+                .reduce(Acumulado::combinar)
+                .orElseGet(() -> new Acumulado(grupos));
+
+            List<Agregado> agregados = new ArrayList<>();
+            for (int g = 0; g < grupos; g++) {
+                if (total.viajes[g] == 0) continue;
+
+                String grupo = switch (por) {
+                    case TOTAL -> null;
+                    case DESTINO -> nombrePorOrdinal[g];
+                    case PAIS -> paises.get(g);
+                };
+                long destinoId = por == Agrupacion.DESTINO ? destinoPorOrdinal[g] : 0L;
+                agregados.add(new Agregado(grupo, destinoId, total.viajes[g], total.ingresos[g],
+                    total.precioMinimo[g], total.precioMaximo[g], total.dias[g]));
+            }
+            return Optional.of(agregados);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Viajes por tramo de precio [i * ancho, (i + 1) * ancho); el último tramo acumula el resto
+    public Optional<long[]> histogramaPrecios(int desde, int hasta, double ancho, int tramos) {
+        if (!listo) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Columnas c = columnas;
+            int partes = particiones(c.tamanio);
+            return Optional.of(IntStream.range(0, partes)
+                .parallel()
+                .mapToObj(p -> {
+                    long[] conteos = new long[tramos];
+                    int fin = limiteParticion(c.tamanio, partes, p + 1);
+                    for (int i = limiteParticion(c.tamanio, partes, p); i < fin; i++) {
+                        if (c.inicios[i] < desde || c.inicios[i] > hasta) continue;
+                        conteos[(int) Math.min(tramos - 1, c.precios[i] / ancho)]++;
+                    }
+                    return conteos;
+                })
+                .reduce((a, b) -> {
+                    for (int i = 0; i < a.length; i++) a[i] += b[i];
+                    return a;
+                })
+                .orElseGet(() -> new long[tramos]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Acumulado acumular(Columnas c, int particion, int partes, int desde, int hasta,
+            int[] grupoPorDestino, int grupos) {
+
+        Acumulado acumulado = new Acumulado(grupos);
+        int fin = limiteParticion(c.tamanio, partes, particion + 1);
+        for (int i = limiteParticion(c.tamanio, partes, particion); i < fin; i++) {
+            if (c.inicios[i] < desde || c.inicios[i] > hasta) continue;
+
+            int g = grupoPorDestino[c.destinos[i]];
+            double precio = c.precios[i];
+            acumulado.viajes[g]++;
+            acumulado.ingresos[g] += precio;
+            acumulado.precioMinimo[g] = Math.min(acumulado.precioMinimo[g], precio);
+            acumulado.precioMaximo[g] = Math.max(acumulado.precioMaximo[g], precio);
+            acumulado.dias[g] += c.fines[i] - c.inicios[i];
+        }
+        return acumulado;
+    }
+
+    private static int particiones(int filas) {
+        int maximo = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(1, Math.min(maximo, filas / FILAS_POR_PARTICION));
+    }
+
+    private static int limiteParticion(int filas, int partes, int particion) {
+        return (int) ((long) filas * particion / partes);
+    }
+
+    // Llamar con el lock de escritura: alta/modificación, o baja si le faltan fechas o precio
+    private void aplicar(Columnas c, ViajeResumen viaje) {
+        if (viaje.fechaInicio() == null || viaje.fechaFin() == null || viaje.precio() == null) {
+            c.eliminar(viaje.id());
+            return;
+        }
+        c.guardar(viaje.id(), (int) viaje.fechaInicio().toEpochDay(), (int) viaje.fechaFin().toEpochDay(),
+            viaje.precio(), ordinalDestino(viaje.destinoId()));
+    }
+
+    private int ordinalDestino(long destinoId) {
+        int ordinal = ordinalPorDestino.get(destinoId);
+        return ordinal != LongIntHashMap.AUSENTE ? ordinal : registrarDestinoSinLock(destinoId, null, null);
+    }
+
+    private int registrarDestinoSinLock(long id, String nombre, String pais) {
+        int ordinal = ordinalPorDestino.get(id);
+        if (ordinal == LongIntHashMap.AUSENTE) {
+            ordinal = destinosRegistrados++;
+            if (ordinal == destinoPorOrdinal.length) {
+                int capacidad = ordinal << 1;
+                destinoPorOrdinal = Arrays.copyOf(destinoPorOrdinal, capacidad);
+                nombrePorOrdinal = Arrays.copyOf(nombrePorOrdinal, capacidad);
+                paisPorOrdinal = Arrays.copyOf(paisPorOrdinal, capacidad);
+            }
+            ordinalPorDestino.put(id, ordinal);
+            destinoPorOrdinal[ordinal] = id;
+        }
+
+        nombrePorOrdinal[ordinal] = nombre;
+        paisPorOrdinal[ordinal] = ordinalPorPais.computeIfAbsent(pais != null ? pais : "", clave -> {
+            paises.add(clave);
+            return paises.size() - 1;
+        });
+        return ordinal;
+    }
+
+    // Fila de agregados de un grupo; grupo es el país, el nombre del destino o null para el total
+    public record Agregado(String grupo, long destinoId, long viajes, double ingresos,
+            double precioMinimo, double precioMaximo, long dias) {
+    }
+
+    private static final class Acumulado {
+
+        private final long[] viajes;
+        private final double[] ingresos;
+        private final double[] precioMinimo;
+        private final double[] precioMaximo;
+        private final long[] dias;
+
+        private Acumulado(int grupos) {
+            viajes = new long[grupos];
+            ingresos = new double[grupos];
+            precioMinimo = new double[grupos];
+            precioMaximo = new double[grupos];
+            dias = new long[grupos];
+            Arrays.fill(precioMinimo, Double.POSITIVE_INFINITY);
+            Arrays.fill(precioMaximo, Double.NEGATIVE_INFINITY);
+        }
+
+        private Acumulado combinar(Acumulado otro) {
+            for (int g = 0; g < viajes.length; g++) {
+                viajes[g] += otro.viajes[g];
+                ingresos[g] += otro.ingresos[g];
+                precioMinimo[g] = Math.min(precioMinimo[g], otro.precioMinimo[g]);
+                precioMaximo[g] = Math.max(precioMaximo[g], otro.precioMaximo[g]);
+                dias[g] += otro.dias[g];
+            }
+            return this;
+        }
+    }
+
+    // Columnas paralelas; filaPorId localiza la fila de cada viaje para modificarla o darla de baja
+    private static final class Columnas {
+
+        private long[] ids;
+        private int[] inicios;
+        private int[] fines;
+        private double[] precios;
+        private int[] destinos;
+        private int tamanio;
+        private final LongIntHashMap filaPorId;
+
+        private Columnas(int capacidad) {
+            ids = new long[capacidad];
+            inicios = new int[capacidad];
+            fines = new int[capacidad];
+            precios = new double[capacidad];
+            destinos = new int[capacidad];
+            filaPorId = new LongIntHashMap(capacidad);
+        }
+
+        private void guardar(long id, int inicio, int fin, double precio, int destino) {
+            int fila = filaPorId.get(id);
+            if (fila == LongIntHashMap.AUSENTE) {
+                if (tamanio == ids.length) {
+                    int capacidad = tamanio + (tamanio >> 1);
+                    ids = Arrays.copyOf(ids, capacidad);
+                    inicios = Arrays.copyOf(inicios, capacidad);
+                    fines = Arrays.copyOf(fines, capacidad);
+                    precios = Arrays.copyOf(precios, capacidad);
+                    destinos = Arrays.copyOf(destinos, capacidad);
+                }
+                fila = tamanio++;
+                filaPorId.put(id, fila);
+            }
+
+            ids[fila] = id;
+            inicios[fila] = inicio;
+            fines[fila] = fin;
+            precios[fila] = precio;
+            destinos[fila] = destino;
+        }
+
+        private void eliminar(long id) {
+            int fila = filaPorId.remove(id);
+            if (fila == LongIntHashMap.AUSENTE) return;
+
+            int ultima = --tamanio;
+            if (fila != ultima) {
+                ids[fila] = ids[ultima];
+                inicios[fila] = inicios[ultima];
+                fines[fila] = fines[ultima];
+                precios[fila] = precios[ultima];
+                destinos[fila] = destinos[ultima];
+                filaPorId.put(ids[fila], fila);
+            }
+        }
+    }
+}
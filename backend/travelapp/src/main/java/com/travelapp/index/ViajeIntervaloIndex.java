@@ -0,0 +1,333 @@
+package com.travelapp.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Índice en memoria de los intervalos [fechaInicio, fechaFin] de los viajes, en días epoch.
+// La base son arrays primitivos paralelos ordenados por inicio. Los cambios posteriores van a un delta
+// pequeño que oculta la versión base del mismo ID y se fusiona al superar UMBRAL_FUSION.
+// Para solapamientos el barrido se acota con la duración máxima: fin >= desde implica inicio >= desde - duracionMaxima.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViajeIntervaloIndex {
+
+    static final int UMBRAL_FUSION = 4096;
+
+    private static final long[] VACIO = new long[0];
+
+    private final ViajeRepository viajeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Base ordenada por inicio
+    private long[] ids = VACIO;
+    private int[] inicios = new int[0];
+    private int[] fines = new int[0];
+    private long[] destinos = VACIO;
+    private int tamanio;
+
+    // Cambios desde la última fusión; idsDelta (ordenado) oculta la versión base de esos IDs
+    private final Map<Long, Intervalo> delta = new HashMap<>();
+    private long[] idsDelta = VACIO;
+
+    private int duracionMaxima;
+
+    private volatile boolean listo;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargarDesdeBaseDeDatos() {
+        long inicio = System.currentTimeMillis();
+
+        try (Stream<ViajeResumen> filas = viajeRepository.streamResumenes()) {
+            cargar(filas.iterator());
+        }
+
+        log.info("Índice de intervalos cargado con {} viajes en {} ms", tamanio, System.currentTimeMillis() - inicio);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(event.id());
+        } else {
+            actualizar(ViajeResumen.of(event.viaje()));
+        }
+    }
+
+    // Construir la base desde cero; los cambios ya presentes en el delta siguen prevaleciendo
+    public void cargar(Iterator<ViajeResumen> filas) {
+        int capacidad = 1024;
+        long[] nuevosIds = new long[capacidad];
+        int[] nuevosInicios = new int[capacidad];
+        int[] nuevosFines = new int[capacidad];
+        long[] nuevosDestinos = new long[capacidad];
+        int n = 0;
+        int duracion = 0;
+
+        while (filas.hasNext()) {
+            ViajeResumen fila = filas.next();
+            if (fila.fechaInicio() == null || fila.fechaFin() == null) continue;
+
+            if (n == capacidad) {
+                capacidad = capacidad + (capacidad >> 1);
+                nuevosIds = Arrays.copyOf(nuevosIds, capacidad);
+                nuevosInicios = Arrays.copyOf(nuevosInicios, capacidad);
+                nuevosFines = Arrays.copyOf(nuevosFines, capacidad);
+                nuevosDestinos = Arrays.copyOf(nuevosDestinos, capacidad);
+            }
+
+            nuevosIds[n] = fila.id();
+            nuevosInicios[n] = (int) fila.fechaInicio().toEpochDay();
+            nuevosFines[n] = (int) fila.fechaFin().toEpochDay();
+            nuevosDestinos[n] = fila.destinoId();
+            duracion = Math.max(duracion, nuevosFines[n] - nuevosInicios[n]);
+            n++;
+        }
+
+        // Ordenar por inicio empaquetando (inicio, posición) en un long
+        long[] orden = new long[n];
+        for (int i = 0; i < n; i++) {
+            orden[i] = ((long) nuevosInicios[i] << 32) | i;
+        }
+        Arrays.parallelSort(orden);
+
+        long[] ordenIds = new long[n];
+        int[] ordenInicios = new int[n];
+        int[] ordenFines = new int[n];
+        long[] ordenDestinos = new long[n];
+        for (int i = 0; i < n; i++) {
+            int origen = (int) orden[i];
+            ordenIds[i] = nuevosIds[origen];
+            ordenInicios[i] = nuevosInicios[origen];
+            ordenFines[i] = nuevosFines[origen];
+            ordenDestinos[i] = nuevosDestinos[origen];
+        }
+
+        lock.writeLock().lock();
+        try {
+            ids = ordenIds;
+            inicios = ordenInicios;
+            fines = ordenFines;
+            destinos = ordenDestinos;
+            tamanio = n;
+            duracionMaxima = Math.max(duracionMaxima, duracion);
+            listo = true;
+            if (delta.size() > UMBRAL_FUSION) {
+                fusionar();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void actualizar(ViajeResumen viaje) {
+        if (viaje.fechaInicio() == null || viaje.fechaFin() == null) return;
+
+        int inicio = (int) viaje.fechaInicio().toEpochDay();
+        int fin = (int) viaje.fechaFin().toEpochDay();
+        aplicar(new Intervalo(viaje.id(), inicio, fin, viaje.destinoId(), false));
+    }
+
+    public void eliminar(long id) {
+        aplicar(new Intervalo(id, 0, 0, 0, true));
+    }
+
+    public boolean isListo() {
+        return listo;
+    }
+
+    // Viajes contenidos en [desde, hasta] (o que se solapan si parcial), ordenados por inicio.
+    // destinosPermitidos ordenado, o null para no filtrar. Vacío si el índice aún no está cargado.
+    public Optional<PaginaIds> buscar(int desde, int hasta, boolean parcial, long[] destinosPermitidos,
+            long offset, int limite) {
+
+        if (!listo) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            int inicioMinimo = parcial ? desde - duracionMaxima : desde;
+
+            List<Intervalo> coincidenciasDelta = new ArrayList<>();
+            for (Intervalo intervalo : delta.values()) {
+                if (!intervalo.eliminado()
+                        && intervalo.inicio() >= inicioMinimo && intervalo.inicio() <= hasta
+                        && coincide(intervalo.inicio(), intervalo.fin(), intervalo.destinoId(), desde, hasta, parcial, destinosPermitidos)) {
+                    coincidenciasDelta.add(intervalo);
+                }
+            }
+            coincidenciasDelta.sort(Comparator.comparingInt(Intervalo::inicio));
+
+            long[] pagina = new long[limite];
+            int enPagina = 0;
+            long total = 0;
+            int d = 0;
+
+            int fin = limiteSuperior(hasta);
+            for (int i = limiteInferior(inicioMinimo); i < fin; i++) {
+                if (!coincide(inicios[i], fines[i], destinos[i], desde, hasta, parcial, destinosPermitidos)
+                        || Arrays.binarySearch(idsDelta, ids[i]) >= 0) {
+                    continue;
+                }
+
+                // Intercalar las coincidencias del delta que van antes
+                while (d < coincidenciasDelta.size() && coincidenciasDelta.get(d).inicio() <= inicios[i]) {
+                    if (total >= offset && enPagina < limite) pagina[enPagina++] = coincidenciasDelta.get(d).id();
+                    total++;
+                    d++;
+                }
+
+                if (total >= offset && enPagina < limite) pagina[enPagina++] = ids[i];
+                total++;
+            }
+            for (; d < coincidenciasDelta.size(); d++) {
+                if (total >= offset && enPagina < limite) pagina[enPagina++] = coincidenciasDelta.get(d).id();
+                total++;
+            }
+
+            return Optional.of(new PaginaIds(Arrays.copyOf(pagina, enPagina), total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void aplicar(Intervalo intervalo) {
+        lock.writeLock().lock();
+        try {
+            if (delta.put(intervalo.id(), intervalo) == null) {
+                long[] nuevos = Arrays.copyOf(idsDelta, idsDelta.length + 1);
+                nuevos[nuevos.length - 1] = intervalo.id();
+                Arrays.sort(nuevos);
+                idsDelta = nuevos;
+            }
+            if (!intervalo.eliminado()) {
+                duracionMaxima = Math.max(duracionMaxima, intervalo.fin() - intervalo.inicio());
+            }
+            // Durante la carga inicial no se fusiona: la base aún está vacía y cargar() la sustituiría después
+            // por las filas leídas, perdiendo los cambios ya fusionados
+            if (listo && delta.size() > UMBRAL_FUSION) {
+                fusionar();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Llamar con el lock de escritura: mezcla lineal de la base visible con el delta ordenado
+    private void fusionar() {
+        List<Intervalo> vivos = new ArrayList<>(delta.size());
+        for (Intervalo intervalo : delta.values()) {
+            if (!intervalo.eliminado()) vivos.add(intervalo);
+        }
+        vivos.sort(Comparator.comparingInt(Intervalo::inicio));
+
+        int capacidad = tamanio + vivos.size();
+        long[] nuevosIds = new long[capacidad];
+        int[] nuevosInicios = new int[capacidad];
+        int[] nuevosFines = new int[capacidad];
+        long[] nuevosDestinos = new long[capacidad];
+        int n = 0;
+        int d = 0;
+
+        for (int i = 0; i < tamanio; i++) {
+            if (Arrays.binarySearch(idsDelta, ids[i]) >= 0) continue;
+
+            while (d < vivos.size() && vivos.get(d).inicio() <= inicios[i]) {
+                Intervalo intervalo = vivos.get(d++);
+                nuevosIds[n] = intervalo.id();
+                nuevosInicios[n] = intervalo.inicio();
+                nuevosFines[n] = intervalo.fin();
+                nuevosDestinos[n] = intervalo.destinoId();
+                n++;
+            }
+
+            nuevosIds[n] = ids[i];
+            nuevosInicios[n] = inicios[i];
+            nuevosFines[n] = fines[i];
+            nuevosDestinos[n] = destinos[i];
+            n++;
+        }
+        for (; d < vivos.size(); d++) {
+            Intervalo intervalo = vivos.get(d);
+            nuevosIds[n] = intervalo.id();
+            nuevosInicios[n] = intervalo.inicio();
+            nuevosFines[n] = intervalo.fin();
+            nuevosDestinos[n] = intervalo.destinoId();
+            n++;
+        }
+
+        ids = nuevosIds;
+        inicios = nuevosInicios;
+        fines = nuevosFines;
+        destinos = nuevosDestinos;
+        tamanio = n;
+        delta.clear();
+        idsDelta = VACIO;
+
+        log.debug("Delta del índice de intervalos fusionado: {} viajes", tamanio);
+    }
+
+    private static boolean coincide(int inicio, int fin, long destinoId, int desde, int hasta, boolean parcial,
+            long[] destinosPermitidos) {
+
+        boolean enRango = parcial ? fin >= desde : inicio >= desde && fin <= hasta;
+        return enRango && (destinosPermitidos == null || Arrays.binarySearch(destinosPermitidos, destinoId) >= 0);
+    }
+
+    // Primera posición con inicio >= valor
+    private int limiteInferior(int valor) {
+        int lo = 0;
+        int hi = tamanio;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (inicios[mid] < valor) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // Primera posición con inicio > valor
+    private int limiteSuperior(int valor) {
+        int lo = 0;
+        int hi = tamanio;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (inicios[mid] <= valor) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // IDs de la página solicitada y total de coincidencias
+    public record PaginaIds(long[] ids, long total) {
+    }
+
+    private record Intervalo(long id, int inicio, int fin, long destinoId, boolean eliminado) {
+    }
+}
@@ -0,0 +1,487 @@
+package com.travelapp.index;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.config.MasBaratosProperties;
+import com.travelapp.dto.MasBaratosDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Los viajes próximos (salen hoy o después) más baratos de cada destino y de cada país.
+// Cada grupo guarda un montículo de máximos con hasta maximoPorGrupo viajes que son siempre los más baratos del
+// grupo, sin huecos: cualquier viaje que no esté cuesta al menos lo que la cima. Un alta o una bajada de precio
+// entra si es más barata que la cima (y sale la cima si sobra); una baja, una subida o un cambio de destino de un
+// viaje del montículo solo lo quita. Si lo que queda no llega al k pedido y el grupo tiene más viajes, se recarga
+// de la base de datos (idx_viaje_destino_precio). Cada grupo se carga la primera vez que se pide.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViajeMasBaratosIndex {
+
+    public enum Agrupacion { DESTINO, PAIS }
+
+    static final Comparator<ViajeResumen> ORDEN = Comparator.comparingDouble(ViajeResumen::precio)
+        .thenComparingLong(ViajeResumen::id);
+
+    private static final int TAMANIO_CONSULTA = 1000;
+
+    private record DatosDestino(String nombre, String pais) {
+    }
+
+    private static final class Grupo {
+
+        // De máximos: la cima es el viaje más caro del grupo que se guarda
+        private final PriorityQueue<ViajeResumen> monticulo = new PriorityQueue<>(ORDEN.reversed());
+
+        // El grupo no tiene más viajes próximos que los del montículo
+        private boolean completo;
+    }
+
+    // Lo modificado mientras hay recargas en curso: esas filas leídas pueden estar desfasadas y no se instalan
+    private static final class Tocados {
+
+        private final Set<Object> grupos = new HashSet<>();
+        private final Set<Long> viajes = new HashSet<>();
+        private final Set<Long> destinos = new HashSet<>();
+    }
+
+    private final ViajeRepository viajeRepository;
+    private final DestinoRepository destinoRepository;
+    private final MasBaratosProperties properties;
+    private final Clock clock;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, DatosDestino> destinos = new HashMap<>();
+
+    // Clave: destinoId (Long) o país (String)
+    private final Map<Object, Grupo> grupos = new HashMap<>();
+
+    // Viajes que están en algún montículo, para encontrar sus grupos al modificarse o eliminarse
+    private final Map<Long, ViajeResumen> miembros = new HashMap<>();
+
+    private int recargas;
+    private Tocados tocados;
+
+    private volatile boolean destinosCargados;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarDesdeBaseDeDatos() {
+        long inicio = System.currentTimeMillis();
+
+        int destinosConViajes = masBaratos(Agrupacion.DESTINO, properties.getMaximoPorGrupo()).size();
+        int paisesConViajes = masBaratos(Agrupacion.PAIS, properties.getMaximoPorGrupo()).size();
+
+        log.info("Viajes más baratos cargados para {} destinos y {} países en {} ms", destinosConViajes,
+            paisesConViajes, System.currentTimeMillis() - inicio);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(event.id());
+        } else {
+            actualizar(ViajeResumen.of(event.viaje()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        if (event.tipo() == TipoCambio.ELIMINADO) {
+            eliminarDestino(event.id());
+        } else {
+            actualizarDestino(event.id(), event.destino().getNombre(), event.destino().getPais());
+        }
+    }
+
+    // Los k (como mucho maximoPorGrupo) viajes próximos más baratos de cada grupo que tiene alguno,
+    // empezando por el grupo con el viaje más barato
+    public List<MasBaratosDTO> masBaratos(Agrupacion por, int k) {
+        int limite = Math.min(k, properties.getMaximoPorGrupo());
+        LocalDate hoy = LocalDate.now(clock);
+
+        if (!destinosCargados) {
+            cargarDestinos();
+        }
+
+        Map<Object, List<ViajeResumen>> resultado = new HashMap<>();
+        Set<Object> faltan = new HashSet<>();
+
+        lock.readLock().lock();
+        try {
+            for (Object clave : claves(por)) {
+                Grupo grupo = grupos.get(clave);
+                List<ViajeResumen> proximos = grupo != null ? proximos(grupo, hoy) : null;
+                if (proximos != null && (proximos.size() >= limite || grupo.completo)) {
+                    resultado.put(clave, primeros(proximos, limite));
+                } else {
+                    faltan.add(clave);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!faltan.isEmpty()) {
+            log.debug("Recargando los viajes más baratos de {} grupos por {}", faltan.size(), por);
+            recargar(por, faltan, hoy).forEach((clave, viajes) -> resultado.put(clave, primeros(viajes, limite)));
+        }
+
+        return aDtos(por, resultado);
+    }
+
+    public void actualizar(ViajeResumen viaje) {
+        lock.writeLock().lock();
+        try {
+            quitar(viaje.id());
+
+            DatosDestino destino = destinos.get(viaje.destinoId());
+            String pais = destino != null ? destino.pais() : null;
+            tocar(viaje.id(), viaje.destinoId(), pais);
+
+            if (!proximo(viaje, LocalDate.now(clock))) return;
+
+            boolean enDestino = agregar(grupos.get(viaje.destinoId()), viaje);
+            boolean enPais = pais != null && agregar(grupos.get(pais), viaje);
+            if (enDestino || enPais) {
+                miembros.put(viaje.id(), viaje);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void eliminar(long id) {
+        lock.writeLock().lock();
+        try {
+            quitar(id);
+            if (tocados != null) {
+                tocados.viajes.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void actualizarDestino(long id, String nombre, String pais) {
+        lock.writeLock().lock();
+        try {
+            marcarDestino(id);
+            DatosDestino anterior = destinos.put(id, new DatosDestino(nombre, pais));
+
+            // Sus viajes cambian de país: los dos grupos se recargan la próxima vez que se pidan
+            if (anterior != null && !Objects.equals(anterior.pais(), pais)) {
+                descartar(anterior.pais());
+                descartar(pais);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void eliminarDestino(long id) {
+        lock.writeLock().lock();
+        try {
+            marcarDestino(id);
+            DatosDestino anterior = destinos.remove(id);
+            descartar(id);
+            if (anterior != null) {
+                descartar(anterior.pais());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<Object> claves(Agrupacion por) {
+        Set<Object> claves = new HashSet<>();
+        if (por == Agrupacion.DESTINO) {
+            claves.addAll(destinos.keySet());
+        } else {
+            destinos.values().forEach(destino -> {
+                if (destino.pais() != null) claves.add(destino.pais());
+            });
+        }
+        return claves;
+    }
+
+    private Object clave(Agrupacion por, ViajeResumen viaje) {
+        if (por == Agrupacion.DESTINO) return viaje.destinoId();
+
+        DatosDestino destino = destinos.get(viaje.destinoId());
+        return destino != null ? destino.pais() : null;
+    }
+
+    private static boolean proximo(ViajeResumen viaje, LocalDate hoy) {
+        return viaje.precio() != null && viaje.fechaInicio() != null && !viaje.fechaInicio().isBefore(hoy);
+    }
+
+    // Los del montículo que no han salido, de menor a mayor precio
+    private static List<ViajeResumen> proximos(Grupo grupo, LocalDate hoy) {
+        return grupo.monticulo.stream()
+            .filter(viaje -> proximo(viaje, hoy))
+            .sorted(ORDEN)
+            .toList();
+    }
+
+    private static List<ViajeResumen> primeros(List<ViajeResumen> viajes, int limite) {
+        return viajes.size() > limite ? viajes.subList(0, limite) : viajes;
+    }
+
+    // Devuelve si el viaje queda en el montículo
+    private boolean agregar(Grupo grupo, ViajeResumen viaje) {
+        if (grupo == null) return false;
+
+        // Sin el grupo completo solo se sabe que es de los más baratos si cuesta menos que la cima
+        ViajeResumen cima = grupo.monticulo.peek();
+        if (!grupo.completo && (cima == null || ORDEN.compare(viaje, cima) >= 0)) return false;
+
+        grupo.monticulo.add(viaje);
+        if (grupo.monticulo.size() > properties.getMaximoPorGrupo()) {
+            ViajeResumen sobrante = grupo.monticulo.poll();
+            grupo.completo = false;
+            if (sobrante == viaje) return false;
+            soltar(sobrante);
+        }
+        return true;
+    }
+
+    // Quita el viaje de los montículos en los que esté; los que quedan siguen siendo los más baratos
+    private void quitar(long id) {
+        ViajeResumen anterior = miembros.remove(id);
+        if (anterior == null) return;
+
+        Grupo grupoDestino = grupos.get(anterior.destinoId());
+        if (grupoDestino != null) {
+            grupoDestino.monticulo.remove(anterior);
+        }
+
+        DatosDestino destino = destinos.get(anterior.destinoId());
+        String pais = destino != null ? destino.pais() : null;
+        Grupo grupoPais = pais != null ? grupos.get(pais) : null;
+        if (grupoPais != null) {
+            grupoPais.monticulo.remove(anterior);
+        }
+
+        tocar(id, anterior.destinoId(), pais);
+    }
+
+    // Deja de seguir un viaje que ha salido de un montículo si no está en el otro grupo
+    private void soltar(ViajeResumen viaje) {
+        Grupo grupoDestino = grupos.get(viaje.destinoId());
+        Object pais = clave(Agrupacion.PAIS, viaje);
+        Grupo grupoPais = pais != null ? grupos.get(pais) : null;
+
+        if ((grupoDestino == null || !grupoDestino.monticulo.contains(viaje))
+                && (grupoPais == null || !grupoPais.monticulo.contains(viaje))) {
+            miembros.remove(viaje.id());
+        }
+    }
+
+    private void descartar(Object clave) {
+        if (clave == null) return;
+
+        if (tocados != null) {
+            tocados.grupos.add(clave);
+        }
+        Grupo grupo = grupos.remove(clave);
+        if (grupo != null) {
+            grupo.monticulo.forEach(this::soltar);
+        }
+    }
+
+    private void tocar(long viajeId, long destinoId, String pais) {
+        if (tocados == null) return;
+
+        tocados.viajes.add(viajeId);
+        tocados.grupos.add(destinoId);
+        if (pais != null) {
+            tocados.grupos.add(pais);
+        }
+    }
+
+    private void marcarDestino(long id) {
+        if (tocados != null) {
+            tocados.destinos.add(id);
+        }
+    }
+
+    private void empezarRecarga() {
+        lock.writeLock().lock();
+        try {
+            if (recargas++ == 0) {
+                tocados = new Tocados();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Con el write lock tomado
+    private void terminarRecarga() {
+        if (--recargas == 0) {
+            tocados = null;
+        }
+    }
+
+    private void cancelarRecarga() {
+        lock.writeLock().lock();
+        try {
+            terminarRecarga();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void cargarDestinos() {
+        empezarRecarga();
+
+        List<Object[]> filas;
+        try {
+            filas = destinoRepository.findIdNombrePais();
+        } catch (RuntimeException e) {
+            cancelarRecarga();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Object[] fila : filas) {
+                Long id = (Long) fila[0];
+                if (!tocados.destinos.contains(id)) {
+                    destinos.put(id, new DatosDestino((String) fila[1], (String) fila[2]));
+                }
+            }
+            destinosCargados = true;
+        } finally {
+            terminarRecarga();
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Lee de la base de datos los más baratos de cada grupo y los instala salvo que se hayan modificado entretanto;
+    // devuelve lo leído en cualquier caso
+    private Map<Object, List<ViajeResumen>> recargar(Agrupacion por, Set<Object> claves, LocalDate hoy) {
+        int maximo = properties.getMaximoPorGrupo();
+        empezarRecarga();
+
+        List<ViajeResumen> filas = new ArrayList<>();
+        try {
+            List<Object> lista = new ArrayList<>(claves);
+            for (int desde = 0; desde < lista.size(); desde += TAMANIO_CONSULTA) {
+                List<Object> lote = lista.subList(desde, Math.min(lista.size(), desde + TAMANIO_CONSULTA));
+                filas.addAll(por == Agrupacion.DESTINO
+                    ? viajeRepository.findMasBaratosByDestinoIds(lote.stream().map(Long.class::cast).toList(), hoy, maximo)
+                    : viajeRepository.findMasBaratosByPaises(lote.stream().map(String.class::cast).toList(), hoy, maximo));
+            }
+        } catch (RuntimeException e) {
+            cancelarRecarga();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Las filas llegan ordenadas por precio dentro de cada grupo
+            Map<Object, List<ViajeResumen>> leidos = new HashMap<>();
+            claves.forEach(clave -> leidos.put(clave, new ArrayList<>()));
+            for (ViajeResumen fila : filas) {
+                List<ViajeResumen> viajes = leidos.get(clave(por, fila));
+                if (viajes != null) {
+                    viajes.add(fila);
+                }
+            }
+
+            leidos.forEach((clave, viajes) -> {
+                if (!tocados.grupos.contains(clave) && viajes.stream().noneMatch(v -> tocados.viajes.contains(v.id()))) {
+                    instalar(clave, viajes, viajes.size() < maximo);
+                }
+            });
+            return leidos;
+        } finally {
+            terminarRecarga();
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void instalar(Object clave, List<ViajeResumen> viajes, boolean completo) {
+        descartar(clave);
+
+        Grupo grupo = new Grupo();
+        grupo.completo = completo;
+        grupo.monticulo.addAll(viajes);
+        grupos.put(clave, grupo);
+        viajes.forEach(viaje -> miembros.put(viaje.id(), viaje));
+    }
+
+    private List<MasBaratosDTO> aDtos(Agrupacion por, Map<Object, List<ViajeResumen>> porGrupo) {
+        List<Map.Entry<Object, List<ViajeResumen>>> noVacios = porGrupo.entrySet().stream()
+            .filter(grupo -> !grupo.getValue().isEmpty())
+            .sorted(Comparator.comparing(grupo -> grupo.getValue().get(0), ORDEN))
+            .toList();
+
+        List<MasBaratosDTO> resultado = new ArrayList<>(noVacios.size());
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Object, List<ViajeResumen>> grupo : noVacios) {
+                List<ViajeDTO> viajes = grupo.getValue().stream().map(this::aDto).toList();
+                if (por == Agrupacion.DESTINO) {
+                    Long destinoId = (Long) grupo.getKey();
+                    DatosDestino destino = destinos.get(destinoId);
+                    resultado.add(MasBaratosDTO.builder()
+                        .destinoId(destinoId)
+                        .destinoNombre(destino != null ? destino.nombre() : null)
+                        .pais(destino != null ? destino.pais() : null)
+                        .viajes(viajes)
+                        .build());
+                } else {
+                    resultado.add(MasBaratosDTO.builder()
+                        .pais((String) grupo.getKey())
+                        .viajes(viajes)
+                        .build());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return resultado;
+    }
+
+    private ViajeDTO aDto(ViajeResumen viaje) {
+        DatosDestino destino = destinos.get(viaje.destinoId());
+        return ViajeDTO.builder()
+            .id(viaje.id())
+            .fechaInicio(viaje.fechaInicio())
+            .fechaFin(viaje.fechaFin())
+            .precio(viaje.precio())
+            .destinoId(viaje.destinoId())
+            .destinoNombre(destino != null ? destino.nombre() : null)
+            .build();
+    }
+}
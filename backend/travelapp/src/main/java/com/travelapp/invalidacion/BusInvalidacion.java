@@ -0,0 +1,8 @@
+package com.travelapp.invalidacion;
+
+// Difunde las modificaciones confirmadas en este nodo al resto de réplicas. Cada implementación entrega
+// las de los demás nodos a un receptor (ReceptorInvalidaciones::recibir) fuera del hilo que publica.
+public interface BusInvalidacion {
+
+    void publicar(Invalidacion invalidacion);
+}
@@ -0,0 +1,36 @@
+package com.travelapp.invalidacion;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// Bus entre instancias del mismo proceso que comparten un Canal, para tests (o un único nodo, donde no
+// entrega nada). Cada nodo recibe en su Executor: quien publica está en la fase AFTER_COMMIT de otra transacción.
+public class BusInvalidacionMemoria implements BusInvalidacion {
+
+    public static final class Canal {
+
+        private final List<BusInvalidacionMemoria> nodos = new CopyOnWriteArrayList<>();
+    }
+
+    private final Canal canal;
+    private final Executor executor;
+    private final Consumer<List<Invalidacion>> receptor;
+
+    public BusInvalidacionMemoria(Canal canal, Executor executor, Consumer<List<Invalidacion>> receptor) {
+        this.canal = canal;
+        this.executor = executor;
+        this.receptor = receptor;
+        canal.nodos.add(this);
+    }
+
+    @Override
+    public void publicar(Invalidacion invalidacion) {
+        for (BusInvalidacionMemoria nodo : canal.nodos) {
+            if (nodo != this) {
+                nodo.executor.execute(() -> nodo.receptor.accept(List.of(invalidacion)));
+            }
+        }
+    }
+}
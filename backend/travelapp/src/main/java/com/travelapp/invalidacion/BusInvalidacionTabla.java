@@ -0,0 +1,188 @@
+package com.travelapp.invalidacion;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.travelapp.event.TipoCambio;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Bus sobre la tabla invalidacion_log de la base de datos compartida (PostgreSQL o cualquier otra con JDBC).
+// Las invalidaciones propias se acumulan en memoria y un hilo propio, cada intervalo, las inserta por lotes
+// y lee las de los demás nodos; no comparte el scheduler de Spring, así que un trabajo largo no lo retrasa.
+// Las filas de la ventana de relectura se leen de nuevo en cada vuelta (sin entregarlas dos veces): dos
+// inserciones concurrentes pueden confirmarse en orden distinto al de sus ids.
+@Slf4j
+public class BusInvalidacionTabla implements BusInvalidacion, DisposableBean {
+
+    private record Fila(long id, String nodo, Invalidacion invalidacion) {
+    }
+
+    private static final long PERIODO_LIMPIEZA_MS = 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidacionProperties properties;
+    private final String nodo;
+    private final Consumer<List<Invalidacion>> receptor;
+    private final Clock clock;
+
+    private final ConcurrentLinkedDeque<Invalidacion> pendientes = new ConcurrentLinkedDeque<>();
+    private final ScheduledExecutorService sincronizacion;
+
+    // Estado del hilo de sincronización: los ids hasta confirmado no se vuelven a leer y los posteriores
+    // ya entregados están en vistos. marcas guarda [instante, mayor id visto] de cada vuelta
+    private long confirmado;
+    private long mayorVisto;
+    private final Set<Long> vistos = new HashSet<>();
+    private final Deque<long[]> marcas = new ArrayDeque<>();
+    private long siguienteLimpieza;
+
+    public BusInvalidacionTabla(JdbcTemplate jdbcTemplate, InvalidacionProperties properties, String nodo,
+            Consumer<List<Invalidacion>> receptor, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.nodo = nodo;
+        this.receptor = receptor;
+        this.clock = clock;
+
+        // Los datos en memoria se cargan de la base de datos al arrancar: solo interesa lo posterior
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM invalidacion_log", Long.class);
+        this.confirmado = max != null ? max : 0;
+        this.mayorVisto = confirmado;
+        this.siguienteLimpieza = clock.millis();
+
+        this.sincronizacion = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("invalidacion-"));
+        long periodo = properties.getIntervalo().toMillis();
+        this.sincronizacion.scheduleWithFixedDelay(this::sincronizarSinFallar, periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publicar(Invalidacion invalidacion) {
+        pendientes.addLast(invalidacion);
+    }
+
+    // Una vuelta completa; los tests la llaman directamente
+    synchronized void sincronizar() {
+        enviar();
+        recibir();
+        limpiar();
+    }
+
+    private void sincronizarSinFallar() {
+        try {
+            sincronizar();
+        } catch (RuntimeException e) {
+            // Se reintenta en la siguiente vuelta: las pendientes siguen en la cola y las ajenas sin marcar como vistas
+            log.warn("No se pudieron sincronizar las invalidaciones con otros nodos: {}", e.getMessage());
+        }
+    }
+
+    private void enviar() {
+        while (!pendientes.isEmpty()) {
+            List<Invalidacion> lote = new ArrayList<>(properties.getTamanioLote());
+            Invalidacion invalidacion;
+            while (lote.size() < properties.getTamanioLote() && (invalidacion = pendientes.pollFirst()) != null) {
+                lote.add(invalidacion);
+            }
+
+            Timestamp fecha = Timestamp.from(clock.instant());
+            try {
+                jdbcTemplate.batchUpdate("INSERT INTO invalidacion_log (entidad, entidad_id, tipo, nodo, fecha) "
+                    + "VALUES (?, ?, ?, ?, ?)", lote, lote.size(), (ps, inv) -> {
+                        ps.setString(1, inv.entidad());
+                        ps.setLong(2, inv.id());
+                        ps.setString(3, inv.tipo().name());
+                        ps.setString(4, nodo);
+                        ps.setTimestamp(5, fecha);
+                    });
+            } catch (RuntimeException e) {
+                // Vuelven al principio de la cola en el mismo orden
+                for (int i = lote.size() - 1; i >= 0; i--) {
+                    pendientes.addFirst(lote.get(i));
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void recibir() {
+        List<Fila> nuevas = new ArrayList<>();
+        long cursor = confirmado;
+        List<Fila> pagina;
+        do {
+            pagina = jdbcTemplate.query("SELECT id, entidad, entidad_id, tipo, nodo FROM invalidacion_log WHERE id > ? "
+                + "ORDER BY id FETCH FIRST " + properties.getTamanioLote() + " ROWS ONLY",
+                (rs, n) -> new Fila(rs.getLong(1), rs.getString(5),
+                    new Invalidacion(rs.getString(2), rs.getLong(3), TipoCambio.valueOf(rs.getString(4)))),
+                cursor);
+            for (Fila fila : pagina) {
+                if (!vistos.contains(fila.id())) nuevas.add(fila);
+                cursor = fila.id();
+            }
+        } while (pagina.size() == properties.getTamanioLote());
+
+        List<Invalidacion> ajenas = nuevas.stream()
+            .filter(fila -> !nodo.equals(fila.nodo()))
+            .map(Fila::invalidacion)
+            .toList();
+        if (!ajenas.isEmpty()) {
+            log.debug("{} invalidaciones recibidas de otros nodos", ajenas.size());
+            receptor.accept(ajenas);
+        }
+
+        // Solo tras entregarlas: si el receptor falla se vuelven a leer en la siguiente vuelta
+        for (Fila fila : nuevas) {
+            vistos.add(fila.id());
+            mayorVisto = Math.max(mayorVisto, fila.id());
+        }
+
+        long ahora = clock.millis();
+        marcas.addLast(new long[] {ahora, mayorVisto});
+        long limite = ahora - properties.getVentanaRelectura().toMillis();
+        while (!marcas.isEmpty() && marcas.peekFirst()[0] <= limite) {
+            confirmado = Math.max(confirmado, marcas.pollFirst()[1]);
+        }
+        long hasta = confirmado;
+        vistos.removeIf(id -> id <= hasta);
+    }
+
+    private void limpiar() {
+        long ahora = clock.millis();
+        if (ahora < siguienteLimpieza) return;
+        siguienteLimpieza = ahora + PERIODO_LIMPIEZA_MS;
+
+        int borradas = jdbcTemplate.update("DELETE FROM invalidacion_log WHERE fecha < ?",
+            Timestamp.from(clock.instant().minus(properties.getRetencion())));
+        if (borradas > 0) {
+            log.debug("{} invalidaciones antiguas borradas", borradas);
+        }
+    }
+
+    // Sin esperar a la siguiente vuelta: las pendientes se insertan antes de cerrar el DataSource
+    @Override
+    public void destroy() {
+        sincronizacion.shutdownNow();
+        try {
+            synchronized (this) {
+                enviar();
+            }
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron enviar {} invalidaciones pendientes al parar: {}", pendientes.size(), e.getMessage());
+        }
+    }
+}
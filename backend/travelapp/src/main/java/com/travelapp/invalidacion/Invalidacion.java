@@ -0,0 +1,10 @@
+package com.travelapp.invalidacion;
+
+import com.travelapp.event.TipoCambio;
+
+// Modificación confirmada de un viaje o destino, tal como viaja entre nodos (sin los datos de la entidad)
+public record Invalidacion(String entidad, long id, TipoCambio tipo) {
+
+    public static final String VIAJE = "viaje";
+    public static final String DESTINO = "destino";
+}
@@ -0,0 +1,70 @@
+package com.travelapp.invalidacion;
+
+import java.time.Clock;
+import java.util.UUID;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Registrado siempre; deshabilitado, el bus no envía ni recibe. Con AOT las condiciones sobre propiedades
+// se evalúan al compilar y no atenderían INVALIDATION_BUS_ENABLED
+@Slf4j
+@Configuration
+public class InvalidacionConfig {
+
+    // Con el perfil arranque nadie pide estos beans al arrancar: el bus no leería de otros nodos hasta el primer
+    // cambio local, y tomaría entonces como punto de partida un MAX(id) posterior a lo que ya se perdió
+    @Bean
+    static LazyInitializationExcludeFilter invalidacionEnArranque() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            BusInvalidacion.class, PublicadorInvalidaciones.class, ReceptorInvalidaciones.class);
+    }
+
+    @Bean
+    public ReceptorInvalidaciones receptorInvalidaciones(ViajeRepository viajeRepository,
+            DestinoRepository destinoRepository, ViajeMapper viajeMapper, DestinoMapper destinoMapper,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+
+        TransactionTemplate soloLectura = new TransactionTemplate(transactionManager);
+        soloLectura.setReadOnly(true);
+        return new ReceptorInvalidaciones(viajeRepository, destinoRepository, viajeMapper, destinoMapper,
+            eventPublisher, soloLectura);
+    }
+
+    @Bean
+    public BusInvalidacion busInvalidacion(InvalidacionProperties properties, ReceptorInvalidaciones receptor,
+            JdbcTemplate jdbcTemplate, Clock clock) {
+
+        if (!properties.isHabilitado()) {
+            log.info("Invalidación entre nodos deshabilitada");
+            return invalidacion -> { };
+        }
+
+        String nodo = properties.getNodo().isBlank() ? UUID.randomUUID().toString() : properties.getNodo();
+        log.info("Invalidación entre nodos por {} (nodo {})", properties.getTransporte(), nodo);
+
+        return switch (properties.getTransporte()) {
+            case TABLA -> new BusInvalidacionTabla(jdbcTemplate, properties, nodo, receptor::recibir, clock);
+            case MEMORIA -> new BusInvalidacionMemoria(new BusInvalidacionMemoria.Canal(),
+                new SimpleAsyncTaskExecutor("invalidacion-"), receptor::recibir);
+        };
+    }
+
+    @Bean
+    public PublicadorInvalidaciones publicadorInvalidaciones(BusInvalidacion busInvalidacion) {
+        return new PublicadorInvalidaciones(busInvalidacion);
+    }
+}
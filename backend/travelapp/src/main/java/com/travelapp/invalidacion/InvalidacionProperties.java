@@ -0,0 +1,40 @@
+package com.travelapp.invalidacion;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.invalidacion")
+public class InvalidacionProperties {
+
+    public enum Transporte {
+        // Tabla invalidacion_log en la base de datos compartida
+        TABLA,
+        // Solo entre instancias del mismo proceso (tests)
+        MEMORIA
+    }
+
+    private boolean habilitado = true;
+
+    private Transporte transporte = Transporte.TABLA;
+
+    // Identificador de esta réplica; vacío para generar uno aleatorio al arrancar
+    private String nodo = "";
+
+    // Cada cuánto se insertan las invalidaciones propias y se leen las ajenas: un cambio llega
+    // al resto de nodos en menos de dos intervalos
+    private Duration intervalo = Duration.ofSeconds(1);
+
+    // Filas recientes que se vuelven a leer: una inserción con id menor puede confirmarse más tarde
+    private Duration ventanaRelectura = Duration.ofSeconds(5);
+
+    // Tiempo que se conservan las filas en invalidacion_log
+    private Duration retencion = Duration.ofMinutes(10);
+
+    private int tamanioLote = 500;
+}
@@ -0,0 +1,31 @@
+package com.travelapp.invalidacion;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.ViajeCambiadoEvent;
+
+import lombok.RequiredArgsConstructor;
+
+// Envía al resto de nodos cada modificación confirmada aquí (servicios, importaciones, trabajos, archivado).
+// Las recibidas de otro nodo no se reenvían.
+@RequiredArgsConstructor
+public class PublicadorInvalidaciones {
+
+    private final BusInvalidacion bus;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (!event.remoto()) {
+            bus.publicar(new Invalidacion(Invalidacion.VIAJE, event.id(), event.tipo()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        if (!event.remoto()) {
+            bus.publicar(new Invalidacion(Invalidacion.DESTINO, event.id(), event.tipo()));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.travelapp.invalidacion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.Destino;
+import com.travelapp.model.Viaje;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Aplica en este nodo las modificaciones confirmadas en otro: vuelve a publicar ViajeCambiadoEvent y
+// DestinoCambiadoEvent como remotos, con los datos actuales de la base de datos. Se publican dentro de una
+// transacción de solo lectura para que les lleguen los listeners AFTER_COMMIT (índices, cachés, feed SSE).
+// Una entidad que ya no existe se publica como ELIMINADO.
+@Slf4j
+@RequiredArgsConstructor
+public class ReceptorInvalidaciones {
+
+    private static final int TAMANIO_CONSULTA = 1000;
+
+    private final ViajeRepository viajeRepository;
+    private final DestinoRepository destinoRepository;
+    private final ViajeMapper viajeMapper;
+    private final DestinoMapper destinoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // De solo lectura
+    private final TransactionTemplate transactionTemplate;
+
+    public void recibir(List<Invalidacion> invalidaciones) {
+        // La última de cada entidad: los datos se leen ahora, así que las anteriores no aportan nada
+        Map<Long, TipoCambio> destinos = new LinkedHashMap<>();
+        Map<Long, TipoCambio> viajes = new LinkedHashMap<>();
+        for (Invalidacion invalidacion : invalidaciones) {
+            Map<Long, TipoCambio> porEntidad = Invalidacion.VIAJE.equals(invalidacion.entidad()) ? viajes : destinos;
+            porEntidad.remove(invalidacion.id());
+            porEntidad.put(invalidacion.id(), invalidacion.tipo());
+        }
+
+        transactionTemplate.executeWithoutResult(estado -> {
+            publicarDestinos(destinos);
+            publicarViajes(viajes);
+        });
+
+        log.debug("Aplicados {} destinos y {} viajes modificados en otros nodos", destinos.size(), viajes.size());
+    }
+
+    private void publicarDestinos(Map<Long, TipoCambio> cambios) {
+        Map<Long, Destino> actuales = cargar(cambios, destinoRepository::findAllById, Destino::getId);
+        cambios.forEach((id, tipo) -> {
+            Destino destino = actuales.get(id);
+            eventPublisher.publishEvent(destino == null
+                ? DestinoCambiadoEvent.remoto(TipoCambio.ELIMINADO, id, null)
+                : DestinoCambiadoEvent.remoto(tipo, id, destinoMapper.toDto(destino)));
+        });
+    }
+
+    private void publicarViajes(Map<Long, TipoCambio> cambios) {
+        Map<Long, Viaje> actuales = cargar(cambios, viajeRepository::findConDestinoByIdIn, Viaje::getId);
+        cambios.forEach((id, tipo) -> {
+            Viaje viaje = actuales.get(id);
+            eventPublisher.publishEvent(viaje == null
+                ? ViajeCambiadoEvent.remoto(TipoCambio.ELIMINADO, id, null)
+                : ViajeCambiadoEvent.remoto(tipo, id, viajeMapper.toDto(viaje)));
+        });
+    }
+
+    // Las entidades no eliminadas, por lotes de TAMANIO_CONSULTA ids
+    private static <E> Map<Long, E> cargar(Map<Long, TipoCambio> cambios, Function<List<Long>, List<E>> consulta,
+            Function<E, Long> id) {
+
+        List<Long> ids = cambios.entrySet().stream()
+            .filter(cambio -> cambio.getValue() != TipoCambio.ELIMINADO)
+            .map(Map.Entry::getKey)
+            .toList();
+
+        List<E> entidades = new ArrayList<>(ids.size());
+        for (int desde = 0; desde < ids.size(); desde += TAMANIO_CONSULTA) {
+            entidades.addAll(consulta.apply(ids.subList(desde, Math.min(ids.size(), desde + TAMANIO_CONSULTA))));
+        }
+        return entidades.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+}
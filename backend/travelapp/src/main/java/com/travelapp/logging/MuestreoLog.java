@@ -0,0 +1,23 @@
+package com.travelapp.logging;
+
+// Estado de muestreo de la petición en curso, consultado por controladores y servicios
+public final class MuestreoLog {
+
+    private static final ThreadLocal<Boolean> DEBUG_SELECCIONADO = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private MuestreoLog() {
+    }
+
+    // Indica si la petición actual fue seleccionada para registrar cuerpos de DTOs
+    public static boolean debugSeleccionado() {
+        return DEBUG_SELECCIONADO.get();
+    }
+
+    static void marcarDebug(boolean seleccionado) {
+        DEBUG_SELECCIONADO.set(seleccionado);
+    }
+
+    static void limpiar() {
+        DEBUG_SELECCIONADO.remove();
+    }
+}
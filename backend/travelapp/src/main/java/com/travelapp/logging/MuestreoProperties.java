@@ -0,0 +1,24 @@
+package com.travelapp.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.logging.muestreo")
+public class MuestreoProperties {
+
+    // Fracción de peticiones registradas en el log de acceso (0.0 - 1.0)
+    private double tasaPorDefecto = 1.0;
+
+    // Tasa por endpoint, con clave "METODO /patron" (ej. "GET /api/destinos")
+    private Map<String, Double> endpoints = new HashMap<>();
+
+    // Fracción de peticiones en las que se registran los cuerpos de los DTOs
+    private double tasaDebug = 0.0;
+}
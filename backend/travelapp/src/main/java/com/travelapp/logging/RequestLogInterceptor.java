@@ -0,0 +1,94 @@
+package com.travelapp.logging;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Log de acceso estructurado y muestreado por endpoint.
+// Sustituye a los log.info por petición de los controladores: una sola línea por petición muestreada.
+// Al pasar a modo asíncrono (SSE, DeferredResult) se suelta la marca de debug del hilo del contenedor.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestLogInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ATRIBUTO_INICIO = RequestLogInterceptor.class.getName() + ".inicio";
+    private static final String ATRIBUTO_ENDPOINT = RequestLogInterceptor.class.getName() + ".endpoint";
+
+    private final MuestreoProperties properties;
+
+    // Descriptores por método de controlador, resueltos una sola vez
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        Endpoint endpoint = endpoints.computeIfAbsent(handlerMethod.getMethod(), metodo -> resolverEndpoint(request));
+        request.setAttribute(ATRIBUTO_ENDPOINT, endpoint);
+        request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+
+        MuestreoLog.marcarDebug(muestrear(properties.getTasaDebug()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        MuestreoLog.limpiar();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MuestreoLog.limpiar();
+
+        if (!(request.getAttribute(ATRIBUTO_ENDPOINT) instanceof Endpoint endpoint)
+                || !(request.getAttribute(ATRIBUTO_INICIO) instanceof Long inicio)) {
+            return;
+        }
+
+        int status = response.getStatus();
+
+        // Los errores de servidor se registran siempre
+        if (status < 500 && ex == null && !muestrear(endpoint.tasa())) {
+            return;
+        }
+
+        long duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        log.atInfo()
+            .addKeyValue("endpoint", endpoint.nombre())
+            .addKeyValue("status", status)
+            .addKeyValue("duracionMs", duracionMs)
+            .log("{} -> {} en {} ms", endpoint.nombre(), status, duracionMs);
+    }
+
+    private Endpoint resolverEndpoint(HttpServletRequest request) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String nombre = request.getMethod() + " " + (patron != null ? patron : request.getRequestURI());
+        double tasa = properties.getEndpoints().getOrDefault(nombre, properties.getTasaPorDefecto());
+
+        return new Endpoint(nombre, tasa);
+    }
+
+    private static boolean muestrear(double tasa) {
+        if (tasa <= 0.0) return false;
+        if (tasa >= 1.0) return true;
+        return ThreadLocalRandom.current().nextDouble() < tasa;
+    }
+
+    private record Endpoint(String nombre, double tasa) {
+    }
+}
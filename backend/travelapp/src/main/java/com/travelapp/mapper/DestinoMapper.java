@@ -6,30 +6,19 @@ import org.springframework.stereotype.Component;
 
 import com.travelapp.dto.DestinoDTO;
 import com.travelapp.model.Destino;
-import com.travelapp.model.Viaje;
 
 @Component
 public class DestinoMapper {
 
-    // Convertir entidad a DTO
+    // Convertir entidad a DTO. No toca la colección de viajes: viajeCount y viajeIds los completa el servicio
     public DestinoDTO toDto(Destino destinoEntity) {
         if (destinoEntity == null) return null;
 
-        DestinoDTO destinoDTO = DestinoDTO.builder()
+        return DestinoDTO.builder()
             .id(destinoEntity.getId())
             .nombre(destinoEntity.getNombre())
             .pais(destinoEntity.getPais())
             .build();
-
-        if (destinoEntity.getViajes() != null) {
-            destinoDTO.setViajeIds(
-                destinoEntity.getViajes().stream()
-                    .map(Viaje::getId)
-                    .toList()
-            );
-        }
-
-        return destinoDTO;
     }
 
     // Convertir DTO a entidad
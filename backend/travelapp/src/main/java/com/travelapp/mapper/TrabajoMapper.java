@@ -0,0 +1,70 @@
+package com.travelapp.mapper;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.dto.TrabajoDTO;
+import com.travelapp.model.EstadoTrabajo;
+import com.travelapp.model.Trabajo;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TrabajoMapper {
+
+    private static final TypeReference<Map<String, Object>> MAPA = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    // Convertir entidad a DTO; parámetros y resultado se guardan como JSON
+    public TrabajoDTO toDto(Trabajo trabajo) {
+        if (trabajo == null) return null;
+
+        Long total = trabajo.getTotal();
+        Integer porcentaje = total == null ? null
+            : total == 0 ? 100 : (int) Math.min(100, trabajo.getProcesados() * 100 / total);
+
+        return TrabajoDTO.builder()
+            .id(trabajo.getId())
+            .tipo(trabajo.getTipo())
+            .estado(trabajo.getEstado())
+            .parametros(fromJson(trabajo.getParametros()))
+            .procesados(trabajo.getProcesados())
+            .total(total)
+            .porcentaje(porcentaje)
+            .cancelacionSolicitada(trabajo.isCancelacionSolicitada())
+            .mensaje(trabajo.getMensaje())
+            .resultado(fromJson(trabajo.getResultado()))
+            .urlResultado(trabajo.getEstado() == EstadoTrabajo.COMPLETADO && trabajo.getArchivoResultado() != null
+                ? "/api/jobs/" + trabajo.getId() + "/resultado"
+                : null)
+            .creado(trabajo.getCreado())
+            .iniciado(trabajo.getIniciado())
+            .terminado(trabajo.getTerminado())
+            .build();
+    }
+
+    public String toJson(Map<String, Object> valor) {
+        if (valor == null) return null;
+        try {
+            return objectMapper.writeValueAsString(valor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("No se pudo convertir a JSON", e);
+        }
+    }
+
+    public Map<String, Object> fromJson(String json) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, MAPA);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON de trabajo no válido", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.travelapp.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.travelapp.dto.ViajeHistoricoDTO;
+import com.travelapp.model.ViajeHistorico;
+
+@Component
+public class ViajeHistoricoMapper {
+
+    // Convertir entidad a DTO; el histórico es de solo lectura y no hay conversión inversa
+    public ViajeHistoricoDTO toDto(ViajeHistorico historico) {
+        if (historico == null) return null;
+
+        return ViajeHistoricoDTO.builder()
+            .id(historico.getId())
+            .fechaInicio(historico.getFechaInicio())
+            .fechaFin(historico.getFechaFin())
+            .precio(historico.getPrecio())
+            .destinoId(historico.getDestinoId())
+            .destinoNombre(historico.getDestinoNombre())
+            .destinoPais(historico.getDestinoPais())
+            .archivado(historico.getArchivado())
+            .build();
+    }
+}
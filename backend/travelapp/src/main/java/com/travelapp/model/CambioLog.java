@@ -0,0 +1,47 @@
+package com.travelapp.model;
+
+import java.time.Instant;
+
+import com.travelapp.event.TipoCambio;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Última modificación conocida de cada viaje o destino; el id sirve como token de sincronización
+@Entity
+@Table(name = "cambio_log", indexes = @Index(name = "idx_cambio_log_entidad", columnList = "entidad, entidad_id"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CambioLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(length = 20)
+    private String entidad;
+
+    @Column(name = "entidad_id")
+    private long entidadId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TipoCambio tipo;
+
+    private Instant fecha;
+}
@@ -0,0 +1,13 @@
+package com.travelapp.model;
+
+public enum EstadoTrabajo {
+    PENDIENTE,
+    EN_CURSO,
+    COMPLETADO,
+    FALLIDO,
+    CANCELADO;
+
+    public boolean terminado() {
+        return this == COMPLETADO || this == FALLIDO || this == CANCELADO;
+    }
+}
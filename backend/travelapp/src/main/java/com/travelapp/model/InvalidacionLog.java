@@ -0,0 +1,51 @@
+package com.travelapp.model;
+
+import java.time.Instant;
+
+import com.travelapp.event.TipoCambio;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Modificaciones confirmadas en cada nodo, para que los demás invaliden sus datos en memoria.
+// La escribe y lee BusInvalidacionTabla con JDBC; las filas se borran pasado el tiempo de retención
+@Entity
+@Table(name = "invalidacion_log", indexes = @Index(name = "idx_invalidacion_log_fecha", columnList = "fecha"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class InvalidacionLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(length = 20)
+    private String entidad;
+
+    @Column(name = "entidad_id")
+    private long entidadId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TipoCambio tipo;
+
+    @Column(length = 64)
+    private String nodo;
+
+    private Instant fecha;
+}
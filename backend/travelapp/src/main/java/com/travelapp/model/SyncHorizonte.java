@@ -0,0 +1,31 @@
+package com.travelapp.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Fila única con el último id de cambio_log cuyas eliminaciones fueron compactadas.
+// Un token anterior a este valor ya no puede recibir todas las bajas y debe resincronizar.
+@Entity
+@Table(name = "sync_horizonte")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SyncHorizonte {
+
+    public static final long ID = 1L;
+
+    @Id
+    private long id;
+
+    @Column(name = "ultimo_cambio_compactado")
+    private long ultimoCambioCompactado;
+}
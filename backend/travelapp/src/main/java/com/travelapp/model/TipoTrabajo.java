@@ -0,0 +1,10 @@
+package com.travelapp.model;
+
+public enum TipoTrabajo {
+    // Viajes (con su destino) a CSV descargable, con el mismo formato que la importación
+    EXPORTAR_VIAJES,
+    // Subida o bajada porcentual del precio de los viajes, opcionalmente de un destino o país
+    ACTUALIZAR_PRECIOS,
+    // Catálogo CSV subido con POST /api/importaciones
+    IMPORTAR_CSV
+}
@@ -0,0 +1,69 @@
+package com.travelapp.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Trabajo en segundo plano. El progreso se guarda por lotes; actualizado hace de latido del nodo que lo tiene
+@Entity
+@Table(name = "trabajo", indexes = @Index(name = "idx_trabajo_estado", columnList = "estado, actualizado"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Trabajo {
+
+    // UUID: la URL del resultado no debe poder adivinarse
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private TipoTrabajo tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private EstadoTrabajo estado;
+
+    // JSON
+    @Column(columnDefinition = "TEXT")
+    private String parametros;
+
+    private long procesados;
+
+    private Long total;
+
+    @Column(length = 1000)
+    private String mensaje;
+
+    // JSON con el resumen que deja el trabajo
+    @Column(columnDefinition = "TEXT")
+    private String resultado;
+
+    @Column(name = "archivo_resultado")
+    private String archivoResultado;
+
+    @Column(name = "cancelacion_solicitada")
+    private boolean cancelacionSolicitada;
+
+    private Instant creado;
+
+    private Instant iniciado;
+
+    private Instant terminado;
+
+    private Instant actualizado;
+}
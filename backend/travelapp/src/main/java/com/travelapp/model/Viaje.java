@@ -6,15 +6,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// Solo viajes vigentes: los terminados se mueven a viaje_historico (ViajeHistoricoService)
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_viaje_fecha_fin", columnList = "fecha_fin"),
+    @Index(name = "idx_viaje_fecha_inicio", columnList = "fecha_inicio"),
+    @Index(name = "idx_viaje_precio", columnList = "precio"),
+    @Index(name = "idx_viaje_destino", columnList = "destino_id, fecha_inicio"),
+    @Index(name = "idx_viaje_destino_precio", columnList = "destino_id, precio")
+})
 @Getter
 @Setter
 @AllArgsConstructor
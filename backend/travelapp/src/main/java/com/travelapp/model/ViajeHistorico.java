@@ -0,0 +1,45 @@
+package com.travelapp.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Viaje ya terminado, movido desde viaje por el archivado. Conserva el id original y copia nombre y país
+// del destino: es un registro histórico que no depende de que el destino siga existiendo ni de sus cambios.
+@Entity
+@Immutable
+@Table(name = "viaje_historico", indexes = {
+    @Index(name = "idx_viaje_historico_destino", columnList = "destino_id, fecha_inicio"),
+    @Index(name = "idx_viaje_historico_fecha_inicio", columnList = "fecha_inicio")
+})
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ViajeHistorico {
+
+    @Id
+    private long id;
+    private LocalDate fechaInicio;
+    private LocalDate fechaFin;
+    private Double precio;
+
+    @Column(name = "destino_id")
+    private Long destinoId;
+    private String destinoNombre;
+    private String destinoPais;
+
+    @Column(nullable = false)
+    private Instant archivado;
+}
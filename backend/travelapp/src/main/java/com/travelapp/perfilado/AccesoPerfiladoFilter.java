@@ -0,0 +1,76 @@
+package com.travelapp.perfilado;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Responde 404 a /admin/jfr si el perfilado no está habilitado y 401 a las peticiones sin el token configurado:
+// las grabaciones exponen el estado interno de la JVM y no deben quedar abiertas a cualquiera que alcance el puerto.
+@Slf4j
+public class AccesoPerfiladoFilter extends OncePerRequestFilter {
+
+    private static final String PREFIJO = "Bearer ";
+
+    private final boolean habilitado;
+    private final byte[] token;
+    private final ObjectMapper objectMapper;
+
+    public AccesoPerfiladoFilter(boolean habilitado, String token, ObjectMapper objectMapper) {
+        this.habilitado = habilitado;
+        this.token = habilitado ? token.getBytes(StandardCharsets.UTF_8) : null;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!habilitado) {
+            responder(response, HttpStatus.NOT_FOUND, "No encontrado", "El perfilado con JFR no está habilitado.");
+            return;
+        }
+
+        if (autorizada(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Acceso rechazado a {} {} desde {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        responder(response, HttpStatus.UNAUTHORIZED, "No autorizado",
+            "Se requiere el token de perfilado en el header Authorization.");
+    }
+
+    private void responder(HttpServletResponse response, HttpStatus estado, String titulo, String detalle)
+            throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(estado, detalle);
+        problemDetail.setTitle(titulo);
+
+        response.setStatus(estado.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private boolean autorizada(String cabecera) {
+        if (cabecera == null || !cabecera.startsWith(PREFIJO)) {
+            return false;
+        }
+        // Comparación en tiempo constante, para no revelar el token por lo que tarda en fallar
+        return MessageDigest.isEqual(token, cabecera.substring(PREFIJO.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
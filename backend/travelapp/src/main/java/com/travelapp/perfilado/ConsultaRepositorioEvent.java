@@ -0,0 +1,13 @@
+package com.travelapp.perfilado;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.travelapp.ConsultaRepositorio")
+@Label("Consulta de repositorio")
+@Category({"Travelapp", "Repositorios"})
+@Description("Llamada a un método de un repositorio Spring Data")
+class ConsultaRepositorioEvent extends EventoOperacion {
+}
@@ -0,0 +1,32 @@
+package com.travelapp.perfilado;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+// Campos comunes de los eventos JFR de servicios y repositorios
+@StackTrace(false)
+abstract class EventoOperacion extends Event {
+
+    @Label("Clase")
+    String clase;
+
+    @Label("Método")
+    String metodo;
+
+    // 0 si la operación no recibe un id
+    @Label("Id de entidad")
+    long entidadId;
+
+    // 0 si la operación no es paginada
+    @Label("Tamaño de página")
+    int tamanioPagina;
+
+    // -1 si el resultado se lee en streaming
+    @Label("Filas")
+    long filas;
+
+    // Clase de la excepción si la operación falló
+    @Label("Error")
+    String error;
+}
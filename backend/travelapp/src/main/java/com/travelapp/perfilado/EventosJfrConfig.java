@@ -0,0 +1,51 @@
+package com.travelapp.perfilado;
+
+import java.lang.reflect.Method;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.repository.Repository;
+
+import com.travelapp.service.DestinoService;
+import com.travelapp.service.ViajeService;
+
+// Eventos JFR propios de la aplicación. Se registran siempre: JFR solo los guarda durante una grabación,
+// sea la de /admin/jfr o una iniciada con jcmd.
+@Configuration
+public class EventosJfrConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor eventosServicioAdvisor() {
+        return new DefaultPointcutAdvisor(
+            new Metodos(clase -> ViajeService.class.isAssignableFrom(clase) || DestinoService.class.isAssignableFrom(clase)),
+            new EventosJfrInterceptor(OperacionServicioEvent::new));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor eventosRepositorioAdvisor() {
+        return new DefaultPointcutAdvisor(
+            new Metodos(Repository.class::isAssignableFrom),
+            new EventosJfrInterceptor(ConsultaRepositorioEvent::new));
+    }
+
+    // Métodos propios de las clases seleccionadas, sin toString, equals ni hashCode
+    private static class Metodos extends StaticMethodMatcherPointcut {
+
+        Metodos(ClassFilter clases) {
+            setClassFilter(clases);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return method.getDeclaringClass() != Object.class;
+        }
+    }
+}
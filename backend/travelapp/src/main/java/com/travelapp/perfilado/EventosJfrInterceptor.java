@@ -0,0 +1,84 @@
+package com.travelapp.perfilado;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// Emite un evento JFR por llamada. Sin una grabación activa isEnabled() es falso y el coste es el de
+// crear un objeto que el JIT suele eliminar; con grabación, los campos solo se calculan si el evento se guarda.
+class EventosJfrInterceptor implements MethodInterceptor {
+
+    private final Supplier<EventoOperacion> fabrica;
+
+    // Nombre de la clase o interfaz de repositorio por clase de proxy, resuelto una sola vez
+    private final Map<Class<?>, String> nombres = new ConcurrentHashMap<>();
+
+    EventosJfrInterceptor(Supplier<EventoOperacion> fabrica) {
+        this.fabrica = fabrica;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocacion) throws Throwable {
+        EventoOperacion evento = fabrica.get();
+        if (!evento.isEnabled()) {
+            return invocacion.proceed();
+        }
+
+        evento.begin();
+        Object resultado = null;
+        try {
+            resultado = invocacion.proceed();
+            return resultado;
+        } catch (Throwable e) {
+            evento.error = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.clase = nombres.computeIfAbsent(invocacion.getThis().getClass(), EventosJfrInterceptor::nombre);
+                evento.metodo = invocacion.getMethod().getName();
+                rellenarArgumentos(evento, invocacion.getArguments());
+                evento.filas = evento.error == null ? filas(resultado) : 0;
+                evento.commit();
+            }
+        }
+    }
+
+    // El primer Long es el id de la entidad (findById, update, findByDestinoId...); el Pageable, la página
+    static void rellenarArgumentos(EventoOperacion evento, Object[] argumentos) {
+        for (Object argumento : argumentos) {
+            if (argumento instanceof Long id && evento.entidadId == 0) {
+                evento.entidadId = id;
+            } else if (argumento instanceof Pageable pageable && pageable.isPaged()) {
+                evento.tamanioPagina = pageable.getPageSize();
+            }
+        }
+    }
+
+    static long filas(Object resultado) {
+        if (resultado == null) return 0;
+        if (resultado instanceof Slice<?> pagina) return pagina.getNumberOfElements();
+        if (resultado instanceof Collection<?> coleccion) return coleccion.size();
+        if (resultado instanceof Optional<?> opcional) return opcional.isPresent() ? 1 : 0;
+        if (resultado instanceof BaseStream<?, ?>) return -1;
+        return 1;
+    }
+
+    // Los repositorios son proxies JDK: el nombre útil es el de su interfaz (ViajeRepository)
+    private static String nombre(Class<?> clase) {
+        if (Proxy.isProxyClass(clase) && clase.getInterfaces().length > 0) {
+            return clase.getInterfaces()[0].getSimpleName();
+        }
+        return AopUtils.isCglibProxy(clase) ? clase.getSuperclass().getSimpleName() : clase.getSimpleName();
+    }
+}
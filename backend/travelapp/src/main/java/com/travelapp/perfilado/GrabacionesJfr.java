@@ -0,0 +1,208 @@
+package com.travelapp.perfilado;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.travelapp.dto.GrabacionDTO;
+import com.travelapp.dto.SolicitudGrabacionDTO;
+import com.travelapp.exception.DuplicateEntityException;
+import com.travelapp.exception.EntityNotFoundException;
+import com.travelapp.exception.ValidationException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Grabaciones de Java Flight Recorder bajo demanda, de una en una y siempre acotadas en tiempo y tamaño.
+// JFR vuelca la grabación a su archivo al detenerse, a mano o al cumplirse la duración.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrabacionesJfr implements DisposableBean {
+
+    private static final Set<String> CONFIGURACIONES = Set.of("default", "profile");
+
+    // Volcarían el entorno (DB_PASSWORD...), las propiedades del sistema y los argumentos de arranque al .jfr
+    private static final List<String> EVENTOS_EXCLUIDOS =
+        List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final PerfiladoProperties properties;
+
+    // En orden de inicio, para descartar las más antiguas
+    private final Map<Long, Grabacion> grabaciones = new LinkedHashMap<>();
+
+    public synchronized GrabacionDTO iniciar(SolicitudGrabacionDTO solicitud) {
+        Duration duracion = solicitud.getDuracion() != null ? solicitud.getDuracion() : properties.getDuracionPorDefecto();
+        if (duracion.isNegative() || duracion.isZero() || duracion.compareTo(properties.getDuracionMaxima()) > 0) {
+            throw new ValidationException("La duración debe estar entre 1 s y " + properties.getDuracionMaxima());
+        }
+
+        DataSize tamanioMaximo = solicitud.getTamanioMaximoMb() != null
+            ? DataSize.ofMegabytes(solicitud.getTamanioMaximoMb())
+            : properties.getTamanioMaximo();
+        if (tamanioMaximo.toBytes() <= 0 || tamanioMaximo.compareTo(properties.getTamanioMaximo()) > 0) {
+            throw new ValidationException("El tamaño máximo debe estar entre 1 y "
+                + properties.getTamanioMaximo().toMegabytes() + " MB");
+        }
+
+        String configuracion = solicitud.getConfiguracion() != null ? solicitud.getConfiguracion() : "default";
+        if (!CONFIGURACIONES.contains(configuracion)) {
+            throw new ValidationException("Configuración JFR desconocida: " + configuracion + " (valores: default, profile)");
+        }
+
+        grabaciones.values().stream()
+            .filter(Grabacion::enCurso)
+            .findFirst()
+            .ifPresent(activa -> {
+                throw new DuplicateEntityException("Ya hay una grabación JFR en curso: " + activa.recording().getId());
+            });
+
+        descartarAntiguas();
+
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(configuracion));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("No se pudo cargar la configuración JFR " + configuracion, e);
+        }
+        EVENTOS_EXCLUIDOS.forEach(recording::disable);
+
+        Path archivo = properties.getDirectorio().resolve("travelapp-" + recording.getId() + ".jfr");
+        try {
+            Files.createDirectories(properties.getDirectorio());
+            recording.setName("travelapp-" + recording.getId());
+            recording.setToDisk(true);
+            recording.setDuration(duracion);
+            recording.setMaxSize(tamanioMaximo.toBytes());
+            recording.setDestination(archivo);
+            recording.start();
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("No se pudo preparar el archivo de la grabación JFR", e);
+        }
+
+        Grabacion grabacion = new Grabacion(recording, configuracion, archivo);
+        grabaciones.put(recording.getId(), grabacion);
+        log.info("Grabación JFR {} iniciada ({}, {}, máx. {} MB)", recording.getId(), configuracion, duracion,
+            tamanioMaximo.toMegabytes());
+
+        return toDto(grabacion);
+    }
+
+    public synchronized List<GrabacionDTO> findAll() {
+        return grabaciones.values().stream().map(this::toDto).toList();
+    }
+
+    public synchronized GrabacionDTO findById(long id) {
+        return toDto(buscar(id));
+    }
+
+    public synchronized GrabacionDTO detener(long id) {
+        Grabacion grabacion = buscar(id);
+        if (grabacion.enCurso()) {
+            // stop() vuelca al archivo; al cerrarla se liberan sus datos en el repositorio de JFR
+            grabacion.recording().stop();
+            grabacion.recording().close();
+            log.info("Grabación JFR {} detenida", id);
+        }
+        return toDto(grabacion);
+    }
+
+    public synchronized Path archivo(long id) {
+        Grabacion grabacion = buscar(id);
+        if (grabacion.enCurso()) {
+            throw new ValidationException("La grabación aún está en curso");
+        }
+        if (!Files.exists(grabacion.archivo())) {
+            throw new EntityNotFoundException("La grabación no tiene archivo");
+        }
+        return grabacion.archivo();
+    }
+
+    public synchronized void eliminar(long id) {
+        descartar(buscar(id));
+        grabaciones.remove(id);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        // Las grabaciones en curso se cierran sin volcar: el proceso se está deteniendo
+        grabaciones.values().forEach(grabacion -> grabacion.recording().close());
+    }
+
+    private Grabacion buscar(long id) {
+        Grabacion grabacion = grabaciones.get(id);
+        if (grabacion == null) {
+            throw new EntityNotFoundException("Grabación JFR no encontrada con ID: " + id);
+        }
+        return grabacion;
+    }
+
+    private void descartarAntiguas() {
+        Iterator<Grabacion> iterador = grabaciones.values().iterator();
+        while (grabaciones.size() >= properties.getGrabacionesConservadas() && iterador.hasNext()) {
+            Grabacion grabacion = iterador.next();
+            if (!grabacion.enCurso()) {
+                descartar(grabacion);
+                iterador.remove();
+            }
+        }
+    }
+
+    private static void descartar(Grabacion grabacion) {
+        grabacion.recording().close();
+        try {
+            Files.deleteIfExists(grabacion.archivo());
+        } catch (IOException e) {
+            log.warn("No se pudo borrar la grabación JFR {}", grabacion.archivo(), e);
+        }
+    }
+
+    private GrabacionDTO toDto(Grabacion grabacion) {
+        Recording recording = grabacion.recording();
+        boolean enCurso = grabacion.enCurso();
+
+        long tamanio = recording.getSize();
+        if (!enCurso) {
+            try {
+                tamanio = Files.exists(grabacion.archivo()) ? Files.size(grabacion.archivo()) : 0;
+            } catch (IOException e) {
+                tamanio = 0;
+            }
+        }
+
+        return GrabacionDTO.builder()
+            .id(recording.getId())
+            .estado(enCurso ? GrabacionDTO.Estado.EN_CURSO : GrabacionDTO.Estado.TERMINADA)
+            .configuracion(grabacion.configuracion())
+            .duracion(recording.getDuration())
+            .tamanioMaximo(recording.getMaxSize())
+            .tamanio(tamanio)
+            .inicio(recording.getStartTime())
+            .urlArchivo(enCurso ? null : "/admin/jfr/" + recording.getId() + "/archivo")
+            .build();
+    }
+
+    private record Grabacion(Recording recording, String configuracion, Path archivo) {
+
+        boolean enCurso() {
+            RecordingState estado = recording.getState();
+            return estado == RecordingState.NEW || estado == RecordingState.DELAYED || estado == RecordingState.RUNNING;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.travelapp.perfilado;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.travelapp.OperacionServicio")
+@Label("Operación de servicio")
+@Category({"Travelapp", "Servicios"})
+@Description("Llamada a un método de ViajeService o DestinoService")
+class OperacionServicioEvent extends EventoOperacion {
+}
@@ -0,0 +1,32 @@
+package com.travelapp.perfilado;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Registrado siempre y habilitado en tiempo de ejecución (AccesoPerfiladoFilter): con AOT las condiciones sobre
+// propiedades se evalúan al compilar y no atenderían JFR_ENABLED
+@Configuration
+public class PerfiladoConfig {
+
+    @Bean
+    public FilterRegistrationBean<AccesoPerfiladoFilter> accesoPerfiladoFilter(
+            PerfiladoProperties properties, ObjectMapper objectMapper) {
+
+        // Sin token no se arranca: mejor fallar al desplegar que dejar /admin/jfr abierto
+        if (properties.isHabilitado() && !StringUtils.hasText(properties.getToken())) {
+            throw new IllegalStateException(
+                "travelapp.perfilado.token (JFR_TOKEN) es obligatorio con travelapp.perfilado.habilitado=true");
+        }
+
+        FilterRegistrationBean<AccesoPerfiladoFilter> registro = new FilterRegistrationBean<>(
+            new AccesoPerfiladoFilter(properties.isHabilitado(), properties.getToken(), objectMapper));
+        registro.addUrlPatterns("/admin/jfr", "/admin/jfr/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+}
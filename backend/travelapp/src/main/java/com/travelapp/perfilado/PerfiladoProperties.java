@@ -0,0 +1,35 @@
+package com.travelapp.perfilado;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.perfilado")
+public class PerfiladoProperties {
+
+    // Endpoint /admin/jfr para grabar con Java Flight Recorder sin reiniciar ni adjuntar agentes
+    private boolean habilitado = false;
+
+    // Token que deben enviar las peticiones a /admin/jfr (Authorization: Bearer); obligatorio si está habilitado
+    private String token;
+
+    // Duración si la solicitud no indica otra, y máximo aceptado
+    private Duration duracionPorDefecto = Duration.ofMinutes(1);
+    private Duration duracionMaxima = Duration.ofMinutes(15);
+
+    // Tamaño máximo en disco de una grabación; los datos más antiguos se descartan al superarlo
+    private DataSize tamanioMaximo = DataSize.ofMegabytes(250);
+
+    // Grabaciones terminadas que se conservan para descargar; al superarlo se borra la más antigua
+    private int grabacionesConservadas = 5;
+
+    private Path directorio = Paths.get(System.getProperty("java.io.tmpdir"), "travelapp-jfr");
+}
@@ -0,0 +1,291 @@
+package com.travelapp.protobuf;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.dto.ViajeDTO;
+
+// Codificación protobuf de ViajeDTO, DestinoDTO y sus páginas según protobuf/travelapp.proto, escrita a mano
+// sobre CodedOutputStream para no mantener clases generadas en paralelo a los DTOs. Como el código generado,
+// calcula primero el tamaño de cada mensaje y escribe después en un único array del tamaño exacto.
+// Los campos nulos no se escriben; al leer, los campos desconocidos se ignoran.
+public final class ProtobufCodec {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    // Números de campo de travelapp.proto
+    static final int VIAJE_ID = 1;
+    static final int VIAJE_FECHA_INICIO = 2;
+    static final int VIAJE_FECHA_FIN = 3;
+    static final int VIAJE_PRECIO = 4;
+    static final int VIAJE_DESTINO_ID = 5;
+    static final int VIAJE_DESTINO_NOMBRE = 6;
+
+    static final int DESTINO_ID = 1;
+    static final int DESTINO_NOMBRE = 2;
+    static final int DESTINO_PAIS = 3;
+    static final int DESTINO_VIAJE_COUNT = 4;
+    static final int DESTINO_VIAJE_IDS = 5;
+
+    static final int PAGINA_CONTENT = 1;
+    static final int PAGINA_SIZE = 2;
+    static final int PAGINA_NUMBER = 3;
+    static final int PAGINA_TOTAL_ELEMENTS = 4;
+    static final int PAGINA_TOTAL_PAGES = 5;
+
+    private ProtobufCodec() {
+    }
+
+    // Tipos que se pueden codificar: los DTOs y páginas de ellos
+    public static boolean soportado(Class<?> tipo) {
+        return tipo == ViajeDTO.class || tipo == DestinoDTO.class;
+    }
+
+    public static byte[] codificar(ViajeDTO viaje) {
+        return codificar(tamanio(viaje), salida -> escribir(viaje, salida));
+    }
+
+    public static byte[] codificar(DestinoDTO destino) {
+        return codificar(tamanio(destino), salida -> escribir(destino, salida));
+    }
+
+    // Página de ViajeDTO o DestinoDTO; el sobre es el mismo para los dos
+    public static byte[] codificar(Page<?> pagina) {
+        int[] tamanios = new int[pagina.getNumberOfElements()];
+        int total = 0;
+        int i = 0;
+        for (Object elemento : pagina.getContent()) {
+            tamanios[i] = tamanio(elemento);
+            total += CodedOutputStream.computeTagSize(PAGINA_CONTENT)
+                + CodedOutputStream.computeUInt32SizeNoTag(tamanios[i]) + tamanios[i];
+            i++;
+        }
+        total += CodedOutputStream.computeUInt32Size(PAGINA_SIZE, pagina.getSize())
+            + CodedOutputStream.computeUInt32Size(PAGINA_NUMBER, pagina.getNumber())
+            + CodedOutputStream.computeUInt64Size(PAGINA_TOTAL_ELEMENTS, pagina.getTotalElements())
+            + CodedOutputStream.computeUInt32Size(PAGINA_TOTAL_PAGES, pagina.getTotalPages());
+
+        return codificar(total, salida -> {
+            int j = 0;
+            for (Object elemento : pagina.getContent()) {
+                salida.writeTag(PAGINA_CONTENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                salida.writeUInt32NoTag(tamanios[j++]);
+                if (elemento instanceof ViajeDTO viaje) {
+                    escribir(viaje, salida);
+                } else {
+                    escribir((DestinoDTO) elemento, salida);
+                }
+            }
+            salida.writeUInt32(PAGINA_SIZE, pagina.getSize());
+            salida.writeUInt32(PAGINA_NUMBER, pagina.getNumber());
+            salida.writeUInt64(PAGINA_TOTAL_ELEMENTS, pagina.getTotalElements());
+            salida.writeUInt32(PAGINA_TOTAL_PAGES, pagina.getTotalPages());
+        });
+    }
+
+    public static ViajeDTO leerViaje(byte[] datos) throws IOException {
+        return leerViaje(CodedInputStream.newInstance(datos));
+    }
+
+    public static DestinoDTO leerDestino(byte[] datos) throws IOException {
+        return leerDestino(CodedInputStream.newInstance(datos));
+    }
+
+    public static Page<ViajeDTO> leerPaginaViajes(byte[] datos) throws IOException {
+        return leerPagina(CodedInputStream.newInstance(datos), ProtobufCodec::leerViaje);
+    }
+
+    public static Page<DestinoDTO> leerPaginaDestinos(byte[] datos) throws IOException {
+        return leerPagina(CodedInputStream.newInstance(datos), ProtobufCodec::leerDestino);
+    }
+
+    private static int tamanio(Object elemento) {
+        if (elemento instanceof ViajeDTO viaje) return tamanio(viaje);
+        if (elemento instanceof DestinoDTO destino) return tamanio(destino);
+        throw new IllegalArgumentException("Tipo no soportado en protobuf: " + elemento.getClass().getName());
+    }
+
+    private static int tamanio(ViajeDTO viaje) {
+        int tamanio = CodedOutputStream.computeUInt64Size(VIAJE_ID, viaje.getId());
+        if (viaje.getFechaInicio() != null) {
+            tamanio += CodedOutputStream.computeSInt32Size(VIAJE_FECHA_INICIO, dias(viaje.getFechaInicio()));
+        }
+        if (viaje.getFechaFin() != null) {
+            tamanio += CodedOutputStream.computeSInt32Size(VIAJE_FECHA_FIN, dias(viaje.getFechaFin()));
+        }
+        if (viaje.getPrecio() != null) {
+            tamanio += CodedOutputStream.computeDoubleSize(VIAJE_PRECIO, viaje.getPrecio());
+        }
+        if (viaje.getDestinoId() != null) {
+            tamanio += CodedOutputStream.computeUInt64Size(VIAJE_DESTINO_ID, viaje.getDestinoId());
+        }
+        if (viaje.getDestinoNombre() != null) {
+            tamanio += CodedOutputStream.computeStringSize(VIAJE_DESTINO_NOMBRE, viaje.getDestinoNombre());
+        }
+        return tamanio;
+    }
+
+    private static void escribir(ViajeDTO viaje, CodedOutputStream salida) throws IOException {
+        salida.writeUInt64(VIAJE_ID, viaje.getId());
+        if (viaje.getFechaInicio() != null) salida.writeSInt32(VIAJE_FECHA_INICIO, dias(viaje.getFechaInicio()));
+        if (viaje.getFechaFin() != null) salida.writeSInt32(VIAJE_FECHA_FIN, dias(viaje.getFechaFin()));
+        if (viaje.getPrecio() != null) salida.writeDouble(VIAJE_PRECIO, viaje.getPrecio());
+        if (viaje.getDestinoId() != null) salida.writeUInt64(VIAJE_DESTINO_ID, viaje.getDestinoId());
+        if (viaje.getDestinoNombre() != null) salida.writeString(VIAJE_DESTINO_NOMBRE, viaje.getDestinoNombre());
+    }
+
+    private static int tamanio(DestinoDTO destino) {
+        int tamanio = CodedOutputStream.computeUInt64Size(DESTINO_ID, destino.getId());
+        if (destino.getNombre() != null) {
+            tamanio += CodedOutputStream.computeStringSize(DESTINO_NOMBRE, destino.getNombre());
+        }
+        if (destino.getPais() != null) {
+            tamanio += CodedOutputStream.computeStringSize(DESTINO_PAIS, destino.getPais());
+        }
+        if (destino.getViajeCount() != null) {
+            tamanio += CodedOutputStream.computeUInt64Size(DESTINO_VIAJE_COUNT, destino.getViajeCount());
+        }
+        if (destino.getViajeIds() != null && destino.getViajeIds().length > 0) {
+            int ids = tamanioIds(destino.getViajeIds());
+            tamanio += CodedOutputStream.computeTagSize(DESTINO_VIAJE_IDS) + CodedOutputStream.computeUInt32SizeNoTag(ids)
+                + ids;
+        }
+        return tamanio;
+    }
+
+    // viaje_ids empaquetado: una sola cabecera y los varints seguidos
+    private static void escribir(DestinoDTO destino, CodedOutputStream salida) throws IOException {
+        salida.writeUInt64(DESTINO_ID, destino.getId());
+        if (destino.getNombre() != null) salida.writeString(DESTINO_NOMBRE, destino.getNombre());
+        if (destino.getPais() != null) salida.writeString(DESTINO_PAIS, destino.getPais());
+        if (destino.getViajeCount() != null) salida.writeUInt64(DESTINO_VIAJE_COUNT, destino.getViajeCount());
+        if (destino.getViajeIds() != null && destino.getViajeIds().length > 0) {
+            salida.writeTag(DESTINO_VIAJE_IDS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            salida.writeUInt32NoTag(tamanioIds(destino.getViajeIds()));
+            for (long id : destino.getViajeIds()) {
+                salida.writeUInt64NoTag(id);
+            }
+        }
+    }
+
+    private static int tamanioIds(long[] ids) {
+        int tamanio = 0;
+        for (long id : ids) {
+            tamanio += CodedOutputStream.computeUInt64SizeNoTag(id);
+        }
+        return tamanio;
+    }
+
+    private static ViajeDTO leerViaje(CodedInputStream entrada) throws IOException {
+        ViajeDTO viaje = new ViajeDTO();
+        int tag;
+        while ((tag = entrada.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case VIAJE_ID -> viaje.setId(entrada.readUInt64());
+                case VIAJE_FECHA_INICIO -> viaje.setFechaInicio(LocalDate.ofEpochDay(entrada.readSInt32()));
+                case VIAJE_FECHA_FIN -> viaje.setFechaFin(LocalDate.ofEpochDay(entrada.readSInt32()));
+                case VIAJE_PRECIO -> viaje.setPrecio(entrada.readDouble());
+                case VIAJE_DESTINO_ID -> viaje.setDestinoId(entrada.readUInt64());
+                case VIAJE_DESTINO_NOMBRE -> viaje.setDestinoNombre(entrada.readString());
+                default -> entrada.skipField(tag);
+            }
+        }
+        return viaje;
+    }
+
+    private static DestinoDTO leerDestino(CodedInputStream entrada) throws IOException {
+        DestinoDTO destino = new DestinoDTO();
+        long[] ids = new long[0];
+        int n = 0;
+        int tag;
+        while ((tag = entrada.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case DESTINO_ID -> destino.setId(entrada.readUInt64());
+                case DESTINO_NOMBRE -> destino.setNombre(entrada.readString());
+                case DESTINO_PAIS -> destino.setPais(entrada.readString());
+                case DESTINO_VIAJE_COUNT -> destino.setViajeCount(entrada.readUInt64());
+                case DESTINO_VIAJE_IDS -> {
+                    // Un campo repetido puede llegar empaquetado o elemento a elemento
+                    if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        int limite = entrada.pushLimit(entrada.readRawVarint32());
+                        while (entrada.getBytesUntilLimit() > 0) {
+                            if (n == ids.length) ids = Arrays.copyOf(ids, Math.max(8, n << 1));
+                            ids[n++] = entrada.readUInt64();
+                        }
+                        entrada.popLimit(limite);
+                    } else {
+                        if (n == ids.length) ids = Arrays.copyOf(ids, Math.max(8, n << 1));
+                        ids[n++] = entrada.readUInt64();
+                    }
+                }
+                default -> entrada.skipField(tag);
+            }
+        }
+        if (n > 0) destino.setViajeIds(Arrays.copyOf(ids, n));
+        return destino;
+    }
+
+    private static <T> Page<T> leerPagina(CodedInputStream entrada, Lector<T> lector) throws IOException {
+        List<T> contenido = new ArrayList<>();
+        int size = 0;
+        int number = 0;
+        long totalElements = 0;
+        int tag;
+        while ((tag = entrada.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PAGINA_CONTENT -> {
+                    int limite = entrada.pushLimit(entrada.readRawVarint32());
+                    contenido.add(lector.leer(entrada));
+                    entrada.popLimit(limite);
+                }
+                case PAGINA_SIZE -> size = entrada.readUInt32();
+                case PAGINA_NUMBER -> number = entrada.readUInt32();
+                case PAGINA_TOTAL_ELEMENTS -> totalElements = entrada.readUInt64();
+                // total_pages se deduce de size y total_elements
+                default -> entrada.skipField(tag);
+            }
+        }
+        Pageable pageable = size > 0 ? PageRequest.of(number, size) : Pageable.unpaged();
+        return new PageImpl<>(contenido, pageable, totalElements);
+    }
+
+    private static byte[] codificar(int tamanio, Escritor escritor) {
+        byte[] datos = new byte[tamanio];
+        CodedOutputStream salida = CodedOutputStream.newInstance(datos);
+        try {
+            escritor.escribir(salida);
+            salida.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Solo ocurre si el tamaño calculado no coincide con lo escrito
+            throw new IllegalStateException("Tamaño protobuf calculado incorrectamente", e);
+        }
+        return datos;
+    }
+
+    private static int dias(LocalDate fecha) {
+        return Math.toIntExact(fecha.toEpochDay());
+    }
+
+    @FunctionalInterface
+    private interface Escritor {
+        void escribir(CodedOutputStream salida) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Lector<T> {
+        T leer(CodedInputStream entrada) throws IOException;
+    }
+}
@@ -0,0 +1,24 @@
+package com.travelapp.protobuf;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.travelapp.tiempos.TiemposProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ProtobufConfig implements WebMvcConfigurer {
+
+    private final TiemposProperties tiemposProperties;
+
+    // Al final de la lista: JSON sigue siendo el formato por defecto con Accept */* o sin Accept
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufDtoConverter(tiemposProperties.isCabecera()));
+    }
+}
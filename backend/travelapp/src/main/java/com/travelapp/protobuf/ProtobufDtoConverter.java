@@ -0,0 +1,107 @@
+package com.travelapp.protobuf;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.tiempos.Capa;
+import com.travelapp.tiempos.TiemposInterceptor;
+import com.travelapp.tiempos.TiemposPeticion;
+
+// application/x-protobuf para ViajeDTO, DestinoDTO y Page de ellos. Va detrás del converter JSON, así que solo
+// se usa cuando el cliente lo pide en Accept (o lo envía como Content-Type en POST/PUT).
+// El cuerpo se codifica completo en memoria: se conoce su longitud y Server-Timing incluye la serialización.
+public class ProtobufDtoConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final boolean cabeceraTiempos;
+
+    public ProtobufDtoConverter(boolean cabeceraTiempos) {
+        super(ProtobufCodec.APPLICATION_PROTOBUF);
+        this.cabeceraTiempos = cabeceraTiempos;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProtobufCodec.soportado(clazz);
+    }
+
+    // Spring calcula los tipos producibles a partir de la clase del valor, sin el genérico: una Page se anuncia
+    // aquí y canWrite con el tipo declarado decide si sus elementos se pueden codificar
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return Page.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : super.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type instanceof Class<?> clase && supports(clase) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) return false;
+        if (supports(clazz)) return true;
+
+        // Page<ViajeDTO> o Page<DestinoDTO>, según el tipo declarado en el controlador
+        ResolvableType pagina = ResolvableType.forType(type != null ? type : clazz).as(Page.class);
+        Class<?> elemento = pagina.getGeneric(0).resolve();
+        return pagina != ResolvableType.NONE && elemento != null && supports(elemento);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal((Class<?>) type, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        byte[] datos = inputMessage.getBody().readAllBytes();
+        try {
+            return clazz == ViajeDTO.class ? ProtobufCodec.leerViaje(datos) : ProtobufCodec.leerDestino(datos);
+        } catch (InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Mensaje protobuf no válido: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+
+        byte[] cuerpo;
+        TiemposPeticion.entrar(Capa.SERIALIZACION);
+        try {
+            cuerpo = codificar(object);
+        } finally {
+            TiemposPeticion.salir(Capa.SERIALIZACION);
+        }
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        TiemposPeticion tiempos = TiemposPeticion.actual();
+        if (tiempos != null && cabeceraTiempos) {
+            headers.set(TiemposInterceptor.CABECERA, tiempos.cabecera());
+        }
+        headers.setContentLength(cuerpo.length);
+        outputMessage.getBody().write(cuerpo);
+    }
+
+    private static byte[] codificar(Object object) {
+        if (object instanceof ViajeDTO viaje) return ProtobufCodec.codificar(viaje);
+        if (object instanceof DestinoDTO destino) return ProtobufCodec.codificar(destino);
+        return ProtobufCodec.codificar((Page<?>) object);
+    }
+}
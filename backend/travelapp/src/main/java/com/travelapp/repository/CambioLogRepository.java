@@ -0,0 +1,33 @@
+package com.travelapp.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.travelapp.event.TipoCambio;
+import com.travelapp.model.CambioLog;
+
+@Repository
+public interface CambioLogRepository extends JpaRepository<CambioLog, Long> {
+
+    // Cambios posteriores a un token, en orden
+    List<CambioLog> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    // Compactación al escribir: solo se conserva la última entrada de cada entidad
+    @Modifying
+    @Query("DELETE FROM CambioLog c WHERE c.entidad = :entidad AND c.entidadId = :entidadId")
+    int deleteByEntidadAndEntidadId(@Param("entidad") String entidad, @Param("entidadId") long entidadId);
+
+    @Query("SELECT MAX(c.id) FROM CambioLog c WHERE c.tipo = :tipo AND c.fecha < :antesDe")
+    Long findMaxIdByTipoAndFechaBefore(@Param("tipo") TipoCambio tipo, @Param("antesDe") Instant antesDe);
+
+    @Modifying
+    @Query("DELETE FROM CambioLog c WHERE c.tipo = :tipo AND c.id <= :hastaId")
+    int deleteByTipoAndIdLessThanEqual(@Param("tipo") TipoCambio tipo, @Param("hastaId") long hastaId);
+}
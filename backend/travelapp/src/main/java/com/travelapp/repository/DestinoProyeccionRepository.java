@@ -0,0 +1,18 @@
+package com.travelapp.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Consultas de destinos que seleccionan solo los campos pedidos (?fields=)
+public interface DestinoProyeccionRepository {
+
+    Set<String> CAMPOS = Set.of("id", "nombre", "pais", "viajeCount");
+
+    Page<Map<String, Object>> findCampos(Set<String> campos, String pais, Pageable pageable);
+
+    Optional<Map<String, Object>> findCamposById(Long id, Set<String> campos);
+}
@@ -0,0 +1,44 @@
+package com.travelapp.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.travelapp.model.Destino;
+import com.travelapp.model.Viaje;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+class DestinoProyeccionRepositoryImpl implements DestinoProyeccionRepository {
+
+    // viajeCount es una subconsulta correlacionada: solo se ejecuta si se pide
+    private static final Proyeccion<Destino> PROYECCION = new Proyeccion<>(Destino.class)
+        .campo("nombre", (root, query, cb) -> root.get("nombre"))
+        .campo("pais", (root, query, cb) -> root.get("pais"))
+        .campo("viajeCount", (root, query, cb) -> {
+            Subquery<Long> conteo = query.subquery(Long.class);
+            Root<Viaje> viaje = conteo.from(Viaje.class);
+            return conteo.select(cb.count(viaje)).where(cb.equal(viaje.get("destino").get("id"), root.get("id")));
+        });
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<Map<String, Object>> findCampos(Set<String> campos, String pais, Pageable pageable) {
+        return PROYECCION.buscar(em, campos,
+            pais == null ? null : (root, cb) -> cb.like(cb.lower(root.get("pais")), "%" + pais.toLowerCase() + "%"),
+            pageable);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findCamposById(Long id, Set<String> campos) {
+        return PROYECCION.buscarPorId(em, campos, id);
+    }
+}
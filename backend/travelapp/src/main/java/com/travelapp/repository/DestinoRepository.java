@@ -1,17 +1,41 @@
 package com.travelapp.repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.travelapp.model.Destino;
 
 @Repository
-public interface DestinoRepository extends JpaRepository<Destino, Long> {
+public interface DestinoRepository extends JpaRepository<Destino, Long>, DestinoProyeccionRepository {
+
+    // Claves de sort de los listados de destinos y el índice que sirve cada una (changeSet 8)
+    Map<String, String> ORDENES = Map.of(
+        "id", "destino_pkey",
+        "nombre", "idx_destino_nombre",
+        "pais", "idx_destino_pais");
+
     // Buscar por país
     Page<Destino> findByPaisContainingIgnoreCase(String pais, Pageable pageable);
 
     // Verificar existencia por nombre (para evitar duplicados)
     boolean existsByNombreIgnoreCase(String nombre);
+
+    // Destino por nombre (mismo criterio que existsByNombreIgnoreCase), para el upsert de la importación CSV
+    Optional<Destino> findFirstByNombreIgnoreCase(String nombre);
+
+    // IDs de destinos por país (mismo criterio que findByPaisContainingIgnoreCase)
+    @Query("SELECT d.id FROM Destino d WHERE LOWER(d.pais) LIKE LOWER(CONCAT('%', :pais, '%'))")
+    List<Long> findIdsByPais(@Param("pais") String pais);
+
+    // id, nombre y país de todos los destinos, para los índices en memoria
+    @Query("SELECT d.id, d.nombre, d.pais FROM Destino d")
+    List<Object[]> findIdNombrePais();
 }
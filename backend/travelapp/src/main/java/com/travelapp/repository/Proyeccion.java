@@ -0,0 +1,116 @@
+package com.travelapp.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+// Campos proyectables de una entidad (nombre en la API -> expresión JPA) y consultas que
+// seleccionan solo los campos pedidos. Una ruta que necesita un join lo crea al construirse,
+// así que el join solo aparece en el SQL si se pide ese campo. El id se incluye siempre.
+final class Proyeccion<E> {
+
+    @FunctionalInterface
+    interface Ruta<E> {
+        Expression<?> de(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder cb);
+    }
+
+    @FunctionalInterface
+    interface Filtro<E> {
+        Predicate de(Root<E> root, CriteriaBuilder cb);
+    }
+
+    private final Class<E> entidad;
+    private final Map<String, Ruta<E>> rutas = new LinkedHashMap<>();
+
+    Proyeccion(Class<E> entidad) {
+        this.entidad = entidad;
+        rutas.put("id", (root, query, cb) -> root.get("id"));
+    }
+
+    Proyeccion<E> campo(String nombre, Ruta<E> ruta) {
+        rutas.put(nombre, ruta);
+        return this;
+    }
+
+    Set<String> campos() {
+        return rutas.keySet();
+    }
+
+    Page<Map<String, Object>> buscar(EntityManager em, Set<String> campos, Filtro<E> filtro, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entidad);
+        List<String> nombres = seleccionar(campos, root, query, cb);
+
+        if (filtro != null) query.where(filtro.de(root, cb));
+        if (pageable.getSort().isSorted()) query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typed = em.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> filas = typed.getResultList().stream().map(tupla -> fila(nombres, tupla)).toList();
+        return PageableExecutionUtils.getPage(filas, pageable, () -> contar(em, filtro));
+    }
+
+    Optional<Map<String, Object>> buscarPorId(EntityManager em, Set<String> campos, Object id) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entidad);
+        List<String> nombres = seleccionar(campos, root, query, cb);
+        query.where(cb.equal(root.get("id"), id));
+
+        return em.createQuery(query).getResultList().stream().findFirst().map(tupla -> fila(nombres, tupla));
+    }
+
+    // Campos en el orden del catálogo, con el id siempre primero
+    private List<String> seleccionar(Set<String> campos, Root<E> root, CriteriaQuery<Tuple> query, CriteriaBuilder cb) {
+        List<String> nombres = new ArrayList<>();
+        List<Selection<?>> selecciones = new ArrayList<>();
+        rutas.forEach((nombre, ruta) -> {
+            if (nombre.equals("id") || campos.contains(nombre)) {
+                nombres.add(nombre);
+                selecciones.add(ruta.de(root, query, cb).alias(nombre));
+            }
+        });
+        query.multiselect(selecciones);
+        return nombres;
+    }
+
+    private long contar(EntityManager em, Filtro<E> filtro) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(entidad);
+        query.select(cb.count(root));
+        if (filtro != null) query.where(filtro.de(root, cb));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> fila(List<String> nombres, Tuple tupla) {
+        Map<String, Object> fila = new LinkedHashMap<>();
+        for (String nombre : nombres) {
+            fila.put(nombre, tupla.get(nombre));
+        }
+        return fila;
+    }
+}
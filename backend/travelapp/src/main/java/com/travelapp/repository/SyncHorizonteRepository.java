@@ -0,0 +1,10 @@
+package com.travelapp.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.travelapp.model.SyncHorizonte;
+
+@Repository
+public interface SyncHorizonteRepository extends JpaRepository<SyncHorizonte, Long> {
+}
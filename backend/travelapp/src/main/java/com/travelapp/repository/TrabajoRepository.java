@@ -0,0 +1,76 @@
+package com.travelapp.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelapp.model.EstadoTrabajo;
+import com.travelapp.model.Trabajo;
+
+// Las actualizaciones son condicionales sobre el estado para que cancelar y ejecutar no se pisen.
+// Se llaman desde los hilos de trabajos, fuera de cualquier transacción: cada una lleva la suya.
+@Repository
+public interface TrabajoRepository extends JpaRepository<Trabajo, String> {
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.estado = com.travelapp.model.EstadoTrabajo.EN_CURSO, t.iniciado = :ahora, t.actualizado = :ahora "
+        + "WHERE t.id = :id AND t.estado = com.travelapp.model.EstadoTrabajo.PENDIENTE")
+    int iniciar(@Param("id") String id, @Param("ahora") Instant ahora);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.procesados = :procesados, t.total = :total, t.resultado = :resultado, t.actualizado = :ahora "
+        + "WHERE t.id = :id")
+    int guardarProgreso(@Param("id") String id, @Param("procesados") long procesados, @Param("total") Long total,
+        @Param("resultado") String resultado, @Param("ahora") Instant ahora);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.estado = :estado, t.procesados = :procesados, t.total = :total, t.resultado = :resultado, "
+        + "t.archivoResultado = :archivo, t.mensaje = :mensaje, t.terminado = :ahora, t.actualizado = :ahora "
+        + "WHERE t.id = :id AND t.estado = com.travelapp.model.EstadoTrabajo.EN_CURSO")
+    int terminar(@Param("id") String id, @Param("estado") EstadoTrabajo estado, @Param("procesados") long procesados,
+        @Param("total") Long total, @Param("resultado") String resultado, @Param("archivo") String archivo,
+        @Param("mensaje") String mensaje, @Param("ahora") Instant ahora);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.estado = com.travelapp.model.EstadoTrabajo.CANCELADO, t.terminado = :ahora, t.actualizado = :ahora "
+        + "WHERE t.id = :id AND t.estado = com.travelapp.model.EstadoTrabajo.PENDIENTE")
+    int cancelarPendiente(@Param("id") String id, @Param("ahora") Instant ahora);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.cancelacionSolicitada = true "
+        + "WHERE t.id = :id AND t.estado = com.travelapp.model.EstadoTrabajo.EN_CURSO")
+    int solicitarCancelacion(@Param("id") String id);
+
+    @Query("SELECT t.cancelacionSolicitada FROM Trabajo t WHERE t.id = :id")
+    boolean isCancelacionSolicitada(@Param("id") String id);
+
+    // Latido de los trabajos que tiene este nodo (en cola o en curso)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.actualizado = :ahora WHERE t.id IN :ids")
+    int latido(@Param("ids") Collection<String> ids, @Param("ahora") Instant ahora);
+
+    // Trabajos sin latido: su nodo se detuvo antes de terminarlos
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trabajo t SET t.estado = com.travelapp.model.EstadoTrabajo.FALLIDO, t.mensaje = :mensaje, "
+        + "t.terminado = :ahora, t.actualizado = :ahora "
+        + "WHERE t.estado IN (com.travelapp.model.EstadoTrabajo.PENDIENTE, com.travelapp.model.EstadoTrabajo.EN_CURSO) "
+        + "AND t.actualizado < :antesDe")
+    int abandonar(@Param("antesDe") Instant antesDe, @Param("mensaje") String mensaje, @Param("ahora") Instant ahora);
+
+    // Trabajos terminados antes de la fecha, para borrarlos junto con su archivo
+    List<Trabajo> findByTerminadoBefore(Instant antesDe);
+}
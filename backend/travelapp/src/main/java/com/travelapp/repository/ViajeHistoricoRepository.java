@@ -0,0 +1,41 @@
+package com.travelapp.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.travelapp.model.ViajeHistorico;
+
+@Repository
+public interface ViajeHistoricoRepository extends JpaRepository<ViajeHistorico, Long> {
+
+    // Claves de sort del listado de archivados y el índice que sirve cada una (changeSet 7)
+    Map<String, String> ORDENES = Map.of(
+        "id", "viaje_historico_pkey",
+        "fechaInicio", "idx_viaje_historico_fecha_inicio");
+
+    // Copia los viajes indicados con el nombre y país actuales de su destino
+    @Modifying
+    @Query(value = "INSERT INTO viaje_historico (id, fecha_inicio, fecha_fin, precio, destino_id, destino_nombre, "
+        + "destino_pais, archivado) "
+        + "SELECT v.id, v.fecha_inicio, v.fecha_fin, v.precio, d.id, d.nombre, d.pais, :archivado "
+        + "FROM viaje v JOIN destino d ON d.id = v.destino_id WHERE v.id IN :ids", nativeQuery = true)
+    int copiarDesdeViaje(@Param("ids") Collection<Long> ids, @Param("archivado") Instant archivado);
+
+    // Viajes archivados, opcionalmente por destino, país y fecha de salida en [desde, hasta]
+    @Query("SELECT h FROM ViajeHistorico h WHERE (:destinoId IS NULL OR h.destinoId = :destinoId) "
+        + "AND (:pais IS NULL OR LOWER(h.destinoPais) LIKE LOWER(CONCAT('%', :pais, '%'))) "
+        + "AND (:desde IS NULL OR h.fechaInicio >= :desde) "
+        + "AND (:hasta IS NULL OR h.fechaInicio <= :hasta)")
+    Page<ViajeHistorico> buscar(@Param("destinoId") Long destinoId, @Param("pais") String pais,
+        @Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta, Pageable pageable);
+}
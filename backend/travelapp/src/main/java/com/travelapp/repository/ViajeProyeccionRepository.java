@@ -0,0 +1,18 @@
+package com.travelapp.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Consultas de viajes que seleccionan solo los campos pedidos (?fields=)
+public interface ViajeProyeccionRepository {
+
+    Set<String> CAMPOS = Set.of("id", "fechaInicio", "fechaFin", "precio", "destinoId", "destinoNombre");
+
+    Page<Map<String, Object>> findCampos(Set<String> campos, Long destinoId, Pageable pageable);
+
+    Optional<Map<String, Object>> findCamposById(Long id, Set<String> campos);
+}
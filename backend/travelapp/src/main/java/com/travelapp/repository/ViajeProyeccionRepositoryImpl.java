@@ -0,0 +1,40 @@
+package com.travelapp.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.travelapp.model.Viaje;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.JoinType;
+
+class ViajeProyeccionRepositoryImpl implements ViajeProyeccionRepository {
+
+    // destinoId sale de la clave foránea; solo destinoNombre necesita el join con destino
+    private static final Proyeccion<Viaje> PROYECCION = new Proyeccion<>(Viaje.class)
+        .campo("fechaInicio", (root, query, cb) -> root.get("fechaInicio"))
+        .campo("fechaFin", (root, query, cb) -> root.get("fechaFin"))
+        .campo("precio", (root, query, cb) -> root.get("precio"))
+        .campo("destinoId", (root, query, cb) -> root.get("destino").get("id"))
+        .campo("destinoNombre", (root, query, cb) -> root.join("destino", JoinType.LEFT).get("nombre"));
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<Map<String, Object>> findCampos(Set<String> campos, Long destinoId, Pageable pageable) {
+        return PROYECCION.buscar(em, campos,
+            destinoId == null ? null : (root, cb) -> cb.equal(root.get("destino").get("id"), destinoId),
+            pageable);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findCamposById(Long id, Set<String> campos) {
+        return PROYECCION.buscarPorId(em, campos, id);
+    }
+}
@@ -1,16 +1,140 @@
 package com.travelapp.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.travelapp.dto.ViajeResumen;
 import com.travelapp.model.Viaje;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ViajeRepository extends JpaRepository<Viaje, Long> {
+public interface ViajeRepository extends JpaRepository<Viaje, Long>, ViajeProyeccionRepository {
+
+    // Claves de sort de los listados de viajes y el índice que sirve cada una (changeSet 8).
+    // Con destinoId el orden por fechaInicio lo sirve idx_viaje_destino (destino_id, fecha_inicio)
+    Map<String, String> ORDENES = Map.of(
+        "id", "viaje_pkey",
+        "fechaInicio", "idx_viaje_fecha_inicio",
+        "fechaFin", "idx_viaje_fecha_fin",
+        "precio", "idx_viaje_precio");
     
     // Buscar viajes por ID de destino
     Page<Viaje> findByDestinoId(Long destinoId, Pageable pageable);
+
+    // IDs de viajes de un destino, sin cargar las entidades
+    @Query("SELECT v.id FROM Viaje v WHERE v.destino.id = :destinoId")
+    List<Long> findIdsByDestinoId(@Param("destinoId") Long destinoId);
+
+    // Número de viajes de un destino
+    long countByDestinoId(Long destinoId);
+
+    // Número de viajes por destino: filas [destinoId, cantidad]
+    @Query("SELECT v.destino.id, COUNT(v) FROM Viaje v WHERE v.destino.id IN :destinoIds GROUP BY v.destino.id")
+    List<Object[]> countByDestinoIds(@Param("destinoIds") Collection<Long> destinoIds);
+
+    // Viajes que salen a partir de una fecha, por destino: filas [destinoId, cantidad]
+    @Query("SELECT v.destino.id, COUNT(v) FROM Viaje v WHERE v.destino.id IN :destinoIds AND v.fechaInicio >= :desde "
+        + "GROUP BY v.destino.id")
+    List<Object[]> countProximosByDestinoIds(@Param("destinoIds") Collection<Long> destinoIds,
+        @Param("desde") LocalDate desde);
+
+    // IDs de viajes de varios destinos, ordenados por destino: filas [destinoId, viajeId]
+    @Query("SELECT v.destino.id, v.id FROM Viaje v WHERE v.destino.id IN :destinoIds ORDER BY v.destino.id, v.id")
+    Stream<Object[]> streamIdsByDestinoIds(@Param("destinoIds") Collection<Long> destinoIds);
+
+    // Todos los viajes como proyección, leídos en streaming para cargar índices en memoria
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "5000"))
+    @Query("SELECT new com.travelapp.dto.ViajeResumen(v.id, v.fechaInicio, v.fechaFin, v.precio, v.destino.id) FROM Viaje v")
+    Stream<ViajeResumen> streamResumenes();
+
+    // Viajes con su destino para la exportación CSV, por lotes en orden de id (keyset):
+    // filas [id, nombre, pais, fechaInicio, fechaFin, precio]
+    @Query("SELECT v.id, d.nombre, d.pais, v.fechaInicio, v.fechaFin, v.precio FROM Viaje v JOIN v.destino d "
+        + "WHERE v.id > :desde ORDER BY v.id")
+    List<Object[]> findExportacion(@Param("desde") long desde, Pageable pageable);
+
+    @Query("SELECT v.id, d.nombre, d.pais, v.fechaInicio, v.fechaFin, v.precio FROM Viaje v JOIN v.destino d "
+        + "WHERE v.id > :desde AND d.id IN :destinoIds ORDER BY v.id")
+    List<Object[]> findExportacionByDestinoIds(@Param("desde") long desde,
+        @Param("destinoIds") Collection<Long> destinoIds, Pageable pageable);
+
+    long countByDestinoIdIn(Collection<Long> destinoIds);
+
+    // Los primeros viajes (por fecha de salida) de cada destino, en una sola consulta con row_number()
+    @Query("SELECT new com.travelapp.dto.ViajeResumen(r.id, r.fechaInicio, r.fechaFin, r.precio, r.destinoId) FROM ("
+        + "SELECT v.id AS id, v.fechaInicio AS fechaInicio, v.fechaFin AS fechaFin, v.precio AS precio, "
+        + "v.destino.id AS destinoId, row_number() OVER (PARTITION BY v.destino.id ORDER BY v.fechaInicio, v.id) AS n "
+        + "FROM Viaje v WHERE v.destino.id IN :destinoIds) r "
+        + "WHERE r.n <= :limite ORDER BY r.destinoId, r.fechaInicio, r.id")
+    List<ViajeResumen> findPrimerosByDestinoIds(@Param("destinoIds") Collection<Long> destinoIds,
+        @Param("limite") long limite);
+
+    // Los viajes más baratos que salen a partir de una fecha, de cada destino, con row_number().
+    // idx_viaje_destino_precio (destino_id, precio) entrega cada destino ya ordenado por precio
+    @Query("SELECT new com.travelapp.dto.ViajeResumen(r.id, r.fechaInicio, r.fechaFin, r.precio, r.destinoId) FROM ("
+        + "SELECT v.id AS id, v.fechaInicio AS fechaInicio, v.fechaFin AS fechaFin, v.precio AS precio, "
+        + "v.destino.id AS destinoId, row_number() OVER (PARTITION BY v.destino.id ORDER BY v.precio, v.id) AS n "
+        + "FROM Viaje v WHERE v.destino.id IN :destinoIds AND v.fechaInicio >= :desde AND v.precio IS NOT NULL) r "
+        + "WHERE r.n <= :limite ORDER BY r.destinoId, r.precio, r.id")
+    List<ViajeResumen> findMasBaratosByDestinoIds(@Param("destinoIds") Collection<Long> destinoIds,
+        @Param("desde") LocalDate desde, @Param("limite") long limite);
+
+    // Lo mismo agrupando por el país del destino (valor exacto)
+    @Query("SELECT new com.travelapp.dto.ViajeResumen(r.id, r.fechaInicio, r.fechaFin, r.precio, r.destinoId) FROM ("
+        + "SELECT v.id AS id, v.fechaInicio AS fechaInicio, v.fechaFin AS fechaFin, v.precio AS precio, "
+        + "v.destino.id AS destinoId, row_number() OVER (PARTITION BY v.destino.pais ORDER BY v.precio, v.id) AS n "
+        + "FROM Viaje v WHERE v.destino.pais IN :paises AND v.fechaInicio >= :desde AND v.precio IS NOT NULL) r "
+        + "WHERE r.n <= :limite ORDER BY r.precio, r.id")
+    List<ViajeResumen> findMasBaratosByPaises(@Param("paises") Collection<String> paises,
+        @Param("desde") LocalDate desde, @Param("limite") long limite);
+
+    // Viajes con su destino en una sola consulta, para volver a publicar los cambios de otro nodo
+    @Query("SELECT v FROM Viaje v JOIN FETCH v.destino WHERE v.id IN :ids")
+    List<Viaje> findConDestinoByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Viajes terminados antes de una fecha, en orden de id, para archivarlos por lotes
+    @Query("SELECT v.id FROM Viaje v WHERE v.fechaFin < :fecha ORDER BY v.id")
+    List<Long> findIdsTerminadosAntesDe(@Param("fecha") LocalDate fecha, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Viaje v WHERE v.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Recorrido por lotes en orden de id (keyset), para los cambios masivos
+    List<Viaje> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    List<Viaje> findByIdGreaterThanAndDestinoIdInOrderByIdAsc(long id, Collection<Long> destinoIds, Pageable pageable);
+
+    // Salidas por día en [desde, hasta], opcionalmente por destino y país: filas [fechaInicio, cantidad]
+    @Query("SELECT v.fechaInicio, COUNT(v) FROM Viaje v WHERE v.fechaInicio BETWEEN :desde AND :hasta "
+        + "AND (:destinoId IS NULL OR v.destino.id = :destinoId) "
+        + "AND (:pais IS NULL OR LOWER(v.destino.pais) LIKE LOWER(CONCAT('%', :pais, '%'))) "
+        + "GROUP BY v.fechaInicio")
+    List<Object[]> countSalidasPorDia(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+        @Param("destinoId") Long destinoId, @Param("pais") String pais);
+
+    // Viajes contenidos en [desde, hasta], opcionalmente filtrados por país
+    @Query("SELECT v FROM Viaje v WHERE v.fechaInicio >= :desde AND v.fechaFin <= :hasta "
+        + "AND (:pais IS NULL OR LOWER(v.destino.pais) LIKE LOWER(CONCAT('%', :pais, '%')))")
+    Page<Viaje> findContenidosEn(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+        @Param("pais") String pais, Pageable pageable);
+
+    // Viajes que se solapan con [desde, hasta], opcionalmente filtrados por país
+    @Query("SELECT v FROM Viaje v WHERE v.fechaInicio <= :hasta AND v.fechaFin >= :desde "
+        + "AND (:pais IS NULL OR LOWER(v.destino.pais) LIKE LOWER(CONCAT('%', :pais, '%')))")
+    Page<Viaje> findSolapadosCon(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+        @Param("pais") String pais, Pageable pageable);
 }
@@ -0,0 +1,112 @@
+package com.travelapp.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.config.TrabajosProperties;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.TipoTrabajo;
+import com.travelapp.model.Viaje;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Subida o bajada porcentual de precios (parámetro porcentaje, p. ej. 10 o -5), opcionalmente solo de un
+// destino (destinoId) o país (pais). Recorre los viajes por id en lotes confirmados uno a uno: al cancelar,
+// los lotes ya confirmados quedan aplicados.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActualizacionPreciosTrabajo implements ManejadorTrabajo {
+
+    static final double PORCENTAJE_MAXIMO = 1000;
+    static final double PRECIO_MINIMO = 0.01;
+
+    private final ViajeRepository viajeRepository;
+    private final DestinoRepository destinoRepository;
+    private final ViajeMapper viajeMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TrabajosProperties properties;
+
+    @Override
+    public TipoTrabajo tipo() {
+        return TipoTrabajo.ACTUALIZAR_PRECIOS;
+    }
+
+    @Override
+    public void validar(Map<String, Object> parametros) {
+        Double porcentaje = ParametrosTrabajo.numero(parametros, "porcentaje");
+        if (porcentaje == null || porcentaje == 0 || porcentaje <= -100 || porcentaje > PORCENTAJE_MAXIMO) {
+            throw new ValidationException("El parámetro porcentaje es obligatorio, distinto de 0, mayor que -100 y como mucho "
+                + (int) PORCENTAJE_MAXIMO);
+        }
+        FiltroDestinos.validar(parametros);
+    }
+
+    @Override
+    public void ejecutar(ContextoTrabajo contexto) {
+        double factor = 1 + ParametrosTrabajo.numero(contexto.getParametros(), "porcentaje") / 100;
+        List<Long> destinos = FiltroDestinos.resolver(contexto.getParametros(), destinoRepository);
+        if (destinos != null && destinos.isEmpty()) {
+            contexto.setTotal(0);
+            contexto.setResultado(Map.of("viajesActualizados", 0));
+            return;
+        }
+
+        contexto.setTotal(destinos == null ? viajeRepository.count() : viajeRepository.countByDestinoIdIn(destinos));
+
+        long ultimoId = 0;
+        long actualizados = 0;
+        while (true) {
+            long desde = ultimoId;
+            Lote lote = transactionTemplate.execute(estado -> actualizarLote(desde, destinos, factor));
+            if (lote.cantidad() == 0) break;
+
+            ultimoId = lote.ultimoId();
+            actualizados += lote.cantidad();
+            contexto.avanzar(lote.cantidad());
+            contexto.setResultado(Map.of("viajesActualizados", actualizados));
+            contexto.puntoDeControl();
+        }
+
+        log.info("Precios de {} viajes actualizados con factor {}", actualizados, factor);
+    }
+
+    // Los cambios se escriben al confirmar (dirty checking); los eventos mantienen índices y sincronización al día
+    private Lote actualizarLote(long desde, List<Long> destinos, double factor) {
+        PageRequest pagina = PageRequest.of(0, properties.getTamanioLote());
+        List<Viaje> viajes = destinos == null
+            ? viajeRepository.findByIdGreaterThanOrderByIdAsc(desde, pagina)
+            : viajeRepository.findByIdGreaterThanAndDestinoIdInOrderByIdAsc(desde, destinos, pagina);
+
+        for (Viaje viaje : viajes) {
+            if (viaje.getPrecio() == null) continue;
+
+            viaje.setPrecio(nuevoPrecio(viaje.getPrecio(), factor));
+            eventPublisher.publishEvent(ViajeCambiadoEvent.actualizado(viajeMapper.toDto(viaje)));
+        }
+
+        return viajes.isEmpty() ? new Lote(desde, 0) : new Lote(viajes.get(viajes.size() - 1).getId(), viajes.size());
+    }
+
+    // Redondeado a céntimos y nunca por debajo del precio mínimo válido
+    static double nuevoPrecio(double precio, double factor) {
+        double nuevo = BigDecimal.valueOf(precio * factor).setScale(2, RoundingMode.HALF_UP).doubleValue();
+        return Math.max(nuevo, PRECIO_MINIMO);
+    }
+
+    private record Lote(long ultimoId, int cantidad) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.travelapp.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.travelapp.dto.ResultadoBusquedaDTO;
+import com.travelapp.exception.ServicioSaturadoException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.index.DestinoBusquedaIndex;
+import com.travelapp.index.DestinoBusquedaIndex.Coincidencia;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Búsqueda de destinos por nombre y país sobre el índice invertido en memoria.
+// Los viajes próximos de la página de resultados se cuentan con una sola consulta agrupada.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BusquedaService {
+
+    static final int MAX_LONGITUD_CONSULTA = 100;
+    static final int MAX_LIMITE = 50;
+
+    private final DestinoBusquedaIndex index;
+    private final ViajeRepository viajeRepository;
+    private final Clock clock;
+
+    public List<ResultadoBusquedaDTO> buscar(String consulta, int limite) {
+        log.debug("Búsqueda de destinos: '{}' (límite {})", consulta, limite);
+
+        if (consulta == null || consulta.isBlank()) {
+            log.warn("Búsqueda sin texto");
+            throw new ValidationException("El texto de búsqueda no puede estar vacío");
+        }
+        if (consulta.length() > MAX_LONGITUD_CONSULTA) {
+            log.warn("Texto de búsqueda demasiado largo: {} caracteres", consulta.length());
+            throw new ValidationException("El texto de búsqueda no puede superar " + MAX_LONGITUD_CONSULTA + " caracteres");
+        }
+        if (limite < 1 || limite > MAX_LIMITE) {
+            log.warn("Límite de búsqueda no válido: {}", limite);
+            throw new ValidationException("El límite debe estar entre 1 y " + MAX_LIMITE);
+        }
+
+        List<Coincidencia> coincidencias = index.buscar(consulta, limite)
+            .orElseThrow(() -> {
+                log.warn("Búsqueda solicitada con el índice aún cargando");
+                return new ServicioSaturadoException("La búsqueda se está cargando, inténtelo de nuevo en unos segundos");
+            });
+        if (coincidencias.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> proximos = new HashMap<>();
+        List<Long> ids = coincidencias.stream().map(Coincidencia::destinoId).toList();
+        for (Object[] fila : viajeRepository.countProximosByDestinoIds(ids, LocalDate.now(clock))) {
+            proximos.put((Long) fila[0], (Long) fila[1]);
+        }
+
+        return coincidencias.stream()
+            .map(coincidencia -> ResultadoBusquedaDTO.builder()
+                .id(coincidencia.destinoId())
+                .nombre(coincidencia.nombre())
+                .pais(coincidencia.pais())
+                .puntuacion(coincidencia.puntuacion())
+                .viajesProximos(proximos.getOrDefault(coincidencia.destinoId(), 0L))
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,264 @@
+package com.travelapp.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.travelapp.config.CambiosProperties;
+import com.travelapp.dto.CambioDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.ServicioSaturadoException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Feed SSE de cambios de viajes y destinos.
+// Los cambios confirmados se guardan en un buffer circular y se encolan sin bloquear en la cola
+// acotada de cada cliente; un pool de hilos propio los envía. Si la cola de un cliente se llena,
+// se le desconecta y al reconectar con Last-Event-ID retoma desde el buffer.
+// Los IDs de evento son <época>-<secuencia>: la secuencia es propia de cada nodo y empieza en 0 al arrancar,
+// así que un ID de otra réplica o de una ejecución anterior no se confunde con uno de esta y recibe reset.
+@Slf4j
+@Service
+public class CambioStreamService implements DisposableBean {
+
+    static final String EVENTO_RESET = "reset";
+
+    private static final CambioDTO HEARTBEAT = new CambioDTO();
+
+    private final CambiosProperties properties;
+
+    // Distinta en cada nodo y en cada arranque
+    private final String epoca = UUID.randomUUID().toString().replace("-", "");
+
+    // Buffer circular protegido por su propio monitor, junto con la secuencia
+    private final CambioDTO[] historial;
+    private long secuencia;
+
+    private final Set<Suscripcion> suscripciones = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService envio;
+    private final ScheduledExecutorService heartbeat;
+
+    public CambioStreamService(CambiosProperties properties) {
+        this.properties = properties;
+        this.historial = new CambioDTO[properties.getCapacidadHistorial()];
+        this.envio = Executors.newFixedThreadPool(properties.getHilosEnvio(), new CustomizableThreadFactory("cambios-sse-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("cambios-heartbeat-"));
+
+        long periodo = properties.getHeartbeat().toMillis();
+        this.heartbeat.scheduleAtFixedRate(this::enviarHeartbeat, periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        publicar("viaje", event.tipo(), event.id(), event.viaje());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        publicar("destino", event.tipo(), event.id(), event.destino());
+    }
+
+    // Registrar cliente, reenviando lo ocurrido desde ultimoId si sigue en el buffer
+    public SseEmitter suscribir(String ultimoId) {
+        if (suscripciones.size() >= properties.getMaxClientes()) {
+            log.warn("Límite de clientes SSE alcanzado: {}", properties.getMaxClientes());
+            throw new ServicioSaturadoException("Demasiados clientes conectados al feed de cambios");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Suscripcion suscripcion = new Suscripcion(emitter, properties.getCapacidadCliente());
+
+        emitter.onCompletion(() -> suscripciones.remove(suscripcion));
+        emitter.onTimeout(suscripcion::cerrar);
+        emitter.onError(error -> suscripcion.cerrar());
+
+        synchronized (historial) {
+            List<CambioDTO> pendientes = cambiosDesde(ultimoId);
+
+            if (pendientes == null || pendientes.size() >= properties.getCapacidadCliente()) {
+                log.debug("Cliente SSE con Last-Event-ID {} fuera del buffer de la época {}: reset", ultimoId, epoca);
+                // El cliente debe recargar los listados completos
+                suscripcion.cola.offer(CambioDTO.builder().secuencia(secuencia).entidad(EVENTO_RESET).build());
+            } else {
+                suscripcion.cola.addAll(pendientes);
+            }
+            suscripciones.add(suscripcion);
+        }
+        suscripcion.programar();
+
+        log.debug("Cliente SSE suscrito desde {} ({} clientes)", ultimoId, suscripciones.size());
+        return emitter;
+    }
+
+    void publicar(String entidad, TipoCambio tipo, Long id, Object datos) {
+        synchronized (historial) {
+            secuencia++;
+            CambioDTO cambio = CambioDTO.builder()
+                .secuencia(secuencia)
+                .entidad(entidad)
+                .tipo(tipo)
+                .id(id)
+                .datos(datos)
+                .build();
+            historial[(int) (secuencia % historial.length)] = cambio;
+
+            // offer() no bloquea: un cliente lento no frena al publicador
+            suscripciones.forEach(suscripcion -> suscripcion.encolar(cambio));
+        }
+    }
+
+    // Cambios posteriores a ultimoId; null si ya no están en el buffer o el ID es de otro nodo o de otra ejecución
+    List<CambioDTO> cambiosDesde(String ultimoId) {
+        if (ultimoId == null) {
+            return List.of();
+        }
+
+        int separador = ultimoId.lastIndexOf('-');
+        if (separador < 0 || !epoca.equals(ultimoId.substring(0, separador))) {
+            return null;
+        }
+        long ultimo;
+        try {
+            ultimo = Long.parseLong(ultimoId.substring(separador + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return cambiosDesde(ultimo);
+    }
+
+    private List<CambioDTO> cambiosDesde(long ultimoId) {
+        synchronized (historial) {
+            long masAntiguo = Math.max(1, secuencia - historial.length + 1);
+            if (ultimoId > secuencia || ultimoId < masAntiguo - 1) {
+                return null;
+            }
+
+            List<CambioDTO> cambios = new ArrayList<>((int) (secuencia - ultimoId));
+            for (long s = ultimoId + 1; s <= secuencia; s++) {
+                cambios.add(historial[(int) (s % historial.length)]);
+            }
+            return cambios;
+        }
+    }
+
+    String idEvento(long secuencia) {
+        return epoca + "-" + secuencia;
+    }
+
+    long secuenciaActual() {
+        synchronized (historial) {
+            return secuencia;
+        }
+    }
+
+    int clientesConectados() {
+        return suscripciones.size();
+    }
+
+    private void enviarHeartbeat() {
+        suscripciones.forEach(suscripcion -> suscripcion.encolar(HEARTBEAT));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        suscripciones.forEach(Suscripcion::cerrar);
+        envio.shutdownNow();
+    }
+
+    private final class Suscripcion {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<CambioDTO> cola;
+        private final AtomicBoolean programada = new AtomicBoolean();
+        private volatile boolean cerrada;
+
+        private Suscripcion(SseEmitter emitter, int capacidad) {
+            this.emitter = emitter;
+            this.cola = new ArrayBlockingQueue<>(capacidad);
+        }
+
+        private void encolar(CambioDTO cambio) {
+            if (cerrada) return;
+
+            if (!cola.offer(cambio)) {
+                if (cambio != HEARTBEAT) {
+                    log.warn("Cliente SSE desconectado por no consumir a tiempo ({} cambios pendientes)", cola.size());
+                    cerrar();
+                }
+                return;
+            }
+            programar();
+        }
+
+        private void programar() {
+            if (programada.compareAndSet(false, true)) {
+                try {
+                    envio.execute(this::drenar);
+                } catch (RuntimeException e) {
+                    programada.set(false);
+                    cerrar();
+                }
+            }
+        }
+
+        private void drenar() {
+            try {
+                CambioDTO cambio;
+                while (!cerrada && (cambio = cola.poll()) != null) {
+                    if (cambio == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (EVENTO_RESET.equals(cambio.getEntidad())) {
+                        emitter.send(SseEmitter.event()
+                            .id(idEvento(cambio.getSecuencia()))
+                            .name(EVENTO_RESET)
+                            .data(cambio.getSecuencia()));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                            .id(idEvento(cambio.getSecuencia()))
+                            .name(cambio.getEntidad())
+                            .data(cambio, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Cliente SSE desconectado: {}", e.getMessage());
+                cerrar();
+            } finally {
+                programada.set(false);
+            }
+
+            if (!cerrada && !cola.isEmpty()) {
+                programar();
+            }
+        }
+
+        private void cerrar() {
+            if (cerrada) return;
+            cerrada = true;
+            cola.clear();
+            suscripciones.remove(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.travelapp.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.travelapp.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Parámetro ?fields=a,b,c de los listados y búsquedas por ID
+@Slf4j
+final class CamposSolicitados {
+
+    private CamposSolicitados() {
+    }
+
+    static Set<String> validar(String fields, Set<String> permitidos) {
+        Set<String> campos = new LinkedHashSet<>();
+        for (String campo : fields.split(",")) {
+            String nombre = campo.trim();
+            if (nombre.isEmpty()) continue;
+
+            if (!permitidos.contains(nombre)) {
+                log.warn("Campo no soportado en fields: {}", nombre);
+                throw new ValidationException("Campo no soportado: " + nombre
+                    + ". Campos disponibles: " + String.join(", ", new TreeSet<>(permitidos)));
+            }
+            campos.add(nombre);
+        }
+        return campos;
+    }
+}
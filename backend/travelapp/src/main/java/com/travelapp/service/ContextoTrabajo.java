@@ -0,0 +1,136 @@
+package com.travelapp.service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import com.travelapp.exception.TrabajoCanceladoException;
+
+// Lo que ve un trabajo en ejecución: parámetros, progreso, resumen, archivo de resultado y cancelación.
+// Lo escribe solo el hilo del trabajo; cancelar() llega desde las peticiones.
+public class ContextoTrabajo {
+
+    // Guarda el progreso y devuelve si se pidió cancelar (también desde otro nodo)
+    interface Guardado {
+        boolean guardar(ContextoTrabajo contexto);
+    }
+
+    private final String id;
+    private final Map<String, Object> parametros;
+    private final Path directorio;
+    private final Path archivoResultado;
+    private final Duration pausaEntreLotes;
+    private final long intervaloProgresoNanos;
+    private final Guardado guardado;
+
+    private volatile long procesados;
+    private volatile Long total;
+    private volatile Map<String, Object> resultado;
+    private volatile boolean cancelado;
+    private volatile boolean conArchivo;
+    private long ultimoGuardado = System.nanoTime();
+
+    ContextoTrabajo(String id, Map<String, Object> parametros, Path directorio, String extensionResultado,
+            Duration pausaEntreLotes, Duration intervaloProgreso, Guardado guardado) {
+
+        this.id = id;
+        this.parametros = parametros;
+        this.directorio = directorio;
+        this.archivoResultado = directorio.resolve(id + "." + extensionResultado);
+        this.pausaEntreLotes = pausaEntreLotes;
+        this.intervaloProgresoNanos = intervaloProgreso.toNanos();
+        this.guardado = guardado;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Map<String, Object> getParametros() {
+        return parametros;
+    }
+
+    public long getProcesados() {
+        return procesados;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public Map<String, Object> getResultado() {
+        return resultado;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public void setProcesados(long procesados) {
+        this.procesados = procesados;
+    }
+
+    public void avanzar(long cantidad) {
+        procesados += cantidad;
+    }
+
+    // Resumen visible en GET /api/jobs/{id} mientras se ejecuta y al terminar
+    public void setResultado(Map<String, Object> resultado) {
+        this.resultado = resultado;
+    }
+
+    // Archivo que se podrá descargar con GET /api/jobs/{id}/resultado
+    public Path archivoResultado() {
+        conArchivo = true;
+        return archivoResultado;
+    }
+
+    // Archivo de trabajo por nombre, siempre dentro del directorio de trabajos
+    public Path archivo(String nombre) {
+        Path archivo = directorio.resolve(nombre).normalize();
+        if (!archivo.getParent().equals(directorio.normalize())) {
+            throw new IllegalArgumentException("Archivo fuera del directorio de trabajos: " + nombre);
+        }
+        return archivo;
+    }
+
+    // Entre lotes: guarda el progreso (como mucho cada intervaloProgreso), atiende la cancelación
+    // y cede recursos a la API con la pausa configurada
+    public void puntoDeControl() {
+        long ahora = System.nanoTime();
+        if (ahora - ultimoGuardado >= intervaloProgresoNanos) {
+            ultimoGuardado = ahora;
+            if (guardado.guardar(this)) {
+                cancelado = true;
+            }
+        }
+
+        if (cancelado) {
+            throw new TrabajoCanceladoException("Trabajo cancelado");
+        }
+
+        if (!pausaEntreLotes.isZero()) {
+            try {
+                Thread.sleep(pausaEntreLotes.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Trabajo interrumpido");
+            }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException("Trabajo interrumpido");
+        }
+    }
+
+    boolean isConArchivo() {
+        return conArchivo;
+    }
+
+    Path getArchivoResultado() {
+        return archivoResultado;
+    }
+
+    void cancelar() {
+        cancelado = true;
+    }
+}
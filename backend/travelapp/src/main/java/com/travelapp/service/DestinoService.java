@@ -1,17 +1,34 @@
 package com.travelapp.service;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.travelapp.cache.CacheNegativa;
+import com.travelapp.cache.CacheNegativa.Entidad;
+import com.travelapp.config.PaginacionProperties;
 import com.travelapp.dto.DestinoDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.ViajeCambiadoEvent;
 import com.travelapp.exception.DuplicateEntityException;
 import com.travelapp.exception.EntityNotFoundException;
 import com.travelapp.mapper.DestinoMapper;
 import com.travelapp.model.Destino;
+import com.travelapp.repository.DestinoProyeccionRepository;
 import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
 
 
 import lombok.RequiredArgsConstructor;
@@ -25,32 +42,72 @@ public class DestinoService {
 
     private final DestinoRepository destinoRepository;
     private final DestinoMapper destinoMapper;
+    private final ViajeRepository viajeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheNegativa cacheNegativa;
+    private final PaginacionProperties paginacionProperties;
 
     // Buscar todos los destinos con paginación
     @Transactional(readOnly = true)
-    public Page<DestinoDTO> findAll(Pageable pageable) {
+    public Page<DestinoDTO> findAll(Pageable pageable, boolean incluirViajes) {
         log.debug("Buscando todos los destinos con paginación: {}", pageable);
+        pageable = paginar(pageable);
 
         Page<Destino> destinos = destinoRepository.findAll(pageable);
 
-        log.info("Destinos encontrados: {}", destinos.getTotalElements());
-        return destinos.map(destinoMapper::toDto);
+        log.debug("Destinos encontrados: {}", destinos.getTotalElements());
+
+        Page<DestinoDTO> destinosDTO = destinos.map(destinoMapper::toDto);
+        completarViajes(destinosDTO.getContent(), incluirViajes);
+        return destinosDTO;
+    }
+
+    // Listar destinos (opcionalmente por país) con solo los campos pedidos, seleccionados en SQL
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findCampos(String fields, String pais, Pageable pageable) {
+        log.debug("Buscando destinos con campos {} (país: {}): {}", fields, pais, pageable);
+
+        Set<String> campos = CamposSolicitados.validar(fields, DestinoProyeccionRepository.CAMPOS);
+        String filtroPais = (pais != null && !pais.trim().isEmpty()) ? pais.trim() : null;
+        pageable = paginar(pageable);
+        return destinoRepository.findCampos(campos, filtroPais, pageable);
+    }
+
+    // Buscar por ID con solo los campos pedidos
+    @Transactional(readOnly = true)
+    public Map<String, Object> findCamposById(Long id, String fields) {
+        log.debug("Buscando destino por ID: {} con campos {}", id, fields);
+
+        Set<String> campos = CamposSolicitados.validar(fields, DestinoProyeccionRepository.CAMPOS);
+        comprobarNoInexistente(id);
+        return destinoRepository.findCamposById(id, campos)
+            .orElseThrow(() -> noEncontrado(id));
     }
 
     // Buscar por ID
     @Transactional(readOnly = true)
-    public DestinoDTO findById(Long id) {
+    public DestinoDTO findById(Long id, boolean incluirViajes) {
         log.debug("Buscando destino por ID: {}", id);
 
+        comprobarNoInexistente(id);
         Destino destino = destinoRepository.findById(id)
-            .orElseThrow(() -> {
-                log.warn("Destino no encontrado con ID: {}", id);
-                return new EntityNotFoundException("Destino no encontrado");
-            });
+            .orElseThrow(() -> noEncontrado(id));
         
-        log.info("Destino encontrado: {}", destino.getNombre());
+        log.debug("Destino encontrado: {}", destino.getNombre());
+
+        DestinoDTO destinoDTO = destinoMapper.toDto(destino);
+        completarViajes(List.of(destinoDTO), incluirViajes);
+        return destinoDTO;
+    }
 
-        return destinoMapper.toDto(destino);
+    // Varios destinos por ID con su número de viajes; los inexistentes se omiten
+    @Transactional(readOnly = true)
+    public List<DestinoDTO> findAllById(Collection<Long> ids) {
+        log.debug("Buscando {} destinos por ID", ids.size());
+
+        List<DestinoDTO> destinos = destinoMapper.toDtoList(destinoRepository.findAllById(ids));
+        completarViajes(destinos, false);
+        return destinos;
     }
 
     // Crear nuevo destino
@@ -68,7 +125,11 @@ public class DestinoService {
 
         log.info("Destino creado con ID: {}", savedDestino.getId());
 
-        return destinoMapper.toDto(savedDestino);
+        DestinoDTO destinoCreado = destinoMapper.toDto(savedDestino);
+        destinoCreado.setViajeCount(0L);
+        eventPublisher.publishEvent(DestinoCambiadoEvent.creado(destinoCreado));
+
+        return destinoCreado;
     }
 
     // Actualizar destino existente
@@ -95,7 +156,11 @@ public class DestinoService {
 
         log.info("Destino actualizado con ID: {}", destinoActualizado.getId());
 
-        return destinoMapper.toDto(destinoActualizado);
+        DestinoDTO destinoActualizadoDTO = destinoMapper.toDto(destinoActualizado);
+        destinoActualizadoDTO.setViajeCount(viajeRepository.countByDestinoId(id));
+        eventPublisher.publishEvent(DestinoCambiadoEvent.actualizado(destinoActualizadoDTO));
+
+        return destinoActualizadoDTO;
     }
 
     // Eliminar destino por ID
@@ -107,20 +172,93 @@ public class DestinoService {
             throw new EntityNotFoundException("Destino no encontrado");
         }
 
+        // Los viajes del destino se eliminan en cascada; se notifican antes de perder sus IDs
+        List<Long> viajeIds = viajeRepository.findIdsByDestinoId(id);
+
         destinoRepository.deleteById(id);
 
+        viajeIds.forEach(viajeId -> eventPublisher.publishEvent(ViajeCambiadoEvent.eliminado(viajeId)));
+        eventPublisher.publishEvent(DestinoCambiadoEvent.eliminado(id));
+
         log.info("Destino eliminado con ID: {}", id);
     }
 
     // Buscar destinos por país con paginación
     @Transactional(readOnly = true)
-    public Page<DestinoDTO> findByPais(String pais, Pageable pageable) {
+    public Page<DestinoDTO> findByPais(String pais, Pageable pageable, boolean incluirViajes) {
         log.debug("Buscando destinos por país: {} con paginación: {}", pais, pageable);
+        pageable = paginar(pageable);
 
         Page<Destino> destinos = destinoRepository.findByPaisContainingIgnoreCase(pais, pageable);
 
-        log.info("Destinos encontrados para país '{}': {}", pais, destinos.getTotalElements());
-        
-        return destinos.map(destinoMapper::toDto);
+        log.debug("Destinos encontrados para país '{}': {}", pais, destinos.getTotalElements());
+
+        Page<DestinoDTO> destinosDTO = destinos.map(destinoMapper::toDto);
+        completarViajes(destinosDTO.getContent(), incluirViajes);
+        return destinosDTO;
+    }
+
+    private Pageable paginar(Pageable pageable) {
+        return PaginaSolicitada.validar(pageable, DestinoRepository.ORDENES, paginacionProperties.getTamanioMaximo());
+    }
+
+    // Completar viajeCount con una consulta agrupada y, si se pide, viajeIds en arrays long[]
+    // dimensionados con ese conteo, sin cargar la colección de viajes de cada destino
+    private void completarViajes(List<DestinoDTO> destinos, boolean incluirViajes) {
+        if (destinos.isEmpty()) return;
+
+        Map<Long, DestinoDTO> porId = new HashMap<>();
+        destinos.forEach(destino -> {
+            destino.setViajeCount(0L);
+            porId.put(destino.getId(), destino);
+        });
+
+        for (Object[] fila : viajeRepository.countByDestinoIds(porId.keySet())) {
+            porId.get((Long) fila[0]).setViajeCount((Long) fila[1]);
+        }
+
+        if (!incluirViajes) return;
+
+        // Filas ordenadas por destino: se llena un array por destino, dimensionado con su conteo
+        try (Stream<Object[]> filas = viajeRepository.streamIdsByDestinoIds(porId.keySet())) {
+            Iterator<Object[]> iterador = filas.iterator();
+            DestinoDTO actual = null;
+            long[] ids = null;
+            int n = 0;
+
+            while (iterador.hasNext()) {
+                Object[] fila = iterador.next();
+                DestinoDTO destino = porId.get((Long) fila[0]);
+                if (destino != actual) {
+                    if (actual != null) actual.setViajeIds(Arrays.copyOf(ids, n));
+                    actual = destino;
+                    ids = new long[destino.getViajeCount().intValue()];
+                    n = 0;
+                }
+                // Puede haber altas entre el conteo y la lectura de IDs
+                if (n == ids.length) ids = Arrays.copyOf(ids, Math.max(8, n << 1));
+                ids[n++] = (Long) fila[1];
+            }
+            if (actual != null) actual.setViajeIds(Arrays.copyOf(ids, n));
+        }
+
+        destinos.forEach(destino -> {
+            if (destino.getViajeIds() == null) destino.setViajeIds(new long[0]);
+            destino.setViajeCount((long) destino.getViajeIds().length);
+        });
+    }
+
+    // Un ID que acaba de no existir responde 404 sin consultar la base de datos durante el TTL de la caché negativa
+    private void comprobarNoInexistente(Long id) {
+        if (cacheNegativa.contiene(Entidad.DESTINO, id)) {
+            log.debug("Destino no encontrado con ID: {} (caché negativa)", id);
+            throw new EntityNotFoundException("Destino no encontrado");
+        }
+    }
+
+    private EntityNotFoundException noEncontrado(Long id) {
+        log.warn("Destino no encontrado con ID: {}", id);
+        cacheNegativa.registrar(Entidad.DESTINO, id);
+        return new EntityNotFoundException("Destino no encontrado");
     }
 }
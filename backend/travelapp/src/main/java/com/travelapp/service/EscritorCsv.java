@@ -0,0 +1,32 @@
+package com.travelapp.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+// Escritura de filas CSV con el formato que acepta LectorCsv: separador ',' y comillas solo cuando hacen falta
+final class EscritorCsv {
+
+    private EscritorCsv() {
+    }
+
+    static void fila(Writer salida, Object... campos) throws IOException {
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) salida.write(',');
+            salida.write(campo(campos[i]));
+        }
+        salida.write('\n');
+    }
+
+    private static String campo(Object valor) {
+        if (valor == null) return "";
+
+        // Sin notación científica en los precios
+        String texto = valor instanceof Double numero ? BigDecimal.valueOf(numero).toPlainString() : valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0
+                && texto.equals(texto.trim())) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,109 @@
+package com.travelapp.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.travelapp.dto.EstadisticaDTO;
+import com.travelapp.dto.TramoPrecioDTO;
+import com.travelapp.exception.ServicioSaturadoException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.index.ViajeColumnarSnapshot;
+import com.travelapp.index.ViajeColumnarSnapshot.Agrupacion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Estadísticas de viajes calculadas sobre el snapshot columnar en memoria, sin consultar la base de datos
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EstadisticaService {
+
+    static final int MAX_TRAMOS = 100;
+
+    private final ViajeColumnarSnapshot snapshot;
+
+    // Ingresos, precios y duración media por país, destino o en total, ordenados por ingresos
+    public List<EstadisticaDTO> agregar(String por, LocalDate desde, LocalDate hasta) {
+        log.debug("Estadísticas por {} entre {} y {}", por, desde, hasta);
+
+        Agrupacion agrupacion = validarAgrupacion(por);
+        validarRango(desde, hasta);
+
+        List<ViajeColumnarSnapshot.Agregado> agregados = snapshot.agregar(dia(desde, Integer.MIN_VALUE),
+                dia(hasta, Integer.MAX_VALUE), agrupacion)
+            .orElseThrow(EstadisticaService::cargando);
+
+        List<EstadisticaDTO> resultado = new ArrayList<>(agregados.size());
+        for (ViajeColumnarSnapshot.Agregado agregado : agregados) {
+            resultado.add(EstadisticaDTO.builder()
+                .grupo(agregado.grupo())
+                .destinoId(agrupacion == Agrupacion.DESTINO ? agregado.destinoId() : null)
+                .viajes(agregado.viajes())
+                .ingresos(agregado.ingresos())
+                .precioMedio(agregado.ingresos() / agregado.viajes())
+                .precioMinimo(agregado.precioMinimo())
+                .precioMaximo(agregado.precioMaximo())
+                .duracionMedia((double) agregado.dias() / agregado.viajes())
+                .build());
+        }
+        resultado.sort(Comparator.comparingDouble(EstadisticaDTO::getIngresos).reversed());
+        return resultado;
+    }
+
+    // Número de viajes por tramo de precio de ancho fijo; el último tramo no tiene límite superior
+    public List<TramoPrecioDTO> distribucionPrecios(double ancho, int tramos, LocalDate desde, LocalDate hasta) {
+        log.debug("Distribución de precios en {} tramos de {} entre {} y {}", tramos, ancho, desde, hasta);
+
+        if (ancho <= 0) {
+            log.warn("Ancho de tramo no válido: {}", ancho);
+            throw new ValidationException("El ancho de tramo debe ser mayor que 0");
+        }
+        if (tramos < 1 || tramos > MAX_TRAMOS) {
+            log.warn("Número de tramos no válido: {}", tramos);
+            throw new ValidationException("El número de tramos debe estar entre 1 y " + MAX_TRAMOS);
+        }
+        validarRango(desde, hasta);
+
+        long[] conteos = snapshot.histogramaPrecios(dia(desde, Integer.MIN_VALUE), dia(hasta, Integer.MAX_VALUE),
+                ancho, tramos)
+            .orElseThrow(EstadisticaService::cargando);
+
+        List<TramoPrecioDTO> resultado = new ArrayList<>(tramos);
+        for (int i = 0; i < tramos; i++) {
+            Double limite = i < tramos - 1 ? (i + 1) * ancho : null;
+            resultado.add(new TramoPrecioDTO(i * ancho, limite, conteos[i]));
+        }
+        return resultado;
+    }
+
+    private static Agrupacion validarAgrupacion(String por) {
+        if (por == null) return Agrupacion.PAIS;
+
+        for (Agrupacion agrupacion : Agrupacion.values()) {
+            if (agrupacion.name().equalsIgnoreCase(por)) return agrupacion;
+        }
+        log.warn("Agrupación de estadísticas no válida: {}", por);
+        throw new ValidationException("La agrupación debe ser 'pais', 'destino' o 'total'");
+    }
+
+    private static void validarRango(LocalDate desde, LocalDate hasta) {
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            log.warn("La fecha desde no puede ser posterior a la fecha hasta");
+            throw new ValidationException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+    }
+
+    private static int dia(LocalDate fecha, int porDefecto) {
+        return fecha != null ? (int) fecha.toEpochDay() : porDefecto;
+    }
+
+    private static ServicioSaturadoException cargando() {
+        log.warn("Estadísticas solicitadas antes de terminar la carga del snapshot");
+        return new ServicioSaturadoException("Las estadísticas se están cargando, inténtelo de nuevo en unos segundos");
+    }
+}
@@ -0,0 +1,95 @@
+package com.travelapp.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.model.TipoTrabajo;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Exportación de viajes a CSV (mismas columnas que la importación) leyendo por lotes en orden de id (keyset),
+// cada uno en una transacción corta de solo lectura. Parámetros opcionales: destinoId o pais.
+@Slf4j
+@Component
+public class ExportacionViajesTrabajo implements ManejadorTrabajo {
+
+    static final int FILAS_POR_LOTE = 1000;
+
+    private final ViajeRepository viajeRepository;
+    private final DestinoRepository destinoRepository;
+    private final TransactionTemplate lectura;
+
+    public ExportacionViajesTrabajo(ViajeRepository viajeRepository, DestinoRepository destinoRepository,
+            PlatformTransactionManager transactionManager) {
+
+        this.viajeRepository = viajeRepository;
+        this.destinoRepository = destinoRepository;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+    }
+
+    @Override
+    public TipoTrabajo tipo() {
+        return TipoTrabajo.EXPORTAR_VIAJES;
+    }
+
+    @Override
+    public void validar(Map<String, Object> parametros) {
+        FiltroDestinos.validar(parametros);
+    }
+
+    @Override
+    public void ejecutar(ContextoTrabajo contexto) {
+        List<Long> destinos = FiltroDestinos.resolver(contexto.getParametros(), destinoRepository);
+        contexto.setTotal(destinos == null ? viajeRepository.count()
+            : destinos.isEmpty() ? 0 : viajeRepository.countByDestinoIdIn(destinos));
+
+        try (BufferedWriter salida = Files.newBufferedWriter(contexto.archivoResultado(), StandardCharsets.UTF_8)) {
+            EscritorCsv.fila(salida, "nombre", "pais", "fechaInicio", "fechaFin", "precio");
+
+            long escritas = 0;
+            long ultimoId = 0;
+            while (destinos == null || !destinos.isEmpty()) {
+                long desde = ultimoId;
+                List<Object[]> filas = lectura.execute(estado -> leerLote(desde, destinos));
+                if (filas.isEmpty()) break;
+
+                // Sin la columna id
+                for (Object[] fila : filas) {
+                    EscritorCsv.fila(salida, Arrays.copyOfRange(fila, 1, fila.length));
+                }
+                ultimoId = (Long) filas.get(filas.size() - 1)[0];
+                escritas += filas.size();
+
+                // Fuera de la transacción de lectura: el progreso se escribe en la suya y la pausa no retiene conexión
+                contexto.setProcesados(escritas);
+                contexto.puntoDeControl();
+            }
+
+            contexto.setProcesados(escritas);
+            contexto.setResultado(Map.of("viajes", escritas));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la exportación", e);
+        }
+    }
+
+    private List<Object[]> leerLote(long desde, List<Long> destinos) {
+        PageRequest pagina = PageRequest.of(0, FILAS_POR_LOTE);
+        return destinos == null
+            ? viajeRepository.findExportacion(desde, pagina)
+            : viajeRepository.findExportacionByDestinoIds(desde, destinos, pagina);
+    }
+}
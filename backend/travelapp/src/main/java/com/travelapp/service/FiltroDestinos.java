@@ -0,0 +1,32 @@
+package com.travelapp.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.travelapp.exception.ValidationException;
+import com.travelapp.repository.DestinoRepository;
+
+// Parámetros destinoId o pais (no ambos) de los trabajos sobre viajes, con la misma semántica que los filtros de la API
+final class FiltroDestinos {
+
+    private FiltroDestinos() {
+    }
+
+    static void validar(Map<String, Object> parametros) {
+        Long destinoId = ParametrosTrabajo.entero(parametros, "destinoId");
+        String pais = ParametrosTrabajo.texto(parametros, "pais");
+        if (destinoId != null && pais != null) {
+            throw new ValidationException("Indicar destinoId o pais, no ambos");
+        }
+    }
+
+    // IDs de los destinos afectados; null = todos
+    static List<Long> resolver(Map<String, Object> parametros, DestinoRepository destinoRepository) {
+        Long destinoId = ParametrosTrabajo.entero(parametros, "destinoId");
+        if (destinoId != null) {
+            return List.of(destinoId);
+        }
+        String pais = ParametrosTrabajo.texto(parametros, "pais");
+        return pais != null ? destinoRepository.findIdsByPais(pais) : null;
+    }
+}
@@ -0,0 +1,412 @@
+package com.travelapp.service;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.travelapp.config.ImportacionProperties;
+import com.travelapp.config.TrabajosProperties;
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.dto.ErrorFilaDTO;
+import com.travelapp.dto.TrabajoDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.Destino;
+import com.travelapp.model.TipoTrabajo;
+import com.travelapp.model.Viaje;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Importación de catálogos CSV: una fila por viaje con su destino (nombre, pais) y, opcionalmente,
+// fechaInicio, fechaFin y precio; sin datos de viaje la fila solo da de alta o actualiza el destino.
+// El archivo se guarda en el directorio de trabajos y se procesa como trabajo IMPORTAR_CSV leyendo
+// registro a registro; cada lote se confirma en su propia transacción y, si falla, sus filas se reintentan una a una
+// para descartar solo las que fallan.
+// Los destinos se resuelven por nombre (sin distinguir mayúsculas) con una caché por importación.
+// El resultado descargable es el CSV con todos los errores por fila.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportacionService implements ManejadorTrabajo {
+
+    static final Set<String> COLUMNAS_OBLIGATORIAS = Set.of("nombre", "pais");
+    static final Set<String> COLUMNAS_VIAJE = Set.of("fechaInicio", "fechaFin", "precio");
+
+    private final DestinoRepository destinoRepository;
+    private final ViajeRepository viajeRepository;
+    private final DestinoMapper destinoMapper;
+    private final ViajeMapper viajeMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TrabajoService trabajoService;
+    private final TrabajosProperties trabajosProperties;
+    private final ImportacionProperties properties;
+
+    @Override
+    public TipoTrabajo tipo() {
+        return TipoTrabajo.IMPORTAR_CSV;
+    }
+
+    // Solo con POST /api/importaciones, que recibe el archivo
+    @Override
+    public boolean solicitablePorApi() {
+        return false;
+    }
+
+    // Guardar el archivo, comprobar la cabecera y encolar el trabajo de importación
+    public TrabajoDTO iniciar(MultipartFile archivo) {
+        if (archivo == null || archivo.isEmpty()) {
+            log.warn("Importación sin archivo o con archivo vacío");
+            throw new ValidationException("El archivo CSV está vacío");
+        }
+
+        Path entrada = trabajoService.nuevoArchivoEntrada("importacion-", ".csv");
+        try {
+            archivo.transferTo(entrada);
+
+            try (InputStream contenido = Files.newInputStream(entrada)) {
+                columnas(new LectorCsv(new InputStreamReader(contenido, StandardCharsets.UTF_8)));
+            }
+
+            Map<String, Object> parametros = new LinkedHashMap<>();
+            parametros.put("archivo", archivo.getOriginalFilename() != null ? archivo.getOriginalFilename() : "importacion.csv");
+            parametros.put("entrada", entrada.getFileName().toString());
+
+            TrabajoDTO trabajo = trabajoService.encolar(TipoTrabajo.IMPORTAR_CSV, parametros);
+            log.info("Importación {} encolada: {} ({} bytes)", trabajo.getId(), parametros.get("archivo"), archivo.getSize());
+            return trabajo;
+        } catch (IOException e) {
+            borrar(entrada);
+            throw new UncheckedIOException("No se pudo guardar el archivo de la importación", e);
+        } catch (RuntimeException e) {
+            borrar(entrada);
+            throw e;
+        }
+    }
+
+    @Override
+    public void ejecutar(ContextoTrabajo contexto) throws IOException {
+        Path entrada = contexto.archivo(ParametrosTrabajo.texto(contexto.getParametros(), "entrada"));
+        try {
+            contexto.setTotal(Files.size(entrada));
+            try (InputStream contenido = new ContadorBytes(new BufferedInputStream(Files.newInputStream(entrada)), contexto)) {
+                procesar(contexto, contenido);
+            }
+        } finally {
+            borrar(entrada);
+        }
+    }
+
+    // Lee el CSV registro a registro; solo el lote actual está en memoria. Progreso en bytes leídos.
+    void procesar(ContextoTrabajo contexto, InputStream entrada) throws IOException {
+        LectorCsv lector = new LectorCsv(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        Map<String, Integer> columnas = columnas(lector);
+
+        Map<String, DestinoCacheado> destinos = new HashMap<>();
+        List<FilaImportacion> lote = new ArrayList<>(trabajosProperties.getTamanioLote());
+        Resumen resumen = new Resumen(properties.getMaxErrores());
+
+        try (Writer errores = Files.newBufferedWriter(contexto.archivoResultado(), StandardCharsets.UTF_8)) {
+            EscritorCsv.fila(errores, "fila", "mensaje");
+
+            String[] campos;
+            while ((campos = lector.siguiente()) != null) {
+                try {
+                    lote.add(validar(lector.getFila(), campos, columnas));
+                } catch (ValidationException e) {
+                    resumen.error(errores, lector.getFila(), e.getMessage());
+                }
+                resumen.filasLeidas++;
+
+                if (lote.size() == trabajosProperties.getTamanioLote()) {
+                    guardarLote(contexto, lote, destinos, resumen, errores);
+                    lote.clear();
+                    contexto.setResultado(resumen.toMap());
+                    contexto.puntoDeControl();
+                }
+            }
+
+            if (!lote.isEmpty()) {
+                guardarLote(contexto, lote, destinos, resumen, errores);
+            }
+        }
+
+        contexto.setResultado(resumen.toMap());
+        log.info("Importación {}: {}", contexto.getId(), resumen.toMap());
+    }
+
+    // Posición de cada columna conocida; nombre y pais son obligatorias
+    private static Map<String, Integer> columnas(LectorCsv lector) throws IOException {
+        String[] cabecera = lector.siguiente();
+        if (cabecera == null) {
+            throw new ValidationException("El archivo CSV está vacío");
+        }
+
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < cabecera.length; i++) {
+            for (String conocida : COLUMNAS_OBLIGATORIAS) {
+                if (conocida.equalsIgnoreCase(cabecera[i])) columnas.put(conocida, i);
+            }
+            for (String conocida : COLUMNAS_VIAJE) {
+                if (conocida.equalsIgnoreCase(cabecera[i])) columnas.put(conocida, i);
+            }
+        }
+
+        if (!columnas.keySet().containsAll(COLUMNAS_OBLIGATORIAS)) {
+            throw new ValidationException("La cabecera del CSV debe incluir las columnas nombre y pais");
+        }
+        return columnas;
+    }
+
+    // Mismas reglas que la API: restricciones de DestinoDTO y ViajeDTO y ViajeService.validateFechas
+    private FilaImportacion validar(long fila, String[] campos, Map<String, Integer> columnas) {
+        DestinoDTO destino = DestinoDTO.builder()
+            .nombre(campo(campos, columnas, "nombre"))
+            .pais(campo(campos, columnas, "pais"))
+            .build();
+        comprobar(validator.validate(destino));
+
+        String fechaInicio = campo(campos, columnas, "fechaInicio");
+        String fechaFin = campo(campos, columnas, "fechaFin");
+        String precio = campo(campos, columnas, "precio");
+        if (fechaInicio == null && fechaFin == null && precio == null) {
+            return new FilaImportacion(fila, destino, null);
+        }
+
+        ViajeDTO viaje = ViajeDTO.builder()
+            .fechaInicio(fecha(fechaInicio))
+            .fechaFin(fecha(fechaFin))
+            .precio(precio(precio))
+            .build();
+        comprobar(validator.validate(viaje));
+        ViajeService.validateFechas(viaje.getFechaInicio(), viaje.getFechaFin());
+
+        return new FilaImportacion(fila, destino, viaje);
+    }
+
+    private void guardarLote(ContextoTrabajo contexto, List<FilaImportacion> lote, Map<String, DestinoCacheado> destinos,
+            Resumen resumen, Writer errores) throws IOException {
+
+        try {
+            guardar(lote, destinos, resumen);
+        } catch (RuntimeException e) {
+            // La caché puede tener destinos del lote revertido
+            destinos.clear();
+            log.warn("Lote de la importación {} revertido (filas {}-{}), se reintenta fila a fila: {}", contexto.getId(),
+                lote.get(0).numero(), lote.get(lote.size() - 1).numero(), e.getMessage());
+
+            // Cada fila en su propia transacción, para descartar solo las que fallan
+            for (FilaImportacion fila : lote) {
+                try {
+                    guardar(List.of(fila), destinos, resumen);
+                } catch (RuntimeException errorFila) {
+                    destinos.clear();
+                    resumen.error(errores, fila.numero(), "Fila no guardada: " + errorFila.getMessage());
+                }
+            }
+        }
+    }
+
+    // Guarda las filas en una transacción; los totales solo se suman si se confirma
+    private void guardar(List<FilaImportacion> filas, Map<String, DestinoCacheado> destinos, Resumen resumen) {
+        Contadores contadores = new Contadores();
+        transactionTemplate.executeWithoutResult(estado -> {
+            for (FilaImportacion fila : filas) {
+                long destinoId = upsertDestino(fila.destino(), destinos, contadores);
+                if (fila.viaje() != null) {
+                    crearViaje(fila.viaje(), destinoId);
+                    contadores.viajesCreados++;
+                }
+            }
+        });
+        resumen.destinosCreados += contadores.destinosCreados;
+        resumen.destinosActualizados += contadores.destinosActualizados;
+        resumen.viajesCreados += contadores.viajesCreados;
+    }
+
+    private long upsertDestino(DestinoDTO dto, Map<String, DestinoCacheado> destinos, Contadores contadores) {
+        String clave = dto.getNombre().toLowerCase(Locale.ROOT);
+        DestinoCacheado cacheado = destinos.get(clave);
+
+        if (cacheado == null) {
+            cacheado = destinoRepository.findFirstByNombreIgnoreCase(dto.getNombre())
+                .map(destino -> new DestinoCacheado(destino.getId(), destino.getPais()))
+                .orElse(null);
+        }
+
+        if (cacheado == null) {
+            Destino nuevo = destinoRepository.save(destinoMapper.toEntity(dto));
+            DestinoDTO creado = destinoMapper.toDto(nuevo);
+            creado.setViajeCount(0L);
+            eventPublisher.publishEvent(DestinoCambiadoEvent.creado(creado));
+
+            cacheado = new DestinoCacheado(nuevo.getId(), nuevo.getPais());
+            contadores.destinosCreados++;
+        } else if (!cacheado.pais().equals(dto.getPais())) {
+            Destino destino = destinoRepository.getReferenceById(cacheado.id());
+            destino.setPais(dto.getPais());
+            DestinoDTO actualizado = destinoMapper.toDto(destino);
+            actualizado.setViajeCount(viajeRepository.countByDestinoId(destino.getId()));
+            eventPublisher.publishEvent(DestinoCambiadoEvent.actualizado(actualizado));
+
+            cacheado = new DestinoCacheado(cacheado.id(), dto.getPais());
+            contadores.destinosActualizados++;
+        }
+
+        destinos.put(clave, cacheado);
+        return cacheado.id();
+    }
+
+    private void crearViaje(ViajeDTO dto, long destinoId) {
+        Viaje viaje = viajeMapper.toEntity(dto);
+        viaje.setDestino(destinoRepository.getReferenceById(destinoId));
+        Viaje nuevo = viajeRepository.save(viaje);
+        eventPublisher.publishEvent(ViajeCambiadoEvent.creado(viajeMapper.toDto(nuevo)));
+    }
+
+    private static String campo(String[] campos, Map<String, Integer> columnas, String columna) {
+        Integer posicion = columnas.get(columna);
+        if (posicion == null || posicion >= campos.length || campos[posicion].isBlank()) return null;
+        return campos[posicion];
+    }
+
+    private static LocalDate fecha(String valor) {
+        if (valor == null) return null;
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Fecha no válida (se espera AAAA-MM-DD): " + valor);
+        }
+    }
+
+    private static Double precio(String valor) {
+        if (valor == null) return null;
+        try {
+            return Double.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Precio no válido: " + valor);
+        }
+    }
+
+    private static <T> void comprobar(Set<ConstraintViolation<T>> violaciones) {
+        if (!violaciones.isEmpty()) {
+            throw new ValidationException(violaciones.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static void borrar(Path temporal) {
+        if (temporal == null) return;
+        try {
+            Files.deleteIfExists(temporal);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el archivo temporal {}", temporal, e);
+        }
+    }
+
+    private record FilaImportacion(long numero, DestinoDTO destino, ViajeDTO viaje) {
+    }
+
+    private record DestinoCacheado(long id, String pais) {
+    }
+
+    private static final class Contadores {
+        private long destinosCreados;
+        private long destinosActualizados;
+        private long viajesCreados;
+    }
+
+    // Totales de la importación y primeros errores, para el resultado del trabajo
+    private static final class Resumen {
+
+        private final int maxErrores;
+        private long filasLeidas;
+        private long destinosCreados;
+        private long destinosActualizados;
+        private long viajesCreados;
+        private long filasConError;
+        private final List<ErrorFilaDTO> errores = new ArrayList<>();
+
+        Resumen(int maxErrores) {
+            this.maxErrores = maxErrores;
+        }
+
+        void error(Writer salida, long fila, String mensaje) throws IOException {
+            filasConError++;
+            if (errores.size() < maxErrores) {
+                errores.add(new ErrorFilaDTO(fila, mensaje));
+            }
+            EscritorCsv.fila(salida, fila, mensaje);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> mapa = new LinkedHashMap<>();
+            mapa.put("filasLeidas", filasLeidas);
+            mapa.put("destinosCreados", destinosCreados);
+            mapa.put("destinosActualizados", destinosActualizados);
+            mapa.put("viajesCreados", viajesCreados);
+            mapa.put("filasConError", filasConError);
+            mapa.put("errores", List.copyOf(errores));
+            return mapa;
+        }
+    }
+
+    // Cuenta los bytes leídos del archivo como progreso del trabajo
+    private static final class ContadorBytes extends FilterInputStream {
+
+        private final ContextoTrabajo contexto;
+
+        ContadorBytes(InputStream entrada, ContextoTrabajo contexto) {
+            super(entrada);
+            this.contexto = contexto;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) contexto.avanzar(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int leidos = super.read(b, off, len);
+            if (leidos > 0) contexto.avanzar(leidos);
+            return leidos;
+        }
+    }
+}
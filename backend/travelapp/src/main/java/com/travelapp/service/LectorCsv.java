@@ -0,0 +1,134 @@
+package com.travelapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.travelapp.exception.ValidationException;
+
+// Lector CSV por registros, sin cargar el archivo: comillas dobles con "" como escape y saltos de línea
+// dentro de campos entre comillas. El separador (',' o ';') se deduce de la primera línea.
+class LectorCsv {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader entrada;
+    private final char[] buffer = new char[8192];
+    private int posicion;
+    private int limite;
+
+    private char separador;
+
+    // Línea en la que empieza el último registro devuelto y línea actual
+    private long fila;
+    private long linea = 1;
+
+    LectorCsv(Reader entrada) {
+        this.entrada = entrada;
+    }
+
+    long getFila() {
+        return fila;
+    }
+
+    // Campos del siguiente registro, o null al final del archivo. Las líneas vacías se saltan
+    // y los campos sin comillas se recortan.
+    String[] siguiente() throws IOException {
+        if (separador == 0) {
+            detectarSeparador();
+        }
+
+        int c;
+        while ((c = mirar()) == '\r' || c == '\n') {
+            posicion++;
+            saltoDeLinea(c);
+        }
+        if (c == -1) return null;
+
+        fila = linea;
+        return registro();
+    }
+
+    private String[] registro() throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        boolean conComillas = false;
+
+        while (true) {
+            int c = leer();
+
+            if (entreComillas) {
+                if (c == -1) {
+                    throw new ValidationException("Comillas sin cerrar en la fila " + fila);
+                }
+                if (c == '"' && mirar() == '"') {
+                    posicion++;
+                    campo.append('"');
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    if (c == '\n') linea++;
+                    campo.append((char) c);
+                }
+            } else if (c == separador || c == -1 || c == '\r' || c == '\n') {
+                campos.add(conComillas ? campo.toString() : campo.toString().trim());
+                if (c != separador) {
+                    if (c != -1) saltoDeLinea(c);
+                    return campos.toArray(new String[0]);
+                }
+                campo.setLength(0);
+                conComillas = false;
+            } else if (conComillas) {
+                // Tras cerrar las comillas solo se ignoran espacios hasta el separador
+                if (!Character.isWhitespace(c)) campo.append((char) c);
+            } else if (c == '"' && campo.toString().isBlank()) {
+                campo.setLength(0);
+                entreComillas = true;
+                conComillas = true;
+            } else {
+                campo.append((char) c);
+            }
+        }
+    }
+
+    // ';' si la primera línea tiene más ';' que ',' (exportaciones de hojas de cálculo en español)
+    private void detectarSeparador() throws IOException {
+        separador = ',';
+        if (mirar() == BOM) posicion++;
+
+        int comas = 0;
+        int puntosYComa = 0;
+        for (int i = posicion; i < limite && buffer[i] != '\n' && buffer[i] != '\r'; i++) {
+            if (buffer[i] == ',') comas++;
+            if (buffer[i] == ';') puntosYComa++;
+        }
+        if (puntosYComa > comas) {
+            separador = ';';
+        }
+    }
+
+    private void saltoDeLinea(int c) throws IOException {
+        if (c == '\r' && mirar() == '\n') posicion++;
+        linea++;
+    }
+
+    private int leer() throws IOException {
+        if (posicion == limite && !rellenar()) return -1;
+        return buffer[posicion++];
+    }
+
+    private int mirar() throws IOException {
+        if (posicion == limite && !rellenar()) return -1;
+        return buffer[posicion];
+    }
+
+    private boolean rellenar() throws IOException {
+        int leidos = entrada.read(buffer, 0, buffer.length);
+        if (leidos <= 0) return false;
+        posicion = 0;
+        limite = leidos;
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.travelapp.service;
+
+import java.util.Map;
+
+import com.travelapp.model.TipoTrabajo;
+
+// Implementación de un tipo de trabajo en segundo plano; TrabajoService la ejecuta en su pool
+public interface ManejadorTrabajo {
+
+    TipoTrabajo tipo();
+
+    // Comprobar los parámetros al solicitar el trabajo (ValidationException si no son válidos)
+    default void validar(Map<String, Object> parametros) {
+    }
+
+    // false si el trabajo solo se crea desde otro endpoint (p. ej. el que recibe el archivo)
+    default boolean solicitablePorApi() {
+        return true;
+    }
+
+    // Extensión del archivo de resultado, si el trabajo lo genera
+    default String extensionResultado() {
+        return "csv";
+    }
+
+    // Procesar por lotes llamando a contexto.puntoDeControl() entre lote y lote
+    void ejecutar(ContextoTrabajo contexto) throws Exception;
+}
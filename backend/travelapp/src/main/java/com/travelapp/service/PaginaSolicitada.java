@@ -0,0 +1,53 @@
+package com.travelapp.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.travelapp.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Parámetros page, size y sort de los listados. Solo se acepta una clave de orden y tiene que estar entre las
+// del listado, cada una servida por un índice: así ningún sort obliga a ordenar la tabla entera.
+// Un size por encima del máximo se reduce en lugar de rechazarse.
+@Slf4j
+final class PaginaSolicitada {
+
+    private PaginaSolicitada() {
+    }
+
+    static Pageable validar(Pageable pageable, Map<String, String> ordenes, int tamanioMaximo) {
+        if (pageable.isUnpaged()) return pageable;
+
+        List<Sort.Order> pedidas = pageable.getSort().toList();
+        if (pedidas.size() > 1) {
+            log.warn("Varias claves de orden en sort: {}", pageable.getSort());
+            throw new ValidationException("Solo se puede ordenar por una clave. Claves disponibles: " + claves(ordenes));
+        }
+        for (Sort.Order orden : pedidas) {
+            if (!ordenes.containsKey(orden.getProperty())) {
+                log.warn("Clave no soportada en sort: {}", orden.getProperty());
+                throw new ValidationException("No se puede ordenar por " + orden.getProperty()
+                    + ". Claves disponibles: " + claves(ordenes));
+            }
+            // lower(columna) no usa el índice de la columna
+            if (orden.isIgnoreCase()) {
+                throw new ValidationException("No se admite ignorecase en sort");
+            }
+        }
+
+        if (pageable.getPageSize() <= tamanioMaximo) return pageable;
+
+        log.debug("Tamaño de página {} reducido a {}", pageable.getPageSize(), tamanioMaximo);
+        return PageRequest.of(pageable.getPageNumber(), tamanioMaximo, pageable.getSort());
+    }
+
+    private static String claves(Map<String, String> ordenes) {
+        return String.join(", ", new TreeSet<>(ordenes.keySet()));
+    }
+}
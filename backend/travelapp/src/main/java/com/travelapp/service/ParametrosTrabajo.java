@@ -0,0 +1,33 @@
+package com.travelapp.service;
+
+import java.util.Map;
+
+import com.travelapp.exception.ValidationException;
+
+// Lectura de los parámetros JSON de un trabajo; null si no vienen
+final class ParametrosTrabajo {
+
+    private ParametrosTrabajo() {
+    }
+
+    static Long entero(Map<String, Object> parametros, String clave) {
+        Object valor = parametros.get(clave);
+        if (valor == null) return null;
+        if (valor instanceof Integer || valor instanceof Long) return ((Number) valor).longValue();
+        throw new ValidationException("El parámetro " + clave + " debe ser un número entero");
+    }
+
+    static Double numero(Map<String, Object> parametros, String clave) {
+        Object valor = parametros.get(clave);
+        if (valor == null) return null;
+        if (valor instanceof Number numero) return numero.doubleValue();
+        throw new ValidationException("El parámetro " + clave + " debe ser numérico");
+    }
+
+    static String texto(Map<String, Object> parametros, String clave) {
+        Object valor = parametros.get(clave);
+        if (valor == null) return null;
+        if (valor instanceof String texto && !texto.isBlank()) return texto;
+        throw new ValidationException("El parámetro " + clave + " debe ser un texto no vacío");
+    }
+}
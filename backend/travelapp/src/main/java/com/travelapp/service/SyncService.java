@@ -0,0 +1,194 @@
+package com.travelapp.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelapp.config.SyncProperties;
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.dto.SyncDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.CambioLog;
+import com.travelapp.model.SyncHorizonte;
+import com.travelapp.repository.CambioLogRepository;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.SyncHorizonteRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@Transactional
+@RequiredArgsConstructor
+public class SyncService {
+
+    static final String ENTIDAD_VIAJE = "viaje";
+    static final String ENTIDAD_DESTINO = "destino";
+
+    private final CambioLogRepository cambioLogRepository;
+    private final SyncHorizonteRepository syncHorizonteRepository;
+    private final ViajeRepository viajeRepository;
+    private final DestinoRepository destinoRepository;
+    private final ViajeMapper viajeMapper;
+    private final DestinoMapper destinoMapper;
+    private final SyncProperties properties;
+    private final Clock clock;
+
+    // Listener síncrono: se escribe en la misma transacción que la modificación.
+    // Los eventos remotos ya los registró el nodo donde se confirmaron
+    @EventListener
+    public void onViajeCambiado(ViajeCambiadoEvent event) {
+        if (event.remoto()) return;
+        registrar(ENTIDAD_VIAJE, event.id(), event.tipo());
+    }
+
+    @EventListener
+    public void onDestinoCambiado(DestinoCambiadoEvent event) {
+        if (event.remoto()) return;
+        registrar(ENTIDAD_DESTINO, event.id(), event.tipo());
+    }
+
+    // Cambios posteriores al token, con las entidades actuales y las bajas como listas de IDs
+    @Transactional(readOnly = true)
+    public SyncDTO sincronizar(String desde, Integer size) {
+        long token = parsearToken(desde);
+        int tamanio = size == null ? properties.getTamanioPagina() : Math.min(size, properties.getTamanioPaginaMaximo());
+        if (tamanio <= 0) {
+            throw new ValidationException("El tamaño de página debe ser mayor que 0");
+        }
+
+        log.debug("Sincronizando desde token {} con tamaño {}", token, tamanio);
+
+        if (token > 0 && token < horizonte()) {
+            log.debug("Token {} anterior a la última compactación, se requiere resincronizar", token);
+            return SyncDTO.builder()
+                .token("0")
+                .resincronizar(true)
+                .destinos(List.of())
+                .viajes(List.of())
+                .destinosEliminados(List.of())
+                .viajesEliminados(List.of())
+                .build();
+        }
+
+        // Se pide uno más para saber si hay otra página
+        List<CambioLog> cambios = cambioLogRepository.findByIdGreaterThanOrderByIdAsc(token, PageRequest.of(0, tamanio + 1));
+        boolean hayMas = cambios.size() > tamanio;
+        if (hayMas) {
+            cambios = cambios.subList(0, tamanio);
+        }
+
+        List<Long> viajeIds = new ArrayList<>();
+        List<Long> destinoIds = new ArrayList<>();
+        List<Long> viajesEliminados = new ArrayList<>();
+        List<Long> destinosEliminados = new ArrayList<>();
+
+        for (CambioLog cambio : cambios) {
+            boolean esViaje = ENTIDAD_VIAJE.equals(cambio.getEntidad());
+            if (cambio.getTipo() == TipoCambio.ELIMINADO) {
+                (esViaje ? viajesEliminados : destinosEliminados).add(cambio.getEntidadId());
+            } else {
+                (esViaje ? viajeIds : destinoIds).add(cambio.getEntidadId());
+            }
+        }
+
+        List<DestinoDTO> destinos = destinoIds.isEmpty() ? List.of()
+            : destinoRepository.findAllById(destinoIds).stream().map(destinoMapper::toDto).toList();
+        List<ViajeDTO> viajes = viajeIds.isEmpty() ? List.of()
+            : viajeMapper.toDtoList(viajeRepository.findAllById(viajeIds));
+
+        // El token avanza hasta el último cambio anterior a la ventana de relectura; los posteriores se vuelven a
+        // entregar en la siguiente llamada, por si se confirma después un id menor (los IDENTITY no se confirman en orden)
+        Instant estables = clock.instant().minus(properties.getVentanaRelectura());
+        long siguienteToken = token;
+        boolean relectura = false;
+        for (CambioLog cambio : cambios) {
+            if (!cambio.getFecha().isBefore(estables)) {
+                relectura = true;
+                break;
+            }
+            siguienteToken = cambio.getId();
+        }
+
+        log.debug("Sincronización: {} destinos, {} viajes, {} bajas", destinos.size(), viajes.size(),
+            viajesEliminados.size() + destinosEliminados.size());
+
+        return SyncDTO.builder()
+            .token(String.valueOf(siguienteToken))
+            // Con cambios por releer la siguiente página empezaría en el mismo token: se esperan a la próxima llamada
+            .hayMas(hayMas && !relectura)
+            .destinos(destinos)
+            .viajes(viajes)
+            .destinosEliminados(destinosEliminados)
+            .viajesEliminados(viajesEliminados)
+            .build();
+    }
+
+    // Compactar bajas antiguas y mover el horizonte de sincronización
+    @Scheduled(fixedDelayString = "${travelapp.sync.intervalo-compactacion:PT1H}",
+        initialDelayString = "${travelapp.sync.intervalo-compactacion:PT1H}")
+    public void compactar() {
+        Instant limite = clock.instant().minus(properties.getRetencionEliminados());
+
+        Long hastaId = cambioLogRepository.findMaxIdByTipoAndFechaBefore(TipoCambio.ELIMINADO, limite);
+        if (hastaId == null) {
+            return;
+        }
+
+        int eliminadas = cambioLogRepository.deleteByTipoAndIdLessThanEqual(TipoCambio.ELIMINADO, hastaId);
+
+        SyncHorizonte syncHorizonte = syncHorizonteRepository.findById(SyncHorizonte.ID)
+            .orElseGet(() -> SyncHorizonte.builder().id(SyncHorizonte.ID).build());
+        syncHorizonte.setUltimoCambioCompactado(Math.max(syncHorizonte.getUltimoCambioCompactado(), hastaId));
+        syncHorizonteRepository.save(syncHorizonte);
+
+        log.info("Compactadas {} bajas del log de cambios hasta el ID {}", eliminadas, hastaId);
+    }
+
+    private void registrar(String entidad, Long entidadId, TipoCambio tipo) {
+        cambioLogRepository.deleteByEntidadAndEntidadId(entidad, entidadId);
+        cambioLogRepository.save(CambioLog.builder()
+            .entidad(entidad)
+            .entidadId(entidadId)
+            .tipo(tipo)
+            .fecha(clock.instant())
+            .build());
+    }
+
+    private long horizonte() {
+        return syncHorizonteRepository.findById(SyncHorizonte.ID)
+            .map(SyncHorizonte::getUltimoCambioCompactado)
+            .orElse(0L);
+    }
+
+    private long parsearToken(String desde) {
+        if (desde == null || desde.isBlank()) {
+            return 0;
+        }
+        try {
+            long token = Long.parseLong(desde.trim());
+            if (token < 0) {
+                throw new NumberFormatException();
+            }
+            return token;
+        } catch (NumberFormatException e) {
+            log.warn("Token de sincronización inválido: {}", desde);
+            throw new ValidationException("El token de sincronización no es válido");
+        }
+    }
+}
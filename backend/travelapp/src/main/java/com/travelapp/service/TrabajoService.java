@@ -0,0 +1,294 @@
+package com.travelapp.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.config.TrabajosProperties;
+import com.travelapp.dto.SolicitudTrabajoDTO;
+import com.travelapp.dto.TrabajoDTO;
+import com.travelapp.exception.EntityNotFoundException;
+import com.travelapp.exception.ServicioSaturadoException;
+import com.travelapp.exception.TrabajoCanceladoException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.TrabajoMapper;
+import com.travelapp.model.EstadoTrabajo;
+import com.travelapp.model.TipoTrabajo;
+import com.travelapp.model.Trabajo;
+import com.travelapp.repository.TrabajoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Trabajos largos (exportaciones, importaciones, cambios masivos) fuera de los hilos de Tomcat.
+// Pool propio acotado en hilos y cola; el estado y el progreso se guardan en la tabla trabajo, así que
+// cualquier nodo puede consultarlos. Este nodo mantiene el latido de los que tiene en cola o en curso;
+// los que se quedan sin latido (nodo detenido) se marcan como fallidos.
+@Slf4j
+@Service
+public class TrabajoService implements DisposableBean {
+
+    private final TrabajoRepository trabajoRepository;
+    private final ObjectProvider<ManejadorTrabajo> manejadores;
+    private final TrabajoMapper trabajoMapper;
+    private final TrabajosProperties properties;
+    private final Clock clock;
+
+    // Transacción propia para el progreso: el punto de control puede llegar dentro de una de solo lectura del trabajo
+    private final TransactionTemplate escritura;
+
+    private final ThreadPoolExecutor ejecutor;
+
+    // Trabajos de este nodo en cola o en curso
+    private final Map<String, ContextoTrabajo> activos = new ConcurrentHashMap<>();
+
+    // Los manejadores se resuelven al usarlos: alguno (importación) depende a su vez de este servicio
+    public TrabajoService(TrabajoRepository trabajoRepository, ObjectProvider<ManejadorTrabajo> manejadores,
+            TrabajoMapper trabajoMapper, TrabajosProperties properties, Clock clock,
+            PlatformTransactionManager transactionManager) {
+
+        this.trabajoRepository = trabajoRepository;
+        this.manejadores = manejadores;
+        this.trabajoMapper = trabajoMapper;
+        this.properties = properties;
+        this.clock = clock;
+        this.escritura = new TransactionTemplate(transactionManager);
+        this.escritura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        CustomizableThreadFactory hilos = new CustomizableThreadFactory("trabajo-");
+        hilos.setThreadPriority(Thread.MIN_PRIORITY);
+        this.ejecutor = new ThreadPoolExecutor(properties.getHilos(), properties.getHilos(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getColaMaxima()), hilos);
+    }
+
+    // POST /api/jobs: solo tipos solicitables por la API, con sus parámetros validados
+    public TrabajoDTO solicitar(SolicitudTrabajoDTO solicitud) {
+        ManejadorTrabajo manejador = manejador(solicitud.getTipo());
+        if (!manejador.solicitablePorApi()) {
+            log.warn("Tipo de trabajo no solicitable por la API: {}", solicitud.getTipo());
+            throw new ValidationException("El trabajo " + solicitud.getTipo() + " no se puede solicitar con /api/jobs");
+        }
+
+        Map<String, Object> parametros = solicitud.getParametros() != null ? solicitud.getParametros() : Map.of();
+        manejador.validar(parametros);
+
+        return encolar(solicitud.getTipo(), parametros);
+    }
+
+    // Registrar el trabajo como PENDIENTE y ponerlo en la cola del pool
+    public TrabajoDTO encolar(TipoTrabajo tipo, Map<String, Object> parametros) {
+        ManejadorTrabajo manejador = manejador(tipo);
+        if (ejecutor.getQueue().remainingCapacity() == 0) {
+            throw saturado();
+        }
+
+        Instant ahora = clock.instant();
+        Trabajo trabajo = trabajoRepository.save(Trabajo.builder()
+            .id(UUID.randomUUID().toString())
+            .tipo(tipo)
+            .estado(EstadoTrabajo.PENDIENTE)
+            .parametros(trabajoMapper.toJson(parametros))
+            .creado(ahora)
+            .actualizado(ahora)
+            .build());
+
+        ContextoTrabajo contexto = new ContextoTrabajo(trabajo.getId(), parametros, directorio(),
+            manejador.extensionResultado(), properties.getPausaEntreLotes(), properties.getIntervaloProgreso(),
+            this::guardarProgreso);
+
+        activos.put(trabajo.getId(), contexto);
+        try {
+            ejecutor.execute(() -> ejecutar(manejador, contexto));
+        } catch (RejectedExecutionException e) {
+            activos.remove(trabajo.getId());
+            trabajoRepository.deleteById(trabajo.getId());
+            throw saturado();
+        }
+
+        log.info("Trabajo {} ({}) encolado", trabajo.getId(), tipo);
+        return trabajoMapper.toDto(trabajo);
+    }
+
+    public TrabajoDTO findById(String id) {
+        return trabajoMapper.toDto(buscar(id));
+    }
+
+    // Un trabajo pendiente se cancela directamente; uno en curso se detiene en su siguiente punto de control
+    public TrabajoDTO cancelar(String id) {
+        Trabajo trabajo = buscar(id);
+
+        if (trabajo.getEstado() == EstadoTrabajo.PENDIENTE && trabajoRepository.cancelarPendiente(id, clock.instant()) == 1) {
+            log.info("Trabajo {} cancelado antes de empezar", id);
+        } else if (trabajoRepository.solicitarCancelacion(id) == 1) {
+            ContextoTrabajo contexto = activos.get(id);
+            if (contexto != null) {
+                contexto.cancelar();
+            }
+            log.info("Cancelación solicitada para el trabajo {}", id);
+        }
+
+        return findById(id);
+    }
+
+    // Archivo generado por un trabajo completado
+    public Path archivoResultado(String id) {
+        Trabajo trabajo = buscar(id);
+        if (!trabajo.getEstado().terminado()) {
+            throw new ValidationException("El trabajo aún no ha terminado");
+        }
+
+        Path archivo = trabajo.getArchivoResultado() != null && trabajo.getEstado() == EstadoTrabajo.COMPLETADO
+            ? directorio().resolve(trabajo.getArchivoResultado())
+            : null;
+        if (archivo == null || !Files.exists(archivo)) {
+            log.warn("Trabajo {} sin archivo de resultado", id);
+            throw new EntityNotFoundException("El trabajo no tiene archivo de resultado");
+        }
+        return archivo;
+    }
+
+    // Archivo de entrada para un trabajo (p. ej. el CSV subido), dentro del directorio de trabajos
+    public Path nuevoArchivoEntrada(String prefijo, String sufijo) {
+        try {
+            return Files.createTempFile(directorio(), prefijo, sufijo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el archivo de entrada del trabajo", e);
+        }
+    }
+
+    // Latido de los trabajos de este nodo y fallo de los abandonados por otros nodos
+    @Scheduled(fixedDelayString = "${travelapp.trabajos.intervalo-latido:PT1M}",
+        initialDelayString = "${travelapp.trabajos.intervalo-latido:PT1M}")
+    public void latido() {
+        Instant ahora = clock.instant();
+        if (!activos.isEmpty()) {
+            trabajoRepository.latido(activos.keySet(), ahora);
+        }
+
+        int abandonados = trabajoRepository.abandonar(ahora.minus(properties.getCaducidad()),
+            "Abandonado: el servidor que lo ejecutaba se detuvo", ahora);
+        if (abandonados > 0) {
+            log.warn("{} trabajos marcados como abandonados", abandonados);
+        }
+    }
+
+    // Borrar los trabajos terminados fuera del periodo de retención y sus archivos
+    @Scheduled(fixedDelayString = "${travelapp.trabajos.intervalo-limpieza:PT1H}",
+        initialDelayString = "${travelapp.trabajos.intervalo-limpieza:PT1H}")
+    public void limpiar() {
+        var caducados = trabajoRepository.findByTerminadoBefore(clock.instant().minus(properties.getRetencion()));
+        for (Trabajo trabajo : caducados) {
+            if (trabajo.getArchivoResultado() != null) {
+                borrar(directorio().resolve(trabajo.getArchivoResultado()));
+            }
+        }
+        trabajoRepository.deleteAll(caducados);
+
+        if (!caducados.isEmpty()) {
+            log.info("{} trabajos terminados eliminados", caducados.size());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ejecutor.shutdownNow();
+    }
+
+    void ejecutar(ManejadorTrabajo manejador, ContextoTrabajo contexto) {
+        String id = contexto.getId();
+        try {
+            if (trabajoRepository.iniciar(id, clock.instant()) == 0) {
+                log.info("Trabajo {} cancelado antes de empezar, no se ejecuta", id);
+                return;
+            }
+
+            long inicio = System.currentTimeMillis();
+            manejador.ejecutar(contexto);
+
+            String archivo = contexto.isConArchivo() ? contexto.getArchivoResultado().getFileName().toString() : null;
+            terminar(contexto, EstadoTrabajo.COMPLETADO, archivo, null);
+            log.info("Trabajo {} ({}) completado en {} ms", id, manejador.tipo(), System.currentTimeMillis() - inicio);
+        } catch (TrabajoCanceladoException e) {
+            borrar(contexto.getArchivoResultado());
+            terminar(contexto, EstadoTrabajo.CANCELADO, null, e.getMessage());
+            log.info("Trabajo {} cancelado tras procesar {}", id, contexto.getProcesados());
+        } catch (Exception e) {
+            log.error("Trabajo {} ({}) fallido", id, manejador.tipo(), e);
+            borrar(contexto.getArchivoResultado());
+            terminar(contexto, EstadoTrabajo.FALLIDO, null, e.getMessage() != null ? e.getMessage() : e.toString());
+        } finally {
+            activos.remove(id);
+        }
+    }
+
+    // Devuelve si se pidió cancelar el trabajo, también desde otro nodo
+    boolean guardarProgreso(ContextoTrabajo contexto) {
+        return Boolean.TRUE.equals(escritura.execute(estado -> {
+            trabajoRepository.guardarProgreso(contexto.getId(), contexto.getProcesados(), contexto.getTotal(),
+                trabajoMapper.toJson(contexto.getResultado()), clock.instant());
+            return trabajoRepository.isCancelacionSolicitada(contexto.getId());
+        }));
+    }
+
+    private void terminar(ContextoTrabajo contexto, EstadoTrabajo estado, String archivo, String mensaje) {
+        if (mensaje != null && mensaje.length() > 1000) {
+            mensaje = mensaje.substring(0, 1000);
+        }
+        trabajoRepository.terminar(contexto.getId(), estado, contexto.getProcesados(), contexto.getTotal(),
+            trabajoMapper.toJson(contexto.getResultado()), archivo, mensaje, clock.instant());
+    }
+
+    private Trabajo buscar(String id) {
+        return trabajoRepository.findById(id)
+            .orElseThrow(() -> {
+                log.warn("Trabajo no encontrado con ID: {}", id);
+                return new EntityNotFoundException("Trabajo no encontrado");
+            });
+    }
+
+    private ManejadorTrabajo manejador(TipoTrabajo tipo) {
+        return manejadores.stream()
+            .filter(manejador -> manejador.tipo() == tipo)
+            .findFirst()
+            .orElseThrow(() -> new ValidationException("Tipo de trabajo no soportado: " + tipo));
+    }
+
+    private ServicioSaturadoException saturado() {
+        log.warn("Trabajo rechazado: cola de trabajos llena ({})", properties.getColaMaxima());
+        return new ServicioSaturadoException("Demasiados trabajos en cola, reintentar más tarde");
+    }
+
+    private Path directorio() {
+        try {
+            return Files.createDirectories(properties.getDirectorio());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el directorio de trabajos " + properties.getDirectorio(), e);
+        }
+    }
+
+    private static void borrar(Path archivo) {
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el archivo {}", archivo, e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.travelapp.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.config.HistoricoProperties;
+import com.travelapp.config.PaginacionProperties;
+import com.travelapp.dto.ViajeHistoricoDTO;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.EntityNotFoundException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.ViajeHistoricoMapper;
+import com.travelapp.repository.ViajeHistoricoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Archivado de viajes terminados: la tabla viaje y los índices en memoria quedan con el catálogo vigente
+// y el histórico se consulta aparte. Cada lote se copia y se borra en su propia transacción, así que un
+// fallo a mitad deja los lotes anteriores archivados y el siguiente ciclo continúa donde se quedó.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ViajeHistoricoService {
+
+    private final ViajeRepository viajeRepository;
+    private final ViajeHistoricoRepository viajeHistoricoRepository;
+    private final ViajeHistoricoMapper viajeHistoricoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final HistoricoProperties properties;
+    private final Clock clock;
+    private final PaginacionProperties paginacionProperties;
+
+    @Scheduled(fixedDelayString = "${travelapp.historico.intervalo:PT1H}",
+        initialDelayString = "${travelapp.historico.intervalo:PT1H}")
+    public void archivarProgramado() {
+        if (!properties.isHabilitado()) return;
+
+        archivar();
+    }
+
+    // Mueve a viaje_historico los viajes con fecha de fin anterior a hoy menos los días de gracia
+    public long archivar() {
+        LocalDate limite = LocalDate.now(clock).minusDays(properties.getDiasGracia());
+        PageRequest lote = PageRequest.of(0, properties.getTamanioLote());
+        long inicio = System.nanoTime();
+
+        long archivados = 0;
+        while (true) {
+            int movidos;
+            try {
+                movidos = transactionTemplate.execute(estado -> archivarLote(limite, lote));
+            } catch (DataIntegrityViolationException e) {
+                // Otra instancia archivó el mismo lote a la vez: se deja para el siguiente ciclo
+                log.warn("Lote de archivado en conflicto con otro proceso, se reintentará más tarde: {}",
+                    e.getMostSpecificCause().getMessage());
+                break;
+            }
+            if (movidos == 0) break;
+
+            archivados += movidos;
+            pausar();
+        }
+
+        if (archivados > 0) {
+            log.info("Archivados {} viajes terminados antes de {} en {} ms", archivados, limite,
+                (System.nanoTime() - inicio) / 1_000_000);
+        }
+        return archivados;
+    }
+
+    // Los eventos de baja mantienen al día índices en memoria, log de sincronización y stream de cambios
+    private int archivarLote(LocalDate limite, PageRequest lote) {
+        List<Long> ids = viajeRepository.findIdsTerminadosAntesDe(limite, lote);
+        if (ids.isEmpty()) return 0;
+
+        int copiados = viajeHistoricoRepository.copiarDesdeViaje(ids, clock.instant());
+        int eliminados = viajeRepository.deleteByIdIn(ids);
+        if (copiados != ids.size() || eliminados != ids.size()) {
+            throw new IllegalStateException("Archivado incompleto: " + ids.size() + " seleccionados, " + copiados
+                + " copiados y " + eliminados + " eliminados");
+        }
+
+        ids.forEach(id -> eventPublisher.publishEvent(ViajeCambiadoEvent.eliminado(id)));
+        return ids.size();
+    }
+
+    private void pausar() {
+        if (properties.getPausaEntreLotes().isZero()) return;
+
+        try {
+            Thread.sleep(properties.getPausaEntreLotes().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Archivado interrumpido");
+        }
+    }
+
+    // Viajes archivados con filtros opcionales por destino, país y fecha de salida
+    @Transactional(readOnly = true)
+    public Page<ViajeHistoricoDTO> findAll(Long destinoId, String pais, LocalDate desde, LocalDate hasta,
+            Pageable pageable) {
+        log.debug("Buscando viajes archivados (destino: {}, país: {}, desde: {}, hasta: {}): {}", destinoId, pais,
+            desde, hasta, pageable);
+
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            throw new ValidationException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+
+        Pageable pagina = PaginaSolicitada.validar(pageable, ViajeHistoricoRepository.ORDENES,
+            paginacionProperties.getTamanioMaximo());
+        return viajeHistoricoRepository.buscar(destinoId, pais, desde, hasta, pagina)
+            .map(viajeHistoricoMapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public ViajeHistoricoDTO findById(Long id) {
+        log.debug("Buscando viaje archivado por ID: {}", id);
+
+        return viajeHistoricoRepository.findById(id)
+            .map(viajeHistoricoMapper::toDto)
+            .orElseThrow(() -> new EntityNotFoundException("Viaje archivado no encontrado con ID: " + id));
+    }
+}
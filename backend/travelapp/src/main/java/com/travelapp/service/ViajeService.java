@@ -1,20 +1,47 @@
 package com.travelapp.service;
 
 import java.time.LocalDate;
-
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import com.travelapp.cache.CacheNegativa;
+import com.travelapp.cache.CacheNegativa.Entidad;
+import com.travelapp.config.PaginacionProperties;
+import com.travelapp.dto.ConteoCalendarioDTO;
+import com.travelapp.dto.MasBaratosDTO;
 import com.travelapp.dto.ViajeDTO;
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.event.ViajeCambiadoEvent;
 import com.travelapp.exception.EntityNotFoundException;
 import com.travelapp.exception.ValidationException;
+import com.travelapp.index.ViajeCalendarioIndex;
+import com.travelapp.index.ViajeIntervaloIndex;
+import com.travelapp.index.ViajeMasBaratosIndex;
+import com.travelapp.index.ViajeMasBaratosIndex.Agrupacion;
 import com.travelapp.mapper.ViajeMapper;
 import com.travelapp.model.Destino;
 import com.travelapp.model.Viaje;
 import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeProyeccionRepository;
 import com.travelapp.repository.ViajeRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -26,38 +53,87 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ViajeService {
 
+    private static final int MAX_DIAS_CALENDARIO = 3660;
+
     private final ViajeRepository viajeRepository;
     private final DestinoRepository destinoRepository;
     private final ViajeMapper viajeMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViajeIntervaloIndex viajeIntervaloIndex;
+    private final ViajeCalendarioIndex viajeCalendarioIndex;
+    private final ViajeMasBaratosIndex viajeMasBaratosIndex;
+    private final CacheNegativa cacheNegativa;
+    private final PaginacionProperties paginacionProperties;
     
     // Buscar todos los viajes
     @Transactional(readOnly = true)
     public Page<ViajeDTO> findAll(Pageable pageable) {
         log.debug("Buscando todos los viajes con paginación: {}", pageable);
+        pageable = paginar(pageable);
 
         Page<Viaje> viajes = viajeRepository.findAll(pageable);
 
-        log.info("Viajes encontrados: {}", viajes.getTotalElements());
+        log.debug("Viajes encontrados: {}", viajes.getTotalElements());
 
         return viajes.map(viajeMapper::toDto);
     }
 
+    // Listar viajes con solo los campos pedidos, seleccionados en la propia consulta SQL
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findCampos(String fields, Long destinoId, Pageable pageable) {
+        log.debug("Buscando viajes con campos {} (destino: {}): {}", fields, destinoId, pageable);
+
+        Set<String> campos = CamposSolicitados.validar(fields, ViajeProyeccionRepository.CAMPOS);
+        pageable = paginar(pageable);
+        return viajeRepository.findCampos(campos, destinoId, pageable);
+    }
+
+    // Buscar por ID con solo los campos pedidos
+    @Transactional(readOnly = true)
+    public Map<String, Object> findCamposById(Long id, String fields) {
+        log.debug("Buscando viaje por ID: {} con campos {}", id, fields);
+
+        Set<String> campos = CamposSolicitados.validar(fields, ViajeProyeccionRepository.CAMPOS);
+        comprobarNoInexistente(id);
+        return viajeRepository.findCamposById(id, campos)
+            .orElseThrow(() -> noEncontrado(id));
+    }
+
     // Buscar por ID
     @Transactional(readOnly = true)
     public ViajeDTO findById(Long id) {
         log.debug("Buscando viaje por ID: {}", id);
 
+        comprobarNoInexistente(id);
         Viaje viaje = viajeRepository.findById(id)
-            .orElseThrow(() -> {
-                log.warn("Viaje no encontrado con ID: {}", id);
-                return new EntityNotFoundException("Viaje no encontrado");
-            });
+            .orElseThrow(() -> noEncontrado(id));
         
-        log.info("Viaje encontrado: {}", viaje.getId());
+        log.debug("Viaje encontrado: {}", viaje.getId());
 
         return viajeMapper.toDto(viaje);
     }
 
+    // Los primeros viajes de cada destino, agrupados por destino (lista vacía si no tiene)
+    @Transactional(readOnly = true)
+    public Map<Long, List<ViajeDTO>> findPrimerosPorDestino(Collection<Long> destinoIds, int limite) {
+        log.debug("Buscando los primeros {} viajes de {} destinos", limite, destinoIds.size());
+
+        Map<Long, List<ViajeDTO>> porDestino = new HashMap<>();
+        destinoIds.forEach(destinoId -> porDestino.put(destinoId, new ArrayList<>()));
+        if (destinoIds.isEmpty() || limite <= 0) return porDestino;
+
+        for (ViajeResumen viaje : viajeRepository.findPrimerosByDestinoIds(destinoIds, limite)) {
+            porDestino.get(viaje.destinoId()).add(ViajeDTO.builder()
+                .id(viaje.id())
+                .fechaInicio(viaje.fechaInicio())
+                .fechaFin(viaje.fechaFin())
+                .precio(viaje.precio())
+                .destinoId(viaje.destinoId())
+                .build());
+        }
+        return porDestino;
+    }
+
     // Crear nuevo viaje
     public ViajeDTO create(ViajeDTO viajeDTO) {
         log.debug("Creando nuevo viaje: {}", viajeDTO);
@@ -79,7 +155,10 @@ public class ViajeService {
 
         log.info("Viaje creado con ID: {}", nuevoViaje.getId());
 
-        return viajeMapper.toDto(nuevoViaje);
+        ViajeDTO viajeCreado = viajeMapper.toDto(nuevoViaje);
+        eventPublisher.publishEvent(ViajeCambiadoEvent.creado(viajeCreado));
+
+        return viajeCreado;
     }
 
     // Actualizar viaje existente
@@ -112,7 +191,10 @@ public class ViajeService {
 
         log.info("Viaje actualizado con ID: {}", viajeActualizado.getId());
 
-        return viajeMapper.toDto(viajeActualizado);
+        ViajeDTO viajeActualizadoDTO = viajeMapper.toDto(viajeActualizado);
+        eventPublisher.publishEvent(ViajeCambiadoEvent.actualizado(viajeActualizadoDTO));
+
+        return viajeActualizadoDTO;
     }
 
     // Eliminar viaje por ID
@@ -125,6 +207,7 @@ public class ViajeService {
         }
 
         viajeRepository.deleteById(id);
+        eventPublisher.publishEvent(ViajeCambiadoEvent.eliminado(id));
 
         log.info("Viaje eliminado con ID: {}", id);
     }
@@ -133,16 +216,190 @@ public class ViajeService {
     @Transactional(readOnly = true)
     public Page<ViajeDTO> findByDestinoId(Long destinoId, Pageable pageable) {
         log.debug("Buscando viajes por destino ID: {} con paginación: {}", destinoId, pageable);
+        pageable = paginar(pageable);
 
         Page<Viaje> viajes = viajeRepository.findByDestinoId(destinoId, pageable);
     
-        log.info("Viajes encontrados para destino ID {}: {}", destinoId, viajes.getTotalElements());
+        log.debug("Viajes encontrados para destino ID {}: {}", destinoId, viajes.getTotalElements());
         
         return viajes.map(viajeMapper::toDto);
     }
 
-    // Validación de fechas
-    private void validateFechas(LocalDate fechaInicio, LocalDate fechaFin) {
+    // Buscar viajes dentro de [desde, hasta] (o que se solapan si parcial), opcionalmente por país
+    @Transactional(readOnly = true)
+    public Page<ViajeDTO> findDisponibles(LocalDate desde, LocalDate hasta, String pais, boolean parcial, Pageable pageable) {
+        log.debug("Buscando viajes disponibles entre {} y {} (país: {}, parcial: {})", desde, hasta, pais, parcial);
+
+        if (desde == null || hasta == null) {
+            log.warn("Las fechas desde y hasta no pueden ser nulas");
+            throw new ValidationException("Las fechas desde y hasta no pueden ser nulas");
+        }
+
+        if (desde.isAfter(hasta)) {
+            log.warn("La fecha desde no puede ser posterior a la fecha hasta");
+            throw new ValidationException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+
+        pageable = paginar(pageable);
+        String filtroPais = (pais != null && !pais.trim().isEmpty()) ? pais.trim() : null;
+
+        // El índice solo sirve orden por fechaInicio ascendente
+        if (ordenPorFechaInicio(pageable.getSort())) {
+            long[] destinosPermitidos = filtroPais == null ? null
+                : destinoRepository.findIdsByPais(filtroPais).stream().mapToLong(Long::longValue).sorted().toArray();
+
+            Optional<ViajeIntervaloIndex.PaginaIds> resultado = viajeIntervaloIndex.buscar((int) desde.toEpochDay(), (int) hasta.toEpochDay(), parcial,
+                destinosPermitidos, pageable.getOffset(), pageable.getPageSize());
+
+            if (resultado.isPresent()) {
+                List<ViajeDTO> viajes = cargarEnOrden(resultado.get().ids());
+                log.debug("Viajes disponibles desde el índice: {}", resultado.get().total());
+                return new PageImpl<>(viajes, pageable, resultado.get().total());
+            }
+        }
+
+        Page<Viaje> viajes = parcial
+            ? viajeRepository.findSolapadosCon(desde, hasta, filtroPais, pageable)
+            : viajeRepository.findContenidosEn(desde, hasta, filtroPais, pageable);
+
+        log.debug("Viajes disponibles desde la base de datos: {}", viajes.getTotalElements());
+
+        return viajes.map(viajeMapper::toDto);
+    }
+
+    // Los k viajes próximos más baratos de cada destino o de cada país, desde el índice en memoria
+    @Transactional(readOnly = true)
+    public List<MasBaratosDTO> findMasBaratos(String por, int k) {
+        log.debug("Buscando los {} viajes más baratos por {}", k, por);
+
+        Agrupacion agrupacion = validarAgrupacion(por);
+        if (k < 1) {
+            log.warn("Número de viajes más baratos no válido: {}", k);
+            throw new ValidationException("k debe ser mayor que 0");
+        }
+
+        return viajeMasBaratosIndex.masBaratos(agrupacion, k);
+    }
+
+    // Calendario de salidas por día o mes, opcionalmente por destino o país (solo periodos con salidas)
+    @Transactional(readOnly = true)
+    public List<ConteoCalendarioDTO> findCalendario(String granularidad, LocalDate desde, LocalDate hasta,
+            Long destinoId, String pais) {
+
+        log.debug("Calendario de salidas {} entre {} y {} (destino: {}, país: {})", granularidad, desde, hasta, destinoId, pais);
+
+        boolean porMes = validarGranularidad(granularidad);
+        LocalDate inicio = desde != null ? desde : LocalDate.now();
+        LocalDate fin = hasta != null ? hasta : inicio.plusYears(1).minusDays(1);
+        if (porMes) {
+            inicio = inicio.withDayOfMonth(1);
+            fin = fin.withDayOfMonth(fin.lengthOfMonth());
+        }
+
+        if (inicio.isAfter(fin)) {
+            log.warn("La fecha desde no puede ser posterior a la fecha hasta");
+            throw new ValidationException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        if (fin.toEpochDay() - inicio.toEpochDay() >= MAX_DIAS_CALENDARIO) {
+            log.warn("Rango de calendario demasiado amplio: {} - {}", inicio, fin);
+            throw new ValidationException("El rango del calendario no puede superar " + MAX_DIAS_CALENDARIO + " días");
+        }
+
+        String filtroPais = (pais != null && !pais.trim().isEmpty()) ? pais.trim() : null;
+        long[] destinos = null;
+        if (destinoId != null) {
+            destinos = new long[] {destinoId};
+        } else if (filtroPais != null) {
+            destinos = destinoRepository.findIdsByPais(filtroPais).stream().mapToLong(Long::longValue).toArray();
+        }
+
+        int diaInicio = (int) inicio.toEpochDay();
+        int[] conteos = viajeCalendarioIndex.conteosPorDia(diaInicio, (int) fin.toEpochDay(), destinos)
+            .orElse(null);
+
+        if (conteos == null) {
+            // Índice aún cargando: agrupar en la base de datos
+            conteos = new int[(int) (fin.toEpochDay() - diaInicio + 1)];
+            for (Object[] fila : viajeRepository.countSalidasPorDia(inicio, fin, destinoId, destinoId == null ? filtroPais : null)) {
+                conteos[(int) (((LocalDate) fila[0]).toEpochDay() - diaInicio)] += ((Number) fila[1]).intValue();
+            }
+        }
+
+        return porMes ? agruparPorMes(conteos, inicio) : agruparPorDia(conteos, inicio);
+    }
+
+    private static List<ConteoCalendarioDTO> agruparPorDia(int[] conteos, LocalDate inicio) {
+        List<ConteoCalendarioDTO> resultado = new ArrayList<>();
+        for (int i = 0; i < conteos.length; i++) {
+            if (conteos[i] > 0) {
+                resultado.add(new ConteoCalendarioDTO(inicio.plusDays(i).toString(), conteos[i]));
+            }
+        }
+        return resultado;
+    }
+
+    private static List<ConteoCalendarioDTO> agruparPorMes(int[] conteos, LocalDate inicio) {
+        List<ConteoCalendarioDTO> resultado = new ArrayList<>();
+        YearMonth mes = YearMonth.from(inicio);
+        int i = 0;
+        while (i < conteos.length) {
+            long cantidad = 0;
+            for (int dia = 0; dia < mes.lengthOfMonth() && i < conteos.length; dia++, i++) {
+                cantidad += conteos[i];
+            }
+            if (cantidad > 0) {
+                resultado.add(new ConteoCalendarioDTO(mes.toString(), cantidad));
+            }
+            mes = mes.plusMonths(1);
+        }
+        return resultado;
+    }
+
+    private static Agrupacion validarAgrupacion(String por) {
+        if (por == null || por.equalsIgnoreCase("destino")) return Agrupacion.DESTINO;
+        if (por.equalsIgnoreCase("pais")) return Agrupacion.PAIS;
+
+        log.warn("Agrupación de viajes más baratos no válida: {}", por);
+        throw new ValidationException("La agrupación debe ser 'destino' o 'pais'");
+    }
+
+    private static boolean validarGranularidad(String granularidad) {
+        if (granularidad == null || granularidad.equalsIgnoreCase("mes")) return true;
+        if (granularidad.equalsIgnoreCase("dia")) return false;
+
+        log.warn("Granularidad de calendario no válida: {}", granularidad);
+        throw new ValidationException("La granularidad debe ser 'dia' o 'mes'");
+    }
+
+    // Cargar viajes por ID conservando el orden recibido
+    private List<ViajeDTO> cargarEnOrden(long[] ids) {
+        if (ids.length == 0) return List.of();
+
+        Map<Long, Viaje> porId = viajeRepository.findAllById(Arrays.stream(ids).boxed().toList()).stream()
+            .collect(Collectors.toMap(Viaje::getId, Function.identity()));
+
+        return Arrays.stream(ids)
+            .mapToObj(porId::get)
+            .filter(Objects::nonNull)
+            .map(viajeMapper::toDto)
+            .toList();
+    }
+
+    private Pageable paginar(Pageable pageable) {
+        return PaginaSolicitada.validar(pageable, ViajeRepository.ORDENES, paginacionProperties.getTamanioMaximo());
+    }
+
+    private static boolean ordenPorFechaInicio(Sort sort) {
+        if (sort.isUnsorted()) return true;
+
+        List<Sort.Order> ordenes = sort.toList();
+        return ordenes.size() == 1
+            && ordenes.get(0).getProperty().equals("fechaInicio")
+            && ordenes.get(0).isAscending();
+    }
+
+    // Validación de fechas; también la usa la importación CSV
+    static void validateFechas(LocalDate fechaInicio, LocalDate fechaFin) {
         if (fechaInicio == null || fechaFin == null) {
             log.warn("Las fechas de inicio y fin no pueden ser nulas");
             throw new ValidationException("Las fechas de inicio y fin no pueden ser nulas");
@@ -159,4 +416,18 @@ public class ViajeService {
         }
     }
     
+
+    // Un ID que acaba de no existir responde 404 sin consultar la base de datos durante el TTL de la caché negativa
+    private void comprobarNoInexistente(Long id) {
+        if (cacheNegativa.contiene(Entidad.VIAJE, id)) {
+            log.debug("Viaje no encontrado con ID: {} (caché negativa)", id);
+            throw new EntityNotFoundException("Viaje no encontrado");
+        }
+    }
+
+    private EntityNotFoundException noEncontrado(Long id) {
+        log.warn("Viaje no encontrado con ID: {}", id);
+        cacheNegativa.registrar(Entidad.VIAJE, id);
+        return new EntityNotFoundException("Viaje no encontrado");
+    }
 }
@@ -0,0 +1,21 @@
+package com.travelapp.tiempos;
+
+// Capas de una petición medidas por separado; cada una aparece como métrica del header Server-Timing
+public enum Capa {
+
+    CONTROLADOR("controlador"),
+    SERVICIO("servicio"),
+    MAPPER("mapper"),
+    JDBC("jdbc"),
+    SERIALIZACION("serializacion");
+
+    private final String metrica;
+
+    Capa(String metrica) {
+        this.metrica = metrica;
+    }
+
+    public String metrica() {
+        return metrica;
+    }
+}
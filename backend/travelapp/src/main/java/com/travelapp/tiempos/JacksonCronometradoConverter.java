@@ -0,0 +1,69 @@
+package com.travelapp.tiempos;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Converter JSON que mide la serialización. Con el header activo serializa primero a memoria:
+// los headers se envían con el primer byte del cuerpo y Server-Timing debe incluir el tiempo de Jackson.
+public class JacksonCronometradoConverter extends MappingJackson2HttpMessageConverter {
+
+    private final boolean cabecera;
+
+    public JacksonCronometradoConverter(ObjectMapper objectMapper, boolean cabecera) {
+        super(objectMapper);
+        this.cabecera = cabecera;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+
+        TiemposPeticion tiempos = TiemposPeticion.actual();
+        if (tiempos == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        if (!cabecera) {
+            tiempos.entrarEn(Capa.SERIALIZACION);
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                tiempos.salirDe(Capa.SERIALIZACION);
+            }
+            return;
+        }
+
+        ByteArrayOutputStream cuerpo = new ByteArrayOutputStream(1024);
+        tiempos.entrarEn(Capa.SERIALIZACION);
+        try {
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return cuerpo;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+        } finally {
+            tiempos.salirDe(Capa.SERIALIZACION);
+        }
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.set(TiemposInterceptor.CABECERA, tiempos.cabecera());
+        headers.setContentLength(cuerpo.size());
+        cuerpo.writeTo(outputMessage.getBody());
+    }
+}
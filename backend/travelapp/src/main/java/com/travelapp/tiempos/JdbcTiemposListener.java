@@ -0,0 +1,50 @@
+package com.travelapp.tiempos;
+
+import org.hibernate.SessionEventListener;
+
+// Tiempo de JDBC de cada sesión de Hibernate: obtener conexión, preparar y ejecutar sentencias.
+// Hibernate lo instancia por sesión a partir de hibernate.session.events.auto.
+public class JdbcTiemposListener implements SessionEventListener {
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        TiemposPeticion.entrar(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        TiemposPeticion.salir(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        TiemposPeticion.entrar(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        TiemposPeticion.salir(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        TiemposPeticion.contarSentencia();
+        TiemposPeticion.entrar(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        TiemposPeticion.salir(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        TiemposPeticion.contarSentencia();
+        TiemposPeticion.entrar(Capa.JDBC);
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        TiemposPeticion.salir(Capa.JDBC);
+    }
+}
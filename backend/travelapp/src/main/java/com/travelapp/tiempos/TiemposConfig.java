@@ -0,0 +1,103 @@
+package com.travelapp.tiempos;
+
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.service.ViajeService;
+
+import lombok.RequiredArgsConstructor;
+
+// Instrumentación por capas de /api: controlador (interceptor), servicios @Transactional y mappers
+// (advisors sobre los proxies que ya crea Spring para las transacciones), JDBC (listener de sesión de
+// Hibernate) y serialización (converter de Jackson).
+// Se registra siempre y se habilita en tiempo de ejecución: con AOT las condiciones sobre propiedades se evalúan
+// al compilar. Deshabilitado, los advisors siguen en los proxies pero no miden nada sin el interceptor.
+@Configuration
+@RequiredArgsConstructor
+public class TiemposConfig implements WebMvcConfigurer {
+
+    private final TiemposProperties properties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isHabilitado()) return;
+
+        // El primero en entrar y el último en salir, para que el total cubra los demás interceptores
+        registry.addInterceptor(new TiemposInterceptor(properties))
+            .addPathPatterns("/api/**")
+            .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!properties.isHabilitado()) return;
+
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+            ? new JacksonCronometradoConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(),
+                properties.isCabecera())
+            : converter);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer tiemposJdbcCustomizer() {
+        if (!properties.isHabilitado()) return propiedades -> { };
+
+        return propiedades -> propiedades.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTiemposListener.class.getName());
+    }
+
+    // Métodos transaccionales de los servicios; por delante del advisor de transacciones para incluir el commit
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor tiemposServicioAdvisor() {
+        Pointcut transaccional = new ComposablePointcut(new AnnotationMatchingPointcut(Transactional.class, true))
+            .union(new AnnotationMatchingPointcut(null, Transactional.class, true))
+            .intersection(enPaquete(ViajeService.class));
+        return advisor(transaccional, Capa.SERVICIO);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor tiemposMapperAdvisor() {
+        return advisor(new ComposablePointcut(enPaquete(ViajeMapper.class)), Capa.MAPPER);
+    }
+
+    private static ClassFilter enPaquete(Class<?> referencia) {
+        String paquete = referencia.getPackageName();
+        return clase -> clase.getPackageName().equals(paquete);
+    }
+
+    private static Advisor advisor(Pointcut pointcut, Capa capa) {
+        MethodInterceptor cronometro = invocacion -> {
+            TiemposPeticion.entrar(capa);
+            try {
+                return invocacion.proceed();
+            } finally {
+                TiemposPeticion.salir(capa);
+            }
+        };
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, cronometro);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,82 @@
+package com.travelapp.tiempos;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Abre el cronómetro de la petición y, al terminar, emite el header Server-Timing si la respuesta
+// no tenía cuerpo JSON (con cuerpo lo añade JacksonCronometradoConverter) y traza las peticiones lentas.
+// Las peticiones asíncronas (SSE, DeferredResult) no pasan por afterCompletion en el hilo que las abrió:
+// se suelta el cronómetro al pasar a modo asíncrono para no dejarlo colgado en el hilo del contenedor.
+@Slf4j
+@RequiredArgsConstructor
+public class TiemposInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String CABECERA = "Server-Timing";
+
+    private final TiemposProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            TiemposPeticion.iniciar().entrarEn(Capa.CONTROLADOR);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TiemposPeticion tiempos = TiemposPeticion.actual();
+        if (tiempos == null) {
+            return;
+        }
+
+        try {
+            tiempos.salirDe(Capa.CONTROLADOR);
+
+            if (properties.isCabecera() && !response.isCommitted() && !response.containsHeader(CABECERA)) {
+                response.setHeader(CABECERA, tiempos.cabecera());
+            }
+
+            if (tiempos.totalNanos() >= properties.getUmbralLento().toNanos() && muestrear(properties.getTasaTrazaLentas())) {
+                trazar(request, response, tiempos);
+            }
+        } finally {
+            TiemposPeticion.finalizar();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TiemposPeticion.finalizar();
+    }
+
+    private static void trazar(HttpServletRequest request, HttpServletResponse response, TiemposPeticion tiempos) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (patron != null ? patron : request.getRequestURI());
+        long totalMs = tiempos.totalNanos() / 1_000_000;
+
+        var evento = log.atInfo()
+            .addKeyValue("endpoint", endpoint)
+            .addKeyValue("status", response.getStatus())
+            .addKeyValue("duracionMs", totalMs)
+            .addKeyValue("sentencias", tiempos.sentencias());
+        for (Capa capa : Capa.values()) {
+            evento = evento.addKeyValue(capa.metrica() + "Ms", tiempos.nanos(capa) / 1_000_000);
+        }
+        evento.log("Petición lenta {} en {} ms: {}", endpoint, totalMs, tiempos.cabecera());
+    }
+
+    private static boolean muestrear(double tasa) {
+        if (tasa <= 0.0) return false;
+        if (tasa >= 1.0) return true;
+        return ThreadLocalRandom.current().nextDouble() < tasa;
+    }
+}
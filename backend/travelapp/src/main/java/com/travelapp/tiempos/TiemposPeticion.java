@@ -0,0 +1,130 @@
+package com.travelapp.tiempos;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+// Cronómetro por capas de la petición en curso.
+// Cada capa acumula solo su tiempo propio: al entrar en una capa anidada (un mapper que dispara una
+// carga lazy, por ejemplo) el tiempo pasa a contar para la interior, de modo que las capas suman el total.
+public final class TiemposPeticion {
+
+    private static final ThreadLocal<TiemposPeticion> ACTUAL = new ThreadLocal<>();
+
+    private final LongSupplier reloj;
+    private final long inicio;
+    private final long[] nanos = new long[Capa.values().length];
+
+    // Capas abiertas por debajo de la actual; null es el tiempo fuera de cualquier capa
+    private Capa[] pila = new Capa[8];
+    private int profundidad;
+    private Capa actual;
+    private long marca;
+    private int sentencias;
+
+    TiemposPeticion(LongSupplier reloj) {
+        this.reloj = reloj;
+        this.inicio = reloj.getAsLong();
+        this.marca = inicio;
+    }
+
+    public static TiemposPeticion iniciar() {
+        return iniciar(System::nanoTime);
+    }
+
+    static TiemposPeticion iniciar(LongSupplier reloj) {
+        TiemposPeticion tiempos = new TiemposPeticion(reloj);
+        ACTUAL.set(tiempos);
+        return tiempos;
+    }
+
+    // Null fuera de una petición HTTP (trabajos, carga de índices): la medición no hace nada
+    public static TiemposPeticion actual() {
+        return ACTUAL.get();
+    }
+
+    public static void finalizar() {
+        ACTUAL.remove();
+    }
+
+    public static void entrar(Capa capa) {
+        TiemposPeticion tiempos = ACTUAL.get();
+        if (tiempos != null) {
+            tiempos.entrarEn(capa);
+        }
+    }
+
+    public static void salir(Capa capa) {
+        TiemposPeticion tiempos = ACTUAL.get();
+        if (tiempos != null) {
+            tiempos.salirDe(capa);
+        }
+    }
+
+    public static void contarSentencia() {
+        TiemposPeticion tiempos = ACTUAL.get();
+        if (tiempos != null) {
+            tiempos.sentencias++;
+        }
+    }
+
+    void entrarEn(Capa capa) {
+        acumular();
+        if (profundidad == pila.length) {
+            pila = Arrays.copyOf(pila, profundidad * 2);
+        }
+        pila[profundidad++] = actual;
+        actual = capa;
+    }
+
+    void salirDe(Capa capa) {
+        // Una salida sin su entrada (excepción entre ambas en código ajeno) no debe descuadrar la pila
+        if (actual != capa || profundidad == 0) {
+            return;
+        }
+        acumular();
+        actual = pila[--profundidad];
+        pila[profundidad] = null;
+    }
+
+    public long nanos(Capa capa) {
+        acumular();
+        return nanos[capa.ordinal()];
+    }
+
+    public long totalNanos() {
+        acumular();
+        return marca - inicio;
+    }
+
+    public int sentencias() {
+        return sentencias;
+    }
+
+    // Valor del header Server-Timing, con duraciones en milisegundos
+    public String cabecera() {
+        acumular();
+        StringBuilder valor = new StringBuilder(160);
+        for (Capa capa : Capa.values()) {
+            metrica(valor, capa.metrica(), nanos[capa.ordinal()]);
+            if (capa == Capa.JDBC) {
+                valor.append(";desc=\"").append(sentencias).append(" sentencias\"");
+            }
+            valor.append(", ");
+        }
+        metrica(valor, "total", marca - inicio);
+        return valor.toString();
+    }
+
+    private void acumular() {
+        long ahora = reloj.getAsLong();
+        if (actual != null) {
+            nanos[actual.ordinal()] += ahora - marca;
+        }
+        marca = ahora;
+    }
+
+    private static void metrica(StringBuilder valor, String nombre, long nanos) {
+        valor.append(nombre).append(";dur=").append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0));
+    }
+}
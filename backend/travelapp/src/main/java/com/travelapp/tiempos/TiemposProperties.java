@@ -0,0 +1,25 @@
+package com.travelapp.tiempos;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travelapp.tiempos")
+public class TiemposProperties {
+
+    private boolean habilitado = true;
+
+    // Devolver el desglose al cliente en el header Server-Timing
+    private boolean cabecera = true;
+
+    // Peticiones a partir de esta duración se consideran lentas y se trazan en el log
+    private Duration umbralLento = Duration.ofMillis(500);
+
+    // Fracción de peticiones lentas que se trazan (0.0 - 1.0)
+    private double tasaTrazaLentas = 1.0;
+}
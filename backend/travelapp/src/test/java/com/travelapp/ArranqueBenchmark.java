@@ -0,0 +1,186 @@
+package com.travelapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// Ejecutar con: mvn test -Pbenchmark -Dtest=ArranqueBenchmark
+// Para incluir AOT, compilar antes con el perfil aot: mvn -Paot -DskipTests package && mvn test -Pbenchmark ...
+// Lanza la aplicación en un proceso aparte (perfil test, H2) y mide el tiempo hasta la primera respuesta 200.
+@Tag("benchmark")
+@DisplayName("Benchmark de arranque")
+class ArranqueBenchmark {
+
+    private static final int REPETICIONES = Integer.getInteger("arranque.repeticiones", 3);
+    private static final Duration TIEMPO_MAXIMO = Duration.ofMinutes(3);
+    private static final Path DIRECTORIO = Paths.get("target", "arranque-benchmark");
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    @DisplayName("Tiempo hasta la primera petición: normal, perezoso, AppCDS y AOT")
+    void benchmarkTiempoHastaPrimeraPeticion() throws Exception {
+        // CDS solo admite jars en el classpath: empaquetar las clases compiladas
+        Files.createDirectories(DIRECTORIO);
+        String classpath = classpath();
+
+        List<String> resultados = new ArrayList<>();
+        resultados.add(medir("normal", classpath, List.of(), "test"));
+        resultados.add(medir("perezoso", classpath, List.of(), "test,arranque"));
+
+        Path archivo = entrenar("cds.jsa", classpath, List.of());
+        resultados.add(medir("perezoso + AppCDS", classpath, List.of("-XX:SharedArchiveFile=" + archivo), "test,arranque"));
+
+        boolean aot = Files.exists(Paths.get("target", "classes", "com", "travelapp",
+            "TravelappApplication__ApplicationContextInitializer.class"));
+        if (aot) {
+            Path archivoAot = entrenar("cds-aot.jsa", classpath, List.of("-Dspring.aot.enabled=true"));
+            resultados.add(medir("perezoso + AppCDS + AOT", classpath,
+                List.of("-XX:SharedArchiveFile=" + archivoAot, "-Dspring.aot.enabled=true"), "test,arranque"));
+        }
+
+        System.out.printf("Arranque: mediana de %d ejecuciones hasta la primera respuesta de GET /api/destinos%n", REPETICIONES);
+        resultados.forEach(System.out::println);
+        if (!aot) {
+            System.out.println("  (AOT no medido: compilar con -Paot para generar el contexto AOT)");
+        }
+
+        assertThat(resultados).isNotEmpty();
+    }
+
+    private String medir(String modo, String classpath, List<String> opcionesJvm, String perfiles) throws Exception {
+        long[] tiempos = new long[REPETICIONES];
+        for (int i = 0; i < REPETICIONES; i++) {
+            tiempos[i] = tiempoHastaPrimeraPeticion(classpath, opcionesJvm, perfiles);
+        }
+        Arrays.sort(tiempos);
+        return String.format("  %-26s %6d ms", modo, tiempos[REPETICIONES / 2]);
+    }
+
+    private long tiempoHastaPrimeraPeticion(String classpath, List<String> opcionesJvm, String perfiles) throws Exception {
+        int puerto = puertoLibre();
+        List<String> comando = comando(classpath, opcionesJvm);
+        comando.add("--spring.profiles.active=" + perfiles);
+        comando.add("--server.port=" + puerto);
+        comando.add("--spring.jpa.show-sql=false");
+
+        HttpRequest peticion = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/api/destinos"))
+            .timeout(Duration.ofSeconds(30))
+            .build();
+
+        long inicio = System.nanoTime();
+        Process proceso = iniciar(comando, "ejecucion.log");
+        try {
+            while (System.nanoTime() - inicio < TIEMPO_MAXIMO.toNanos()) {
+                assertThat(proceso.isAlive()).as("La aplicación terminó antes de responder, ver ejecucion.log").isTrue();
+                try {
+                    if (http.send(peticion, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - inicio) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // Aún no escucha
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("La aplicación no respondió en " + TIEMPO_MAXIMO);
+        } finally {
+            proceso.destroy();
+            proceso.waitFor();
+        }
+    }
+
+    // Ejecución de entrenamiento: arranca el contexto, sale al terminar el refresh y guarda las clases cargadas
+    private Path entrenar(String nombre, String classpath, List<String> opcionesJvm) throws Exception {
+        Path archivo = DIRECTORIO.resolve(nombre).toAbsolutePath();
+        Files.deleteIfExists(archivo);
+
+        List<String> comando = comando(classpath, opcionesJvm);
+        comando.add(1, "-XX:ArchiveClassesAtExit=" + archivo);
+        comando.add(2, "-Dspring.context.exit=onRefresh");
+        comando.add("--spring.profiles.active=test,arranque");
+        comando.add("--spring.jpa.show-sql=false");
+
+        Process proceso = iniciar(comando, "entrenamiento.log");
+        proceso.waitFor();
+        assertThat(archivo).as("Archivo CDS, ver entrenamiento.log").exists();
+        return archivo;
+    }
+
+    private static List<String> comando(String classpath, List<String> opcionesJvm) {
+        List<String> comando = new ArrayList<>();
+        comando.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        comando.addAll(opcionesJvm);
+        comando.add("-cp");
+        comando.add(classpath);
+        comando.add(TravelappApplication.class.getName());
+        return comando;
+    }
+
+    private static Process iniciar(List<String> comando, String log) throws IOException {
+        return new ProcessBuilder(comando)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.appendTo(DIRECTORIO.resolve(log).toFile()))
+            .start();
+    }
+
+    // Jars de la aplicación y de los tests más las dependencias del classpath de tests
+    private static String classpath() throws IOException {
+        String original = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        List<String> entradas = new ArrayList<>();
+        entradas.add(empaquetar(Paths.get("target", "classes"), "app.jar"));
+        entradas.add(empaquetar(Paths.get("target", "test-classes"), "test.jar"));
+        Arrays.stream(original.split(File.pathSeparator))
+            .filter(entrada -> entrada.endsWith(".jar") && !entrada.contains("surefire"))
+            .forEach(entradas::add);
+        return String.join(File.pathSeparator, entradas);
+    }
+
+    private static String empaquetar(Path directorio, String nombre) throws IOException {
+        Path jar = DIRECTORIO.resolve(nombre).toAbsolutePath();
+        try (OutputStream salida = Files.newOutputStream(jar);
+                JarOutputStream destino = new JarOutputStream(salida);
+                Stream<Path> ficheros = Files.walk(directorio)) {
+
+            // También las entradas de directorio: el escaneo de componentes las necesita
+            for (Path fichero : ficheros.filter(fichero -> !fichero.equals(directorio)).collect(Collectors.toList())) {
+                String entrada = directorio.relativize(fichero).toString().replace(File.separatorChar, '/');
+                if (Files.isDirectory(fichero)) {
+                    destino.putNextEntry(new JarEntry(entrada + "/"));
+                } else {
+                    destino.putNextEntry(new JarEntry(entrada));
+                    Files.copy(fichero, destino);
+                }
+                destino.closeEntry();
+            }
+        }
+        return jar.toString();
+    }
+
+    private static int puertoLibre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
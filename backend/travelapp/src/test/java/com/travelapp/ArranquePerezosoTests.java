@@ -0,0 +1,29 @@
+package com.travelapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles({"test", "arranque"})
+@DisplayName("Tests de arranque con inicialización perezosa")
+class ArranquePerezosoTests {
+
+    @Autowired
+    private ConfigurableApplicationContext contexto;
+
+    @Test
+    @DisplayName("El bus de invalidaciones debe crearse al arrancar aunque nadie lo pida")
+    void shouldCreateBusInvalidacion_WhenLazyInitialization() {
+        // Entonces: containsSingleton no crea el bean, solo dice si ya existe
+        assertThat(contexto.getEnvironment().getProperty("spring.main.lazy-initialization")).isEqualTo("true");
+        assertThat(contexto.getBeanFactory().containsSingleton("receptorInvalidaciones")).isTrue();
+        assertThat(contexto.getBeanFactory().containsSingleton("busInvalidacion")).isTrue();
+        assertThat(contexto.getBeanFactory().containsSingleton("publicadorInvalidaciones")).isTrue();
+    }
+}
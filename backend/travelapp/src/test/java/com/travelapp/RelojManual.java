@@ -0,0 +1,45 @@
+package com.travelapp;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+// Reloj que avanza solo cuando el test lo indica; volátil porque algunos componentes lo leen desde sus hilos
+public final class RelojManual extends Clock {
+
+    private volatile long ahora;
+
+    public RelojManual(long ahora) {
+        this.ahora = ahora;
+    }
+
+    public RelojManual(Instant ahora) {
+        this(ahora.toEpochMilli());
+    }
+
+    public void avanzar(Duration duracion) {
+        ahora += duracion.toMillis();
+    }
+
+    @Override
+    public long millis() {
+        return ahora;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(ahora);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+}
@@ -0,0 +1,97 @@
+package com.travelapp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.RelojManual;
+import com.travelapp.cache.CacheNegativa.Entidad;
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+
+@DisplayName("Tests de CacheNegativa")
+class CacheNegativaTest {
+
+    private final RelojManual reloj = new RelojManual(Instant.parse("2026-10-19T10:00:00Z"));
+
+    private CacheNegativaProperties properties;
+    private CacheNegativa cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheNegativaProperties();
+        properties.setTtl(Duration.ofSeconds(30));
+        properties.setCapacidad(3);
+        cache = new CacheNegativa(properties, reloj);
+    }
+
+    @Test
+    @DisplayName("Debe recordar un ID inexistente durante el TTL y por entidad")
+    void shouldRememberId_UntilTtl() {
+        // Cuando
+        cache.registrar(Entidad.VIAJE, 7L);
+
+        // Entonces
+        assertThat(cache.contiene(Entidad.VIAJE, 7L)).isTrue();
+        assertThat(cache.contiene(Entidad.DESTINO, 7L)).isFalse();
+
+        reloj.avanzar(Duration.ofSeconds(30));
+        assertThat(cache.contiene(Entidad.VIAJE, 7L)).isFalse();
+        assertThat(cache.tamanio(Entidad.VIAJE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe olvidar el ID al confirmarse su alta")
+    void shouldForgetId_WhenCreado() {
+        // Dado
+        cache.registrar(Entidad.DESTINO, 4L);
+
+        // Cuando
+        cache.onDestinoCambiado(DestinoCambiadoEvent.creado(DestinoDTO.builder().id(4L).build()));
+
+        // Entonces
+        assertThat(cache.contiene(Entidad.DESTINO, 4L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe descartar los caducados y, si no basta, vaciarse al llegar a la capacidad")
+    void shouldStayBounded() {
+        // Dado
+        cache.registrar(Entidad.VIAJE, 1L);
+        cache.registrar(Entidad.VIAJE, 2L);
+        reloj.avanzar(Duration.ofSeconds(31));
+        cache.registrar(Entidad.VIAJE, 3L);
+
+        // Cuando: los dos primeros han caducado y dejan sitio
+        cache.registrar(Entidad.VIAJE, 4L);
+
+        // Entonces
+        assertThat(cache.tamanio(Entidad.VIAJE)).isEqualTo(2);
+
+        // Cuando: llena y sin caducados
+        cache.registrar(Entidad.VIAJE, 5L);
+        cache.registrar(Entidad.VIAJE, 6L);
+
+        // Entonces
+        assertThat(cache.tamanio(Entidad.VIAJE)).isEqualTo(1);
+        assertThat(cache.contiene(Entidad.VIAJE, 6L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("No debe recordar nada si está deshabilitada")
+    void shouldIgnore_WhenDeshabilitada() {
+        // Dado
+        properties.setHabilitado(false);
+
+        // Cuando
+        cache.registrar(Entidad.VIAJE, 7L);
+
+        // Entonces
+        assertThat(cache.contiene(Entidad.VIAJE, 7L)).isFalse();
+    }
+}
@@ -0,0 +1,246 @@
+package com.travelapp.coalescencia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.travelapp.RelojManual;
+import com.travelapp.event.ViajeCambiadoEvent;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+@DisplayName("Tests de CoalescenciaFilter")
+class CoalescenciaFilterTest {
+
+    private RelojManual clock;
+    private CoalescenciaProperties properties;
+    private RespuestasCompartidas respuestas;
+    private CoalescenciaFilter filter;
+    private AtomicInteger ejecuciones;
+
+    @BeforeEach
+    void setUp() {
+        clock = new RelojManual(1_000L);
+        properties = new CoalescenciaProperties();
+        respuestas = new RespuestasCompartidas(properties, clock);
+        filter = new CoalescenciaFilter(respuestas, properties);
+        ejecuciones = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Las peticiones idénticas en vuelo deben compartir una sola ejecución y su cuerpo")
+    void shouldShareEjecucion_WhenPeticionesConcurrentes() throws Exception {
+        // Dado
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        FilterChain lenta = (request, response) -> {
+            ejecuciones.incrementAndGet();
+            dentro.countDown();
+            esperar(liberar);
+            escribirCuerpo((HttpServletResponse) response, "{\"n\":1}");
+        };
+
+        // Cuando
+        CompletableFuture<MockHttpServletResponse> primera = CompletableFuture.supplyAsync(() -> ejecutar(lenta,
+            peticion("page=0&destinoId=3")));
+        assertThat(dentro.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> segunda = CompletableFuture.supplyAsync(() -> ejecutar(lenta,
+            peticion("destinoId=3&page=0")));
+        Thread.sleep(100);
+        liberar.countDown();
+
+        // Entonces
+        for (MockHttpServletResponse response : new MockHttpServletResponse[] {
+                primera.get(5, TimeUnit.SECONDS), segunda.get(5, TimeUnit.SECONDS) }) {
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentType()).startsWith("application/json");
+            assertThat(response.getContentAsString()).isEqualTo("{\"n\":1}");
+            assertThat(response.getHeader("Vary")).isEqualTo("Origin");
+        }
+        assertThat(ejecuciones).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Debe servir la respuesta durante el TTL y descartarla al caducar o al confirmarse un cambio")
+    void shouldReuseRespuesta_OnlyDuringTtl() throws Exception {
+        // Dado
+        FilterChain cadena = contador("{}");
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), cadena);
+
+        // Cuando / Entonces
+        clock.avanzar(Duration.ofMillis(50));
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), cadena);
+        assertThat(ejecuciones).hasValue(1);
+
+        clock.avanzar(Duration.ofMillis(50));
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), cadena);
+        assertThat(ejecuciones).hasValue(2);
+
+        respuestas.onViajeCambiado(ViajeCambiadoEvent.eliminado(1L));
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), cadena);
+        assertThat(ejecuciones).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Tras confirmarse un cambio, una petición nueva no debe unirse a la que sigue en vuelo")
+    void shouldNotJoinEnVuelo_WhenCambioConfirmado() throws Exception {
+        // Dado: la primera petición leyó antes del cambio y sigue serializando
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        FilterChain cadena = (request, response) -> {
+            int ejecucion = ejecuciones.incrementAndGet();
+            if (ejecucion == 1) {
+                dentro.countDown();
+                esperar(liberar);
+            }
+            escribirCuerpo((HttpServletResponse) response, "{\"n\":" + ejecucion + "}");
+        };
+        CompletableFuture<MockHttpServletResponse> antes = CompletableFuture.supplyAsync(() -> ejecutar(cadena,
+            peticion("page=0")));
+        assertThat(dentro.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Cuando
+        respuestas.onViajeCambiado(ViajeCambiadoEvent.eliminado(1L));
+        CompletableFuture<MockHttpServletResponse> despues = CompletableFuture.supplyAsync(() -> ejecutar(cadena,
+            peticion("page=0")));
+        Thread.sleep(100);
+        liberar.countDown();
+
+        // Entonces
+        assertThat(despues.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"n\":2}");
+        assertThat(antes.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"n\":1}");
+        assertThat(ejecuciones).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("No debe compartir errores 5xx, otras consultas ni rutas fuera de la lista")
+    void shouldNotShare_ErroresNiPeticionesDistintas() throws Exception {
+        // Dado
+        FilterChain fallida = (request, response) -> {
+            ejecuciones.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        // Cuando
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), fallida);
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), fallida);
+        filter.doFilter(peticion("page=1"), new MockHttpServletResponse(), contador("{}"));
+        MockHttpServletRequest jobs = new MockHttpServletRequest("GET", "/api/jobs/1/resultado");
+        filter.doFilter(jobs, new MockHttpServletResponse(), contador("{}"));
+        filter.doFilter(jobs, new MockHttpServletResponse(), contador("{}"));
+
+        // Entonces
+        assertThat(ejecuciones).hasValue(5);
+        assertThat(respuestas.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deshabilitada en tiempo de ejecución, cada petición debe ejecutarse por su cuenta")
+    void shouldNotShare_WhenDeshabilitada() throws Exception {
+        // Dado
+        properties.setHabilitado(false);
+        FilterChain cadena = contador("{}");
+
+        // Cuando
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), cadena);
+        filter.doFilter(peticion("page=0"), new MockHttpServletResponse(), cadena);
+
+        // Entonces
+        assertThat(ejecuciones).hasValue(2);
+        assertThat(respuestas.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("No debe compartir la respuesta entre peticiones de orígenes distintos")
+    void shouldNotShare_WhenOrigenDistinto() throws Exception {
+        // Dado: el controlador devuelve la cabecera CORS del origen de cada petición
+        FilterChain cors = (request, response) -> {
+            ejecuciones.incrementAndGet();
+            String origen = ((MockHttpServletRequest) request).getHeader("Origin");
+            ((HttpServletResponse) response).setHeader("Access-Control-Allow-Origin", origen);
+            escribirCuerpo((HttpServletResponse) response, "{}");
+        };
+        MockHttpServletRequest desdeApp = peticion("page=0");
+        desdeApp.addHeader("Origin", "http://localhost:4200");
+        MockHttpServletRequest desdeOtro = peticion("page=0");
+        desdeOtro.addHeader("Origin", "https://otro.example");
+        MockHttpServletResponse respuestaApp = new MockHttpServletResponse();
+        MockHttpServletResponse respuestaOtro = new MockHttpServletResponse();
+
+        // Cuando: la segunda llega dentro del TTL de la primera
+        filter.doFilter(desdeApp, respuestaApp, cors);
+        filter.doFilter(desdeOtro, respuestaOtro, cors);
+
+        // Entonces
+        assertThat(ejecuciones).hasValue(2);
+        assertThat(respuestaApp.getHeader("Access-Control-Allow-Origin")).isEqualTo("http://localhost:4200");
+        assertThat(respuestaOtro.getHeader("Access-Control-Allow-Origin")).isEqualTo("https://otro.example");
+    }
+
+    @Test
+    @DisplayName("La clave debe ignorar el orden de los parámetros e incluir el Accept")
+    void clave_ShouldNormalizarParametros() {
+        MockHttpServletRequest json = peticion("size=5&page=0");
+        MockHttpServletRequest protobuf = peticion("page=0&size=5");
+        protobuf.addHeader("Accept", "application/x-protobuf");
+
+        assertThat(CoalescenciaFilter.clave(json)).isEqualTo(CoalescenciaFilter.clave(peticion("page=0&size=5")));
+        assertThat(CoalescenciaFilter.clave(json)).isNotEqualTo(CoalescenciaFilter.clave(protobuf));
+    }
+
+    private FilterChain contador(String cuerpo) {
+        return (request, response) -> {
+            ejecuciones.incrementAndGet();
+            escribirCuerpo((HttpServletResponse) response, cuerpo);
+        };
+    }
+
+    private static void escribirCuerpo(HttpServletResponse response, String cuerpo)
+            throws IOException {
+        response.setContentType("application/json");
+        response.setHeader("Vary", "Origin");
+        response.getOutputStream().write(cuerpo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void esperar(CountDownLatch latch) throws IOException {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private MockHttpServletResponse ejecutar(FilterChain cadena, MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, cadena);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest peticion(String consulta) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/viajes");
+        request.setQueryString(consulta);
+        for (String parametro : consulta.split("&")) {
+            String[] partes = parametro.split("=");
+            request.addParameter(partes[0], partes[1]);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,76 @@
+package com.travelapp.concurrencia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests de LimitadorAdaptativo")
+class LimitadorAdaptativoTest {
+
+    private static final long MS = 1_000_000L;
+
+    private LimitadorAdaptativo limitador;
+
+    @BeforeEach
+    void setUp() {
+        limitador = new LimitadorAdaptativo("lectura", new ConcurrenciaProperties.Limites(4, 2, 50));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar sin esperar cuando el límite está completo")
+    void shouldReject_WhenLimitReached() {
+        // Dado
+        for (int i = 0; i < 4; i++) {
+            assertThat(limitador.intentarAdquirir()).isTrue();
+        }
+
+        // Cuando - Entonces
+        assertThat(limitador.intentarAdquirir()).isFalse();
+
+        limitador.liberar();
+        assertThat(limitador.intentarAdquirir()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe aumentar el límite cuando la latencia se mantiene estable bajo carga")
+    void shouldIncreaseLimit_WhenLatencyIsStable() {
+        // Cuando
+        for (int i = 0; i < 200; i++) {
+            ocuparYLiberar(limitador.getLimite(), 10 * MS);
+        }
+
+        // Entonces
+        assertThat(limitador.getLimite()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando la latencia crece")
+    void shouldDecreaseLimit_WhenLatencyGrows() {
+        // Dado
+        for (int i = 0; i < 200; i++) {
+            ocuparYLiberar(limitador.getLimite(), 10 * MS);
+        }
+        int limiteEstable = limitador.getLimite();
+
+        // Cuando
+        for (int i = 0; i < 3; i++) {
+            ocuparYLiberar(limitador.getLimite(), 200 * MS);
+        }
+
+        // Entonces
+        assertThat(limitador.getLimite()).isLessThan(limiteEstable);
+        assertThat(limitador.getLimite()).isGreaterThanOrEqualTo(2);
+    }
+
+    private void ocuparYLiberar(int peticiones, long rttNanos) {
+        int adquiridas = 0;
+        while (adquiridas < peticiones && limitador.intentarAdquirir()) {
+            adquiridas++;
+        }
+        for (int i = 0; i < adquiridas; i++) {
+            limitador.liberar(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.travelapp.esquema;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de VersionEsquemaValidator")
+class VersionEsquemaValidatorTest {
+
+    // Changesets de db.changelog-master.xml
+    private static final List<String> DECLARADOS = List.of("1::alesh", "2::alesh", "3::alesh", "4::alesh", "5::alesh",
+        "6::alesh", "7::alesh", "8::alesh", "9::alesh", "10::alesh");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private EsquemaProperties properties;
+    private VersionEsquemaValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EsquemaProperties();
+        properties.setModo(EsquemaProperties.Modo.SERVE);
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.liquibase.change-log", "classpath:db/changelog/db.changelog-master.xml");
+        validator = new VersionEsquemaValidator(properties, jdbcTemplate, new DefaultResourceLoader(), environment);
+    }
+
+    @Test
+    @DisplayName("Arranca si la base de datos tiene todos los changesets del changelog")
+    void afterSingletonsInstantiated_EsquemaAlDia_NoFalla() {
+        // Dado
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(DECLARADOS);
+
+        // Cuando / Entonces
+        assertThatCode(validator::afterSingletonsInstantiated).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Falla al arrancar si faltan changesets por aplicar")
+    void afterSingletonsInstantiated_ChangesetsPendientes_Falla() {
+        // Dado
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(DECLARADOS.subList(0, DECLARADOS.size() - 2));
+
+        // Cuando / Entonces
+        assertThatThrownBy(validator::afterSingletonsInstantiated)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("faltan 2 changesets")
+            .hasMessageContaining(DECLARADOS.get(DECLARADOS.size() - 2))
+            .hasMessageContaining(DECLARADOS.get(DECLARADOS.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Falla al arrancar si la tabla de Liquibase no existe")
+    void afterSingletonsInstantiated_SinTablaLiquibase_Falla() {
+        // Dado
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class)))
+            .thenThrow(new BadSqlGrammarException("query", "SELECT id, author FROM databasechangelog", null));
+
+        // Cuando / Entonces
+        assertThatThrownBy(validator::afterSingletonsInstantiated)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("databasechangelog")
+            .hasMessageContaining("modo migrate");
+    }
+
+    @Test
+    @DisplayName("Changesets desconocidos en la base de datos (versión más nueva) no impiden arrancar")
+    void afterSingletonsInstantiated_ChangesetsDeVersionMasNueva_NoFalla() {
+        // Dado
+        List<String> aplicados = new ArrayList<>(DECLARADOS);
+        aplicados.add("99::alesh");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(aplicados);
+
+        // Cuando / Entonces
+        assertThatCode(validator::afterSingletonsInstantiated).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Fuera del modo serve no consulta la base de datos")
+    void afterSingletonsInstantiated_ModoCompleto_NoValida() {
+        // Dado
+        properties.setModo(EsquemaProperties.Modo.COMPLETO);
+
+        // Cuando
+        validator.afterSingletonsInstantiated();
+
+        // Entonces
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
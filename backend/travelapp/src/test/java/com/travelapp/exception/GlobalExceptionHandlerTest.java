@@ -35,6 +35,14 @@ class GlobalExceptionHandlerTest {
         assertThat(respuesta.getBody().getTitle()).isEqualTo("Entidad no encontrada");
     }
 
+    @Test
+    @DisplayName("Las excepciones de dominio no deben capturar la traza de pila")
+    void shouldCreateStacklessDomainExceptions() {
+        assertThat(new EntityNotFoundException("Viaje no encontrado").getStackTrace()).isEmpty();
+        assertThat(new ValidationException("Fecha no válida").getStackTrace()).isEmpty();
+        assertThat(new DuplicateEntityException("El destino ya existe").getStackTrace()).isEmpty();
+    }
+
     @Test
     @DisplayName("Debe manejar ValidationException correctamente")
     void shouldHandleValidationException() {
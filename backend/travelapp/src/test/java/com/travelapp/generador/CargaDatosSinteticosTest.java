@@ -0,0 +1,79 @@
+package com.travelapp.generador;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("Tests de CargaDatosSinteticos")
+class CargaDatosSinteticosTest {
+
+    private EmbeddedDatabase baseDeDatos;
+    private JdbcTemplate jdbcTemplate;
+    private CargaDatosSinteticos carga;
+
+    @BeforeEach
+    void setUp() {
+        baseDeDatos = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(baseDeDatos);
+        jdbcTemplate.execute("CREATE TABLE destino (id BIGINT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(255), pais VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE viaje (id BIGINT AUTO_INCREMENT PRIMARY KEY, fecha_inicio DATE, fecha_fin DATE, "
+            + "precio DOUBLE, destino_id BIGINT NOT NULL REFERENCES destino (id))");
+        jdbcTemplate.execute("CREATE TABLE cambio_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, entidad VARCHAR(20) NOT NULL, "
+            + "entidad_id BIGINT NOT NULL, tipo VARCHAR(20) NOT NULL, fecha TIMESTAMP WITH TIME ZONE NOT NULL)");
+        jdbcTemplate.update("INSERT INTO destino (nombre, pais) VALUES ('Delhi', 'India')");
+
+        carga = new CargaDatosSinteticos(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(baseDeDatos)), 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        baseDeDatos.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe insertar destinos y viajes por lotes y registrarlos en cambio_log")
+    void shouldInsertDatos_AndRegistrarCambios() {
+        // Cuando
+        CargaDatosSinteticos.Resumen resumen = carga.cargar(generador(1), 2_000);
+
+        // Entonces
+        assertThat(resumen.destinos()).isEqualTo(50);
+        assertThat(resumen.viajes()).isEqualTo(2_000);
+        assertThat(contar("SELECT COUNT(*) FROM destino")).isEqualTo(51);
+        assertThat(contar("SELECT COUNT(*) FROM viaje")).isEqualTo(2_000);
+        assertThat(contar("SELECT COUNT(*) FROM viaje WHERE destino_id = 1")).isZero();
+        assertThat(contar("SELECT COUNT(*) FROM cambio_log")).isEqualTo(2_050);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una segunda carga con la misma semilla")
+    void shouldReject_WhenSemillaYaCargada() {
+        // Dado
+        carga.cargar(generador(1), 10);
+
+        // Cuando / Entonces
+        assertThatThrownBy(() -> carga.cargar(generador(1), 10)).isInstanceOf(IllegalStateException.class);
+        assertThat(carga.cargar(generador(2), 10).destinos()).isEqualTo(50);
+    }
+
+    private static GeneradorDatos generador(long semilla) {
+        return new GeneradorDatos(semilla, 50, 1.1, LocalDate.of(2026, 1, 1), 365);
+    }
+
+    private long contar(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
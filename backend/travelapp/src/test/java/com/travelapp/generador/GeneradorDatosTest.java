@@ -0,0 +1,87 @@
+package com.travelapp.generador;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.generador.GeneradorDatos.DestinoSintetico;
+import com.travelapp.generador.GeneradorDatos.ViajeSintetico;
+
+@DisplayName("Tests de GeneradorDatos")
+class GeneradorDatosTest {
+
+    private static final LocalDate DESDE = LocalDate.of(2026, 1, 1);
+
+    @Test
+    @DisplayName("La misma semilla debe generar exactamente los mismos datos")
+    void shouldBeDeterministic_WithSameSemilla() {
+        // Dado
+        GeneradorDatos uno = new GeneradorDatos(7, 500, 1.1, DESDE, 365);
+        GeneradorDatos otro = new GeneradorDatos(7, 500, 1.1, DESDE, 365);
+
+        // Cuando / Entonces
+        assertThat(uno.destinos()).isEqualTo(otro.destinos());
+        assertThat(viajes(uno, 2_000)).isEqualTo(viajes(otro, 2_000));
+        assertThat(viajes(new GeneradorDatos(8, 500, 1.1, DESDE, 365), 2_000)).isNotEqualTo(viajes(uno, 2_000));
+    }
+
+    @Test
+    @DisplayName("Los destinos populares deben concentrar la mayoría de los viajes")
+    void shouldSkewViajes_TowardsPopularDestinos() {
+        assertThat(cuotaDelUnoPorCiento(new GeneradorDatos(42, 1_000, 1.1, DESDE, 730))).isGreaterThan(0.35);
+        // Sin asimetría el 1% de los destinos recibe en torno al 1% de los viajes
+        assertThat(cuotaDelUnoPorCiento(new GeneradorDatos(42, 1_000, 0.0, DESDE, 730))).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Debe generar nombres únicos y viajes dentro del rango de fechas")
+    void shouldGenerateValidDatos() {
+        // Dado
+        GeneradorDatos generador = new GeneradorDatos(42, 5_000, 1.1, DESDE, 365);
+
+        // Cuando
+        List<DestinoSintetico> destinos = generador.destinos();
+        List<ViajeSintetico> viajes = viajes(generador, 10_000);
+
+        // Entonces
+        assertThat(destinos).extracting(DestinoSintetico::nombre).doesNotHaveDuplicates();
+        assertThat(viajes).allSatisfy(viaje -> {
+            assertThat(viaje.fechaInicio()).isBetween(DESDE, DESDE.plusDays(364));
+            assertThat(viaje.fechaFin()).isAfter(viaje.fechaInicio());
+            assertThat(viaje.precio()).isPositive();
+            assertThat(viaje.destino()).isBetween(0, 4_999);
+        });
+    }
+
+    @Test
+    @DisplayName("Los resúmenes deben numerar los viajes y referenciar destinos desde 1")
+    void shouldGenerateResumenes() {
+        assertThat(new GeneradorDatos(42, 10, 1.1, DESDE, 365).resumenes(100).toList())
+            .hasSize(100)
+            .allSatisfy(viaje -> assertThat(viaje.destinoId()).isBetween(1L, 10L))
+            .extracting(viaje -> viaje.id())
+            .startsWith(1L, 2L, 3L)
+            .endsWith(100L);
+    }
+
+    private static List<ViajeSintetico> viajes(GeneradorDatos generador, int cantidad) {
+        List<ViajeSintetico> viajes = new ArrayList<>();
+        generador.viajes(cantidad).forEachRemaining(viajes::add);
+        return viajes;
+    }
+
+    private static double cuotaDelUnoPorCiento(GeneradorDatos generador) {
+        int[] porDestino = new int[1_000];
+        generador.viajes(100_000).forEachRemaining(viaje -> porDestino[viaje.destino()]++);
+        Arrays.sort(porDestino);
+        long top = 0;
+        for (int i = porDestino.length - 10; i < porDestino.length; i++) top += porDestino[i];
+        return top / 100_000.0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.travelapp.graphql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.graphql.ViajesPorDestinoLoader.Clave;
+import com.travelapp.service.ViajeService;
+
+import graphql.analysis.FieldComplexityEnvironment;
+
+@DisplayName("Tests de carga por lotes y complejidad de GraphQL")
+class ViajesPorDestinoLoaderTest {
+
+    @Test
+    @DisplayName("Debe resolver todas las claves con una consulta por cada limite distinto")
+    void cargar_ShouldAgruparPorLimite() {
+        // Dado
+        ViajeService viajeService = mock(ViajeService.class);
+        ViajeDTO viaje = ViajeDTO.builder().id(10L).destinoId(1L).build();
+        when(viajeService.findPrimerosPorDestino(anyCollection(), eq(20)))
+            .thenReturn(Map.of(1L, List.of(viaje), 2L, List.of(), 3L, List.of()));
+        when(viajeService.findPrimerosPorDestino(anyCollection(), eq(5))).thenReturn(Map.of(1L, List.of(viaje)));
+
+        // Cuando
+        Map<Clave, List<ViajeDTO>> resultado = new ViajesPorDestinoLoader(viajeService)
+            .cargar(Set.of(new Clave(1L, 20), new Clave(2L, 20), new Clave(3L, 20), new Clave(1L, 5)));
+
+        // Entonces
+        assertThat(resultado).hasSize(4);
+        assertThat(resultado.get(new Clave(1L, 20))).containsExactly(viaje);
+        assertThat(resultado.get(new Clave(2L, 20))).isEmpty();
+        assertThat(resultado.get(new Clave(1L, 5))).containsExactly(viaje);
+        verify(viajeService).findPrimerosPorDestino(anyCollection(), eq(20));
+        verify(viajeService).findPrimerosPorDestino(anyCollection(), eq(5));
+        verifyNoMoreInteractions(viajeService);
+    }
+
+    @Test
+    @DisplayName("La complejidad de una lista debe multiplicarse por su tamanio o limite")
+    void complejidad_ShouldMultiplicarPorTamanio() {
+        ComplejidadCampos complejidad = new ComplejidadCampos();
+
+        assertThat(complejidad.calculate(entorno(Map.of()), 3)).isEqualTo(4);
+        assertThat(complejidad.calculate(entorno(Map.of("limite", 20)), 3)).isEqualTo(61);
+        // destinos(tamanio: 10) { content { viajes(limite: 20) { id precio } } }
+        int viajes = complejidad.calculate(entorno(Map.of("limite", 20)), 2);
+        int content = complejidad.calculate(entorno(Map.of()), viajes);
+        assertThat(complejidad.calculate(entorno(Map.of("tamanio", 10, "pagina", 0)), content)).isEqualTo(421);
+    }
+
+    private static FieldComplexityEnvironment entorno(Map<String, Object> argumentos) {
+        FieldComplexityEnvironment entorno = mock(FieldComplexityEnvironment.class);
+        when(entorno.getArguments()).thenReturn(argumentos);
+        return entorno;
+    }
+}
@@ -0,0 +1,145 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.index.DestinoBusquedaIndex.Coincidencia;
+
+@DisplayName("Tests de DestinoBusquedaIndex")
+class DestinoBusquedaIndexTest {
+
+    private DestinoBusquedaIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinoBusquedaIndex(null);
+        index.cargar(() -> List.of(
+            new Object[] {1L, "Cusco", "Perú"},
+            new Object[] {2L, "Lima", "Perú"},
+            new Object[] {3L, "Barcelona", "España"},
+            new Object[] {4L, "Perugia", "Italia"},
+            new Object[] {5L, "San José", "Costa Rica"}));
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío cuando el índice no está cargado")
+    void shouldReturnEmpty_WhenNotLoaded() {
+        assertThat(new DestinoBusquedaIndex(null).buscar("lima", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe encontrar sin distinguir acentos ni mayúsculas")
+    void shouldMatch_IgnoringAccentsAndCase() {
+        assertThat(ids("PERU")).startsWith(1L, 2L);
+        assertThat(ids("jose")).containsExactly(5L);
+        assertThat(ids("españa")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Debe tolerar errores de escritura y transposiciones")
+    void shouldMatch_WithTypos() {
+        assertThat(ids("Cuzco")).containsExactly(1L);
+        assertThat(ids("Barclenoa")).containsExactly(3L);
+        // Con menos de 4 letras no se admiten errores
+        assertThat(ids("lma")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por términos coincidentes y dar más peso al nombre que al país")
+    void shouldRankByTermsAndField() {
+        // "peru" es exacto en el país de Cusco y Lima y prefijo del nombre Perugia
+        List<Coincidencia> resultado = index.buscar("peru", 10).orElseThrow();
+        assertThat(resultado).extracting(Coincidencia::destinoId).containsExactly(1L, 2L, 4L);
+
+        // Lima coincide con los dos términos y va delante de los que solo coinciden con uno
+        assertThat(ids("lima peru")).first().isEqualTo(2L);
+        assertThat(ids("san jose costa rica")).first().isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Debe buscar por prefijo mientras se escribe")
+    void shouldMatchPrefix() {
+        assertThat(ids("barce")).containsExactly(3L);
+        assertThat(ids("cu")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Debe reflejar altas, modificaciones y bajas")
+    void shouldApplyChanges() {
+        // Cuando
+        index.actualizar(6L, "Bariloche", "Argentina");
+        index.actualizar(2L, "Arequipa", "Perú");
+        index.eliminar(3L);
+
+        // Entonces
+        assertThat(ids("bariloche")).containsExactly(6L);
+        assertThat(ids("lima")).isEmpty();
+        assertThat(ids("arequipa")).containsExactly(2L);
+        assertThat(ids("barcelona")).isEmpty();
+        assertThat(index.terminos()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Los cambios recibidos durante la carga deben prevalecer sobre las filas leídas")
+    void shouldPreferEvents_WhenReceivedDuringLoad() {
+        // Dado
+        DestinoBusquedaIndex nuevo = new DestinoBusquedaIndex(null);
+        List<Object[]> filas = new java.util.AbstractList<>() {
+            @Override
+            public Object[] get(int i) {
+                // Mientras se lee la fila, el destino 1 se renombra
+                nuevo.actualizar(1L, "Machu Picchu", "Perú");
+                return new Object[] {1L, "Cusco", "Perú"};
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+
+        // Cuando
+        nuevo.cargar(() -> filas);
+
+        // Entonces
+        assertThat(nuevo.buscar("cusco", 10).orElseThrow()).isEmpty();
+        assertThat(nuevo.buscar("machu", 10).orElseThrow()).extracting(Coincidencia::destinoId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Los cambios recibidos mientras corre la consulta deben prevalecer sobre las filas que devuelve")
+    void shouldPreferEvents_WhenReceivedWhileQuerying() {
+        // Dado: el destino 1 se renombra y el 2 se borra después de que la consulta tomara su foto
+        DestinoBusquedaIndex nuevo = new DestinoBusquedaIndex(null);
+
+        // Cuando
+        nuevo.cargar(() -> {
+            nuevo.actualizar(1L, "Machu Picchu", "Perú");
+            nuevo.eliminar(2L);
+            return List.of(new Object[] {1L, "Cusco", "Perú"}, new Object[] {2L, "Lima", "Perú"});
+        });
+
+        // Entonces
+        assertThat(nuevo.buscar("cusco", 10).orElseThrow()).isEmpty();
+        assertThat(nuevo.buscar("lima", 10).orElseThrow()).isEmpty();
+        assertThat(nuevo.buscar("machu", 10).orElseThrow()).extracting(Coincidencia::destinoId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Debe calcular la distancia de edición con transposiciones y cortar al superar el máximo")
+    void shouldComputeDistancia() {
+        assertThat(DestinoBusquedaIndex.distancia("cuzco", "cusco", 2)).isEqualTo(1);
+        assertThat(DestinoBusquedaIndex.distancia("barclenoa", "barcelona", 2)).isEqualTo(2);
+        assertThat(DestinoBusquedaIndex.distancia("ab", "ba", 1)).isEqualTo(1);
+        assertThat(DestinoBusquedaIndex.distancia("lima", "roma", 1)).isEqualTo(2);
+    }
+
+    private List<Long> ids(String consulta) {
+        return index.buscar(consulta, 10).orElseThrow().stream().map(Coincidencia::destinoId).toList();
+    }
+}
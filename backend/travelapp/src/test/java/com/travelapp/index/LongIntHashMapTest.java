@@ -0,0 +1,56 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests de LongIntHashMap")
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("Debe guardar, reemplazar y eliminar valores")
+    void shouldPutReplaceAndRemove() {
+        // Dado
+        LongIntHashMap mapa = new LongIntHashMap(4);
+
+        // Cuando - Entonces
+        assertThat(mapa.put(10L, 1)).isEqualTo(LongIntHashMap.AUSENTE);
+        assertThat(mapa.put(10L, 2)).isEqualTo(1);
+        assertThat(mapa.get(10L)).isEqualTo(2);
+        assertThat(mapa.remove(10L)).isEqualTo(2);
+        assertThat(mapa.containsKey(10L)).isFalse();
+        assertThat(mapa.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe comportarse como un HashMap con muchas altas y bajas aleatorias")
+    void shouldMatchHashMap_WithRandomOperations() {
+        // Dado
+        LongIntHashMap mapa = new LongIntHashMap(16);
+        Map<Long, Integer> referencia = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+
+        // Cuando
+        for (int i = 0; i < 50_000; i++) {
+            long clave = random.nextInt(5_000);
+            if (random.nextBoolean()) {
+                mapa.put(clave, i);
+                referencia.put(clave, i);
+            } else {
+                mapa.remove(clave);
+                referencia.remove(clave);
+            }
+        }
+
+        // Entonces
+        assertThat(mapa.size()).isEqualTo(referencia.size());
+        for (long clave = 0; clave < 5_000; clave++) {
+            assertThat(mapa.get(clave)).isEqualTo(referencia.getOrDefault(clave, LongIntHashMap.AUSENTE));
+        }
+    }
+}
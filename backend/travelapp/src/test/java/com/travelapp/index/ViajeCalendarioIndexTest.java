@@ -0,0 +1,98 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.dto.ViajeResumen;
+
+@DisplayName("Tests de ViajeCalendarioIndex")
+class ViajeCalendarioIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2027, 1, 1);
+
+    private ViajeCalendarioIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ViajeCalendarioIndex(null);
+        index.cargar(() -> Stream.of(
+            viaje(1L, 0, 10L),
+            viaje(2L, 0, 20L),
+            viaje(3L, 2, 10L)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío cuando el índice no está cargado")
+    void shouldReturnEmpty_WhenNotLoaded() {
+        assertThat(new ViajeCalendarioIndex(null).conteosPorDia(dia(0), dia(3), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe contar salidas por día, en total y por destino")
+    void shouldCountSalidasPorDia() {
+        assertThat(index.conteosPorDia(dia(0), dia(3), null).orElseThrow()).containsExactly(2, 0, 1, 0);
+        assertThat(index.conteosPorDia(dia(0), dia(3), new long[] {10L}).orElseThrow()).containsExactly(1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Debe mover y descontar conteos al modificar o eliminar viajes")
+    void shouldMoveAndDiscountCounts_WhenViajesChange() {
+        // Cuando
+        index.actualizar(viaje(1L, -5, 20L));
+        index.eliminar(3L);
+        index.actualizar(viaje(4L, 400, 10L));
+
+        // Entonces
+        assertThat(index.conteosPorDia(dia(-5), dia(2), null).orElseThrow()).containsExactly(1, 0, 0, 0, 0, 1, 0, 0);
+        assertThat(index.conteosPorDia(dia(-5), dia(2), new long[] {20L}).orElseThrow()).containsExactly(1, 0, 0, 0, 0, 1, 0, 0);
+        assertThat(index.conteosPorDia(dia(400), dia(400), new long[] {10L}).orElseThrow()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Los cambios recibidos durante la carga deben prevalecer sobre las filas leídas")
+    void shouldPreferEvents_WhenReceivedDuringLoad() {
+        // Dado: el viaje 1 se elimina mientras la carga todavía no ha leído su fila
+        ViajeCalendarioIndex nuevo = new ViajeCalendarioIndex(null);
+        Stream<ViajeResumen> filas = Stream.of(viaje(2L, 0, 10L), viaje(1L, 0, 10L))
+            .peek(fila -> {
+                if (fila.id() == 2L) nuevo.eliminar(1L);
+            });
+
+        // Cuando
+        nuevo.cargar(() -> filas);
+
+        // Entonces
+        assertThat(nuevo.conteosPorDia(dia(0), dia(0), null).orElseThrow()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Los cambios recibidos mientras corre la consulta deben prevalecer sobre las filas que devuelve")
+    void shouldPreferEvents_WhenReceivedWhileQuerying() {
+        // Dado
+        ViajeCalendarioIndex nuevo = new ViajeCalendarioIndex(null);
+
+        // Cuando: el viaje 1 se elimina y el 2 se mueve al día 3 después de que la consulta tomara su foto
+        nuevo.cargar(() -> {
+            nuevo.eliminar(1L);
+            nuevo.actualizar(viaje(2L, 3, 10L));
+            return Stream.of(viaje(1L, 0, 10L), viaje(2L, 0, 10L));
+        });
+
+        // Entonces
+        assertThat(nuevo.conteosPorDia(dia(0), dia(3), null).orElseThrow()).containsExactly(0, 0, 0, 1);
+    }
+
+    private static ViajeResumen viaje(long id, int inicio, long destinoId) {
+        return new ViajeResumen(id, BASE.plusDays(inicio), BASE.plusDays(inicio + 7), 100.0, destinoId);
+    }
+
+    private static int dia(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+}
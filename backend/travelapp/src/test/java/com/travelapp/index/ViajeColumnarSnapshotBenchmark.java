@@ -0,0 +1,67 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.generador.GeneradorDatos;
+import com.travelapp.generador.GeneradorDatos.DestinoSintetico;
+import com.travelapp.index.ViajeColumnarSnapshot.Agrupacion;
+
+// Ejecutar con: mvn test -Pbenchmark
+@Tag("benchmark")
+@DisplayName("Benchmark de ViajeColumnarSnapshot")
+class ViajeColumnarSnapshotBenchmark {
+
+    private static final int VIAJES = 1_000_000;
+    private static final int DESTINOS = 10_000;
+    private static final int CONSULTAS = 50;
+    private static final LocalDate BASE = LocalDate.of(2027, 1, 1);
+
+    @Test
+    @DisplayName("Agregados por país sobre 1M de viajes y memoria por viaje")
+    void benchmarkUnMillonDeViajes() {
+        GeneradorDatos generador = new GeneradorDatos(42, DESTINOS, 1.1, BASE, 730);
+        List<DestinoSintetico> destinos = generador.destinos();
+        ViajeColumnarSnapshot snapshot = new ViajeColumnarSnapshot(null, null);
+        for (int d = 0; d < DESTINOS; d++) {
+            snapshot.registrarDestino(d + 1L, destinos.get(d).nombre(), destinos.get(d).pais());
+        }
+
+        long memoriaAntes = memoriaUsada();
+        long t0 = System.nanoTime();
+        snapshot.cargar(() -> generador.resumenes(VIAJES));
+        long cargaMs = (System.nanoTime() - t0) / 1_000_000;
+        long bytesPorViaje = (memoriaUsada() - memoriaAntes) / VIAJES;
+
+        // Calentamiento
+        long control = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            control += snapshot.agregar(Integer.MIN_VALUE, Integer.MAX_VALUE, Agrupacion.PAIS).orElseThrow().size();
+        }
+
+        long t1 = System.nanoTime();
+        for (int i = 0; i < CONSULTAS; i++) {
+            control += snapshot.agregar(Integer.MIN_VALUE, Integer.MAX_VALUE, Agrupacion.PAIS).orElseThrow().size();
+        }
+        long agregadoNs = System.nanoTime() - t1;
+
+        System.out.printf("ViajeColumnarSnapshot: carga de %d viajes en %d ms, ~%d bytes por viaje%n",
+            VIAJES, cargaMs, bytesPorViaje);
+        System.out.printf("  ingresos por país: %.2f ms/consulta%n", agregadoNs / 1_000_000.0 / CONSULTAS);
+
+        long paises = destinos.stream().map(DestinoSintetico::pais).distinct().count();
+        assertThat(control).isEqualTo(paises * CONSULTAS * 2);
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,160 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.index.ViajeColumnarSnapshot.Agregado;
+import com.travelapp.index.ViajeColumnarSnapshot.Agrupacion;
+
+@DisplayName("Tests de ViajeColumnarSnapshot")
+class ViajeColumnarSnapshotTest {
+
+    private static final LocalDate BASE = LocalDate.of(2027, 1, 1);
+    private static final int TODO_DESDE = Integer.MIN_VALUE;
+    private static final int TODO_HASTA = Integer.MAX_VALUE;
+
+    private ViajeColumnarSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ViajeColumnarSnapshot(null, null);
+        snapshot.registrarDestino(10L, "Cusco", "Perú");
+        snapshot.registrarDestino(20L, "Lima", "Perú");
+        snapshot.registrarDestino(30L, "Tokio", "Japón");
+        snapshot.cargar(() -> Stream.of(
+            viaje(1L, 0, 5, 100.0, 10L),
+            viaje(2L, 10, 20, 300.0, 20L),
+            viaje(3L, 30, 37, 1000.0, 30L)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío cuando el snapshot no está cargado")
+    void shouldReturnEmpty_WhenNotLoaded() {
+        ViajeColumnarSnapshot nuevo = new ViajeColumnarSnapshot(null, null);
+
+        assertThat(nuevo.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.TOTAL)).isEmpty();
+        assertThat(nuevo.histogramaPrecios(TODO_DESDE, TODO_HASTA, 100, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe agregar ingresos, precios y duración por país")
+    void shouldAggregateByPais() {
+        // Cuando
+        List<Agregado> agregados = snapshot.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.PAIS).orElseThrow();
+
+        // Entonces
+        assertThat(agregados).containsExactlyInAnyOrder(
+            new Agregado("Perú", 0L, 2, 400.0, 100.0, 300.0, 15),
+            new Agregado("Japón", 0L, 1, 1000.0, 1000.0, 1000.0, 7));
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por fecha de inicio y agrupar por destino")
+    void shouldFilterByFechaInicio_AndGroupByDestino() {
+        // Cuando
+        List<Agregado> agregados = snapshot.agregar(dia(5), dia(30), Agrupacion.DESTINO).orElseThrow();
+
+        // Entonces
+        assertThat(agregados).containsExactlyInAnyOrder(
+            new Agregado("Lima", 20L, 1, 300.0, 300.0, 300.0, 10),
+            new Agregado("Tokio", 30L, 1, 1000.0, 1000.0, 1000.0, 7));
+    }
+
+    @Test
+    @DisplayName("Debe reflejar altas, modificaciones, bajas y cambios de país")
+    void shouldApplyIncrementalChanges() {
+        // Cuando
+        snapshot.actualizar(viaje(1L, 0, 2, 50.0, 30L));
+        snapshot.eliminar(2L);
+        snapshot.actualizar(viaje(4L, 40, 41, 200.0, 20L));
+        snapshot.registrarDestino(20L, "Lima", "Chile");
+
+        // Entonces
+        assertThat(snapshot.filas()).isEqualTo(3);
+        assertThat(snapshot.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.PAIS).orElseThrow()).containsExactlyInAnyOrder(
+            new Agregado("Chile", 0L, 1, 200.0, 200.0, 200.0, 1),
+            new Agregado("Japón", 0L, 2, 1050.0, 50.0, 1000.0, 9));
+    }
+
+    @Test
+    @DisplayName("Debe contar viajes por tramo de precio acumulando el resto en el último")
+    void shouldBuildHistogramaPrecios() {
+        assertThat(snapshot.histogramaPrecios(TODO_DESDE, TODO_HASTA, 250, 3).orElseThrow())
+            .containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Los cambios recibidos durante una recarga deben conservarse en la copia nueva")
+    void shouldKeepChanges_WhenReceivedDuringReload() {
+        // Dado: el viaje 3 se elimina cuando la recarga ya ha leído su fila
+        Stream<ViajeResumen> filas = Stream.of(viaje(3L, 30, 37, 1000.0, 30L), viaje(5L, 0, 1, 10.0, 10L))
+            .peek(fila -> {
+                if (fila.id() == 5L) snapshot.eliminar(3L);
+            });
+
+        // Cuando
+        snapshot.cargar(() -> filas);
+
+        // Entonces
+        assertThat(snapshot.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.TOTAL).orElseThrow())
+            .containsExactly(new Agregado(null, 0L, 1, 10.0, 10.0, 10.0, 1));
+    }
+
+    @Test
+    @DisplayName("Los cambios recibidos mientras corre la consulta deben prevalecer sobre las filas que devuelve")
+    void shouldKeepChanges_WhenReceivedWhileQuerying() {
+        // Cuando: el viaje 3 se elimina y el 1 se abarata después de que la consulta tomara su foto
+        snapshot.cargar(() -> {
+            snapshot.eliminar(3L);
+            snapshot.actualizar(viaje(1L, 0, 5, 10.0, 10L));
+            return Stream.of(viaje(1L, 0, 5, 100.0, 10L), viaje(3L, 30, 37, 1000.0, 30L));
+        });
+
+        // Entonces
+        assertThat(snapshot.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.TOTAL).orElseThrow())
+            .containsExactly(new Agregado(null, 0L, 1, 10.0, 10.0, 10.0, 5));
+    }
+
+    @Test
+    @DisplayName("El recorrido paralelo debe coincidir con un recorrido secuencial")
+    void shouldMatchSequentialScan_WhenScanningInParallel() {
+        // Dado
+        int viajes = ViajeColumnarSnapshot.FILAS_POR_PARTICION * 8;
+        SplittableRandom random = new SplittableRandom(3);
+        double[] precios = new double[viajes];
+        ViajeColumnarSnapshot grande = new ViajeColumnarSnapshot(null, null);
+        grande.cargar(() -> Stream.iterate(0, i -> i < viajes, i -> i + 1).map(i -> {
+            precios[i] = 1 + random.nextInt(5000);
+            return viaje(i + 1L, random.nextInt(365), 400, precios[i], random.nextInt(50));
+        }));
+
+        // Cuando
+        Agregado total = grande.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.TOTAL).orElseThrow().get(0);
+
+        // Entonces
+        double suma = 0;
+        for (double precio : precios) suma += precio;
+        assertThat(total.viajes()).isEqualTo(viajes);
+        assertThat(total.ingresos()).isCloseTo(suma, within(1e-3));
+        assertThat(grande.agregar(TODO_DESDE, TODO_HASTA, Agrupacion.DESTINO).orElseThrow()
+            .stream().mapToLong(Agregado::viajes).sum()).isEqualTo(viajes);
+    }
+
+    private static ViajeResumen viaje(long id, int inicio, int fin, double precio, long destinoId) {
+        return new ViajeResumen(id, BASE.plusDays(inicio), BASE.plusDays(fin), precio, destinoId);
+    }
+
+    private static int dia(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+}
@@ -0,0 +1,79 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.generador.GeneradorDatos;
+
+// Ejecutar con: mvn test -Pbenchmark
+@Tag("benchmark")
+@DisplayName("Benchmark de ViajeIntervaloIndex")
+class ViajeIntervaloIndexBenchmark {
+
+    private static final int VIAJES = 1_000_000;
+    private static final int CONSULTAS = 2_000;
+    private static final LocalDate BASE = LocalDate.of(2027, 1, 1);
+
+    @Test
+    @DisplayName("Consultas de rango sobre 1M de viajes: índice vs barrido lineal")
+    void benchmarkUnMillonDeViajes() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] inicios = new int[VIAJES];
+        int[] fines = new int[VIAJES];
+
+        long t0 = System.nanoTime();
+        ViajeIntervaloIndex index = new ViajeIntervaloIndex(null);
+        index.cargar(new GeneradorDatos(42, 10_000, 1.1, BASE, 730).resumenes(VIAJES).peek(viaje -> {
+            inicios[(int) viaje.id() - 1] = (int) viaje.fechaInicio().toEpochDay();
+            fines[(int) viaje.id() - 1] = (int) viaje.fechaFin().toEpochDay();
+        }).iterator());
+        long cargaMs = (System.nanoTime() - t0) / 1_000_000;
+
+        int[] desde = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            desde[i] = (int) BASE.toEpochDay() + random.nextInt(700);
+        }
+
+        // Calentamiento
+        long control = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            control += index.buscar(desde[i], desde[i] + 14, false, null, 0, 20).orElseThrow().total();
+            control += barridoLineal(inicios, fines, desde[i], desde[i] + 14);
+        }
+
+        long t1 = System.nanoTime();
+        long totalIndice = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            totalIndice += index.buscar(desde[i], desde[i] + 14, false, null, 0, 20).orElseThrow().total();
+        }
+        long indiceNs = System.nanoTime() - t1;
+
+        long t2 = System.nanoTime();
+        long totalLineal = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            totalLineal += barridoLineal(inicios, fines, desde[i], desde[i] + 14);
+        }
+        long linealNs = System.nanoTime() - t2;
+
+        System.out.printf("ViajeIntervaloIndex: carga de %d viajes en %d ms%n", VIAJES, cargaMs);
+        System.out.printf("  índice:        %.1f µs/consulta%n", indiceNs / 1_000.0 / CONSULTAS);
+        System.out.printf("  barrido lineal: %.1f µs/consulta%n", linealNs / 1_000.0 / CONSULTAS);
+
+        assertThat(totalIndice).isEqualTo(totalLineal);
+        assertThat(control).isPositive();
+    }
+
+    private static long barridoLineal(int[] inicios, int[] fines, int desde, int hasta) {
+        long total = 0;
+        for (int i = 0; i < inicios.length; i++) {
+            if (inicios[i] >= desde && fines[i] <= hasta) total++;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,143 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.dto.ViajeResumen;
+
+@DisplayName("Tests de ViajeIntervaloIndex")
+class ViajeIntervaloIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2027, 1, 1);
+
+    private ViajeIntervaloIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ViajeIntervaloIndex(null);
+        index.cargar(List.of(
+            viaje(1L, 0, 5, 10L),
+            viaje(2L, 3, 12, 10L),
+            viaje(3L, 8, 9, 20L),
+            viaje(4L, 20, 25, 20L)).iterator());
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío cuando el índice no está cargado")
+    void shouldReturnEmpty_WhenNotLoaded() {
+        assertThat(new ViajeIntervaloIndex(null).buscar(0, 10, false, null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe devolver solo los viajes contenidos en el rango")
+    void shouldReturnContainedViajes() {
+        // Cuando
+        ViajeIntervaloIndex.PaginaIds resultado = index.buscar(dia(2), dia(12), false, null, 0, 10).orElseThrow();
+
+        // Entonces
+        assertThat(resultado.ids()).containsExactly(2L, 3L);
+        assertThat(resultado.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe devolver los viajes que se solapan cuando parcial es true")
+    void shouldReturnOverlappingViajes_WhenParcial() {
+        // Cuando
+        ViajeIntervaloIndex.PaginaIds resultado = index.buscar(dia(4), dia(8), true, null, 0, 10).orElseThrow();
+
+        // Entonces
+        assertThat(resultado.ids()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por destinos permitidos y paginar")
+    void shouldFilterByDestinoAndPaginate() {
+        // Cuando
+        ViajeIntervaloIndex.PaginaIds resultado = index.buscar(dia(0), dia(30), false, new long[] {20L}, 1, 10).orElseThrow();
+
+        // Entonces
+        assertThat(resultado.ids()).containsExactly(4L);
+        assertThat(resultado.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe reflejar altas, modificaciones y bajas posteriores a la carga")
+    void shouldApplyChangesAfterLoad() {
+        // Cuando
+        index.actualizar(viaje(5L, 6, 7, 10L));
+        index.actualizar(viaje(3L, 40, 41, 20L));
+        index.eliminar(1L);
+
+        // Entonces
+        ViajeIntervaloIndex.PaginaIds resultado = index.buscar(dia(0), dia(30), false, null, 0, 10).orElseThrow();
+        assertThat(resultado.ids()).containsExactly(2L, 5L, 4L);
+    }
+
+    @Test
+    @DisplayName("Debe conservar los resultados después de fusionar el delta")
+    void shouldKeepResults_WhenDeltaMerged() {
+        // Cuando
+        for (long id = 100; id <= 100 + ViajeIntervaloIndex.UMBRAL_FUSION; id++) {
+            index.actualizar(viaje(id, 50, 51, 30L));
+        }
+        index.eliminar(2L);
+
+        // Entonces
+        assertThat(index.buscar(dia(0), dia(30), false, null, 0, 10).orElseThrow().ids()).containsExactly(1L, 3L, 4L);
+        assertThat(index.buscar(dia(50), dia(51), false, null, 0, 10).orElseThrow().total())
+            .isEqualTo(ViajeIntervaloIndex.UMBRAL_FUSION + 1);
+    }
+
+    @Test
+    @DisplayName("Debe conservar los cambios recibidos durante la carga aunque superen el umbral de fusión")
+    void shouldKeepChanges_WhenDeltaExceedsThresholdWhileLoading() {
+        // Dado
+        ViajeIntervaloIndex enCarga = new ViajeIntervaloIndex(null);
+        Iterator<ViajeResumen> filas = List.of(viaje(1L, 0, 5, 10L), viaje(2L, 3, 12, 10L)).iterator();
+        Iterator<ViajeResumen> filasConCambios = new Iterator<>() {
+            private boolean cambiosAplicados;
+
+            @Override
+            public boolean hasNext() {
+                if (!cambiosAplicados) {
+                    cambiosAplicados = true;
+                    for (long id = 100; id <= 100 + ViajeIntervaloIndex.UMBRAL_FUSION; id++) {
+                        enCarga.actualizar(viaje(id, 50, 51, 30L));
+                    }
+                    enCarga.actualizar(viaje(1L, 40, 41, 10L));
+                    enCarga.eliminar(2L);
+                }
+                return filas.hasNext();
+            }
+
+            @Override
+            public ViajeResumen next() {
+                return filas.next();
+            }
+        };
+
+        // Cuando
+        enCarga.cargar(filasConCambios);
+
+        // Entonces
+        assertThat(enCarga.buscar(dia(0), dia(30), false, null, 0, 10).orElseThrow().ids()).isEmpty();
+        assertThat(enCarga.buscar(dia(40), dia(41), false, null, 0, 10).orElseThrow().ids()).containsExactly(1L);
+        assertThat(enCarga.buscar(dia(50), dia(51), false, null, 0, 10).orElseThrow().total())
+            .isEqualTo(ViajeIntervaloIndex.UMBRAL_FUSION + 1);
+    }
+
+    private static ViajeResumen viaje(long id, int inicio, int fin, long destinoId) {
+        return new ViajeResumen(id, BASE.plusDays(inicio), BASE.plusDays(fin), 100.0, destinoId);
+    }
+
+    private static int dia(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+}
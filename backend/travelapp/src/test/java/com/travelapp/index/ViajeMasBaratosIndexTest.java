@@ -0,0 +1,153 @@
+package com.travelapp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.travelapp.config.MasBaratosProperties;
+import com.travelapp.dto.MasBaratosDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.index.ViajeMasBaratosIndex.Agrupacion;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de ViajeMasBaratosIndex")
+class ViajeMasBaratosIndexTest {
+
+    private static final LocalDate HOY = LocalDate.of(2027, 1, 1);
+
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    @Mock
+    private DestinoRepository destinoRepository;
+
+    private ViajeMasBaratosIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MasBaratosProperties properties = new MasBaratosProperties();
+        properties.setMaximoPorGrupo(3);
+        Clock clock = Clock.fixed(HOY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        index = new ViajeMasBaratosIndex(viajeRepository, destinoRepository, properties, clock);
+
+        when(destinoRepository.findIdNombrePais()).thenReturn(List.of(
+            new Object[] {1L, "Madrid", "España"},
+            new Object[] {2L, "Sevilla", "España"},
+            new Object[] {3L, "Roma", "Italia"}));
+    }
+
+    @Test
+    @DisplayName("Debe devolver los k más baratos de cada destino y país, cargando cada grupo una sola vez")
+    void shouldReturnCheapestPerGroup_LoadingEachGroupOnce() {
+        // Dado: por destino caben todos (grupos completos); España tiene justo el máximo
+        when(viajeRepository.findMasBaratosByDestinoIds(anyCollection(), eq(HOY), eq(3L)))
+            .thenReturn(List.of(viaje(2L, 1L, 50), viaje(1L, 1L, 100), viaje(3L, 2L, 70), viaje(4L, 3L, 30)));
+        when(viajeRepository.findMasBaratosByPaises(anyCollection(), eq(HOY), eq(3L)))
+            .thenReturn(List.of(viaje(4L, 3L, 30), viaje(2L, 1L, 50), viaje(3L, 2L, 70), viaje(1L, 1L, 100)));
+
+        // Cuando
+        List<MasBaratosDTO> porDestino = index.masBaratos(Agrupacion.DESTINO, 2);
+        index.masBaratos(Agrupacion.DESTINO, 2);
+        List<MasBaratosDTO> porPais = index.masBaratos(Agrupacion.PAIS, 2);
+
+        // Entonces
+        assertThat(porDestino).extracting(MasBaratosDTO::getDestinoNombre).containsExactly("Roma", "Madrid", "Sevilla");
+        assertThat(ids(porDestino.get(1))).containsExactly(2L, 1L);
+        assertThat(porDestino.get(1).getPais()).isEqualTo("España");
+        assertThat(porPais).extracting(MasBaratosDTO::getPais).containsExactly("Italia", "España");
+        assertThat(ids(porPais.get(1))).containsExactly(2L, 3L);
+        assertThat(porPais.get(1).getViajes().get(1).getDestinoNombre()).isEqualTo("Sevilla");
+        verify(viajeRepository, times(1)).findMasBaratosByDestinoIds(anyCollection(), eq(HOY), eq(3L));
+    }
+
+    @Test
+    @DisplayName("Debe mantener los montículos con altas, cambios de precio y bajas sin volver a consultar")
+    void shouldMaintainHeaps_WithoutQueryingAgain() {
+        // Dado
+        when(viajeRepository.findMasBaratosByDestinoIds(anyCollection(), eq(HOY), eq(3L)))
+            .thenReturn(List.of(viaje(2L, 1L, 50), viaje(1L, 1L, 100), viaje(3L, 2L, 70), viaje(4L, 3L, 30)));
+        index.masBaratos(Agrupacion.DESTINO, 3);
+
+        // Cuando
+        index.actualizar(viaje(5L, 1L, 10));
+        index.actualizar(viaje(2L, 1L, 500));
+        index.actualizar(new ViajeResumen(6L, HOY.minusDays(1), HOY.plusDays(5), 1.0, 1L));
+        index.actualizar(viaje(3L, 1L, 60));
+        index.eliminar(5L);
+
+        // Entonces: el 3 pasa de Sevilla a Madrid y saca al 2 del montículo; el 6 ya ha salido
+        List<MasBaratosDTO> porDestino = index.masBaratos(Agrupacion.DESTINO, 2);
+        assertThat(porDestino).extracting(MasBaratosDTO::getDestinoNombre).containsExactly("Roma", "Madrid");
+        assertThat(ids(porDestino.get(1))).containsExactly(3L, 1L);
+        verify(viajeRepository, times(1)).findMasBaratosByDestinoIds(anyCollection(), eq(HOY), eq(3L));
+    }
+
+    @Test
+    @DisplayName("Debe recargar un grupo incompleto cuando lo que queda no llega a k")
+    void shouldReloadIncompleteGroup_WhenFewerThanK() {
+        // Dado: España tiene más viajes que el máximo por grupo
+        when(viajeRepository.findMasBaratosByPaises(anyCollection(), eq(HOY), eq(3L)))
+            .thenReturn(List.of(viaje(4L, 3L, 30), viaje(2L, 1L, 50), viaje(3L, 2L, 70), viaje(1L, 1L, 100)))
+            .thenReturn(List.of(viaje(1L, 1L, 100), viaje(7L, 1L, 1000)));
+        index.masBaratos(Agrupacion.PAIS, 2);
+
+        // Cuando: el 7 es más caro que la cima y no entra; al quedar uno, España se recarga
+        index.actualizar(viaje(7L, 1L, 1000));
+        index.eliminar(2L);
+        List<MasBaratosDTO> conUno = index.masBaratos(Agrupacion.PAIS, 1);
+        index.eliminar(3L);
+        List<MasBaratosDTO> recargado = index.masBaratos(Agrupacion.PAIS, 2);
+
+        // Entonces
+        assertThat(ids(conUno.get(1))).containsExactly(3L);
+        assertThat(ids(recargado.get(1))).containsExactly(1L, 7L);
+        verify(viajeRepository).findMasBaratosByPaises(List.of("España"), HOY, 3L);
+    }
+
+    @Test
+    @DisplayName("No debe instalar un grupo modificado mientras se recargaba")
+    void shouldNotInstallGroup_WhenModifiedDuringReload() {
+        // Dado: el viaje 8 de Roma se crea después de leer las filas
+        when(viajeRepository.findMasBaratosByDestinoIds(anyCollection(), eq(HOY), eq(3L)))
+            .thenAnswer(invocacion -> {
+                index.actualizar(viaje(8L, 3L, 5));
+                return List.of(viaje(2L, 1L, 50), viaje(4L, 3L, 30));
+            })
+            .thenReturn(List.of(viaje(8L, 3L, 5), viaje(4L, 3L, 30)));
+
+        // Cuando
+        List<MasBaratosDTO> leido = index.masBaratos(Agrupacion.DESTINO, 2);
+        List<MasBaratosDTO> recargado = index.masBaratos(Agrupacion.DESTINO, 2);
+
+        // Entonces: solo Roma se vuelve a consultar
+        assertThat(ids(leido.get(0))).containsExactly(4L);
+        assertThat(ids(recargado.get(0))).containsExactly(8L, 4L);
+        verify(viajeRepository).findMasBaratosByDestinoIds(List.of(3L), HOY, 3L);
+    }
+
+    private static ViajeResumen viaje(long id, long destinoId, double precio) {
+        return new ViajeResumen(id, HOY.plusDays(id), HOY.plusDays(id + 7), precio, destinoId);
+    }
+
+    private static List<Long> ids(MasBaratosDTO grupo) {
+        return grupo.getViajes().stream().map(ViajeDTO::getId).toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.travelapp.invalidacion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.travelapp.RelojManual;
+import com.travelapp.event.TipoCambio;
+
+@DisplayName("Tests de BusInvalidacionTabla")
+class BusInvalidacionTablaTest {
+
+    private EmbeddedDatabase baseDeDatos;
+    private JdbcTemplate jdbcTemplate;
+    private RelojManual clock;
+    private InvalidacionProperties properties;
+    private final List<BusInvalidacionTabla> buses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        baseDeDatos = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(baseDeDatos);
+        jdbcTemplate.execute("CREATE TABLE invalidacion_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "entidad VARCHAR(20) NOT NULL, entidad_id BIGINT NOT NULL, tipo VARCHAR(20) NOT NULL, "
+            + "nodo VARCHAR(64) NOT NULL, fecha TIMESTAMP WITH TIME ZONE NOT NULL)");
+
+        clock = new RelojManual(Instant.parse("2026-10-19T10:00:00Z"));
+        properties = new InvalidacionProperties();
+        // Sin vueltas automáticas: el test llama a sincronizar()
+        properties.setIntervalo(Duration.ofHours(1));
+        properties.setTamanioLote(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(BusInvalidacionTabla::destroy);
+        baseDeDatos.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe entregar las invalidaciones de un nodo a los demás una sola vez y no a sí mismo")
+    void shouldDeliverToOtherNodesOnce() {
+        // Dado
+        List<Invalidacion> recibidasA = new ArrayList<>();
+        List<Invalidacion> recibidasB = new ArrayList<>();
+        BusInvalidacionTabla nodoA = bus("a", recibidasA);
+        BusInvalidacionTabla nodoB = bus("b", recibidasB);
+
+        // Cuando
+        nodoA.publicar(new Invalidacion(Invalidacion.VIAJE, 7L, TipoCambio.ACTUALIZADO));
+        nodoA.publicar(new Invalidacion(Invalidacion.VIAJE, 8L, TipoCambio.CREADO));
+        nodoA.publicar(new Invalidacion(Invalidacion.DESTINO, 1L, TipoCambio.ELIMINADO));
+        nodoA.sincronizar();
+        nodoB.sincronizar();
+        nodoB.sincronizar();
+
+        // Entonces
+        assertThat(recibidasB).containsExactly(
+            new Invalidacion(Invalidacion.VIAJE, 7L, TipoCambio.ACTUALIZADO),
+            new Invalidacion(Invalidacion.VIAJE, 8L, TipoCambio.CREADO),
+            new Invalidacion(Invalidacion.DESTINO, 1L, TipoCambio.ELIMINADO));
+        nodoA.sincronizar();
+        assertThat(recibidasA).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe entregar una fila con id menor confirmada después, dentro de la ventana de relectura")
+    void shouldDeliverLateRows_WithinVentanaRelectura() {
+        // Dado
+        List<Invalidacion> recibidas = new ArrayList<>();
+        BusInvalidacionTabla nodoB = bus("b", recibidas);
+        insertar(5, 50L);
+        nodoB.sincronizar();
+
+        // Cuando: el id 3 se confirma después que el 5
+        clock.avanzar(Duration.ofSeconds(2));
+        insertar(3, 30L);
+        nodoB.sincronizar();
+
+        // Entonces
+        assertThat(recibidas).extracting(Invalidacion::id).containsExactly(50L, 30L);
+
+        // Pasada la ventana ya no se releen
+        clock.avanzar(Duration.ofSeconds(10));
+        nodoB.sincronizar();
+        insertar(4, 40L);
+        nodoB.sincronizar();
+        assertThat(recibidas).extracting(Invalidacion::id).containsExactly(50L, 30L);
+    }
+
+    @Test
+    @DisplayName("Debe borrar las filas más antiguas que la retención")
+    void shouldDeleteRows_OlderThanRetencion() {
+        // Dado
+        jdbcTemplate.update("INSERT INTO invalidacion_log (entidad, entidad_id, tipo, nodo, fecha) "
+            + "VALUES ('viaje', 1, 'CREADO', 'c', ?)", Timestamp.from(clock.instant().minus(Duration.ofHours(1))));
+        insertar(10, 2L);
+
+        // Cuando
+        bus("b", new ArrayList<>()).sincronizar();
+
+        // Entonces
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM invalidacion_log", Long.class)).containsExactly(10L);
+    }
+
+    private BusInvalidacionTabla bus(String nodo, List<Invalidacion> recibidas) {
+        BusInvalidacionTabla bus = new BusInvalidacionTabla(jdbcTemplate, properties, nodo, recibidas::addAll, clock);
+        buses.add(bus);
+        return bus;
+    }
+
+    private void insertar(long id, long viajeId) {
+        jdbcTemplate.update("INSERT INTO invalidacion_log (id, entidad, entidad_id, tipo, nodo, fecha) "
+            + "VALUES (?, 'viaje', ?, 'ACTUALIZADO', 'c', ?)", id, viajeId, Timestamp.from(clock.instant()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.travelapp.invalidacion;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.Destino;
+import com.travelapp.model.Viaje;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de ReceptorInvalidaciones")
+class ReceptorInvalidacionesTest {
+
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    @Mock
+    private DestinoRepository destinoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PublicadorInvalidaciones publicadorA;
+
+    @BeforeEach
+    void setUp() {
+        ReceptorInvalidaciones receptorB = new ReceptorInvalidaciones(viajeRepository, destinoRepository,
+            new ViajeMapper(), new DestinoMapper(), eventPublisher, new TransactionTemplate(transactionManager));
+
+        // Dos nodos en el mismo canal, con entrega síncrona
+        BusInvalidacionMemoria.Canal canal = new BusInvalidacionMemoria.Canal();
+        BusInvalidacionMemoria busA = new BusInvalidacionMemoria(canal, Runnable::run, invalidaciones -> { });
+        new BusInvalidacionMemoria(canal, Runnable::run, receptorB::recibir);
+        publicadorA = new PublicadorInvalidaciones(busA);
+    }
+
+    @Test
+    @DisplayName("Debe volver a publicar en el otro nodo el viaje modificado, con los datos actuales, como remoto")
+    void shouldRepublishViajeActual_AsRemoto() {
+        // Dado
+        Destino destino = Destino.builder().id(1L).nombre("Cusco").pais("Perú").build();
+        Viaje viaje = Viaje.builder().id(7L).precio(900.0).destino(destino).build();
+        when(viajeRepository.findConDestinoByIdIn(List.of(7L))).thenReturn(List.of(viaje));
+
+        // Cuando
+        publicadorA.onViajeCambiado(ViajeCambiadoEvent.actualizado(ViajeDTO.builder().id(7L).precio(800.0).build()));
+
+        // Entonces
+        ViajeDTO actual = ViajeDTO.builder().id(7L).precio(900.0).destinoId(1L).destinoNombre("Cusco").build();
+        verify(eventPublisher).publishEvent(ViajeCambiadoEvent.remoto(TipoCambio.ACTUALIZADO, 7L, actual));
+    }
+
+    @Test
+    @DisplayName("Debe publicar como eliminada una entidad que ya no existe y no reenviar los eventos remotos")
+    void shouldPublishEliminado_WhenEntidadNoExiste() {
+        // Dado
+        when(destinoRepository.findAllById(List.of(3L))).thenReturn(List.of());
+
+        // Cuando
+        publicadorA.onDestinoCambiado(DestinoCambiadoEvent.remoto(TipoCambio.CREADO, 2L, null));
+        publicadorA.onDestinoCambiado(new DestinoCambiadoEvent(TipoCambio.ACTUALIZADO, 3L, null));
+        publicadorA.onViajeCambiado(ViajeCambiadoEvent.eliminado(8L));
+
+        // Entonces
+        verify(eventPublisher).publishEvent(DestinoCambiadoEvent.remoto(TipoCambio.ELIMINADO, 3L, null));
+        verify(eventPublisher).publishEvent(ViajeCambiadoEvent.remoto(TipoCambio.ELIMINADO, 8L, null));
+        verify(destinoRepository, never()).findAllById(List.of(2L));
+        verify(viajeRepository, never()).findConDestinoByIdIn(any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.travelapp.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayName("Tests de RequestLogInterceptor")
+class RequestLogInterceptorTest {
+
+    private MuestreoProperties properties;
+    private RequestLogInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        properties = new MuestreoProperties();
+        interceptor = new RequestLogInterceptor(properties);
+
+        request = new MockHttpServletRequest("POST", "/api/viajes");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/viajes");
+        response = new MockHttpServletResponse();
+
+        Method metodo = Object.class.getMethod("toString");
+        handler = new HandlerMethod(new Object(), metodo);
+    }
+
+    @Test
+    @DisplayName("Debe seleccionar la petición para debug cuando la tasa debug es 1")
+    void shouldSelectDebug_WhenTasaDebugIsOne() {
+        // Dado
+        properties.setTasaDebug(1.0);
+
+        // Cuando
+        interceptor.preHandle(request, response, handler);
+
+        // Entonces
+        assertThat(MuestreoLog.debugSeleccionado()).isTrue();
+
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(MuestreoLog.debugSeleccionado()).isFalse();
+    }
+
+    @Test
+    @DisplayName("No debe seleccionar la petición para debug cuando la tasa debug es 0")
+    void shouldNotSelectDebug_WhenTasaDebugIsZero() {
+        // Dado
+        properties.setTasaDebug(0.0);
+
+        // Cuando
+        interceptor.preHandle(request, response, handler);
+
+        // Entonces
+        assertThat(MuestreoLog.debugSeleccionado()).isFalse();
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    @Test
+    @DisplayName("Debe liberar la marca de debug del hilo cuando la petición pasa a modo asíncrono")
+    void shouldClearDebug_WhenConcurrentHandlingStarted() {
+        // Dado
+        properties.setTasaDebug(1.0);
+        interceptor.preHandle(request, response, handler);
+
+        // Cuando
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        // Entonces
+        assertThat(MuestreoLog.debugSeleccionado()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar handlers que no son métodos de controlador")
+    void shouldIgnoreNonHandlerMethods() {
+        // Cuando
+        boolean continuar = interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Entonces
+        assertThat(continuar).isTrue();
+        assertThat(MuestreoLog.debugSeleccionado()).isFalse();
+    }
+}
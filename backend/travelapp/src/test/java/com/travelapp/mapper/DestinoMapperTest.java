@@ -53,12 +53,12 @@ class DestinoMapperTest {
                 .id(1L)
                 .nombre("Nairobi")
                 .pais("Kenia")
-                .viajeIds(Arrays.asList(1L, 2L))
+                .viajeIds(new long[] {1L, 2L})
                 .build();
     }
 
     @Test
-    @DisplayName("Debe mapear Destino a DestinoDTO correctamente")
+    @DisplayName("Debe mapear Destino a DestinoDTO sin recorrer la colección de viajes")
     void shouldMapDestinoToDestinoDTO() {
         // Cuando
         DestinoDTO resultado = destinoMapper.toDto(destino);
@@ -68,8 +68,8 @@ class DestinoMapperTest {
         assertThat(resultado.getId()).isEqualTo(1L);
         assertThat(resultado.getNombre()).isEqualTo("Berlín");
         assertThat(resultado.getPais()).isEqualTo("Alemania");
-        assertThat(resultado.getViajeIds()).hasSize(2);
-        assertThat(resultado.getViajeIds()).containsExactly(1L, 2L);
+        assertThat(resultado.getViajeIds()).isNull();
+        assertThat(resultado.getViajeCount()).isNull();
     }
 
     @Test
@@ -148,13 +148,11 @@ class DestinoMapperTest {
         assertThat(resultado.get(0).getId()).isEqualTo(1L);
         assertThat(resultado.get(0).getNombre()).isEqualTo("Berlín");
         assertThat(resultado.get(0).getPais()).isEqualTo("Alemania");
-        assertThat(resultado.get(0).getViajeIds()).hasSize(2);
 
         // Segundo destino
         assertThat(resultado.get(1).getId()).isEqualTo(2L);
         assertThat(resultado.get(1).getNombre()).isEqualTo("Honolulu");
         assertThat(resultado.get(1).getPais()).isEqualTo("Estados Unidos");
-        assertThat(resultado.get(1).getViajeIds()).hasSize(1);
     }
 
     @Test
@@ -0,0 +1,79 @@
+package com.travelapp.perfilado;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Tests de AccesoPerfiladoFilter")
+class AccesoPerfiladoFilterTest {
+
+    private AccesoPerfiladoFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AccesoPerfiladoFilter(true, "s3cr3t", new ObjectMapper());
+        request = new MockHttpServletRequest("GET", "/admin/jfr");
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar las peticiones con el token")
+    void shouldPass_WhenTokenCorrecto() throws Exception {
+        // Dado
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer s3cr3t");
+
+        // Cuando
+        filter.doFilter(request, response, chain);
+
+        // Entonces
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 las peticiones sin token o con otro")
+    void shouldReject_WhenTokenAusenteOIncorrecto() throws Exception {
+        // Cuando
+        filter.doFilter(request, response, chain);
+
+        MockHttpServletRequest otro = new MockHttpServletRequest("POST", "/admin/jfr");
+        otro.addHeader(HttpHeaders.AUTHORIZATION, "Bearer s3cr3");
+        MockHttpServletResponse respuestaOtro = new MockHttpServletResponse();
+        MockFilterChain chainOtro = new MockFilterChain();
+        filter.doFilter(otro, respuestaOtro, chainOtro);
+
+        // Entonces
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(respuestaOtro.getStatus()).isEqualTo(401);
+        assertThat(chainOtro.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe responder 404 a todo si el perfilado no está habilitado")
+    void shouldReturnNotFound_WhenDeshabilitado() throws Exception {
+        // Dado
+        AccesoPerfiladoFilter deshabilitado = new AccesoPerfiladoFilter(false, null, new ObjectMapper());
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer s3cr3t");
+
+        // Cuando
+        deshabilitado.doFilter(request, response, chain);
+
+        // Entonces
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(chain.getRequest()).isNull();
+    }
+}
@@ -0,0 +1,56 @@
+package com.travelapp.perfilado;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@DisplayName("Tests de EventosJfrInterceptor")
+class EventosJfrInterceptorTest {
+
+    @Test
+    @DisplayName("Debe tomar el primer Long como id de entidad y el tamaño del Pageable")
+    void shouldFillArgumentos() {
+        // Dado
+        OperacionServicioEvent evento = new OperacionServicioEvent();
+
+        // Cuando
+        EventosJfrInterceptor.rellenarArgumentos(evento, new Object[] {3L, "precio", 9L, PageRequest.of(0, 20)});
+
+        // Entonces
+        assertThat(evento.entidadId).isEqualTo(3L);
+        assertThat(evento.tamanioPagina).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("No debe rellenar la página si la consulta no es paginada")
+    void shouldIgnorePageable_WhenUnpaged() {
+        // Dado
+        OperacionServicioEvent evento = new OperacionServicioEvent();
+
+        // Cuando
+        EventosJfrInterceptor.rellenarArgumentos(evento, new Object[] {Pageable.unpaged()});
+
+        // Entonces
+        assertThat(evento.entidadId).isZero();
+        assertThat(evento.tamanioPagina).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe contar las filas según el tipo de resultado")
+    void shouldCountFilas() {
+        assertThat(EventosJfrInterceptor.filas(null)).isZero();
+        assertThat(EventosJfrInterceptor.filas(new PageImpl<>(List.of(1, 2), PageRequest.of(0, 10), 50))).isEqualTo(2);
+        assertThat(EventosJfrInterceptor.filas(List.of(1, 2, 3))).isEqualTo(3);
+        assertThat(EventosJfrInterceptor.filas(Optional.empty())).isZero();
+        assertThat(EventosJfrInterceptor.filas(Stream.of(1))).isEqualTo(-1);
+        assertThat(EventosJfrInterceptor.filas("viaje")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.travelapp.perfilado;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.travelapp.dto.GrabacionDTO;
+import com.travelapp.dto.SolicitudGrabacionDTO;
+import com.travelapp.exception.DuplicateEntityException;
+import com.travelapp.exception.ValidationException;
+
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("Tests de GrabacionesJfr")
+class GrabacionesJfrTest {
+
+    @TempDir
+    private Path directorio;
+
+    private PerfiladoProperties properties;
+    private GrabacionesJfr grabacionesJfr;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PerfiladoProperties();
+        properties.setDirectorio(directorio);
+        grabacionesJfr = new GrabacionesJfr(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        grabacionesJfr.destroy();
+    }
+
+    @Test
+    @DisplayName("Debe grabar los eventos propios y devolver el archivo al detener")
+    void shouldRecordEventos_AndWriteArchivo() throws Exception {
+        // Dado
+        GrabacionDTO grabacion = grabacionesJfr.iniciar(new SolicitudGrabacionDTO(Duration.ofMinutes(1), 10, "default"));
+        assertThat(grabacion.getEstado()).isEqualTo(GrabacionDTO.Estado.EN_CURSO);
+
+        OperacionServicioEvent evento = new OperacionServicioEvent();
+        evento.clase = "ViajeService";
+        evento.metodo = "findById";
+        evento.entidadId = 7;
+        evento.commit();
+
+        // Cuando
+        GrabacionDTO detenida = grabacionesJfr.detener(grabacion.getId());
+
+        // Entonces
+        assertThat(detenida.getEstado()).isEqualTo(GrabacionDTO.Estado.TERMINADA);
+        assertThat(detenida.getUrlArchivo()).isEqualTo("/admin/jfr/" + grabacion.getId() + "/archivo");
+        assertThat(RecordingFile.readAllEvents(grabacionesJfr.archivo(grabacion.getId())))
+            .filteredOn(e -> e.getEventType().getName().equals("com.travelapp.OperacionServicio"))
+            .singleElement()
+            .satisfies(e -> assertThat(e.getLong("entidadId")).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("No debe volcar el entorno, las propiedades del sistema ni los argumentos de la JVM")
+    void shouldNotRecordEntorno() throws Exception {
+        // Dado
+        GrabacionDTO grabacion = grabacionesJfr.iniciar(new SolicitudGrabacionDTO(Duration.ofMinutes(1), 10, "default"));
+
+        // Cuando
+        grabacionesJfr.detener(grabacion.getId());
+
+        // Entonces
+        assertThat(RecordingFile.readAllEvents(grabacionesJfr.archivo(grabacion.getId())))
+            .isNotEmpty()
+            .extracting(e -> e.getEventType().getName())
+            .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una segunda grabación mientras hay otra en curso")
+    void shouldReject_WhenGrabacionEnCurso() {
+        // Dado
+        GrabacionDTO grabacion = grabacionesJfr.iniciar(new SolicitudGrabacionDTO());
+
+        // Cuando / Entonces
+        assertThatThrownBy(() -> grabacionesJfr.iniciar(new SolicitudGrabacionDTO()))
+            .isInstanceOf(DuplicateEntityException.class);
+        assertThatThrownBy(() -> grabacionesJfr.archivo(grabacion.getId()))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar duración, tamaño o configuración fuera de los límites")
+    void shouldThrowValidation_WhenFueraDeLimites() {
+        assertThatThrownBy(() -> grabacionesJfr.iniciar(new SolicitudGrabacionDTO(Duration.ofHours(1), null, null)))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> grabacionesJfr.iniciar(new SolicitudGrabacionDTO(null, 1024, null)))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> grabacionesJfr.iniciar(new SolicitudGrabacionDTO(null, null, "todo")))
+            .isInstanceOf(ValidationException.class);
+        assertThat(grabacionesJfr.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe descartar las grabaciones terminadas más antiguas al superar las conservadas")
+    void shouldDiscardAntiguas_WhenLimiteConservadas() {
+        // Dado
+        properties.setGrabacionesConservadas(1);
+        GrabacionDTO primera = grabacionesJfr.iniciar(new SolicitudGrabacionDTO());
+        grabacionesJfr.detener(primera.getId());
+
+        // Cuando
+        GrabacionDTO segunda = grabacionesJfr.iniciar(new SolicitudGrabacionDTO());
+
+        // Entonces
+        assertThat(grabacionesJfr.findAll()).extracting(GrabacionDTO::getId).containsExactly(segunda.getId());
+        assertThat(directorio.resolve("travelapp-" + primera.getId() + ".jfr")).doesNotExist();
+    }
+}
@@ -0,0 +1,98 @@
+package com.travelapp.protobuf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.generador.GeneradorDatos;
+import com.travelapp.generador.GeneradorDatos.DestinoSintetico;
+import com.travelapp.generador.GeneradorDatos.ViajeSintetico;
+
+// Ejecutar con: mvn test -Pbenchmark
+@Tag("benchmark")
+@DisplayName("Benchmark de ProtobufCodec frente a JSON")
+class ProtobufCodecBenchmark {
+
+    private static final int TAMANIO_PAGINA = 1_000;
+    private static final int ITERACIONES = 2_000;
+
+    // Mismo envoltorio que el JSON de la API (PageSerializationMode.VIA_DTO)
+    record PaginaJson(List<ViajeDTO> content, PagedModel.PageMetadata page) {
+    }
+
+    @Test
+    @DisplayName("Tamaño y tiempo de codificación y decodificación de una página de 1.000 viajes")
+    void benchmarkPaginaDeViajes() throws Exception {
+        Page<ViajeDTO> pagina = pagina();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        byte[] json = objectMapper.writeValueAsBytes(new PagedModel<>(pagina));
+        byte[] protobuf = ProtobufCodec.codificar(pagina);
+
+        // Calentamiento
+        long control = medir(objectMapper, pagina, json, protobuf)[4];
+
+        long[] tiempos = medir(objectMapper, pagina, json, protobuf);
+        control += tiempos[4];
+
+        System.out.printf("Página de %d viajes: JSON %d bytes, protobuf %d bytes (%.0f%%)%n", TAMANIO_PAGINA,
+            json.length, protobuf.length, 100.0 * protobuf.length / json.length);
+        System.out.printf("  codificar: JSON %.1f us, protobuf %.1f us%n", micros(tiempos[0]), micros(tiempos[1]));
+        System.out.printf("  decodificar: JSON %.1f us, protobuf %.1f us%n", micros(tiempos[2]), micros(tiempos[3]));
+
+        assertThat(ProtobufCodec.leerPaginaViajes(protobuf).getContent()).isEqualTo(pagina.getContent());
+        assertThat(protobuf.length).isLessThan(json.length / 2);
+        assertThat(control).isPositive();
+    }
+
+    // [codificar JSON, codificar protobuf, decodificar JSON, decodificar protobuf, control] en ns por iteración
+    private static long[] medir(ObjectMapper objectMapper, Page<ViajeDTO> pagina, byte[] json, byte[] protobuf)
+            throws Exception {
+        long control = 0;
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) control += objectMapper.writeValueAsBytes(new PagedModel<>(pagina)).length;
+        long t1 = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) control += ProtobufCodec.codificar(pagina).length;
+        long t2 = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) control += objectMapper.readValue(json, PaginaJson.class).content().size();
+        long t3 = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) control += ProtobufCodec.leerPaginaViajes(protobuf).getNumberOfElements();
+        long t4 = System.nanoTime();
+
+        return new long[] { (t1 - t0) / ITERACIONES, (t2 - t1) / ITERACIONES, (t3 - t2) / ITERACIONES,
+            (t4 - t3) / ITERACIONES, control };
+    }
+
+    private static Page<ViajeDTO> pagina() {
+        GeneradorDatos generador = new GeneradorDatos(42, 1_000, 1.1, LocalDate.of(2027, 1, 1), 730);
+        List<DestinoSintetico> destinos = generador.destinos();
+        List<ViajeDTO> viajes = new ArrayList<>(TAMANIO_PAGINA);
+        Iterator<ViajeSintetico> iterador = generador.viajes(TAMANIO_PAGINA);
+        for (long id = 1_000_000; iterador.hasNext(); id++) {
+            ViajeSintetico viaje = iterador.next();
+            viajes.add(ViajeDTO.builder().id(id).fechaInicio(viaje.fechaInicio()).fechaFin(viaje.fechaFin())
+                .precio(viaje.precio()).destinoId(viaje.destino() + 1L)
+                .destinoNombre(destinos.get(viaje.destino()).nombre()).build());
+        }
+        return new PageImpl<>(viajes, PageRequest.of(0, TAMANIO_PAGINA), 2_000_000);
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.travelapp.protobuf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+
+import com.google.protobuf.UnknownFieldSet;
+import com.travelapp.dto.DestinoDTO;
+import com.travelapp.dto.ViajeDTO;
+
+@DisplayName("Tests de ProtobufCodec")
+class ProtobufCodecTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2027, 3, 1);
+
+    @Test
+    @DisplayName("Debe codificar fechas como días desde 1970 y omitir los campos nulos")
+    void codificar_ShouldUsarEpochDays_AndOmitirNulos() throws Exception {
+        // Dado
+        ViajeDTO viaje = ViajeDTO.builder().id(300L).fechaInicio(INICIO).fechaFin(INICIO.plusDays(7)).precio(1250.5)
+            .destinoId(4L).build();
+
+        // Cuando
+        UnknownFieldSet campos = UnknownFieldSet.parseFrom(ProtobufCodec.codificar(viaje));
+
+        // Entonces: cualquier parser protobuf lee los campos de travelapp.proto
+        assertThat(campos.getField(ProtobufCodec.VIAJE_ID).getVarintList()).containsExactly(300L);
+        long zigzag = campos.getField(ProtobufCodec.VIAJE_FECHA_INICIO).getVarintList().get(0);
+        assertThat((zigzag >>> 1) ^ -(zigzag & 1)).isEqualTo(INICIO.toEpochDay());
+        assertThat(Double.longBitsToDouble(campos.getField(ProtobufCodec.VIAJE_PRECIO).getFixed64List().get(0)))
+            .isEqualTo(1250.5);
+        assertThat(campos.hasField(ProtobufCodec.VIAJE_DESTINO_NOMBRE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Una página de viajes debe leerse igual que se escribió")
+    void paginaViajes_ShouldRoundTrip() throws Exception {
+        // Dado
+        List<ViajeDTO> viajes = List.of(
+            ViajeDTO.builder().id(1L).fechaInicio(INICIO).fechaFin(INICIO.plusDays(3)).precio(99.9).destinoId(7L)
+                .destinoNombre("Cusco").build(),
+            ViajeDTO.builder().id(2L).fechaInicio(LocalDate.of(1969, 12, 31)).fechaFin(INICIO).build());
+        Page<ViajeDTO> pagina = new PageImpl<>(viajes, PageRequest.of(3, 2), 57);
+
+        // Cuando
+        Page<ViajeDTO> leida = ProtobufCodec.leerPaginaViajes(ProtobufCodec.codificar(pagina));
+
+        // Entonces
+        assertThat(leida.getContent()).isEqualTo(viajes);
+        assertThat(leida.getNumber()).isEqualTo(3);
+        assertThat(leida.getSize()).isEqualTo(2);
+        assertThat(leida.getTotalElements()).isEqualTo(57);
+        assertThat(leida.getTotalPages()).isEqualTo(29);
+    }
+
+    @Test
+    @DisplayName("Un destino debe conservar sus viajeIds empaquetados")
+    void destino_ShouldRoundTrip_ConViajeIds() throws Exception {
+        // Dado
+        DestinoDTO destino = DestinoDTO.builder().id(12L).nombre("Lima").pais("Perú").viajeCount(3L)
+            .viajeIds(new long[] { 1L, 300L, 5_000_000_000L }).build();
+
+        // Cuando
+        DestinoDTO leido = ProtobufCodec.leerDestino(ProtobufCodec.codificar(destino));
+
+        // Entonces
+        assertThat(leido.getNombre()).isEqualTo("Lima");
+        assertThat(leido.getPais()).isEqualTo("Perú");
+        assertThat(leido.getViajeCount()).isEqualTo(3L);
+        assertThat(leido.getViajeIds()).containsExactly(1L, 300L, 5_000_000_000L);
+        assertThat(ProtobufCodec.leerDestino(ProtobufCodec.codificar(DestinoDTO.builder().id(1L).build()))
+            .getViajeIds()).isNull();
+    }
+
+    @Test
+    @DisplayName("El converter solo debe aceptar DTOs y páginas de DTOs")
+    void converter_ShouldWriteSoloDtosYPaginas() {
+        ProtobufDtoConverter converter = new ProtobufDtoConverter(false);
+        MediaType protobuf = ProtobufCodec.APPLICATION_PROTOBUF;
+
+        assertThat(converter.canWrite(tipo(new ParameterizedTypeReference<Page<ViajeDTO>>() { }), PageImpl.class,
+            protobuf)).isTrue();
+        assertThat(converter.canWrite(DestinoDTO.class, DestinoDTO.class, protobuf)).isTrue();
+        assertThat(converter.canWrite(tipo(new ParameterizedTypeReference<Page<Map<String, Object>>>() { }),
+            PageImpl.class, protobuf)).isFalse();
+        assertThat(converter.canWrite(ViajeDTO.class, ViajeDTO.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(ViajeDTO.class, null, protobuf)).isTrue();
+    }
+
+    private static Type tipo(ParameterizedTypeReference<?> referencia) {
+        return referencia.getType();
+    }
+}
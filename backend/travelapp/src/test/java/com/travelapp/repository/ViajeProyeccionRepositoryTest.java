@@ -0,0 +1,109 @@
+package com.travelapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.travelapp.model.Destino;
+import com.travelapp.model.Viaje;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.travelapp.repository.ViajeProyeccionRepositoryTest$SentenciasEjecutadas")
+@ActiveProfiles("test")
+@DisplayName("Tests de la proyección de campos de ViajeRepository")
+class ViajeProyeccionRepositoryTest {
+
+    @Autowired
+    private ViajeRepository viajeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Destino lima;
+
+    @BeforeEach
+    void setUp() {
+        lima = entityManager.persist(Destino.builder().nombre("Lima").pais("Perú").build());
+        entityManager.persist(Viaje.builder()
+            .fechaInicio(LocalDate.now().plusDays(30))
+            .fechaFin(LocalDate.now().plusDays(40))
+            .precio(850.0)
+            .destino(lima)
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+        SentenciasEjecutadas.SQL.clear();
+    }
+
+    @Test
+    @DisplayName("No debe hacer join con destino si no se pide destinoNombre")
+    void shouldNotJoinDestino_WhenOnlyPrecioRequested() {
+        // Cuando
+        Page<Map<String, Object>> pagina = viajeRepository.findCampos(Set.of("precio"), null, PageRequest.of(0, 10));
+
+        // Entonces
+        assertThat(pagina.getContent()).singleElement()
+            .satisfies(fila -> assertThat(fila).containsOnlyKeys("id", "precio").containsEntry("precio", 850.0));
+        assertThat(consultasDeViaje()).isNotEmpty().noneMatch(sql -> sql.contains("join destino"));
+    }
+
+    @Test
+    @DisplayName("Debe hacer join con destino solo cuando se pide destinoNombre")
+    void shouldJoinDestino_WhenDestinoNombreRequested() {
+        // Cuando
+        Page<Map<String, Object>> pagina = viajeRepository.findCampos(Set.of("precio", "destinoNombre"), null,
+            PageRequest.of(0, 10));
+
+        // Entonces
+        assertThat(pagina.getContent()).singleElement()
+            .satisfies(fila -> assertThat(fila).containsEntry("destinoNombre", "Lima"));
+        assertThat(consultasDeViaje()).anyMatch(sql -> sql.contains("join destino"));
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por destino con la clave foránea, sin join")
+    void shouldFilterByDestinoId_WithoutJoin() {
+        // Cuando
+        Page<Map<String, Object>> pagina = viajeRepository.findCampos(Set.of("destinoId"), lima.getId(),
+            PageRequest.of(0, 10));
+
+        // Entonces
+        assertThat(pagina.getContent()).singleElement()
+            .satisfies(fila -> assertThat(fila).containsEntry("destinoId", lima.getId()));
+        assertThat(consultasDeViaje()).isNotEmpty().noneMatch(sql -> sql.contains("join destino"));
+    }
+
+    private static List<String> consultasDeViaje() {
+        return SentenciasEjecutadas.SQL.stream()
+            .map(String::toLowerCase)
+            .filter(sql -> sql.startsWith("select") && sql.contains(" from viaje "))
+            .toList();
+    }
+
+    // Hibernate lo instancia por nombre de clase; guarda el SQL de cada sentencia preparada
+    public static class SentenciasEjecutadas implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.travelapp.dto.ResultadoBusquedaDTO;
+import com.travelapp.exception.ServicioSaturadoException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.index.DestinoBusquedaIndex;
+import com.travelapp.index.DestinoBusquedaIndex.Coincidencia;
+import com.travelapp.repository.ViajeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de BusquedaService")
+class BusquedaServiceTest {
+
+    private static final Instant AHORA = Instant.parse("2026-10-19T10:00:00Z");
+
+    @Mock
+    private DestinoBusquedaIndex index;
+
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    private BusquedaService busquedaService;
+
+    @BeforeEach
+    void setUp() {
+        busquedaService = new BusquedaService(index, viajeRepository, Clock.fixed(AHORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Debe devolver los destinos en el orden del índice con sus viajes próximos")
+    void shouldReturnResultados_WithViajesProximos() {
+        // Dado
+        when(index.buscar("peru", 10)).thenReturn(Optional.of(List.of(
+            new Coincidencia(1L, "Cusco", "Perú", 1, 2.5),
+            new Coincidencia(2L, "Lima", "Perú", 1, 2.5))));
+        when(viajeRepository.countProximosByDestinoIds(List.of(1L, 2L), LocalDate.of(2026, 10, 19)))
+            .thenReturn(List.<Object[]>of(new Object[] {2L, 3L}));
+
+        // Cuando
+        List<ResultadoBusquedaDTO> resultado = busquedaService.buscar("peru", 10);
+
+        // Entonces
+        assertThat(resultado).extracting(ResultadoBusquedaDTO::getNombre).containsExactly("Cusco", "Lima");
+        assertThat(resultado).extracting(ResultadoBusquedaDTO::getViajesProximos).containsExactly(0L, 3L);
+    }
+
+    @Test
+    @DisplayName("No debe consultar viajes si no hay resultados")
+    void shouldNotCountViajes_WhenSinResultados() {
+        // Dado
+        when(index.buscar("xyz", 10)).thenReturn(Optional.of(List.of()));
+
+        // Cuando
+        List<ResultadoBusquedaDTO> resultado = busquedaService.buscar("xyz", 10);
+
+        // Entonces
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(viajeRepository);
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 mientras el índice se carga")
+    void shouldThrowServicioSaturado_WhenIndexLoading() {
+        // Dado
+        when(index.buscar("lima", 10)).thenReturn(Optional.empty());
+
+        // Cuando / Entonces
+        assertThatThrownBy(() -> busquedaService.buscar("lima", 10))
+            .isInstanceOf(ServicioSaturadoException.class);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar búsquedas vacías, demasiado largas o con límite fuera de rango")
+    void shouldThrowValidation_WhenParametrosInvalidos() {
+        assertThatThrownBy(() -> busquedaService.buscar("  ", 10)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> busquedaService.buscar("a".repeat(101), 10)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> busquedaService.buscar("lima", 0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> busquedaService.buscar("lima", 51)).isInstanceOf(ValidationException.class);
+        verify(index, never()).buscar(anyString(), anyInt());
+    }
+}
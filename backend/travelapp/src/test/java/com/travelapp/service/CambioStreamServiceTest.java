@@ -0,0 +1,97 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.config.CambiosProperties;
+import com.travelapp.dto.CambioDTO;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.exception.ServicioSaturadoException;
+
+@DisplayName("Tests de CambioStreamService")
+class CambioStreamServiceTest {
+
+    private CambiosProperties properties;
+    private CambioStreamService cambioStreamService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CambiosProperties();
+        properties.setCapacidadHistorial(4);
+        properties.setMaxClientes(1);
+        cambioStreamService = new CambioStreamService(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cambioStreamService.destroy();
+    }
+
+    @Test
+    @DisplayName("Debe devolver los cambios posteriores al último ID recibido")
+    void shouldReturnCambiosAfterUltimoId() {
+        // Dado
+        cambioStreamService.publicar("viaje", TipoCambio.CREADO, 1L, null);
+        cambioStreamService.publicar("viaje", TipoCambio.ACTUALIZADO, 1L, null);
+        cambioStreamService.publicar("destino", TipoCambio.ELIMINADO, 2L, null);
+
+        // Cuando
+        List<CambioDTO> cambios = cambioStreamService.cambiosDesde(cambioStreamService.idEvento(1));
+
+        // Entonces
+        assertThat(cambios).extracting(CambioDTO::getSecuencia).containsExactly(2L, 3L);
+        assertThat(cambios.get(1).getEntidad()).isEqualTo("destino");
+    }
+
+    @Test
+    @DisplayName("Debe devolver null cuando el último ID ya salió del buffer circular")
+    void shouldReturnNull_WhenUltimoIdEvicted() {
+        // Dado
+        for (long id = 1; id <= 6; id++) {
+            cambioStreamService.publicar("viaje", TipoCambio.CREADO, id, null);
+        }
+
+        // Cuando - Entonces
+        assertThat(cambioStreamService.cambiosDesde(cambioStreamService.idEvento(1))).isNull();
+        assertThat(cambioStreamService.cambiosDesde(cambioStreamService.idEvento(2))).extracting(CambioDTO::getSecuencia).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Debe devolver null cuando el último ID es de otro nodo o de una ejecución anterior")
+    void shouldReturnNull_WhenUltimoIdFromOtraEpoca() {
+        // Dado: otro nodo con más cambios publicados; su secuencia 1 también existe en este
+        CambioStreamService otroNodo = new CambioStreamService(properties);
+        try {
+            cambioStreamService.publicar("viaje", TipoCambio.CREADO, 1L, null);
+            cambioStreamService.publicar("viaje", TipoCambio.CREADO, 2L, null);
+            otroNodo.publicar("viaje", TipoCambio.CREADO, 7L, null);
+
+            // Cuando - Entonces
+            assertThat(cambioStreamService.cambiosDesde(otroNodo.idEvento(1))).isNull();
+            assertThat(cambioStreamService.cambiosDesde("50")).isNull();
+            assertThat(cambioStreamService.cambiosDesde(cambioStreamService.idEvento(50))).isNull();
+            assertThat(cambioStreamService.cambiosDesde(null)).isEmpty();
+        } finally {
+            otroNodo.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ServicioSaturadoException cuando se supera el máximo de clientes")
+    void shouldThrowServicioSaturadoException_WhenMaxClientesReached() {
+        // Dado
+        cambioStreamService.suscribir(null);
+
+        // Cuando - Entonces
+        assertThat(cambioStreamService.clientesConectados()).isEqualTo(1);
+        assertThatThrownBy(() -> cambioStreamService.suscribir(null))
+            .isInstanceOf(ServicioSaturadoException.class);
+    }
+}
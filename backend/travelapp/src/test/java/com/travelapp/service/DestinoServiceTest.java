@@ -8,7 +8,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,18 +19,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.travelapp.cache.CacheNegativa;
+import com.travelapp.cache.CacheNegativa.Entidad;
+import com.travelapp.config.PaginacionProperties;
 import com.travelapp.dto.DestinoDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
 import com.travelapp.exception.DuplicateEntityException;
 import com.travelapp.exception.EntityNotFoundException;
 import com.travelapp.mapper.DestinoMapper;
 import com.travelapp.model.Destino;
 import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Tests de DestinoService")
@@ -39,6 +51,18 @@ class DestinoServiceTest {
     @Mock
     private DestinoMapper destinoMapper;
 
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheNegativa cacheNegativa;
+
+    @Spy
+    private PaginacionProperties paginacionProperties = new PaginacionProperties();
+
     @InjectMocks
     private DestinoService destinoService;
 
@@ -74,7 +98,7 @@ class DestinoServiceTest {
         when(destinoMapper.toDto(destino)).thenReturn(destinoDTO);
 
         // Cuando
-        Page<DestinoDTO> resultado = destinoService.findAll(pageable);
+        Page<DestinoDTO> resultado = destinoService.findAll(pageable, false);
 
         // Entonces
         assertThat(resultado).isNotNull();
@@ -93,7 +117,7 @@ class DestinoServiceTest {
         when(destinoMapper.toDto(destino)).thenReturn(destinoDTO);
 
         // Cuando
-        DestinoDTO resultado = destinoService.findById(1L);
+        DestinoDTO resultado = destinoService.findById(1L, false);
 
         // Entonces
         assertThat(resultado).isNotNull();
@@ -110,7 +134,7 @@ class DestinoServiceTest {
         when(destinoRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Cuando / Entonces
-        assertThatThrownBy(() -> destinoService.findById(1L))
+        assertThatThrownBy(() -> destinoService.findById(1L, false))
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessage("Destino no encontrado");
 
@@ -191,6 +215,22 @@ class DestinoServiceTest {
         verify(destinoRepository).deleteById(1L);
     }
 
+    @Test
+    @DisplayName("Debe publicar la eliminación de los viajes en cascada al eliminar un destino")
+    void shouldPublishViajeEliminado_WhenDestinoDeleted() {
+        // Dado
+        when(destinoRepository.existsById(1L)).thenReturn(true);
+        when(viajeRepository.findIdsByDestinoId(1L)).thenReturn(Arrays.asList(10L, 11L));
+
+        // Cuando
+        destinoService.deleteById(1L);
+
+        // Entonces
+        verify(eventPublisher).publishEvent(new ViajeCambiadoEvent(TipoCambio.ELIMINADO, 10L, null));
+        verify(eventPublisher).publishEvent(new ViajeCambiadoEvent(TipoCambio.ELIMINADO, 11L, null));
+        verify(eventPublisher).publishEvent(new DestinoCambiadoEvent(TipoCambio.ELIMINADO, 1L, null));
+    }
+
     @Test
     @DisplayName("Debe lanzar EntityNotFoundException cuando destino no existe después de eliminar")
     void shouldThrowEntityNotFoundException_WhenDestinoDoesNotExistAfterDelete() {
@@ -206,4 +246,76 @@ class DestinoServiceTest {
         verify(destinoRepository, never()).deleteById(1L);
     }
 
+
+    @Test
+    @DisplayName("Debe devolver solo viajeCount cuando no se expanden los viajes")
+    void shouldReturnViajeCountOnly_WhenNotExpanded() {
+        // Dado
+        when(destinoRepository.findById(1L)).thenReturn(Optional.of(destino));
+        when(destinoMapper.toDto(destino)).thenReturn(destinoDTO);
+        when(viajeRepository.countByDestinoIds(any())).thenReturn(List.<Object[]>of(new Object[] {1L, 3L}));
+
+        // Cuando
+        DestinoDTO resultado = destinoService.findById(1L, false);
+
+        // Entonces
+        assertThat(resultado.getViajeCount()).isEqualTo(3L);
+        assertThat(resultado.getViajeIds()).isNull();
+        verify(viajeRepository, never()).streamIdsByDestinoIds(any());
+    }
+
+    @Test
+    @DisplayName("Debe devolver los IDs de viajes de cada destino cuando se expanden los viajes")
+    void shouldReturnViajeIds_WhenExpanded() {
+        // Dado
+        Destino destino2 = Destino.builder().id(2L).nombre("Roma").pais("Italia").build();
+        Destino destino3 = Destino.builder().id(3L).nombre("Oslo").pais("Noruega").build();
+        DestinoDTO destinoDTO2 = DestinoDTO.builder().id(2L).nombre("Roma").pais("Italia").build();
+        DestinoDTO destinoDTO3 = DestinoDTO.builder().id(3L).nombre("Oslo").pais("Noruega").build();
+
+        when(destinoRepository.findAll(pageable)).thenReturn(new PageImpl<>(Arrays.asList(destino, destino2, destino3)));
+        when(destinoMapper.toDto(destino)).thenReturn(destinoDTO);
+        when(destinoMapper.toDto(destino2)).thenReturn(destinoDTO2);
+        when(destinoMapper.toDto(destino3)).thenReturn(destinoDTO3);
+        when(viajeRepository.countByDestinoIds(any()))
+            .thenReturn(List.<Object[]>of(new Object[] {1L, 2L}, new Object[] {2L, 1L}));
+        // Un alta en el destino 2 entre el conteo y la lectura de IDs
+        when(viajeRepository.streamIdsByDestinoIds(any())).thenReturn(Stream.of(
+            new Object[] {1L, 10L}, new Object[] {1L, 11L}, new Object[] {2L, 20L}, new Object[] {2L, 21L}));
+
+        // Cuando
+        Page<DestinoDTO> resultado = destinoService.findAll(pageable, true);
+
+        // Entonces
+        assertThat(resultado.getContent()).extracting(DestinoDTO::getViajeCount).containsExactly(2L, 2L, 0L);
+        assertThat(resultado.getContent().get(0).getViajeIds()).containsExactly(10L, 11L);
+        assertThat(resultado.getContent().get(1).getViajeIds()).containsExactly(20L, 21L);
+        assertThat(resultado.getContent().get(2).getViajeIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe lanzar EntityNotFoundException cuando findCamposById no encuentra el destino")
+    void shouldThrowEntityNotFoundException_WhenFindCamposByIdNotFound() {
+        // Dado
+        when(destinoRepository.findCamposById(9L, Set.of("nombre"))).thenReturn(Optional.empty());
+
+        // Cuando - Entonces
+        assertThatThrownBy(() -> destinoService.findCamposById(9L, "nombre"))
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessage("Destino no encontrado");
+        verify(cacheNegativa).registrar(Entidad.DESTINO, 9L);
+    }
+
+    @Test
+    @DisplayName("Debe responder no encontrado sin consultar la base de datos si el ID está en la caché negativa")
+    void shouldThrowEntityNotFoundException_WhenIdInCacheNegativa() {
+        // Dado
+        when(cacheNegativa.contiene(Entidad.DESTINO, 9L)).thenReturn(true);
+
+        // Cuando - Entonces
+        assertThatThrownBy(() -> destinoService.findCamposById(9L, "nombre"))
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessage("Destino no encontrado");
+        verify(destinoRepository, never()).findCamposById(any(), any());
+    }
 }
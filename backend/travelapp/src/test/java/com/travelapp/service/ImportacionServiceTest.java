@@ -0,0 +1,245 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.config.ImportacionProperties;
+import com.travelapp.config.TrabajosProperties;
+import com.travelapp.dto.ErrorFilaDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.Destino;
+import com.travelapp.model.Viaje;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de ImportacionService")
+class ImportacionServiceTest {
+
+    private static final String INICIO = LocalDate.now().plusDays(30).toString();
+    private static final String FIN = LocalDate.now().plusDays(40).toString();
+
+    @Mock
+    private DestinoRepository destinoRepository;
+
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TrabajoService trabajoService;
+
+    @TempDir
+    private Path directorio;
+
+    private ImportacionService importacionService;
+
+    private ContextoTrabajo contexto;
+
+    @BeforeEach
+    void setUp() {
+        TrabajosProperties trabajosProperties = new TrabajosProperties();
+        trabajosProperties.setTamanioLote(2);
+
+        importacionService = new ImportacionService(destinoRepository, viajeRepository, new DestinoMapper(),
+            new ViajeMapper(), Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher,
+            new TransactionTemplate(transactionManager), trabajoService, trabajosProperties, new ImportacionProperties());
+
+        contexto = new ContextoTrabajo("1", Map.of(), directorio, "csv", Duration.ZERO, Duration.ZERO,
+            guardado -> false);
+    }
+
+    @Test
+    @DisplayName("Debe crear el destino una sola vez y sus viajes, resolviendo el nombre con la caché de la importación")
+    void shouldCreateDestinoOnce_AndViajes() throws IOException {
+        // Dado
+        Destino lima = Destino.builder().id(10L).nombre("Lima").pais("Perú").build();
+        when(destinoRepository.findFirstByNombreIgnoreCase("Lima")).thenReturn(Optional.empty());
+        when(destinoRepository.save(any(Destino.class))).thenAnswer(invocacion -> {
+            Destino destino = invocacion.getArgument(0);
+            destino.setId(10L);
+            return destino;
+        });
+        when(destinoRepository.getReferenceById(10L)).thenReturn(lima);
+        when(viajeRepository.save(any(Viaje.class))).thenAnswer(invocacion -> invocacion.getArgument(0));
+
+        // Cuando
+        Map<String, Object> resultado = importar(
+            "nombre,pais,fechaInicio,fechaFin,precio\n"
+            + "Lima,Perú," + INICIO + "," + FIN + ",850\n"
+            + "LIMA,Perú," + INICIO + "," + FIN + ",900.5\n"
+            + "lima,Perú,,,\n");
+
+        // Entonces
+        assertThat(resultado.get("filasLeidas")).isEqualTo(3L);
+        assertThat(resultado.get("destinosCreados")).isEqualTo(1L);
+        assertThat(resultado.get("viajesCreados")).isEqualTo(2L);
+        assertThat(resultado.get("filasConError")).isEqualTo(0L);
+        verify(destinoRepository, times(1)).findFirstByNombreIgnoreCase(anyString());
+        verify(destinoRepository, times(1)).save(any(Destino.class));
+        // Un lote de 2 filas y otro de 1, cada uno en su transacción
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el país de un destino existente con el mismo nombre")
+    void shouldUpsertDestino_WhenNombreExists() throws IOException {
+        // Dado
+        Destino existente = Destino.builder().id(3L).nombre("Cusco").pais("Peru").build();
+        when(destinoRepository.findFirstByNombreIgnoreCase("cusco")).thenReturn(Optional.of(existente));
+        when(destinoRepository.getReferenceById(3L)).thenReturn(existente);
+        when(viajeRepository.countByDestinoId(3L)).thenReturn(4L);
+
+        // Cuando
+        Map<String, Object> resultado = importar("pais,nombre\nPerú,cusco\nPerú,Cusco\n");
+
+        // Entonces
+        assertThat(resultado.get("destinosCreados")).isEqualTo(0L);
+        assertThat(resultado.get("destinosActualizados")).isEqualTo(1L);
+        assertThat(existente.getPais()).isEqualTo("Perú");
+        verify(destinoRepository, never()).save(any(Destino.class));
+
+        ArgumentCaptor<DestinoCambiadoEvent> captor = ArgumentCaptor.forClass(DestinoCambiadoEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().tipo()).isEqualTo(TipoCambio.ACTUALIZADO);
+        assertThat(captor.getValue().destino().getViajeCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Debe registrar los errores por fila con las mismas reglas que la API y seguir importando")
+    void shouldCollectRowErrors() throws IOException {
+        // Dado
+        Destino bali = Destino.builder().id(5L).nombre("Bali").pais("Indonesia").build();
+        when(destinoRepository.findFirstByNombreIgnoreCase("Bali")).thenReturn(Optional.of(bali));
+        when(destinoRepository.getReferenceById(5L)).thenReturn(bali);
+        when(viajeRepository.save(any(Viaje.class))).thenAnswer(invocacion -> invocacion.getArgument(0));
+
+        // Cuando
+        Map<String, Object> resultado = importar(
+            "nombre,pais,fechaInicio,fechaFin,precio\n"
+            + ",Perú,,,\n"
+            + "Bali,Indonesia," + FIN + "," + INICIO + ",100\n"
+            + "Bali,Indonesia," + INICIO + "," + FIN + ",-5\n"
+            + "Bali,Indonesia,2020-01-01,2020-01-05,100\n"
+            + "Bali,Indonesia,01/02/2027," + FIN + ",100\n"
+            + "Bali,Indonesia," + INICIO + "," + FIN + ",100\n");
+
+        // Entonces
+        assertThat(resultado.get("filasLeidas")).isEqualTo(6L);
+        assertThat(resultado.get("viajesCreados")).isEqualTo(1L);
+        assertThat(resultado.get("filasConError")).isEqualTo(5L);
+        assertThat(errores(resultado)).extracting(ErrorFilaDTO::fila).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(errores(resultado).get(1).mensaje()).isEqualTo("La fecha de inicio no puede ser posterior a la fecha de fin");
+        assertThat(errores(resultado).get(2).mensaje()).isEqualTo("El precio debe ser mayor que 0");
+        assertThat(errores(resultado).get(4).mensaje()).contains("Fecha no válida");
+        // El CSV descargable tiene todos los errores
+        assertThat(Files.readAllLines(directorio.resolve("1.csv")))
+            .hasSize(6)
+            .first().isEqualTo("fila,mensaje");
+    }
+
+    @Test
+    @DisplayName("Debe reintentar fila a fila el lote que falla y descartar solo la fila que falla")
+    void shouldDiscardOnlyFailedRow_WhenBatchFails() throws IOException {
+        // Dado
+        when(destinoRepository.findFirstByNombreIgnoreCase(anyString())).thenReturn(Optional.empty());
+        when(destinoRepository.save(any(Destino.class))).thenAnswer(invocacion -> {
+            Destino destino = invocacion.getArgument(0);
+            if (destino.getNombre().equals("Lima")) {
+                throw new DataIntegrityViolationException("duplicado");
+            }
+            return destino;
+        });
+
+        // Cuando
+        Map<String, Object> resultado = importar("nombre,pais\nLima,Perú\nCusco,Perú\nBali,Indonesia\n");
+
+        // Entonces
+        assertThat(resultado.get("destinosCreados")).isEqualTo(2L);
+        assertThat(resultado.get("filasConError")).isEqualTo(1L);
+        assertThat(errores(resultado)).extracting(ErrorFilaDTO::fila).containsExactly(2L);
+        assertThat(errores(resultado).get(0).mensaje()).isEqualTo("Fila no guardada: duplicado");
+        // El lote de Lima y Cusco, y después la fila de Lima sola
+        verify(transactionManager, times(2)).rollback(any());
+        // La fila de Cusco sola y el lote de Bali
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Debe guardar todas las filas del lote si el fallo no se repite al reintentarlas")
+    void shouldSaveAllRows_WhenRetrySucceeds() throws IOException {
+        // Dado
+        when(destinoRepository.findFirstByNombreIgnoreCase(anyString())).thenReturn(Optional.empty());
+        when(destinoRepository.save(any(Destino.class)))
+            .thenThrow(new DataIntegrityViolationException("bloqueo"))
+            .thenAnswer(invocacion -> invocacion.getArgument(0));
+
+        // Cuando
+        Map<String, Object> resultado = importar("nombre,pais\nLima,Perú\nCusco,Perú\n");
+
+        // Entonces
+        assertThat(resultado.get("destinosCreados")).isEqualTo(2L);
+        assertThat(resultado.get("filasConError")).isEqualTo(0L);
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Debe fallar si la cabecera no tiene nombre y pais")
+    void shouldFail_WhenCabeceraIncompleta() {
+        // Cuando / Entonces
+        assertThatThrownBy(() -> importar("destino,precio\nLima,100\n"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("nombre y pais");
+    }
+
+    private Map<String, Object> importar(String csv) throws IOException {
+        importacionService.procesar(contexto, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        return contexto.getResultado();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ErrorFilaDTO> errores(Map<String, Object> resultado) {
+        return (List<ErrorFilaDTO>) resultado.get("errores");
+    }
+}
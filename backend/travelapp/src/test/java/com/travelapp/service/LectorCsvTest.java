@@ -0,0 +1,65 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.travelapp.exception.ValidationException;
+
+@DisplayName("Tests de LectorCsv")
+class LectorCsvTest {
+
+    @Test
+    @DisplayName("Debe leer campos entre comillas con separadores, comillas escapadas y saltos de línea")
+    void shouldReadQuotedFields() throws IOException {
+        // Dado
+        LectorCsv lector = new LectorCsv(new StringReader(
+            "nombre,pais\r\n"
+            + "\"Río de Janeiro, centro\",Brasil\r\n"
+            + "\"Dice \"\"hola\"\"\", \"Perú\" \n"
+            + "\"Dos\nlíneas\",Chile\n"
+            + "\n"
+            + "  Lima  ,Perú"));
+
+        // Cuando / Entonces
+        assertThat(lector.siguiente()).containsExactly("nombre", "pais");
+        assertThat(lector.getFila()).isEqualTo(1);
+        assertThat(lector.siguiente()).containsExactly("Río de Janeiro, centro", "Brasil");
+        assertThat(lector.siguiente()).containsExactly("Dice \"hola\"", "Perú");
+        assertThat(lector.siguiente()).containsExactly("Dos\nlíneas", "Chile");
+        assertThat(lector.getFila()).isEqualTo(4);
+        assertThat(lector.siguiente()).containsExactly("Lima", "Perú");
+        assertThat(lector.getFila()).isEqualTo(7);
+        assertThat(lector.siguiente()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe detectar el separador ';' y descartar el BOM")
+    void shouldDetectSemicolonSeparator() throws IOException {
+        // Dado
+        LectorCsv lector = new LectorCsv(new StringReader("\uFEFFnombre;pais;precio\nCusco;Perú;1,5\n"));
+
+        // Cuando / Entonces
+        assertThat(lector.siguiente()).containsExactly("nombre", "pais", "precio");
+        assertThat(lector.siguiente()).containsExactly("Cusco", "Perú", "1,5");
+        assertThat(lector.siguiente()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe fallar con comillas sin cerrar")
+    void shouldFail_WhenQuoteNotClosed() throws IOException {
+        // Dado
+        LectorCsv lector = new LectorCsv(new StringReader("nombre,pais\n\"Lima,Perú\n"));
+        lector.siguiente();
+
+        // Cuando / Entonces
+        assertThatThrownBy(lector::siguiente)
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("fila 2");
+    }
+}
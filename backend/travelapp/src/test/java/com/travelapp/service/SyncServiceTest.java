@@ -0,0 +1,199 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.travelapp.config.SyncProperties;
+import com.travelapp.dto.SyncDTO;
+import com.travelapp.dto.ViajeDTO;
+import com.travelapp.event.DestinoCambiadoEvent;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.DestinoMapper;
+import com.travelapp.mapper.ViajeMapper;
+import com.travelapp.model.CambioLog;
+import com.travelapp.model.SyncHorizonte;
+import com.travelapp.model.Viaje;
+import com.travelapp.repository.CambioLogRepository;
+import com.travelapp.repository.DestinoRepository;
+import com.travelapp.repository.SyncHorizonteRepository;
+import com.travelapp.repository.ViajeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de SyncService")
+class SyncServiceTest {
+
+    private static final Instant AHORA = Instant.parse("2026-10-19T10:00:00Z");
+
+    @Mock
+    private CambioLogRepository cambioLogRepository;
+
+    @Mock
+    private SyncHorizonteRepository syncHorizonteRepository;
+
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    @Mock
+    private DestinoRepository destinoRepository;
+
+    @Mock
+    private ViajeMapper viajeMapper;
+
+    @Mock
+    private DestinoMapper destinoMapper;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        SyncProperties properties = new SyncProperties();
+        properties.setTamanioPagina(2);
+        properties.setRetencionEliminados(Duration.ofDays(30));
+
+        syncService = new SyncService(cambioLogRepository, syncHorizonteRepository, viajeRepository,
+            destinoRepository, viajeMapper, destinoMapper, properties, Clock.fixed(AHORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar la entrada anterior de la entidad al registrar un cambio")
+    void shouldReplacePreviousEntry_WhenViajeCambiado() {
+        // Cuando
+        syncService.onViajeCambiado(new ViajeCambiadoEvent(TipoCambio.ACTUALIZADO, 5L, null));
+
+        // Entonces
+        ArgumentCaptor<CambioLog> captor = ArgumentCaptor.forClass(CambioLog.class);
+        verify(cambioLogRepository).deleteByEntidadAndEntidadId("viaje", 5L);
+        verify(cambioLogRepository).save(captor.capture());
+        assertThat(captor.getValue().getTipo()).isEqualTo(TipoCambio.ACTUALIZADO);
+        assertThat(captor.getValue().getFecha()).isEqualTo(AHORA);
+    }
+
+    @Test
+    @DisplayName("No debe registrar los cambios recibidos de otro nodo")
+    void shouldIgnoreRemoteEvents() {
+        // Cuando
+        syncService.onViajeCambiado(ViajeCambiadoEvent.remoto(TipoCambio.ACTUALIZADO, 5L, null));
+        syncService.onDestinoCambiado(DestinoCambiadoEvent.remoto(TipoCambio.ELIMINADO, 1L, null));
+
+        // Entonces
+        verifyNoInteractions(cambioLogRepository);
+    }
+
+    @Test
+    @DisplayName("Debe devolver cambios y bajas desde el token con el siguiente token")
+    void shouldReturnCambiosAndEliminados_WhenSincronizarCalled() {
+        // Dado
+        Viaje viaje = Viaje.builder().id(7L).build();
+        ViajeDTO viajeDTO = ViajeDTO.builder().id(7L).build();
+
+        when(syncHorizonteRepository.findById(SyncHorizonte.ID)).thenReturn(Optional.empty());
+        when(cambioLogRepository.findByIdGreaterThanOrderByIdAsc(10L, PageRequest.of(0, 3))).thenReturn(List.of(
+            cambio(11L, "viaje", 7L, TipoCambio.ACTUALIZADO),
+            cambio(12L, "viaje", 8L, TipoCambio.ELIMINADO),
+            cambio(13L, "destino", 2L, TipoCambio.CREADO)));
+        when(viajeRepository.findAllById(List.of(7L))).thenReturn(List.of(viaje));
+        when(viajeMapper.toDtoList(List.of(viaje))).thenReturn(List.of(viajeDTO));
+
+        // Cuando
+        SyncDTO resultado = syncService.sincronizar("10", null);
+
+        // Entonces
+        assertThat(resultado.getToken()).isEqualTo("12");
+        assertThat(resultado.isHayMas()).isTrue();
+        assertThat(resultado.getViajes()).containsExactly(viajeDTO);
+        assertThat(resultado.getViajesEliminados()).containsExactly(8L);
+        assertThat(resultado.getDestinos()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debe avanzar el token más allá de los cambios dentro de la ventana de relectura")
+    void shouldNotAdvanceTokenPastRecentCambios() {
+        // Dado: el 12 se acaba de registrar; un id menor de otra transacción aún podría confirmarse
+        when(syncHorizonteRepository.findById(SyncHorizonte.ID)).thenReturn(Optional.empty());
+        when(cambioLogRepository.findByIdGreaterThanOrderByIdAsc(10L, PageRequest.of(0, 3))).thenReturn(List.of(
+            cambio(11L, "viaje", 8L, TipoCambio.ELIMINADO),
+            cambio(12L, "viaje", 9L, TipoCambio.ELIMINADO, AHORA.minusSeconds(10)),
+            cambio(14L, "viaje", 10L, TipoCambio.ELIMINADO, AHORA)));
+
+        // Cuando
+        SyncDTO resultado = syncService.sincronizar("10", null);
+
+        // Entonces: se entregan los dos de la página, pero el 12 se volverá a leer
+        assertThat(resultado.getToken()).isEqualTo("11");
+        assertThat(resultado.getViajesEliminados()).containsExactly(8L, 9L);
+        assertThat(resultado.isHayMas()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe pedir resincronizar cuando el token es anterior a la compactación")
+    void shouldRequireResync_WhenTokenBeforeHorizonte() {
+        // Dado
+        when(syncHorizonteRepository.findById(SyncHorizonte.ID))
+            .thenReturn(Optional.of(SyncHorizonte.builder().id(1L).ultimoCambioCompactado(50L).build()));
+
+        // Cuando
+        SyncDTO resultado = syncService.sincronizar("10", null);
+
+        // Entonces
+        assertThat(resultado.isResincronizar()).isTrue();
+        assertThat(resultado.getToken()).isEqualTo("0");
+        verify(cambioLogRepository, never()).findByIdGreaterThanOrderByIdAsc(any(Long.class), any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ValidationException cuando el token no es válido")
+    void shouldThrowValidationException_WhenTokenInvalid() {
+        assertThatThrownBy(() -> syncService.sincronizar("abc", null))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("El token de sincronización no es válido");
+    }
+
+    @Test
+    @DisplayName("Debe compactar bajas antiguas y avanzar el horizonte")
+    void shouldCompactEliminados_WhenOlderThanRetencion() {
+        // Dado
+        when(cambioLogRepository.findMaxIdByTipoAndFechaBefore(TipoCambio.ELIMINADO, AHORA.minus(Duration.ofDays(30))))
+            .thenReturn(40L);
+        when(syncHorizonteRepository.findById(SyncHorizonte.ID)).thenReturn(Optional.empty());
+
+        // Cuando
+        syncService.compactar();
+
+        // Entonces
+        ArgumentCaptor<SyncHorizonte> captor = ArgumentCaptor.forClass(SyncHorizonte.class);
+        verify(cambioLogRepository).deleteByTipoAndIdLessThanEqual(TipoCambio.ELIMINADO, 40L);
+        verify(syncHorizonteRepository).save(captor.capture());
+        assertThat(captor.getValue().getUltimoCambioCompactado()).isEqualTo(40L);
+    }
+
+    private CambioLog cambio(long id, String entidad, long entidadId, TipoCambio tipo) {
+        return cambio(id, entidad, entidadId, tipo, AHORA.minus(Duration.ofMinutes(5)));
+    }
+
+    private CambioLog cambio(long id, String entidad, long entidadId, TipoCambio tipo, Instant fecha) {
+        return CambioLog.builder().id(id).entidad(entidad).entidadId(entidadId).tipo(tipo).fecha(fecha).build();
+    }
+}
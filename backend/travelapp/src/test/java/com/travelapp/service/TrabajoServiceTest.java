@@ -0,0 +1,347 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.config.TrabajosProperties;
+import com.travelapp.dto.SolicitudTrabajoDTO;
+import com.travelapp.exception.ServicioSaturadoException;
+import com.travelapp.exception.TrabajoCanceladoException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.TrabajoMapper;
+import com.travelapp.model.EstadoTrabajo;
+import com.travelapp.model.TipoTrabajo;
+import com.travelapp.model.Trabajo;
+import com.travelapp.repository.TrabajoRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de TrabajoService")
+class TrabajoServiceTest {
+
+    private static final Instant AHORA = Instant.parse("2026-10-19T10:00:00Z");
+
+    @Mock
+    private TrabajoRepository trabajoRepository;
+
+    @Mock
+    private ObjectProvider<ManejadorTrabajo> manejadores;
+
+    @TempDir
+    private Path directorio;
+
+    private final CountDownLatch liberar = new CountDownLatch(1);
+
+    private final TransaccionesEnMemoria transactionManager = new TransaccionesEnMemoria();
+
+    private TrabajoService trabajoService;
+
+    @BeforeEach
+    void setUp() {
+        TrabajosProperties properties = new TrabajosProperties();
+        properties.setHilos(1);
+        properties.setColaMaxima(1);
+        properties.setDirectorio(directorio);
+
+        lenient().when(manejadores.stream()).thenAnswer(invocacion -> Stream.of(
+            new Manejador(TipoTrabajo.EXPORTAR_VIAJES, true),
+            new Manejador(TipoTrabajo.IMPORTAR_CSV, false)));
+        lenient().when(trabajoRepository.save(any(Trabajo.class))).thenAnswer(invocacion -> invocacion.getArgument(0));
+
+        trabajoService = new TrabajoService(trabajoRepository, manejadores, new TrabajoMapper(new ObjectMapper()),
+            properties, Clock.fixed(AHORA, ZoneOffset.UTC), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        trabajoService.destroy();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar por la API los trabajos que solo se crean desde otro endpoint")
+    void shouldRejectSolicitud_WhenNotSolicitablePorApi() {
+        // Dado
+        SolicitudTrabajoDTO solicitud = new SolicitudTrabajoDTO(TipoTrabajo.IMPORTAR_CSV, Map.of());
+
+        // Cuando / Entonces
+        assertThatThrownBy(() -> trabajoService.solicitar(solicitud))
+            .isInstanceOf(ValidationException.class);
+        verify(trabajoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 cuando la cola de trabajos está llena")
+    void shouldRejectTrabajo_WhenColaLlena() throws InterruptedException {
+        // Dado: un trabajo ocupa el único hilo y otro la única plaza de la cola
+        CountDownLatch enCurso = new CountDownLatch(1);
+        when(trabajoRepository.iniciar(anyString(), any())).thenAnswer(invocacion -> {
+            enCurso.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        trabajoService.encolar(TipoTrabajo.EXPORTAR_VIAJES, Map.of());
+        assertThat(enCurso.await(5, TimeUnit.SECONDS)).isTrue();
+        trabajoService.encolar(TipoTrabajo.EXPORTAR_VIAJES, Map.of());
+
+        // Cuando / Entonces
+        assertThatThrownBy(() -> trabajoService.encolar(TipoTrabajo.EXPORTAR_VIAJES, Map.of()))
+            .isInstanceOf(ServicioSaturadoException.class);
+    }
+
+    @Test
+    @DisplayName("Debe cancelar directamente un trabajo pendiente")
+    void shouldCancelPendiente() {
+        // Dado
+        when(trabajoRepository.findById("1")).thenReturn(Optional.of(trabajo(EstadoTrabajo.PENDIENTE)));
+        when(trabajoRepository.cancelarPendiente("1", AHORA)).thenReturn(1);
+
+        // Cuando
+        trabajoService.cancelar("1");
+
+        // Entonces
+        verify(trabajoRepository, never()).solicitarCancelacion(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe solicitar la cancelación de un trabajo en curso")
+    void shouldRequestCancelacion_WhenEnCurso() {
+        // Dado
+        when(trabajoRepository.findById("1")).thenReturn(Optional.of(trabajo(EstadoTrabajo.EN_CURSO)));
+        when(trabajoRepository.solicitarCancelacion("1")).thenReturn(1);
+
+        // Cuando
+        trabajoService.cancelar("1");
+
+        // Entonces
+        verify(trabajoRepository, never()).cancelarPendiente(anyString(), any());
+        verify(trabajoRepository).solicitarCancelacion("1");
+    }
+
+    @Test
+    @DisplayName("Debe completar el trabajo con su archivo de resultado")
+    void shouldCompleteTrabajo() throws Exception {
+        // Dado
+        when(trabajoRepository.iniciar("1", AHORA)).thenReturn(1);
+        ContextoTrabajo contexto = contexto();
+        ManejadorTrabajo manejador = new Manejador(TipoTrabajo.EXPORTAR_VIAJES, true) {
+            @Override
+            public void ejecutar(ContextoTrabajo contexto) throws Exception {
+                Files.writeString(contexto.archivoResultado(), "nombre\n");
+                contexto.setProcesados(1);
+            }
+        };
+
+        // Cuando
+        trabajoService.ejecutar(manejador, contexto);
+
+        // Entonces
+        verify(trabajoRepository).terminar(eq("1"), eq(EstadoTrabajo.COMPLETADO), eq(1L), isNull(), isNull(),
+            eq("1.csv"), isNull(), eq(AHORA));
+    }
+
+    @Test
+    @DisplayName("Debe marcar como cancelado el trabajo que se detiene en un punto de control y borrar su archivo")
+    void shouldCancelTrabajo_WhenPuntoDeControlCancelado() {
+        // Dado
+        when(trabajoRepository.iniciar("1", AHORA)).thenReturn(1);
+        ContextoTrabajo contexto = contexto();
+        ManejadorTrabajo manejador = new Manejador(TipoTrabajo.EXPORTAR_VIAJES, true) {
+            @Override
+            public void ejecutar(ContextoTrabajo contexto) throws Exception {
+                Files.writeString(contexto.archivoResultado(), "nombre\n");
+                contexto.cancelar();
+                contexto.puntoDeControl();
+            }
+        };
+
+        // Cuando
+        trabajoService.ejecutar(manejador, contexto);
+
+        // Entonces
+        verify(trabajoRepository).terminar(eq("1"), eq(EstadoTrabajo.CANCELADO), anyLong(), isNull(), isNull(),
+            isNull(), anyString(), eq(AHORA));
+        assertThat(directorio.resolve("1.csv")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Debe marcar como fallido el trabajo que lanza una excepción")
+    void shouldFailTrabajo_WhenExcepcion() {
+        // Dado
+        when(trabajoRepository.iniciar("1", AHORA)).thenReturn(1);
+        ManejadorTrabajo manejador = new Manejador(TipoTrabajo.EXPORTAR_VIAJES, true) {
+            @Override
+            public void ejecutar(ContextoTrabajo contexto) {
+                throw new IllegalStateException("sin conexión");
+            }
+        };
+
+        // Cuando
+        trabajoService.ejecutar(manejador, contexto());
+
+        // Entonces
+        verify(trabajoRepository).terminar(eq("1"), eq(EstadoTrabajo.FALLIDO), anyLong(), isNull(), isNull(),
+            isNull(), eq("sin conexión"), eq(AHORA));
+    }
+
+    @Test
+    @DisplayName("No debe ejecutar un trabajo cancelado mientras esperaba en la cola")
+    void shouldSkipTrabajo_WhenCanceladoEnCola() {
+        // Dado
+        when(trabajoRepository.iniciar("1", AHORA)).thenReturn(0);
+        ManejadorTrabajo manejador = new Manejador(TipoTrabajo.EXPORTAR_VIAJES, true) {
+            @Override
+            public void ejecutar(ContextoTrabajo contexto) {
+                throw new TrabajoCanceladoException("no debería ejecutarse");
+            }
+        };
+
+        // Cuando
+        trabajoService.ejecutar(manejador, contexto());
+
+        // Entonces
+        verify(trabajoRepository, never()).terminar(anyString(), any(), anyLong(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe guardar el progreso en su propia transacción aunque el trabajo lea en una de solo lectura")
+    void shouldSaveProgressOutsideReadOnlyTransaction() {
+        // Dado: como en PostgreSQL, un UPDATE dentro de una transacción de solo lectura falla
+        when(trabajoRepository.iniciar("1", AHORA)).thenReturn(1);
+        when(trabajoRepository.guardarProgreso(eq("1"), anyLong(), any(), any(), eq(AHORA))).thenAnswer(invocacion -> {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                throw new IllegalStateException("cannot execute UPDATE in a read-only transaction");
+            }
+            return 1;
+        });
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        ContextoTrabajo contexto = new ContextoTrabajo("1", Map.of(), directorio, "csv", Duration.ZERO, Duration.ZERO,
+            trabajoService::guardarProgreso);
+        ManejadorTrabajo manejador = new Manejador(TipoTrabajo.EXPORTAR_VIAJES, true) {
+            @Override
+            public void ejecutar(ContextoTrabajo contexto) {
+                lectura.executeWithoutResult(estado -> contexto.puntoDeControl());
+            }
+        };
+
+        // Cuando
+        trabajoService.ejecutar(manejador, contexto);
+
+        // Entonces
+        verify(trabajoRepository).guardarProgreso(eq("1"), anyLong(), any(), any(), eq(AHORA));
+        verify(trabajoRepository).terminar(eq("1"), eq(EstadoTrabajo.COMPLETADO), anyLong(), any(), isNull(),
+            isNull(), isNull(), eq(AHORA));
+    }
+
+    private ContextoTrabajo contexto() {
+        return new ContextoTrabajo("1", Map.of(), directorio, "csv", Duration.ZERO, Duration.ofMinutes(1),
+            contexto -> false);
+    }
+
+    private static Trabajo trabajo(EstadoTrabajo estado) {
+        return Trabajo.builder()
+            .id("1")
+            .tipo(TipoTrabajo.EXPORTAR_VIAJES)
+            .estado(estado)
+            .creado(AHORA)
+            .actualizado(AHORA)
+            .build();
+    }
+
+    // Sin recursos: solo lleva el estado de transacción (solo lectura, suspensión) que ven los repositorios
+    private static class TransaccionesEnMemoria extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    private static class Manejador implements ManejadorTrabajo {
+
+        private final TipoTrabajo tipo;
+        private final boolean solicitable;
+
+        Manejador(TipoTrabajo tipo, boolean solicitable) {
+            this.tipo = tipo;
+            this.solicitable = solicitable;
+        }
+
+        @Override
+        public TipoTrabajo tipo() {
+            return tipo;
+        }
+
+        @Override
+        public boolean solicitablePorApi() {
+            return solicitable;
+        }
+
+        @Override
+        public void ejecutar(ContextoTrabajo contexto) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.travelapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelapp.config.HistoricoProperties;
+import com.travelapp.config.PaginacionProperties;
+import com.travelapp.dto.ViajeHistoricoDTO;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
+import com.travelapp.exception.EntityNotFoundException;
+import com.travelapp.exception.ValidationException;
+import com.travelapp.mapper.ViajeHistoricoMapper;
+import com.travelapp.model.ViajeHistorico;
+import com.travelapp.repository.ViajeHistoricoRepository;
+import com.travelapp.repository.ViajeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests de ViajeHistoricoService")
+class ViajeHistoricoServiceTest {
+
+    private static final Instant AHORA = Instant.parse("2026-10-19T10:00:00Z");
+    private static final LocalDate HOY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private ViajeRepository viajeRepository;
+
+    @Mock
+    private ViajeHistoricoRepository viajeHistoricoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HistoricoProperties properties;
+
+    private ViajeHistoricoService viajeHistoricoService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HistoricoProperties();
+        properties.setTamanioLote(2);
+
+        viajeHistoricoService = new ViajeHistoricoService(viajeRepository, viajeHistoricoRepository,
+            new ViajeHistoricoMapper(), eventPublisher, new TransactionTemplate(transactionManager), properties,
+            Clock.fixed(AHORA, ZoneOffset.UTC), new PaginacionProperties());
+    }
+
+    @Test
+    @DisplayName("Debe mover los viajes terminados por lotes y publicar su baja")
+    void archivar_ShouldMoveViajesPorLotes_AndPublicarEliminados() {
+        // Dado
+        PageRequest lote = PageRequest.of(0, 2);
+        when(viajeRepository.findIdsTerminadosAntesDe(HOY, lote))
+            .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(viajeHistoricoRepository.copiarDesdeViaje(anyCollection(), eq(AHORA))).thenReturn(2, 1);
+        when(viajeRepository.deleteByIdIn(anyCollection())).thenReturn(2, 1);
+
+        // Cuando
+        long archivados = viajeHistoricoService.archivar();
+
+        // Entonces
+        assertThat(archivados).isEqualTo(3);
+        verify(viajeHistoricoRepository).copiarDesdeViaje(List.of(1L, 2L), AHORA);
+        verify(viajeRepository).deleteByIdIn(List.of(3L));
+        verify(transactionManager, times(3)).commit(any());
+
+        ArgumentCaptor<ViajeCambiadoEvent> eventos = ArgumentCaptor.forClass(ViajeCambiadoEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(eventos.capture());
+        assertThat(eventos.getAllValues()).extracting(ViajeCambiadoEvent::id).containsExactly(1L, 2L, 3L);
+        assertThat(eventos.getAllValues()).extracting(ViajeCambiadoEvent::tipo).containsOnly(TipoCambio.ELIMINADO);
+    }
+
+    @Test
+    @DisplayName("Debe respetar los días de gracia al calcular la fecha límite")
+    void archivar_ShouldUsarDiasGracia() {
+        // Dado
+        properties.setDiasGracia(30);
+        when(viajeRepository.findIdsTerminadosAntesDe(HOY.minusDays(30), PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // Cuando / Entonces
+        assertThat(viajeHistoricoService.archivar()).isZero();
+        verify(viajeHistoricoRepository, never()).copiarDesdeViaje(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Debe deshacer el lote si no se borran todos los viajes copiados")
+    void archivar_ShouldRollback_WhenArchivadoIncompleto() {
+        // Dado
+        when(viajeRepository.findIdsTerminadosAntesDe(any(), any())).thenReturn(List.of(1L, 2L));
+        when(viajeHistoricoRepository.copiarDesdeViaje(anyCollection(), any())).thenReturn(2);
+        when(viajeRepository.deleteByIdIn(anyCollection())).thenReturn(1);
+
+        // Cuando / Entonces
+        assertThatThrownBy(viajeHistoricoService::archivar).isInstanceOf(IllegalStateException.class);
+        verify(transactionManager).rollback(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Debe detener el ciclo sin fallar si otro proceso archivó el mismo lote")
+    void archivar_ShouldStop_WhenConflictoConOtroProceso() {
+        // Dado
+        when(viajeRepository.findIdsTerminadosAntesDe(any(), any())).thenReturn(List.of(1L));
+        when(viajeHistoricoRepository.copiarDesdeViaje(anyCollection(), any()))
+            .thenThrow(new DataIntegrityViolationException("clave duplicada"));
+
+        // Cuando / Entonces
+        assertThat(viajeHistoricoService.archivar()).isZero();
+        verify(viajeRepository, never()).deleteByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Debe buscar en el histórico con los filtros y mapear los resultados")
+    void findAll_ShouldFiltrar_AndMapear() {
+        // Dado
+        Pageable pageable = PageRequest.of(0, 10);
+        ViajeHistorico historico = ViajeHistorico.builder().id(7L).fechaInicio(HOY.minusDays(10))
+            .fechaFin(HOY.minusDays(3)).precio(900.0).destinoId(4L).destinoNombre("Lima").destinoPais("Perú")
+            .archivado(AHORA).build();
+        when(viajeHistoricoRepository.buscar(4L, "per", null, HOY, pageable))
+            .thenReturn(new PageImpl<>(List.of(historico), pageable, 1));
+
+        // Cuando
+        List<ViajeHistoricoDTO> resultado = viajeHistoricoService.findAll(4L, "per", null, HOY, pageable).getContent();
+
+        // Entonces
+        assertThat(resultado).singleElement().satisfies(dto -> {
+            assertThat(dto.getId()).isEqualTo(7L);
+            assertThat(dto.getDestinoNombre()).isEqualTo("Lima");
+            assertThat(dto.getArchivado()).isEqualTo(AHORA);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un rango invertido y responder 404 para un ID no archivado")
+    void shouldValidarRango_AndLanzarNoEncontrado() {
+        // Dado
+        when(viajeHistoricoRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Cuando / Entonces
+        assertThatThrownBy(() -> viajeHistoricoService.findAll(null, null, HOY, HOY.minusDays(1), PageRequest.of(0, 10)))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> viajeHistoricoService.findById(99L)).isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -9,7 +9,10 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,15 +20,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.travelapp.cache.CacheNegativa;
+import com.travelapp.cache.CacheNegativa.Entidad;
+import com.travelapp.config.PaginacionProperties;
+import com.travelapp.dto.ConteoCalendarioDTO;
+import com.travelapp.dto.MasBaratosDTO;
 import com.travelapp.dto.ViajeDTO;
+import com.travelapp.dto.ViajeResumen;
+import com.travelapp.event.TipoCambio;
+import com.travelapp.event.ViajeCambiadoEvent;
 import com.travelapp.exception.EntityNotFoundException;
 import com.travelapp.exception.ValidationException;
+import com.travelapp.index.ViajeCalendarioIndex;
+import com.travelapp.index.ViajeIntervaloIndex;
+import com.travelapp.index.ViajeMasBaratosIndex;
+import com.travelapp.index.ViajeMasBaratosIndex.Agrupacion;
 import com.travelapp.mapper.ViajeMapper;
 import com.travelapp.model.Destino;
 import com.travelapp.model.Viaje;
@@ -46,6 +64,24 @@ class ViajeServiceTest {
     @Mock
     private ViajeMapper viajeMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ViajeIntervaloIndex viajeIntervaloIndex;
+
+    @Mock
+    private ViajeCalendarioIndex viajeCalendarioIndex;
+
+    @Mock
+    private ViajeMasBaratosIndex viajeMasBaratosIndex;
+
+    @Mock
+    private CacheNegativa cacheNegativa;
+
+    @Spy
+    private PaginacionProperties paginacionProperties = new PaginacionProperties();
+
     @InjectMocks
     private ViajeService viajeService;
 
@@ -64,15 +100,15 @@ class ViajeServiceTest {
 
         viaje = Viaje.builder()
             .id(1L)
-            .fechaInicio(LocalDate.of(2026, 3, 20))
-            .fechaFin(LocalDate.of(2026, 3, 30))
+            .fechaInicio(LocalDate.now().plusMonths(1))
+            .fechaFin(LocalDate.now().plusMonths(1).plusDays(10))
             .precio(300.00)
             .build();
 
         viajeDTO = ViajeDTO.builder()
             .id(1L)
-            .fechaInicio(LocalDate.of(2026, 3, 20))
-            .fechaFin(LocalDate.of(2026, 3, 30))
+            .fechaInicio(LocalDate.now().plusMonths(1))
+            .fechaFin(LocalDate.now().plusMonths(1).plusDays(10))
             .precio(300.00)
             .destinoId(1L)
             .destinoNombre("Buenos Aires")
@@ -102,6 +138,55 @@ class ViajeServiceTest {
         verify(viajeMapper).toDto(viaje);
     }
 
+    @Test
+    @DisplayName("Debe reducir el tamaño de página al máximo configurado")
+    void shouldCapPageSize_WhenFindAllCalledWithHugeSize() {
+        // Dado
+        Pageable enorme = PageRequest.of(2, 100_000, Sort.by(Sort.Direction.DESC, "precio"));
+        Pageable acotado = PageRequest.of(2, 100, Sort.by(Sort.Direction.DESC, "precio"));
+        when(viajeRepository.findAll(acotado)).thenReturn(new PageImpl<>(List.of(viaje), acotado, 201));
+        when(viajeMapper.toDto(viaje)).thenReturn(viajeDTO);
+
+        // Cuando
+        Page<ViajeDTO> resultado = viajeService.findAll(enorme);
+
+        // Entonces
+        assertThat(resultado.getSize()).isEqualTo(100);
+        verify(viajeRepository).findAll(acotado);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el orden por una clave sin índice o por varias claves")
+    void shouldThrowValidationException_WhenSortNotAllowed() {
+        // Cuando / Entonces
+        assertThatThrownBy(() -> viajeService.findAll(PageRequest.of(0, 10, Sort.by("destino.nombre"))))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("fechaInicio");
+        assertThatThrownBy(() -> viajeService.findByDestinoId(1L, PageRequest.of(0, 10, Sort.by("precio", "id"))))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> viajeService.findAll(PageRequest.of(0, 10, Sort.by(Sort.Order.asc("precio").ignoreCase()))))
+            .isInstanceOf(ValidationException.class);
+
+        verify(viajeRepository, never()).findAll(any(Pageable.class));
+        verify(viajeRepository, never()).findByDestinoId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe pedir al índice los más baratos por país y rechazar agrupaciones o k no válidos")
+    void shouldDelegateMasBaratos_AndRejectInvalidParams() {
+        // Dado
+        List<MasBaratosDTO> masBaratos = List.of(MasBaratosDTO.builder().pais("España").viajes(List.of(viajeDTO)).build());
+        when(viajeMasBaratosIndex.masBaratos(Agrupacion.PAIS, 3)).thenReturn(masBaratos);
+
+        // Cuando / Entonces
+        assertThat(viajeService.findMasBaratos("PAIS", 3)).isEqualTo(masBaratos);
+        assertThatThrownBy(() -> viajeService.findMasBaratos("ciudad", 3))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("destino");
+        assertThatThrownBy(() -> viajeService.findMasBaratos("destino", 0))
+            .isInstanceOf(ValidationException.class);
+    }
+
     @Test
     @DisplayName("Debe traer un viaje por ID cuando findById encuentra un ID válido")
     void shouldReturnViaje_WhenFindByIdCalledWithValidId() {
@@ -133,6 +218,21 @@ class ViajeServiceTest {
             .hasMessage("Viaje no encontrado");
 
         verify(viajeRepository).findById(1L);
+        verify(cacheNegativa).registrar(Entidad.VIAJE, 1L);
+    }
+
+    @Test
+    @DisplayName("Debe responder no encontrado sin consultar la base de datos si el ID está en la caché negativa")
+    void shouldThrowEntityNotFoundException_WhenIdInCacheNegativa() {
+        // Dado
+        when(cacheNegativa.contiene(Entidad.VIAJE, 1L)).thenReturn(true);
+
+        // Cuando - Entonces
+        assertThatThrownBy(() -> viajeService.findById(1L))
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessage("Viaje no encontrado");
+
+        verify(viajeRepository, never()).findById(any());
     }
 
     @Test
@@ -224,6 +324,7 @@ class ViajeServiceTest {
         // Entonces
         verify(viajeRepository).existsById(1L);
         verify(viajeRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new ViajeCambiadoEvent(TipoCambio.ELIMINADO, 1L, null));
     }  
     
     @Test
@@ -321,4 +422,142 @@ class ViajeServiceTest {
         assertThat(resultado.getTotalElements()).isZero();
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe resolver viajes disponibles desde el índice en memoria cuando está cargado")
+    void shouldReturnDisponiblesFromIndex_WhenIndexLoaded() {
+        // Dado
+        LocalDate desde = LocalDate.of(2027, 1, 1);
+        LocalDate hasta = LocalDate.of(2027, 1, 31);
+        when(viajeIntervaloIndex.buscar((int) desde.toEpochDay(), (int) hasta.toEpochDay(), false, null, 0, 10))
+            .thenReturn(Optional.of(new ViajeIntervaloIndex.PaginaIds(new long[] {1L}, 1)));
+        when(viajeRepository.findAllById(List.of(1L))).thenReturn(List.of(viaje));
+        when(viajeMapper.toDto(viaje)).thenReturn(viajeDTO);
+
+        // Cuando
+        Page<ViajeDTO> resultado = viajeService.findDisponibles(desde, hasta, null, false, pageable);
+
+        // Entonces
+        assertThat(resultado.getContent()).containsExactly(viajeDTO);
+        assertThat(resultado.getTotalElements()).isEqualTo(1);
+        verify(viajeRepository, never()).findContenidosEn(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos cuando el índice no está cargado")
+    void shouldFallbackToRepository_WhenIndexNotLoaded() {
+        // Dado
+        LocalDate desde = LocalDate.of(2027, 1, 1);
+        LocalDate hasta = LocalDate.of(2027, 1, 31);
+        when(destinoRepository.findIdsByPais("Argentina")).thenReturn(List.of(1L));
+        when(viajeIntervaloIndex.buscar((int) desde.toEpochDay(), (int) hasta.toEpochDay(), true, new long[] {1L}, 0, 10))
+            .thenReturn(Optional.empty());
+        when(viajeRepository.findSolapadosCon(desde, hasta, "Argentina", pageable))
+            .thenReturn(new PageImpl<>(Arrays.asList(viaje)));
+        when(viajeMapper.toDto(viaje)).thenReturn(viajeDTO);
+
+        // Cuando
+        Page<ViajeDTO> resultado = viajeService.findDisponibles(desde, hasta, "Argentina", true, pageable);
+
+        // Entonces
+        assertThat(resultado.getContent()).containsExactly(viajeDTO);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ValidationException cuando desde es posterior a hasta")
+    void shouldThrowValidationException_WhenDesdeAfterHasta() {
+        assertThatThrownBy(() -> viajeService.findDisponibles(LocalDate.of(2027, 2, 1), LocalDate.of(2027, 1, 1), null, false, pageable))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("La fecha desde no puede ser posterior a la fecha hasta");
+    }
+
+    @Test
+    @DisplayName("Debe agrupar el calendario por mes desde los conteos diarios del índice")
+    void shouldGroupCalendarioByMes() {
+        // Dado
+        LocalDate desde = LocalDate.of(2027, 1, 1);
+        LocalDate hasta = LocalDate.of(2027, 2, 28);
+        int[] conteos = new int[59];
+        conteos[0] = 2;
+        conteos[30] = 1;
+        conteos[31] = 4;
+        when(viajeCalendarioIndex.conteosPorDia((int) desde.toEpochDay(), (int) hasta.toEpochDay(), null))
+            .thenReturn(Optional.of(conteos));
+
+        // Cuando
+        List<ConteoCalendarioDTO> resultado = viajeService.findCalendario("mes", desde, hasta, null, null);
+
+        // Entonces
+        assertThat(resultado).containsExactly(
+            new ConteoCalendarioDTO("2027-01", 3),
+            new ConteoCalendarioDTO("2027-02", 4));
+    }
+
+    @Test
+    @DisplayName("Debe agrupar en la base de datos cuando el calendario no está cargado")
+    void shouldFallbackToRepository_WhenCalendarioNotLoaded() {
+        // Dado
+        LocalDate desde = LocalDate.of(2027, 1, 1);
+        LocalDate hasta = LocalDate.of(2027, 1, 3);
+        when(viajeCalendarioIndex.conteosPorDia((int) desde.toEpochDay(), (int) hasta.toEpochDay(), new long[] {1L}))
+            .thenReturn(Optional.empty());
+        when(viajeRepository.countSalidasPorDia(desde, hasta, 1L, null))
+            .thenReturn(List.<Object[]>of(new Object[] {LocalDate.of(2027, 1, 2), 5L}));
+
+        // Cuando
+        List<ConteoCalendarioDTO> resultado = viajeService.findCalendario("dia", desde, hasta, 1L, null);
+
+        // Entonces
+        assertThat(resultado).containsExactly(new ConteoCalendarioDTO("2027-01-02", 5));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ValidationException cuando la granularidad no es válida")
+    void shouldThrowValidationException_WhenGranularidadInvalid() {
+        assertThatThrownBy(() -> viajeService.findCalendario("semana", null, null, null, null))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("La granularidad debe ser 'dia' o 'mes'");
+    }
+
+    @Test
+    @DisplayName("Debe pasar al repositorio solo los campos pedidos en fields")
+    void shouldPassRequestedCamposToRepository() {
+        // Dado
+        Map<String, Object> fila = Map.of("id", 1L, "precio", 1500.0);
+        when(viajeRepository.findCampos(Set.of("precio", "destinoNombre"), 3L, pageable))
+            .thenReturn(new PageImpl<>(List.of(fila)));
+
+        // Cuando
+        Page<Map<String, Object>> resultado = viajeService.findCampos(" precio, destinoNombre ,", 3L, pageable);
+
+        // Entonces
+        assertThat(resultado.getContent()).containsExactly(fila);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ValidationException cuando fields contiene un campo desconocido")
+    void shouldThrowValidationException_WhenCampoUnknown() {
+        assertThatThrownBy(() -> viajeService.findCampos("precio,destino.pais", null, pageable))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageStartingWith("Campo no soportado: destino.pais");
+
+        verify(viajeRepository, never()).findCampos(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe agrupar los primeros viajes por destino e incluir los destinos sin viajes")
+    void findPrimerosPorDestino_ShouldAgruparPorDestino() {
+        // Dado
+        when(viajeRepository.findPrimerosByDestinoIds(List.of(1L, 2L), 2)).thenReturn(List.of(
+            new ViajeResumen(10L, LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 5), 500.0, 1L),
+            new ViajeResumen(11L, LocalDate.of(2027, 2, 1), LocalDate.of(2027, 2, 5), 600.0, 1L)));
+
+        // Cuando
+        Map<Long, List<ViajeDTO>> resultado = viajeService.findPrimerosPorDestino(List.of(1L, 2L), 2);
+
+        // Entonces
+        assertThat(resultado.get(1L)).extracting(ViajeDTO::getId).containsExactly(10L, 11L);
+        assertThat(resultado.get(1L)).extracting(ViajeDTO::getDestinoId).containsOnly(1L);
+        assertThat(resultado.get(2L)).isEmpty();
+    }
+}
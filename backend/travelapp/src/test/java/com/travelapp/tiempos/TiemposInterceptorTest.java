@@ -0,0 +1,102 @@
+package com.travelapp.tiempos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+@DisplayName("Tests de TiemposInterceptor")
+class TiemposInterceptorTest {
+
+    private TiemposProperties properties;
+    private TiemposInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        properties = new TiemposProperties();
+        interceptor = new TiemposInterceptor(properties);
+        request = new MockHttpServletRequest("DELETE", "/api/viajes/1");
+        response = new MockHttpServletResponse();
+
+        Method metodo = Object.class.getMethod("toString");
+        handler = new HandlerMethod(new Object(), metodo);
+    }
+
+    @Test
+    @DisplayName("Debe añadir Server-Timing a las respuestas sin cuerpo y cerrar la medición")
+    void shouldAddCabecera_WhenRespuestaSinCuerpo() {
+        // Dado
+        interceptor.preHandle(request, response, handler);
+        assertThat(TiemposPeticion.actual()).isNotNull();
+
+        // Cuando
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Entonces
+        assertThat(response.getHeader(TiemposInterceptor.CABECERA)).startsWith("controlador;dur=").contains("total;dur=");
+        assertThat(TiemposPeticion.actual()).isNull();
+    }
+
+    @Test
+    @DisplayName("No debe sustituir el header ya escrito con el cuerpo JSON")
+    void shouldKeepCabecera_WhenYaEscrita() {
+        // Dado
+        interceptor.preHandle(request, response, handler);
+        response.setHeader(TiemposInterceptor.CABECERA, "serializacion;dur=1.0");
+
+        // Cuando
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Entonces
+        assertThat(response.getHeaders(TiemposInterceptor.CABECERA)).containsExactly("serializacion;dur=1.0");
+    }
+
+    @Test
+    @DisplayName("No debe añadir el header si está deshabilitado")
+    void shouldNotAddCabecera_WhenDeshabilitada() {
+        // Dado
+        properties.setCabecera(false);
+        interceptor.preHandle(request, response, handler);
+
+        // Cuando
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Entonces
+        assertThat(response.containsHeader(TiemposInterceptor.CABECERA)).isFalse();
+        assertThat(TiemposPeticion.actual()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar handlers que no son métodos de controlador")
+    void shouldIgnoreNonHandlerMethods() {
+        // Cuando
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Entonces
+        assertThat(response.containsHeader(TiemposInterceptor.CABECERA)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe liberar la medición del hilo cuando la petición pasa a modo asíncrono")
+    void shouldClearTiempos_WhenConcurrentHandlingStarted() {
+        // Dado
+        interceptor.preHandle(request, response, handler);
+
+        // Cuando
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        // Entonces
+        assertThat(TiemposPeticion.actual()).isNull();
+        assertThat(response.containsHeader(TiemposInterceptor.CABECERA)).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package com.travelapp.tiempos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests de TiemposPeticion")
+class TiemposPeticionTest {
+
+    private static final long MS = 1_000_000;
+
+    private final AtomicLong reloj = new AtomicLong();
+    private TiemposPeticion tiempos;
+
+    @BeforeEach
+    void setUp() {
+        tiempos = TiemposPeticion.iniciar(reloj::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TiemposPeticion.finalizar();
+    }
+
+    @Test
+    @DisplayName("Cada capa debe acumular solo su tiempo propio, descontando las capas anidadas")
+    void shouldAccumulateTiempoPropio() {
+        // Dado: controlador 1 ms, servicio 2 ms, mapper con una carga lazy de 5 ms, serialización 3 ms
+        TiemposPeticion.entrar(Capa.CONTROLADOR);
+        reloj.addAndGet(MS);
+        TiemposPeticion.entrar(Capa.SERVICIO);
+        reloj.addAndGet(2 * MS);
+        TiemposPeticion.entrar(Capa.MAPPER);
+        TiemposPeticion.contarSentencia();
+        TiemposPeticion.entrar(Capa.JDBC);
+        reloj.addAndGet(5 * MS);
+        TiemposPeticion.salir(Capa.JDBC);
+        TiemposPeticion.salir(Capa.MAPPER);
+        TiemposPeticion.salir(Capa.SERVICIO);
+        TiemposPeticion.entrar(Capa.SERIALIZACION);
+        reloj.addAndGet(3 * MS);
+        TiemposPeticion.salir(Capa.SERIALIZACION);
+
+        // Cuando / Entonces
+        assertThat(tiempos.nanos(Capa.CONTROLADOR)).isEqualTo(MS);
+        assertThat(tiempos.nanos(Capa.SERVICIO)).isEqualTo(2 * MS);
+        assertThat(tiempos.nanos(Capa.MAPPER)).isZero();
+        assertThat(tiempos.nanos(Capa.JDBC)).isEqualTo(5 * MS);
+        assertThat(tiempos.nanos(Capa.SERIALIZACION)).isEqualTo(3 * MS);
+        assertThat(tiempos.totalNanos()).isEqualTo(11 * MS);
+        assertThat(tiempos.sentencias()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe generar el header Server-Timing con todas las capas y el total")
+    void shouldFormatCabecera() {
+        // Dado
+        TiemposPeticion.entrar(Capa.CONTROLADOR);
+        TiemposPeticion.contarSentencia();
+        TiemposPeticion.entrar(Capa.JDBC);
+        reloj.addAndGet(1_250_000);
+        TiemposPeticion.salir(Capa.JDBC);
+
+        // Cuando
+        String cabecera = tiempos.cabecera();
+
+        // Entonces
+        assertThat(cabecera).isEqualTo("controlador;dur=0.0, servicio;dur=0.0, mapper;dur=0.0, "
+            + "jdbc;dur=1.3;desc=\"1 sentencias\", serializacion;dur=0.0, total;dur=1.3");
+    }
+
+    @Test
+    @DisplayName("Debe ignorar salidas de una capa que no es la actual")
+    void shouldIgnoreSalida_WhenCapaNoEsActual() {
+        // Dado
+        TiemposPeticion.entrar(Capa.SERVICIO);
+
+        // Cuando
+        TiemposPeticion.salir(Capa.MAPPER);
+        reloj.addAndGet(MS);
+
+        // Entonces
+        assertThat(tiempos.nanos(Capa.SERVICIO)).isEqualTo(MS);
+        assertThat(tiempos.nanos(Capa.MAPPER)).isZero();
+    }
+
+    @Test
+    @DisplayName("Fuera de una petición la medición no debe hacer nada")
+    void shouldDoNothing_WhenSinPeticion() {
+        // Dado
+        TiemposPeticion.finalizar();
+
+        // Cuando
+        TiemposPeticion.entrar(Capa.SERVICIO);
+        TiemposPeticion.contarSentencia();
+        TiemposPeticion.salir(Capa.SERVICIO);
+
+        // Entonces
+        assertThat(TiemposPeticion.actual()).isNull();
+        assertThat(tiempos.sentencias()).isZero();
+    }
+}
@@ -2,5 +2,6 @@ export interface Destino {
     id?: number;
     nombre: string;
     pais: string;
+    viajeCount?: number;
     viajeIds?: number[];
 }
\ No newline at end of file